@@ -0,0 +1,35 @@
+package benchmark;
+
+import business.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * GradingBenchmark - GPA and course average calculations and faculty rankings
+ * Author: [Your Name]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradingBenchmark {
+
+    private FacultyService facultyService = new FacultyService();
+
+    @Benchmark
+    public double calculateOverallGPA(UniversityState state) {
+        return GradeCalculator.calculateOverallGPA(state.student);
+    }
+
+    @Benchmark
+    public double calculateCourseAverage(UniversityState state) {
+        return GradeCalculator.calculateCourseAverage(state.pastOffering);
+    }
+
+    @Benchmark
+    public Object rankStudentsByGrade(UniversityState state) {
+        return facultyService.rankStudentsByGrade(state.pastOffering);
+    }
+}
@@ -0,0 +1,66 @@
+package benchmark;
+
+import business.*;
+import model.*;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * RegistrationBenchmark - StudentService.enrollInCourse followed by dropCourse
+ *
+ * Each operation enrolls a student and drops the enrollment again, so seat
+ * counts and credit totals stay steady. Dropped enrollments stay on the
+ * student's record, so they are cleared between iterations to keep later
+ * iterations from measuring a growing history.
+ * Author: [Your Name]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegistrationBenchmark {
+
+    private StudentService studentService;
+    private Student student;
+    private CourseOffering offering;
+    private ArrayList<Enrollment> dropped = new ArrayList<>();
+
+    @Setup
+    public void setup(UniversityState state) {
+        studentService = new StudentService();
+        for (Student s : state.directory.getStudents()) {
+            if (s.getCurrentSemesterCredits(state.currentSemester) == 0) {
+                student = s;
+                break;
+            }
+        }
+        for (CourseOffering o : state.directory.getCourseOfferingsBySemester(state.currentSemester)) {
+            if (o.getAvailableSeats() > 0 && o.getWaitlist().isEmpty()) {
+                offering = o;
+                break;
+            }
+        }
+        if (student == null || offering == null) {
+            throw new IllegalStateException("No student/offering pair available to benchmark registration");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearHistory(UniversityState state) {
+        for (Enrollment e : dropped) {
+            student.removeEnrollment(e);
+            state.directory.removeEnrollment(e);
+        }
+        dropped.clear();
+    }
+
+    @Benchmark
+    public boolean enrollAndDrop() {
+        Enrollment enrollment = studentService.enrollInCourse(student, offering);
+        dropped.add(enrollment);
+        return studentService.dropCourse(student, enrollment);
+    }
+}
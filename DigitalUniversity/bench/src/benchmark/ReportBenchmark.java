@@ -0,0 +1,85 @@
+package benchmark;
+
+import business.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * ReportBenchmark - Every report in ReportService
+ * Author: [Your Name]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReportBenchmark {
+
+    private ReportService reportService = new ReportService();
+
+    @Benchmark
+    public Object totalUsersByRole() {
+        return reportService.getTotalUsersByRole();
+    }
+
+    @Benchmark
+    public Object coursesPerSemester() {
+        return reportService.getCoursesPerSemester();
+    }
+
+    @Benchmark
+    public Object enrollmentPerCourse(UniversityState state) {
+        return reportService.getEnrollmentPerCourse(state.currentSemester);
+    }
+
+    @Benchmark
+    public Object tuitionRevenueSummary() {
+        return reportService.getTuitionRevenueSummary();
+    }
+
+    @Benchmark
+    public Object adminDashboard() {
+        return reportService.generateAdminDashboard();
+    }
+
+    @Benchmark
+    public Object facultyCourseReport(UniversityState state) {
+        return reportService.generateFacultyCourseReport(state.pastOffering);
+    }
+
+    @Benchmark
+    public Object allFacultyCoursesReport(UniversityState state) {
+        return reportService.generateAllFacultyCoursesReport(state.faculty);
+    }
+
+    @Benchmark
+    public Object transcript(UniversityState state) {
+        return reportService.generateTranscript(state.student);
+    }
+
+    @Benchmark
+    public Object transcriptBySemester(UniversityState state) {
+        return reportService.generateTranscriptBySemester(state.student, state.pastSemester);
+    }
+
+    @Benchmark
+    public Object enrollmentReport(UniversityState state) {
+        return reportService.generateEnrollmentReport(state.currentSemester);
+    }
+
+    @Benchmark
+    public Object gpaDistributionReport() {
+        return reportService.generateGPADistributionReport();
+    }
+
+    @Benchmark
+    public Object financialSummary(UniversityState state) {
+        return reportService.generateFinancialSummary(state.pastSemester);
+    }
+
+    @Benchmark
+    public Object studentsWithAcademicIssues() {
+        return reportService.getStudentsWithAcademicIssues();
+    }
+}
@@ -0,0 +1,50 @@
+package benchmark;
+
+import business.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * SearchBenchmark - Name and title searches in SearchService
+ * Author: [Your Name]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    private SearchService searchService = new SearchService();
+
+    @Benchmark
+    public Object searchStudentsByName(UniversityState state) {
+        return searchService.searchStudentsByName(state.studentName);
+    }
+
+    @Benchmark
+    public Object searchFacultyByName(UniversityState state) {
+        return searchService.searchFacultyByName(state.faculty.getLastName());
+    }
+
+    @Benchmark
+    public Object searchPersonsByName(UniversityState state) {
+        return searchService.searchPersonsByName(state.studentName);
+    }
+
+    @Benchmark
+    public Object searchCourseByTitle(UniversityState state) {
+        return searchService.searchCourseByTitle(state.courseTitle);
+    }
+
+    @Benchmark
+    public Object searchOfferingsByTitle(UniversityState state) {
+        return searchService.searchOfferingsByTitle(state.courseTitle);
+    }
+
+    @Benchmark
+    public Object advancedStudentSearch(UniversityState state) {
+        return searchService.advancedStudentSearch(state.studentName, null, state.student.getProgram());
+    }
+}
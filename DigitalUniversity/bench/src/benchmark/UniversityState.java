@@ -0,0 +1,64 @@
+package benchmark;
+
+import business.*;
+import model.*;
+import java.util.ArrayList;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UniversityState - A seeded synthetic university shared by all benchmarks
+ *
+ * The directory is a singleton, so every trial must run in its own fork
+ * (the JMH default); a fork generates the university once for its size.
+ * Author: [Your Name]
+ */
+@State(Scope.Benchmark)
+public class UniversityState {
+
+    public static final long SEED = 42L;
+
+    @Param({"1000", "10000", "40000"})
+    public int students;
+
+    public UniversityDirectory directory;
+    public Student student;           // a student with a graded history
+    public Faculty faculty;           // an instructor with several offerings
+    public Semester currentSemester;
+    public Semester pastSemester;
+    public CourseOffering pastOffering; // a fully graded offering with a large roster
+    public String studentName;
+    public String courseTitle;
+
+    @Setup
+    public void generate() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        generator.setStudentCount(students);
+        generator.setOfferingsPerSemester(Math.max(20, students / 80)); // keeps rosters realistically full
+        generator.setCreateUserAccounts(false);
+        generator.generate();
+
+        directory = UniversityDirectory.getInstance();
+        ArrayList<Semester> semesters = directory.getSemesters();
+        currentSemester = semesters.get(semesters.size() - 1);
+        pastSemester = semesters.get(semesters.size() - 2);
+
+        for (CourseOffering offering : directory.getCourseOfferingsBySemester(pastSemester)) {
+            if (pastOffering == null || offering.getCurrentEnrollment() > pastOffering.getCurrentEnrollment()) {
+                pastOffering = offering;
+            }
+        }
+        faculty = pastOffering.getInstructor();
+
+        for (Student s : directory.getStudents()) {
+            if (s.getEnrollments().size() >= 4) {
+                student = s;
+                break;
+            }
+        }
+        studentName = student.getLastName();
+        courseTitle = pastOffering.getCourse().getTitle().substring(0, 8);
+    }
+}
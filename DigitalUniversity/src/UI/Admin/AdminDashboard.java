@@ -8,22 +8,30 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.util.*;
+import java.util.stream.Stream;
 import accesscontrol.*;
 import business.*;
 import model.*;
+import UI.AutocompletePopup;
+import UI.LazyTabbedPane;
 /**
  *
  * @author USER
  */
 public class AdminDashboard extends javax.swing.JPanel {
-    private JTabbedPane tabbedPane;
+    private LazyTabbedPane tabbedPane;
     private AdminService adminService;
     private ReportService reportService;
+    private AutocompleteService autocompleteService;
+    private SearchService searchService;
     private UniversityDirectory directory;
     private AuthenticationService authService;
     private DefaultTableModel userTableModel;
     private JTable userTable;
     
+    // Rows fetched per page in the records search
+    private static final int RECORDS_PAGE_SIZE = 50;
+    
     /**
      * Creates new form AdminDashboard
      */
@@ -31,16 +39,20 @@ public class AdminDashboard extends javax.swing.JPanel {
         this.directory = directory;
         this.adminService = new AdminService();
         this.reportService = new ReportService();
+        this.autocompleteService = new AutocompleteService();
+        this.searchService = new SearchService();
         this.authService = AuthenticationService.getInstance();
 
         setLayout(new BorderLayout());
-        tabbedPane = new JTabbedPane();
+        tabbedPane = new LazyTabbedPane();
 
-        tabbedPane.addTab("User Account Management", createUserAccountPanel());
-        tabbedPane.addTab("Registrar Records Management", createRegistrarPanel());
-        tabbedPane.addTab("Student & Faculty Records", createStudentFacultyPanel());
-        tabbedPane.addTab("Analytics Dashboard", createAnalyticsPanel());
-        tabbedPane.addTab("Profile Management", createProfilePanel());
+        // Each tab is built the first time it is opened
+        tabbedPane.addLazyTab("User Account Management", this::createUserAccountPanel);
+        tabbedPane.addLazyTab("Registrar Records Management", this::createRegistrarPanel);
+        tabbedPane.addLazyTab("Student & Faculty Records", this::createStudentFacultyPanel);
+        tabbedPane.addLazyTab("Analytics Dashboard", this::createAnalyticsPanel);
+        tabbedPane.addLazyTab("Profile Management", this::createProfilePanel);
+        tabbedPane.addLazyTab("Operations", this::createOperationsPanel);
 
         add(tabbedPane, BorderLayout.CENTER);
         
@@ -239,6 +251,9 @@ private String generateUniversityId() {
         JButton btnEdit = new JButton("Edit Info");
         JButton btnDelete = new JButton("Delete Record");
         JButton btnSearch = new JButton("Search");
+        JButton btnMore = new JButton("More Results");
+        btnMore.setEnabled(false);
+        Iterator<?>[] recordResults = {Collections.emptyIterator()}; // rest of the last search
 
         btnView.addActionListener(e -> {
         int row = table.getSelectedRow();
@@ -274,37 +289,34 @@ private String generateUniversityId() {
         });
 
         btnSearch.addActionListener(e -> {
-        String keyword = JOptionPane.showInputDialog(this, "Enter name, ID, or department:");
-        if (keyword == null || keyword.trim().isEmpty()) return;
-
-        keyword = keyword.toLowerCase();
+        JTextField keywordField = new JTextField(24);
+        AutocompletePopup.attach(keywordField,
+            prefix -> autocompleteService.suggestPersonNames(prefix, AutocompleteService.DEFAULT_LIMIT), null);
+        SwingUtilities.invokeLater(keywordField::requestFocusInWindow);
+        int choice = JOptionPane.showConfirmDialog(this,
+            new Object[]{"Enter name, ID, or department:", keywordField}, "Search", JOptionPane.OK_CANCEL_OPTION);
+        String keyword = keywordField.getText();
+        if (choice != JOptionPane.OK_OPTION || keyword.trim().isEmpty()) return;
+
+        // Search the directory, fetching only the rows on screen
+        String term = keyword.trim();
         DefaultTableModel searchModel = new DefaultTableModel(columns, 0);
-
-        // 搜尋 JTable 內目前的資料
-        for (int i = 0; i < model.getRowCount(); i++) {
-            String name = model.getValueAt(i, 2).toString().toLowerCase();
-            String id = model.getValueAt(i, 1).toString().toLowerCase();
-            String dept = model.getValueAt(i, 3).toString().toLowerCase();
-
-            if (name.contains(keyword) || id.contains(keyword) || dept.contains(keyword)) {
-                searchModel.addRow(new Object[]{
-                    model.getValueAt(i, 0),
-                    model.getValueAt(i, 1),
-                    model.getValueAt(i, 2),
-                    model.getValueAt(i, 3),
-                    model.getValueAt(i, 4),
-                    model.getValueAt(i, 5)
-                });
-            }
-        }
+        recordResults[0] = searchRecords(term);
+        addRecordRows(searchModel, recordResults[0]);
 
         if (searchModel.getRowCount() == 0) {
-            JOptionPane.showMessageDialog(this, "No records found matching: " + keyword);
+            JOptionPane.showMessageDialog(this, "No records found matching: " + term);
             // 恢復原始資料
             table.setModel(model);
         } else {
             table.setModel(searchModel);
         }
+        btnMore.setEnabled(recordResults[0].hasNext());
+        });
+
+        btnMore.addActionListener(e -> {
+            addRecordRows((DefaultTableModel) table.getModel(), recordResults[0]);
+            btnMore.setEnabled(recordResults[0].hasNext());
         });
 
         JPanel buttons = new JPanel();
@@ -312,6 +324,7 @@ private String generateUniversityId() {
         buttons.add(btnEdit);
         buttons.add(btnDelete);
         buttons.add(btnSearch);
+        buttons.add(btnMore);
 
         panel.add(title, BorderLayout.NORTH);
         panel.add(new JScrollPane(table), BorderLayout.CENTER);
@@ -319,6 +332,45 @@ private String generateUniversityId() {
         return panel;
     }
 
+    /**
+     * Students and faculty whose name, university ID or department (a student's
+     * program) matches, each listed once; pages are fetched as the iterator advances
+     */
+    private Iterator<Person> searchRecords(String keyword) {
+        Stream<Person> students = Stream.concat(
+            Stream.concat(searchService.streamStudents(keyword, null, null, null, null),
+                searchService.streamStudents(null, keyword, null, null, null)),
+            searchService.streamStudents(null, null, keyword, null, null));
+        Stream<Person> faculty = Stream.concat(
+            Stream.concat(searchService.streamFaculties(keyword, null, null),
+                searchService.streamFaculties(null, keyword, null)),
+            searchService.streamFaculties(null, null, keyword));
+        return Stream.concat(students, faculty).distinct().iterator();
+    }
+
+    /**
+     * Append the next page of records to the table
+     */
+    private void addRecordRows(DefaultTableModel model, Iterator<?> results) {
+        for (int i = 0; i < RECORDS_PAGE_SIZE && results.hasNext(); i++) {
+            Person person = (Person) results.next();
+            String department = "";
+            if (person instanceof Student) {
+                department = ((Student) person).getProgram();
+            } else if (person instanceof Faculty && ((Faculty) person).getDepartment() != null) {
+                department = ((Faculty) person).getDepartment().getName();
+            }
+            model.addRow(new Object[]{
+                person instanceof Student ? "Student" : "Faculty",
+                person.getUniversityId(),
+                person.getFullName(),
+                department,
+                person.getEmail(),
+                person.getPhoneNumber()
+            });
+        }
+    }
+
     // ============================================================
     // 4️⃣ ANALYTICS DASHBOARD
     // ============================================================
@@ -358,6 +410,160 @@ private String generateUniversityId() {
         return panel;
     }
 
+    // ============================================================
+    // OPERATIONS PANEL (service latency metrics)
+    // ============================================================
+    private JPanel createOperationsPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        JLabel title = new JLabel("Service Operations (live)", SwingConstants.CENTER);
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+
+        String[] columns = {"Operation", "Calls", "Rate/s", "Mean ms", "p50 ms", "p99 ms", "p99.9 ms", "Max ms"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setAutoCreateRowSorter(true);
+        JLabel counterLabel = new JLabel(" ");
+
+        // Rates are computed between refreshes so they reflect recent load
+        HashMap<String, Long> previousCounts = new HashMap<>();
+        long[] previousRefresh = {System.nanoTime()};
+
+        Runnable refresh = () -> {
+            long now = System.nanoTime();
+            double seconds = Math.max(1e-3, (now - previousRefresh[0]) / 1e9);
+            previousRefresh[0] = now;
+
+            model.setRowCount(0);
+            for (OperationMetric metric : metrics.getActiveOperations()) {
+                LatencyHistogram latency = metric.getLatency();
+                long count = latency.getCount();
+                long before = previousCounts.getOrDefault(metric.getName(), count);
+                previousCounts.put(metric.getName(), count);
+                model.addRow(new Object[]{
+                    metric.getName(),
+                    count,
+                    String.format("%.1f", Math.max(0, count - before) / seconds),
+                    String.format("%.3f", latency.getMean() / 1e6),
+                    String.format("%.3f", latency.getValueAtPercentile(50) / 1e6),
+                    String.format("%.3f", latency.getValueAtPercentile(99) / 1e6),
+                    String.format("%.3f", latency.getValueAtPercentile(99.9) / 1e6),
+                    String.format("%.3f", latency.getMax() / 1e6)
+                });
+            }
+            StringBuilder counters = new StringBuilder("Counters: ");
+            for (Map.Entry<String, Long> entry : metrics.getCounterValues().entrySet()) {
+                counters.append(entry.getKey()).append(" = ").append(entry.getValue()).append("   ");
+            }
+            counterLabel.setText(counters.toString());
+        };
+
+        // Refresh every 2 seconds while the tab is visible; the timer stops when
+        // the tab is hidden or the dashboard is closed, so it cannot outlive it
+        javax.swing.Timer timer = new javax.swing.Timer(2000, e -> refresh.run());
+        panel.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & java.awt.event.HierarchyEvent.SHOWING_CHANGED) == 0) {
+                return;
+            }
+            if (panel.isShowing()) {
+                refresh.run();
+                timer.start();
+            } else {
+                timer.stop();
+            }
+        });
+
+        JButton btnRefresh = new JButton("Refresh");
+        JButton btnExportText = new JButton("Export Text...");
+        JButton btnExportJson = new JButton("Export JSON...");
+        JButton btnReset = new JButton("Reset");
+        FlightRecording flightRecording = FlightRecording.getInstance();
+        JButton btnRecord = new JButton(flightRecording.isRecording() ? "Stop Recording" : "Start Recording...");
+        JButton btnAnalyze = new JButton("Analyze Recording...");
+
+        btnRefresh.addActionListener(e -> refresh.run());
+        btnExportText.addActionListener(e -> exportMetrics(metrics, "operations.txt"));
+        btnExportJson.addActionListener(e -> exportMetrics(metrics, "operations.json"));
+        btnReset.addActionListener(e -> {
+            metrics.reset();
+            previousCounts.clear();
+            refresh.run();
+        });
+        btnRecord.addActionListener(e -> {
+            if (flightRecording.isRecording()) {
+                java.nio.file.Path file = flightRecording.stop();
+                btnRecord.setText("Start Recording...");
+                showRecordingSummary(file);
+                return;
+            }
+            JFileChooser chooser = new JFileChooser();
+            chooser.setSelectedFile(new java.io.File("university.jfr"));
+            if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+            try {
+                flightRecording.start(chooser.getSelectedFile().toPath());
+                btnRecord.setText("Stop Recording");
+            } catch (java.io.IOException | IllegalStateException ex) {
+                JOptionPane.showMessageDialog(this, "Could not start recording: " + ex.getMessage());
+            }
+        });
+        btnAnalyze.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+                showRecordingSummary(chooser.getSelectedFile().toPath());
+            }
+        });
+
+        JPanel buttons = new JPanel(new FlowLayout());
+        buttons.add(btnRefresh);
+        buttons.add(btnExportText);
+        buttons.add(btnExportJson);
+        buttons.add(btnReset);
+        buttons.add(btnRecord);
+        buttons.add(btnAnalyze);
+
+        JPanel south = new JPanel(new BorderLayout());
+        south.add(counterLabel, BorderLayout.NORTH);
+        south.add(buttons, BorderLayout.SOUTH);
+
+        panel.add(title, BorderLayout.NORTH);
+        panel.add(new JScrollPane(table), BorderLayout.CENTER);
+        panel.add(south, BorderLayout.SOUTH);
+        refresh.run();
+        return panel;
+    }
+
+    private void exportMetrics(MetricsRegistry metrics, String defaultName) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new java.io.File(defaultName));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            metrics.dump(chooser.getSelectedFile().toPath());
+            JOptionPane.showMessageDialog(this, "Metrics written to " + chooser.getSelectedFile());
+        } catch (java.io.IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not write metrics: " + ex.getMessage());
+        }
+    }
+
+    private void showRecordingSummary(java.nio.file.Path file) {
+        try {
+            JTextArea summary = new JTextArea(FlightRecordingAnalyzer.summarize(file, 20), 25, 120);
+            summary.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+            summary.setEditable(false);
+            JOptionPane.showMessageDialog(this, new JScrollPane(summary),
+                "Slowest Operations", JOptionPane.INFORMATION_MESSAGE);
+        } catch (java.io.IOException ex) {
+            JOptionPane.showMessageDialog(this, "Could not read recording: " + ex.getMessage());
+        }
+    }
+
     // ============================================================
     // 5️⃣ PROFILE MANAGEMENT PANEL
     // ============================================================
@@ -11,6 +11,7 @@ import business.*;
 import model.*;
 import UI.Admin.AdminDashboard; 
 import UI.Student.StudentDashboard;
+import UI.StartupTimeline;
 
 /**
  *
@@ -19,6 +20,10 @@ import UI.Student.StudentDashboard;
 public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
      private AuthenticationService authService;
      private UniversityDirectory universityDirectory;
+     private volatile boolean dataReady;
+     private boolean loginPending;
+     private boolean painted;
+     private JPanel currentDashboard;
     
 
     /**
@@ -26,41 +31,190 @@ public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
      */
     public ProfileWorkAreaMainFrame() {
         initComponents();
-        
-        
-        
-        
         authService = AuthenticationService.getInstance();
         universityDirectory = UniversityDirectory.getInstance();
-     
-        
-        
-        
+        StartupTimeline.mark("login window built");
         
+        // The window is usable right away; data arrives in the background
+        loadDataInBackground();
         
+        // Persist everything when the window closes
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                if (dataReady) {
+                    saveSnapshot(); // Never overwrite the snapshot with a half-loaded directory
+                }
+            }
+        });
+    }
+    
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        if (!painted) {
+            painted = true;
+            StartupTimeline.mark("first paint");
+            if (dataReady) {
+                StartupTimeline.log();
+            }
+        }
+    }
+    
+    /**
+     * Load or generate the directory exactly once, off the event dispatch thread
+     * Nothing on the EDT reads the directory until done() sets dataReady.
+     */
+    private void loadDataInBackground() {
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                boolean restored = loadOrInitializeData();
+                StartupTimeline.mark("data loaded (" + universityDirectory.getStudents().size() + " students)");
+                
+                if (authService.getUserByUsername("admin") == null) {
+                    // Admin(String universityId, String firstName, String lastName, String email)
+                    Admin admin = new Admin("A001", "System", "Admin", "admin@university.edu");
+                    
+                    // User(String username, String password, String role, Person person)
+                    User adminUser = new User("admin", "****", "Admin", admin);
+                    
+                    authService.registerUser(adminUser);
+                    
+                    System.out.println("✅ Default admin (admin /****) created.");
+                }
+                
+                startJournal(restored);
+                StartupTimeline.mark("journal ready");
+                return null;
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    get();
+                } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                    JOptionPane.showMessageDialog(ProfileWorkAreaMainFrame.this,
+                        "Could not load university data: " + e.getMessage(),
+                        "Startup Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                dataReady = true;
+                StartupTimeline.mark("login enabled");
+                if (painted) {
+                    StartupTimeline.log();
+                }
+                
+                // A login pressed while loading goes through now
+                if (loginPending) {
+                    loginPending = false;
+                    jButton1.setText("Login");
+                    jButton1.setEnabled(true);
+                    jButton1.doClick();
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Restore the last snapshot, or seed sample data exactly once if there is none
+     * An unreadable snapshot is moved aside with its journal before seeding.
+     * Returns true if a snapshot was restored.
+     */
+    private boolean loadOrInitializeData() {
+        SnapshotStore snapshotStore = new SnapshotStore();
+        try {
+            if (snapshotStore.load(SnapshotStore.getDefaultPath())) {
+                System.out.println("✅ Restored " + universityDirectory.getStudents().size()
+                    + " students from " + SnapshotStore.getDefaultPath());
+                return true;
+            }
+        } catch (java.io.IOException e) {
+            String suffix = moveAsideUnreadableData(e);
+            System.err.println("Could not read snapshot, kept it as *" + suffix
+                + " and starting with sample data: " + e.getMessage());
+        }
         
-        new business.DataInitializer().initializeData(); 
-
-        if (authService.getUserByUsername("admin") == null) {
-            // Admin(String universityId, String firstName, String lastName, String email)
-            Admin admin = new Admin("A001", "System", "Admin", "admin@university.edu");
-
-            // User(String username, String password, String role, Person person)
-            User adminUser = new User("admin", "****", "Admin", admin);
-
-            authService.registerUser(adminUser);
-
-            System.out.println("✅ Default admin (admin /****) created.");
+        // -Duniversity.synthetic.students=N seeds a large generated university instead
+        String syntheticStudents = System.getProperty("university.synthetic.students");
+        if (syntheticStudents != null) {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                Long.getLong("university.synthetic.seed", 42L));
+            generator.setStudentCount(Integer.parseInt(syntheticStudents));
+            generator.generate();
+            System.out.println("✅ Generated accounts use the university ID (lowercase) and password 'pass'");
+            return false;
         }
         
-        if (universityDirectory.getStudents().isEmpty()) {
-            DataInitializer dataInitializer = new DataInitializer();
-            dataInitializer.initializeData();
-            System.out.println("✅ System initialized with sample data");
-            System.out.println("📚 Login Credentials:");
-            System.out.println("   Admin: admin / admin123");
-            System.out.println("   Student: student1 / pass1");
-            System.out.println("   Faculty: faculty1 / pass1");
+        DataInitializer dataInitializer = new DataInitializer();
+        dataInitializer.initializeData();
+        System.out.println("✅ System initialized with sample data");
+        System.out.println("📚 Login Credentials:");
+        System.out.println("   Admin: admin / admin123");
+        System.out.println("   Student: student1 / pass1");
+        System.out.println("   Faculty: faculty1 / pass1");
+        return false;
+    }
+    
+    /**
+     * Rename the snapshot and journals so seeding and its first checkpoint cannot overwrite them
+     * Returns the suffix they were renamed with. Startup stops if they cannot be moved.
+     */
+    private String moveAsideUnreadableData(java.io.IOException cause) {
+        java.nio.file.Path journalPath = MutationJournal.getDefaultPath();
+        java.nio.file.Path[] files = {
+            SnapshotStore.getDefaultPath(), journalPath, MutationJournal.previousPath(journalPath)
+        };
+        String suffix = ".corrupt-" + System.currentTimeMillis();
+        try {
+            for (java.nio.file.Path file : files) {
+                if (java.nio.file.Files.exists(file)) {
+                    java.nio.file.Files.move(file, file.resolveSibling(file.getFileName() + suffix));
+                }
+            }
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Snapshot " + SnapshotStore.getDefaultPath()
+                + " is unreadable (" + cause.getMessage() + ") and could not be moved aside: "
+                + e.getMessage(), e);
+        }
+        return suffix;
+    }
+    
+    /**
+     * Replay changes journaled since the restored snapshot, then journal new ones
+     * Freshly seeded data has no snapshot yet, so it is checkpointed right away
+     * and any journal left over from an older data set is discarded.
+     */
+    private void startJournal(boolean restored) {
+        MutationJournal journal = MutationJournal.getInstance();
+        java.nio.file.Path journalPath = MutationJournal.getDefaultPath();
+        try {
+            if (restored) {
+                int replayed = new JournalReplayer().recover(journalPath);
+                if (replayed > 0) {
+                    System.out.println("✅ Replayed " + replayed + " journaled changes");
+                }
+            }
+            journal.open(journalPath);
+            if (!restored) {
+                saveSnapshot();
+            }
+        } catch (java.io.IOException e) {
+            System.err.println("Could not open journal, changes will only be saved on exit: "
+                + e.getMessage());
+        }
+    }
+    
+    /**
+     * Save the current state so the next launch starts where this one ended
+     * The snapshot is taken as a journal checkpoint, which retires the journal it covers.
+     */
+    private void saveSnapshot() {
+        try {
+            MutationJournal.getInstance().checkpoint(
+                () -> new SnapshotStore().save(SnapshotStore.getDefaultPath()));
+        } catch (java.io.IOException e) {
+            System.err.println("Could not save snapshot: " + e.getMessage());
         }
     }
 
@@ -155,6 +309,12 @@ public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
     private void jButton1LoginButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton1LoginButtonActionPerformed
         // TODO add your handling code here:
         //      WorkAreaJPanel ura = new WorkAreaJPanel(workareajpanl);
+        if (!dataReady) {
+            loginPending = true;
+            jButton1.setText("Loading...");
+            jButton1.setEnabled(false);
+            return;
+        }
         String username = UserNameTextField.getText().trim();
         String password = PasswordTextField.getText().trim();
 
@@ -166,11 +326,18 @@ public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
                 JOptionPane.showMessageDialog(this, "Welcome, " + role + "!");
 
                 CardLayout layout = (CardLayout) jPanel2.getLayout();
+                
+                // Each login gets a fresh dashboard; drop the previous one
+                if (currentDashboard != null) {
+                    jPanel2.remove(currentDashboard);
+                    currentDashboard = null;
+                }
 
                 switch (role.toLowerCase()) {
                     case "admin":
                         AdminDashboard adminPanel = new AdminDashboard(universityDirectory);
                         jPanel2.add("AdminDashboard", adminPanel);
+                        currentDashboard = adminPanel;
                         layout.show(jPanel2, "AdminDashboard");
                         break;
                     case "faculty":
@@ -178,6 +345,7 @@ public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
                         model.Faculty me = (model.Faculty) user.getPerson();
                         UI.Faculty.FacultyDashboard facPanel = new UI.Faculty.FacultyDashboard(me);
                         jPanel2.add("FacultyDashboard", facPanel);
+                        currentDashboard = facPanel;
                         layout.show(jPanel2, "FacultyDashboard");
                         break;
                         
@@ -185,6 +353,7 @@ public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
                         // ADDED: Student case
                         StudentDashboard studentPanel = new StudentDashboard(universityDirectory);
                         jPanel2.add("StudentDashboard", studentPanel);
+                        currentDashboard = studentPanel;
                         layout.show(jPanel2, "StudentDashboard");
                         break;
                     default:
@@ -214,6 +383,9 @@ public class ProfileWorkAreaMainFrame extends javax.swing.JFrame {
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+        StartupTimeline.mark("main() entered");
+        // -Duniversity.jfr=file.jfr records the whole session
+        FlightRecording.startFromProperty();
         SwingUtilities.invokeLater(() -> {
             new ProfileWorkAreaMainFrame().setVisible(true);
         });
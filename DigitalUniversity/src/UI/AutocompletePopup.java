@@ -0,0 +1,188 @@
+package UI;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * AutocompletePopup - Suggestion list under a text field, updated as the user types
+ *
+ * The suggestion source runs on the Event Dispatch Thread once per edit, so it
+ * must be a cheap lookup such as AutocompleteService. Up/Down move through the
+ * list, Enter or a click accepts, Escape closes it.
+ * Author: [Your Name]
+ */
+public class AutocompletePopup {
+
+    private static final int VISIBLE_ROWS = 8;
+
+    private final JTextField field;
+    private final Function<String, List<String>> source;
+    private final Consumer<String> onAccept;
+    private final JPopupMenu popup = new JPopupMenu();
+    private final DefaultListModel<String> suggestions = new DefaultListModel<>();
+    private final JList<String> list = new JList<>(suggestions);
+    private boolean accepting;
+    private boolean refreshQueued;
+
+    private AutocompletePopup(JTextField field, Function<String, List<String>> source, Consumer<String> onAccept) {
+        this.field = field;
+        this.source = source;
+        this.onAccept = onAccept;
+
+        list.setFocusable(false);
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = list.locationToIndex(e.getPoint());
+                if (index >= 0) {
+                    accept(suggestions.get(index));
+                }
+            }
+        });
+        JScrollPane scroll = new JScrollPane(list);
+        scroll.setBorder(BorderFactory.createEmptyBorder());
+        popup.setFocusable(false);
+        popup.setLayout(new BorderLayout());
+        popup.add(scroll, BorderLayout.CENTER);
+    }
+
+    /**
+     * Show suggestions from source under field; onAccept (may be null) gets the chosen text
+     */
+    public static AutocompletePopup attach(JTextField field, Function<String, List<String>> source,
+                                           Consumer<String> onAccept) {
+        if (field == null || source == null) {
+            throw new IllegalArgumentException("Field and suggestion source cannot be null");
+        }
+        AutocompletePopup autocomplete = new AutocompletePopup(field, source, onAccept);
+        autocomplete.install();
+        return autocomplete;
+    }
+
+    private void install() {
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                queueRefresh();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                queueRefresh();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+        field.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (!popup.isVisible()) {
+                    return;
+                }
+                switch (e.getKeyCode()) {
+                    case KeyEvent.VK_DOWN:
+                        move(1);
+                        e.consume();
+                        break;
+                    case KeyEvent.VK_UP:
+                        move(-1);
+                        e.consume();
+                        break;
+                    case KeyEvent.VK_ENTER:
+                        if (list.getSelectedValue() != null) {
+                            accept(list.getSelectedValue());
+                            e.consume();
+                        }
+                        break;
+                    case KeyEvent.VK_ESCAPE:
+                        popup.setVisible(false);
+                        e.consume();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        });
+        field.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                popup.setVisible(false);
+            }
+        });
+    }
+
+    // Several edits in one event (e.g. a paste that replaces text) refresh once
+    private void queueRefresh() {
+        if (accepting || refreshQueued) {
+            return;
+        }
+        refreshQueued = true;
+        SwingUtilities.invokeLater(() -> {
+            refreshQueued = false;
+            refresh();
+        });
+    }
+
+    private void refresh() {
+        if (!field.isShowing() || !field.hasFocus()) {
+            popup.setVisible(false);
+            return;
+        }
+        List<String> found = source.apply(field.getText());
+        if (found == null || found.isEmpty()) {
+            popup.setVisible(false);
+            return;
+        }
+        suggestions.clear();
+        for (String suggestion : found) {
+            suggestions.addElement(suggestion);
+        }
+        list.clearSelection();
+        list.setVisibleRowCount(Math.min(found.size(), VISIBLE_ROWS));
+
+        Dimension size = list.getPreferredScrollableViewportSize();
+        popup.setPopupSize(Math.max(field.getWidth(), size.width + 8), size.height + 4);
+        if (!popup.isVisible()) {
+            popup.show(field, 0, field.getHeight());
+        }
+    }
+
+    private void move(int step) {
+        int count = suggestions.getSize();
+        int index = list.getSelectedIndex() + step;
+        if (index < 0) {
+            index = count - 1;
+        } else if (index >= count) {
+            index = 0;
+        }
+        list.setSelectedIndex(index);
+        list.ensureIndexIsVisible(index);
+    }
+
+    private void accept(String value) {
+        accepting = true;
+        try {
+            field.setText(value);
+        } finally {
+            accepting = false;
+        }
+        popup.setVisible(false);
+        if (onAccept != null) {
+            onAccept.accept(value);
+        }
+    }
+}
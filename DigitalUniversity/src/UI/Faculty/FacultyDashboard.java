@@ -9,6 +9,7 @@ import java.util.*;
 import model.*;
 import business.*;
 import utility.ValidationUtility;
+import UI.LazyTabbedPane;
 
 /**
  * Complete Faculty Dashboard Implementation
@@ -32,7 +33,7 @@ public class FacultyDashboard extends javax.swing.JPanel {
     private javax.swing.table.DefaultTableModel reportModel;
     
     // UI Components
-    private JTabbedPane tabs;
+    private LazyTabbedPane tabs;
     private JPanel tabCourses, tabStudents, tabGrading, tabReports, tabProfile;
     
     // Course Management Components
@@ -78,12 +79,6 @@ public class FacultyDashboard extends javax.swing.JPanel {
     private void afterInit() {
         String name = (me != null) ? me.getFirstName() + " " + me.getLastName() : "";
         lblHeader.setText("Faculty Dashboard — " + name);
-
-        initCoursesTab();
-        initStudentsTab();
-        initGradingTab();
-        initReportsTab();
-        initProfileTab();
     }
     
     // ==================== COURSE MANAGEMENT TAB ====================
@@ -154,7 +149,9 @@ public class FacultyDashboard extends javax.swing.JPanel {
                 co.getCourse().setTitle(title);
                 co.getCourse().setDescription(desc);
                 co.setRoomLocation(room);
-                co.setMaxCapacity(Integer.parseInt(capStr));
+                if (Integer.parseInt(capStr) < co.getCurrentEnrollment())
+                    throw new IllegalArgumentException("Capacity cannot be below current enrollment.");
+                fs.updateCourseOffering(co, null, null, null, null, Integer.parseInt(capStr));
                 if (ValidationUtility.isNotEmpty(syllabus)) 
                     co.setSyllabus(syllabus);
             } catch (Exception ex) {
@@ -882,20 +879,34 @@ public class FacultyDashboard extends javax.swing.JPanel {
         lblHeader.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         add(lblHeader, BorderLayout.NORTH);
         
-        tabs = new JTabbedPane();
-        
-        // Create tabs
-        tabCourses = createCoursesTabUI();
-        tabStudents = createStudentsTabUI();
-        tabGrading = createGradingTabUI();
-        tabReports = createReportsTabUI();
-        tabProfile = createProfileTabUI();
+        tabs = new LazyTabbedPane();
         
-        tabs.addTab("Course Management", tabCourses);
-        tabs.addTab("Student Management", tabStudents);
-        tabs.addTab("Grading & Assignments", tabGrading);
-        tabs.addTab("Performance Reports", tabReports);
-        tabs.addTab("My Profile", tabProfile);
+        // Tabs are built and wired the first time they are opened, after the constructor has set me
+        tabs.addLazyTab("Course Management", () -> {
+            tabCourses = createCoursesTabUI();
+            initCoursesTab();
+            return tabCourses;
+        });
+        tabs.addLazyTab("Student Management", () -> {
+            tabStudents = createStudentsTabUI();
+            initStudentsTab();
+            return tabStudents;
+        });
+        tabs.addLazyTab("Grading & Assignments", () -> {
+            tabGrading = createGradingTabUI();
+            initGradingTab();
+            return tabGrading;
+        });
+        tabs.addLazyTab("Performance Reports", () -> {
+            tabReports = createReportsTabUI();
+            initReportsTab();
+            return tabReports;
+        });
+        tabs.addLazyTab("My Profile", () -> {
+            tabProfile = createProfileTabUI();
+            initProfileTab();
+            return tabProfile;
+        });
         
         add(tabs, BorderLayout.CENTER);
     }
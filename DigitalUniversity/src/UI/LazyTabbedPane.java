@@ -0,0 +1,70 @@
+package UI;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * LazyTabbedPane - Tabbed pane that builds each tab the first time it is shown
+ *
+ * Dashboards register a builder per tab instead of a finished panel, so
+ * logging in only pays for the tab that opens first. Building waits until
+ * the pane is on screen, which lets the owning dashboard finish its own
+ * constructor before any tab code runs.
+ * Author: [Your Name]
+ */
+public class LazyTabbedPane extends JTabbedPane {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ArrayList<Supplier<? extends Component>> builders = new ArrayList<>();
+
+    /**
+     * Add a tab whose content is created by builder on first view
+     */
+    public void addLazyTab(String title, Supplier<? extends Component> builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("Tab builder cannot be null");
+        }
+        builders.add(builder);
+        addTab(title, new JPanel(new BorderLayout()));
+    }
+
+    /**
+     * Whether the tab at index has been built yet
+     */
+    public boolean isTabBuilt(int index) {
+        return builders.get(index) == null;
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        buildSelectedTab();
+    }
+
+    /**
+     * Selection changes arrive here, so the pane needs no listener on itself
+     */
+    @Override
+    protected void fireStateChanged() {
+        super.fireStateChanged();
+        buildSelectedTab();
+    }
+
+    private void buildSelectedTab() {
+        int index = getSelectedIndex();
+        if (!isDisplayable() || index < 0 || index >= builders.size() || isTabBuilt(index)) {
+            return;
+        }
+        // Cleared only once the builder returns, so a tab whose builder threw
+        // is built again the next time it is selected
+        Component content = builders.get(index).get();
+        builders.set(index, null);
+        JPanel holder = (JPanel) getComponentAt(index);
+        holder.add(content, BorderLayout.CENTER);
+        holder.revalidate();
+        holder.repaint();
+    }
+}
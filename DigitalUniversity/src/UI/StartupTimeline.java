@@ -0,0 +1,61 @@
+package UI;
+
+import java.util.ArrayList;
+
+/**
+ * StartupTimeline - Records and logs how long each launch phase took
+ *
+ * Times are measured from JVM start, so the first phase covers JVM boot and
+ * loading the application's classes up to main(). Phases may be marked from
+ * any thread; the log shows which one ran each phase.
+ * Author: [Your Name]
+ */
+public final class StartupTimeline {
+
+    // Wall-clock anchor for JVM start; monotonic nanoTime for everything after
+    private static final long ANCHOR_NANOS = System.nanoTime();
+    private static final long ANCHOR_OFFSET_MILLIS = ProcessHandle.current().info().startInstant()
+        .map(start -> System.currentTimeMillis() - start.toEpochMilli())
+        .orElse(0L);
+
+    private static final ArrayList<Object[]> phases = new ArrayList<>(); // {name, millis, thread}
+    private static boolean logged;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Note that a phase just finished
+     */
+    public static synchronized void mark(String phase) {
+        phases.add(new Object[]{phase, sinceJvmStart(), Thread.currentThread().getName()});
+    }
+
+    /**
+     * Milliseconds since the JVM started
+     */
+    public static long sinceJvmStart() {
+        return ANCHOR_OFFSET_MILLIS + (System.nanoTime() - ANCHOR_NANOS) / 1_000_000;
+    }
+
+    public static synchronized String format() {
+        StringBuilder out = new StringBuilder("Startup timeline (ms since JVM start)\n");
+        long previous = 0;
+        for (Object[] phase : phases) {
+            long at = (Long) phase[1];
+            out.append(String.format("  %6d  +%-6d %-36s [%s]%n", at, at - previous, phase[0], phase[2]));
+            previous = at;
+        }
+        return out.toString();
+    }
+
+    /**
+     * Print the timeline once, after the last phase of interest
+     */
+    public static synchronized void log() {
+        if (!logged) {
+            logged = true;
+            System.out.print(format());
+        }
+    }
+}
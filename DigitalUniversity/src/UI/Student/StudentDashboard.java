@@ -7,9 +7,12 @@ import java.awt.event.*;
 import accesscontrol.*;
 import model.*;
 import business.*;
+import UI.AutocompletePopup;
+import UI.LazyTabbedPane;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * StudentDashboard - Complete student interface with all required functionality
@@ -20,7 +23,9 @@ public class StudentDashboard extends javax.swing.JPanel {
     // Services
     private UniversityDirectory directory;
     private StudentService studentService;
+    private WaitlistService waitlistService;
     private SearchService searchService;
+    private AutocompleteService autocompleteService;
     private GradeCalculator gradeCalculator;
     private AuthenticationService authService;
     
@@ -28,7 +33,7 @@ public class StudentDashboard extends javax.swing.JPanel {
     private Student currentStudent;
     
     // UI Components
-    private JTabbedPane tabbedPane;
+    private LazyTabbedPane tabbedPane;
     private JPanel courseRegistrationPanel;
     private JPanel graduationAuditPanel;
     private JPanel transcriptPanel;
@@ -92,7 +97,9 @@ public class StudentDashboard extends javax.swing.JPanel {
     public StudentDashboard(UniversityDirectory directory) {
         this.directory = directory;
         this.studentService = new StudentService();
+        this.waitlistService = new WaitlistService();
         this.searchService = new SearchService();
+        this.autocompleteService = new AutocompleteService();
         this.gradeCalculator = new GradeCalculator();
         this.authService = AuthenticationService.getInstance();
         
@@ -103,7 +110,6 @@ public class StudentDashboard extends javax.swing.JPanel {
         }
         
         initializeUI();
-        loadInitialData();
     }
     
     /**
@@ -112,24 +118,15 @@ public class StudentDashboard extends javax.swing.JPanel {
     private void initializeUI() {
         setLayout(new BorderLayout());
         
-        // Create tabbed pane
-        tabbedPane = new JTabbedPane();
+        // Create tabbed pane; each tab is built and loaded the first time it is opened
+        tabbedPane = new LazyTabbedPane();
         
-        // Create all panels
-        courseRegistrationPanel = createCourseRegistrationPanel();
-        graduationAuditPanel = createGraduationAuditPanel();
-        transcriptPanel = createTranscriptPanel();
-        financialPanel = createFinancialPanel();
-        courseworkPanel = createCourseworkPanel();
-        profilePanel = createProfilePanel();
-        
-        // Add tabs
-        tabbedPane.addTab("Course Registration", courseRegistrationPanel);
-        tabbedPane.addTab("Graduation Audit", graduationAuditPanel);
-        tabbedPane.addTab("Transcript Review", transcriptPanel);
-        tabbedPane.addTab("Financial Management", financialPanel);
-        tabbedPane.addTab("Coursework", courseworkPanel);
-        tabbedPane.addTab("Profile", profilePanel);
+        tabbedPane.addLazyTab("Course Registration", this::buildCourseRegistrationTab);
+        tabbedPane.addLazyTab("Graduation Audit", this::buildGraduationAuditTab);
+        tabbedPane.addLazyTab("Transcript Review", this::buildTranscriptTab);
+        tabbedPane.addLazyTab("Financial Management", this::buildFinancialTab);
+        tabbedPane.addLazyTab("Coursework", this::buildCourseworkTab);
+        tabbedPane.addLazyTab("Profile", this::buildProfileTab);
         
         add(tabbedPane, BorderLayout.CENTER);
     }
@@ -195,6 +192,7 @@ public class StudentDashboard extends javax.swing.JPanel {
         
         // Add action listeners
         searchButton.addActionListener(e -> performSearch());
+        AutocompletePopup.attach(searchTextField, this::suggestSearchTerms, value -> performSearch());
         refreshButton.addActionListener(e -> loadCourseOfferings());
         enrollButton.addActionListener(e -> enrollInCourse());
         dropButton.addActionListener(e -> dropCourse());
@@ -221,15 +219,10 @@ public class StudentDashboard extends javax.swing.JPanel {
         ArrayList<CourseOffering> offerings = studentService.getAvailableCourses(selectedSemester);
         
         for (CourseOffering co : offerings) {
-            boolean isEnrolled = false;
-            for (Enrollment e : currentStudent.getEnrollments()) {
-                if (e.getCourseOffering().equals(co) && e.isActive()) {
-                    isEnrolled = true;
-                    break;
-                }
-            }
+            boolean isEnrolled = currentStudent.isActivelyEnrolled(co);
             
             String status = isEnrolled ? "Enrolled" : 
+                           co.getWaitlist().contains(currentStudent) ? "Waitlisted" :
                            co.hasAvailableSeats() ? "Available" : "Full";
             
             courseTableModel.addRow(new Object[]{
@@ -245,6 +238,22 @@ public class StudentDashboard extends javax.swing.JPanel {
         }
     }
     
+    /**
+     * Completions for the search box, matching the selected search method
+     */
+    private List<String> suggestSearchTerms(String prefix) {
+        String searchMethod = (String) searchMethodComboBox.getSelectedItem();
+        int limit = AutocompleteService.DEFAULT_LIMIT;
+        switch (searchMethod) {
+            case "Instructor Name":
+                return autocompleteService.suggestInstructors(prefix, limit);
+            case "Course Title":
+                return autocompleteService.suggestCourseTitles(prefix, limit);
+            default:
+                return autocompleteService.suggestCourseIds(prefix, limit);
+        }
+    }
+    
     private void performSearch() {
         String searchTerm = searchTextField.getText().trim();
         if (searchTerm.isEmpty()) {
@@ -276,15 +285,10 @@ public class StudentDashboard extends javax.swing.JPanel {
         }
         
         for (CourseOffering co : results) {
-            boolean isEnrolled = false;
-            for (Enrollment e : currentStudent.getEnrollments()) {
-                if (e.getCourseOffering().equals(co) && e.isActive()) {
-                    isEnrolled = true;
-                    break;
-                }
-            }
+            boolean isEnrolled = currentStudent.isActivelyEnrolled(co);
             
             String status = isEnrolled ? "Enrolled" : 
+                           co.getWaitlist().contains(currentStudent) ? "Waitlisted" :
                            co.hasAvailableSeats() ? "Available" : "Full";
             
             courseTableModel.addRow(new Object[]{
@@ -336,10 +340,48 @@ public class StudentDashboard extends javax.swing.JPanel {
             updateFinancialInfo();
             
         } catch (IllegalArgumentException e) {
+            if (!selectedOffering.hasAvailableSeats()) {
+                offerWaitlist(selectedOffering, e.getMessage());
+            } else {
+                JOptionPane.showMessageDialog(this, e.getMessage(), "Enrollment Error", JOptionPane.ERROR_MESSAGE);
+            }
+        } catch (IllegalStateException e) {
+            // The change could not be saved, so it was not made
             JOptionPane.showMessageDialog(this, e.getMessage(), "Enrollment Error", JOptionPane.ERROR_MESSAGE);
         }
     }
     
+    /**
+     * Offer to put the student on the waitlist of a full course
+     */
+    private void offerWaitlist(CourseOffering offering, String reason) {
+        if (offering.getWaitlist().contains(currentStudent)) {
+            JOptionPane.showMessageDialog(this, "You are already on the waitlist for this course.");
+            return;
+        }
+        
+        int choice = JOptionPane.showConfirmDialog(this,
+            reason + "\nWould you like to join the waitlist? (" +
+            offering.getWaitlist().size() + " student(s) waiting)",
+            "Course Full", JOptionPane.YES_NO_OPTION);
+        if (choice != JOptionPane.YES_OPTION) {
+            return;
+        }
+        
+        try {
+            waitlistService.joinWaitlist(currentStudent, offering);
+            String message = currentStudent.isActivelyEnrolled(offering)
+                ? "A seat opened up - you are now enrolled in " + offering.getCourse().getCourseId() + "!"
+                : "Added to the waitlist for " + offering.getCourse().getCourseId() + ".";
+            JOptionPane.showMessageDialog(this, message, "Waitlist", JOptionPane.INFORMATION_MESSAGE);
+            
+            loadCourseOfferings();
+            updateFinancialInfo();
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Waitlist Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
     private void dropCourse() {
         int selectedRow = courseOfferingsTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -374,7 +416,13 @@ public class StudentDashboard extends javax.swing.JPanel {
             boolean wasPaid = enrollmentToDrop.isPaid();
             double tuitionAmount = enrollmentToDrop.getTuitionAmount();
             
-            boolean success = studentService.dropCourse(currentStudent, enrollmentToDrop);
+            boolean success;
+            try {
+                success = studentService.dropCourse(currentStudent, enrollmentToDrop);
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                JOptionPane.showMessageDialog(this, ex.getMessage(), "Drop Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             
             if (success) {
                 String message = "Successfully dropped " + courseId + ".";
@@ -688,6 +736,9 @@ public class StudentDashboard extends javax.swing.JPanel {
     }
     
     private void updateFinancialInfo() {
+        if (currentBalanceLabel == null) {
+            return; // Financial tab not opened yet; it loads when first shown
+        }
         double unpaidBalance = studentService.calculateUnpaidBalance(currentStudent);
         currentBalanceLabel.setText(String.format("Unpaid Balance: $%.2f", unpaidBalance));
         
@@ -791,7 +842,7 @@ public class StudentDashboard extends javax.swing.JPanel {
                 
                 updateFinancialInfo();
                 
-            } catch (IllegalArgumentException ex) {
+            } catch (IllegalArgumentException | IllegalStateException ex) {
                 JOptionPane.showMessageDialog(this, 
                     ex.getMessage(),
                     "Payment Error", JOptionPane.ERROR_MESSAGE);
@@ -985,35 +1036,57 @@ public class StudentDashboard extends javax.swing.JPanel {
             "Success", JOptionPane.INFORMATION_MESSAGE);
     }
     
-    // ========== INITIAL DATA LOADING ==========
+    // ========== TAB BUILDERS ==========
     
-    private void loadInitialData() {
-        // Load semesters
+    private JPanel buildCourseRegistrationTab() {
+        courseRegistrationPanel = createCourseRegistrationPanel();
         for (Semester semester : directory.getSemesters()) {
             semesterComboBox.addItem(semester);
-            transcriptSemesterComboBox.addItem(semester.getFullName());
-        }
-        
-        // Load enrolled courses for coursework
-        for (Enrollment e : currentStudent.getEnrollments()) {
-            if (e.isActive()) {
-                courseworkCourseComboBox.addItem(e.getCourseOffering());
-            }
         }
-        
-        // Load initial data for all panels
         if (semesterComboBox.getItemCount() > 0) {
             semesterComboBox.setSelectedIndex(0);
             loadCourseOfferings();
         }
-        
+        return courseRegistrationPanel;
+    }
+    
+    private JPanel buildGraduationAuditTab() {
+        graduationAuditPanel = createGraduationAuditPanel();
         updateGraduationAudit();
+        return graduationAuditPanel;
+    }
+    
+    private JPanel buildTranscriptTab() {
+        transcriptPanel = createTranscriptPanel();
+        for (Semester semester : directory.getSemesters()) {
+            transcriptSemesterComboBox.addItem(semester.getFullName());
+        }
         loadTranscript();
+        return transcriptPanel;
+    }
+    
+    private JPanel buildFinancialTab() {
+        financialPanel = createFinancialPanel();
         updateFinancialInfo();
-        loadProfileData();
-        
+        return financialPanel;
+    }
+    
+    private JPanel buildCourseworkTab() {
+        courseworkPanel = createCourseworkPanel();
+        for (Enrollment e : currentStudent.getEnrollments()) {
+            if (e.isActive()) {
+                courseworkCourseComboBox.addItem(e.getCourseOffering());
+            }
+        }
         if (courseworkCourseComboBox.getItemCount() > 0) {
             loadAssignments();
         }
+        return courseworkPanel;
+    }
+    
+    private JPanel buildProfileTab() {
+        profilePanel = createProfilePanel();
+        loadProfileData();
+        return profilePanel;
     }
 }
\ No newline at end of file
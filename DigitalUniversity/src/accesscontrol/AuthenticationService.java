@@ -1,30 +1,43 @@
 package accesscontrol;
 
-import java.util.HashMap;
+import business.MetricsRegistry;
+import business.OperationMetric;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * AuthenticationService for managing user authentication
+ * Thread-safe: users live in a concurrent map and the singleton is
+ * published through a lazy holder class
  * Author: [Your Name]
  */
 public class AuthenticationService {
-    private static AuthenticationService instance;
-    private HashMap<String, User> users; // username -> User mapping
-    private User currentUser;
+    private static final OperationMetric OP_LOGIN =
+        MetricsRegistry.getInstance().operation("AuthenticationService.login");
+    private static final LongAdder LOGIN_FAILURES =
+        MetricsRegistry.getInstance().counter("AuthenticationService.loginFailures");
+    
+    private final ConcurrentHashMap<String, User> users; // username -> User mapping
+    private volatile User currentUser;
     
     // Private constructor for singleton pattern
     private AuthenticationService() {
-        this.users = new HashMap<>();
+        this.users = new ConcurrentHashMap<>();
         this.currentUser = null;
     }
     
+    // Lazy holder: the JVM's class initialization publishes the instance safely
+    private static class Holder {
+        private static final AuthenticationService INSTANCE = new AuthenticationService();
+    }
+    
     /**
      * Get singleton instance
      */
     public static AuthenticationService getInstance() {
-        if (instance == null) {
-            instance = new AuthenticationService();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
     
     /**
@@ -35,19 +48,20 @@ public class AuthenticationService {
             return false;
         }
         
-        if (users.containsKey(user.getUsername())) {
-            return false; // Username already exists
-        }
-        
-        users.put(user.getUsername(), user);
-        return true;
+        // Atomic check-and-insert, so two sessions can't claim the same username
+        return users.putIfAbsent(user.getUsername(), user) == null;
     }
     
     /**
      * Authenticate user
      */
     public User login(String username, String password) {
+        return OP_LOGIN.time(() -> doLogin(username, password));
+    }
+    
+    private User doLogin(String username, String password) {
         if (username == null || password == null) {
+            LOGIN_FAILURES.increment();
             return null;
         }
         
@@ -57,6 +71,7 @@ public class AuthenticationService {
             return user;
         }
         
+        LOGIN_FAILURES.increment();
         return null;
     }
     
@@ -92,21 +107,24 @@ public class AuthenticationService {
      * Get user by username
      */
     public User getUserByUsername(String username) {
+        if (username == null) {
+            return null;
+        }
         return users.get(username);
     }
     
     /**
-     * Get all users
+     * Get all users as a read-only view that is safe to iterate concurrently
      */
-    public HashMap<String, User> getAllUsers() {
-        return users;
+    public Map<String, User> getAllUsers() {
+        return Collections.unmodifiableMap(users);
     }
     
     /**
      * Update user password
      */
     public boolean updatePassword(String username, String oldPassword, String newPassword) {
-        User user = users.get(username);
+        User user = getUserByUsername(username);
         if (user != null && user.validatePassword(oldPassword)) {
             user.setPassword(newPassword);
             return true;
@@ -118,10 +136,6 @@ public class AuthenticationService {
      * Delete user
      */
     public boolean deleteUser(String username) {
-        if (users.containsKey(username)) {
-            users.remove(username);
-            return true;
-        }
-        return false;
+        return username != null && users.remove(username) != null;
     }
 }
\ No newline at end of file
@@ -10,12 +10,48 @@ import java.util.ArrayList;
  */
 public class AdminService {
     
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_CREATE_USER_ACCOUNT =
+        MetricsRegistry.getInstance().operation("AdminService.createUserAccount");
+    private static final OperationMetric OP_MODIFY_USER_ACCOUNT =
+        MetricsRegistry.getInstance().operation("AdminService.modifyUserAccount");
+    private static final OperationMetric OP_DELETE_USER_ACCOUNT =
+        MetricsRegistry.getInstance().operation("AdminService.deleteUserAccount");
+    private static final OperationMetric OP_GET_USERS_BY_ROLE =
+        MetricsRegistry.getInstance().operation("AdminService.getUsersByRole");
+    private static final OperationMetric OP_REGISTER_STUDENT =
+        MetricsRegistry.getInstance().operation("AdminService.registerStudent");
+    private static final OperationMetric OP_REGISTER_FACULTY =
+        MetricsRegistry.getInstance().operation("AdminService.registerFaculty");
+    private static final OperationMetric OP_REGISTER_REGISTRAR =
+        MetricsRegistry.getInstance().operation("AdminService.registerRegistrar");
+    private static final OperationMetric OP_REGISTER_ADMIN =
+        MetricsRegistry.getInstance().operation("AdminService.registerAdmin");
+    private static final OperationMetric OP_UPDATE_STUDENT_INFO =
+        MetricsRegistry.getInstance().operation("AdminService.updateStudentInfo");
+    private static final OperationMetric OP_DELETE_STUDENT =
+        MetricsRegistry.getInstance().operation("AdminService.deleteStudent");
+    private static final OperationMetric OP_UPDATE_FACULTY_INFO =
+        MetricsRegistry.getInstance().operation("AdminService.updateFacultyInfo");
+    private static final OperationMetric OP_ASSIGN_FACULTY_TO_COURSE =
+        MetricsRegistry.getInstance().operation("AdminService.assignFacultyToCourse");
+    private static final OperationMetric OP_DELETE_FACULTY =
+        MetricsRegistry.getInstance().operation("AdminService.deleteFaculty");
+    private static final OperationMetric OP_UPDATE_REGISTRAR_INFO =
+        MetricsRegistry.getInstance().operation("AdminService.updateRegistrarInfo");
+    private static final OperationMetric OP_DELETE_REGISTRAR =
+        MetricsRegistry.getInstance().operation("AdminService.deleteRegistrar");
+    private static final OperationMetric OP_GET_TOTAL_USERS_BY_ROLE =
+        MetricsRegistry.getInstance().operation("AdminService.getTotalUsersByRole");
+    
     private UniversityDirectory directory;
     private AuthenticationService authService;
+    private MutationJournal journal;
     
     public AdminService() {
         this.directory = UniversityDirectory.getInstance();
         this.authService = AuthenticationService.getInstance();
+        this.journal = MutationJournal.getInstance();
     }
     
     // ========== USER ACCOUNT MANAGEMENT ==========
@@ -24,6 +60,10 @@ public class AdminService {
      * Create a new user account
      */
     public boolean createUserAccount(String username, String password, String role, Person person) {
+        return OP_CREATE_USER_ACCOUNT.time(() -> doCreateUserAccount(username, password, role, person));
+    }
+    
+    private boolean doCreateUserAccount(String username, String password, String role, Person person) {
         // Validation
         if (username == null || username.trim().isEmpty()) {
             throw new IllegalArgumentException("Username cannot be empty");
@@ -44,13 +84,21 @@ public class AdminService {
         }
         
         User user = new User(username, password, role, person);
-        return authService.registerUser(user);
+        if (!authService.registerUser(user)) {
+            return false;
+        }
+        journal.append(MutationJournal.USER_CREATE, username, password, role, person.getUniversityId());
+        return true;
     }
     
     /**
      * Modify existing user account
      */
     public boolean modifyUserAccount(String username, String newPassword, boolean isActive) {
+        return OP_MODIFY_USER_ACCOUNT.time(() -> doModifyUserAccount(username, newPassword, isActive));
+    }
+    
+    private boolean doModifyUserAccount(String username, String newPassword, boolean isActive) {
         User user = authService.getUserByUsername(username);
         if (user == null) {
             return false;
@@ -60,6 +108,7 @@ public class AdminService {
             user.setPassword(newPassword);
         }
         user.setActive(isActive);
+        journal.append(MutationJournal.USER_MODIFY, username, newPassword, isActive);
         
         return true;
     }
@@ -68,13 +117,25 @@ public class AdminService {
      * Delete user account
      */
     public boolean deleteUserAccount(String username) {
-        return authService.deleteUser(username);
+        return OP_DELETE_USER_ACCOUNT.time(() -> doDeleteUserAccount(username));
+    }
+    
+    private boolean doDeleteUserAccount(String username) {
+        if (!authService.deleteUser(username)) {
+            return false;
+        }
+        journal.append(MutationJournal.USER_DELETE, username);
+        return true;
     }
     
     /**
      * Get all users by role
      */
     public ArrayList<User> getUsersByRole(String role) {
+        return OP_GET_USERS_BY_ROLE.time(() -> doGetUsersByRole(role));
+    }
+    
+    private ArrayList<User> doGetUsersByRole(String role) {
         ArrayList<User> result = new ArrayList<>();
         for (User user : authService.getAllUsers().values()) {
             if (user.getRole().equalsIgnoreCase(role)) {
@@ -98,6 +159,12 @@ public class AdminService {
      */
     public Student registerStudent(String firstName, String lastName, String email, 
                                    String phoneNumber, String address, String program) {
+        return OP_REGISTER_STUDENT.time(() -> doRegisterStudent(firstName, lastName, email, phoneNumber,
+            address, program));
+    }
+    
+    private Student doRegisterStudent(String firstName, String lastName, String email, 
+                                      String phoneNumber, String address, String program) {
         // Validation
         validatePersonData(firstName, lastName, email);
         
@@ -116,6 +183,8 @@ public class AdminService {
         
         // Add to directory
         directory.addStudent(student);
+        journal.append(MutationJournal.REGISTER_STUDENT, universityId, firstName, lastName,
+            email, phoneNumber, address, program);
         
         return student;
     }
@@ -126,6 +195,13 @@ public class AdminService {
     public Faculty registerFaculty(String firstName, String lastName, String email, 
                                    String phoneNumber, Department department, 
                                    String officeLocation, String officeHours) {
+        return OP_REGISTER_FACULTY.time(() -> doRegisterFaculty(firstName, lastName, email, phoneNumber,
+            department, officeLocation, officeHours));
+    }
+    
+    private Faculty doRegisterFaculty(String firstName, String lastName, String email, 
+                                      String phoneNumber, Department department, 
+                                      String officeLocation, String officeHours) {
         // Validation
         validatePersonData(firstName, lastName, email);
         
@@ -150,6 +226,8 @@ public class AdminService {
         // Add to directory and department
         directory.addFaculty(faculty);
         department.addFaculty(faculty);
+        journal.append(MutationJournal.REGISTER_FACULTY, universityId, firstName, lastName,
+            email, phoneNumber, department.getDepartmentId(), officeLocation, officeHours);
         
         return faculty;
     }
@@ -160,6 +238,13 @@ public class AdminService {
     public Registrar registerRegistrar(String firstName, String lastName, String email, 
                                        String phoneNumber, String officeLocation, 
                                        String officeHours) {
+        return OP_REGISTER_REGISTRAR.time(() -> doRegisterRegistrar(firstName, lastName, email,
+            phoneNumber, officeLocation, officeHours));
+    }
+    
+    private Registrar doRegisterRegistrar(String firstName, String lastName, String email, 
+                                          String phoneNumber, String officeLocation, 
+                                          String officeHours) {
         // Validation
         validatePersonData(firstName, lastName, email);
         
@@ -179,6 +264,8 @@ public class AdminService {
         
         // Add to directory
         directory.addRegistrar(registrar);
+        journal.append(MutationJournal.REGISTER_REGISTRAR, universityId, firstName, lastName,
+            email, phoneNumber, officeLocation, officeHours);
         
         return registrar;
     }
@@ -188,6 +275,12 @@ public class AdminService {
      */
     public Admin registerAdmin(String firstName, String lastName, String email, 
                                String phoneNumber, String adminLevel) {
+        return OP_REGISTER_ADMIN.time(() -> doRegisterAdmin(firstName, lastName, email, phoneNumber,
+            adminLevel));
+    }
+    
+    private Admin doRegisterAdmin(String firstName, String lastName, String email, 
+                                  String phoneNumber, String adminLevel) {
         // Validation
         validatePersonData(firstName, lastName, email);
         
@@ -205,6 +298,8 @@ public class AdminService {
         
         // Add to directory
         directory.addAdmin(admin);
+        journal.append(MutationJournal.REGISTER_ADMIN, universityId, firstName, lastName,
+            email, phoneNumber, adminLevel);
         
         return admin;
     }
@@ -235,6 +330,12 @@ public class AdminService {
      */
     public boolean updateStudentInfo(Student student, String email, String phoneNumber, 
                                     String address, String program) {
+        return OP_UPDATE_STUDENT_INFO.time(() -> doUpdateStudentInfo(student, email, phoneNumber,
+            address, program));
+    }
+    
+    private boolean doUpdateStudentInfo(Student student, String email, String phoneNumber, 
+                                       String address, String program) {
         if (student == null) {
             return false;
         }
@@ -265,6 +366,10 @@ public class AdminService {
      * Delete student record
      */
     public boolean deleteStudent(Student student) {
+        return OP_DELETE_STUDENT.time(() -> doDeleteStudent(student));
+    }
+    
+    private boolean doDeleteStudent(Student student) {
         if (student == null) {
             return false;
         }
@@ -284,6 +389,7 @@ public class AdminService {
         if (user != null) {
             authService.deleteUser(user.getUsername());
         }
+        journal.append(MutationJournal.DELETE_PERSON, student.getUniversityId());
         
         return true;
     }
@@ -296,6 +402,13 @@ public class AdminService {
     public boolean updateFacultyInfo(Faculty faculty, String email, String phoneNumber, 
                                     Department department, String officeLocation, 
                                     String officeHours) {
+        return OP_UPDATE_FACULTY_INFO.time(() -> doUpdateFacultyInfo(faculty, email, phoneNumber,
+            department, officeLocation, officeHours));
+    }
+    
+    private boolean doUpdateFacultyInfo(Faculty faculty, String email, String phoneNumber, 
+                                       Department department, String officeLocation, 
+                                       String officeHours) {
         if (faculty == null) {
             return false;
         }
@@ -335,6 +448,10 @@ public class AdminService {
      * Assign faculty to course offering
      */
     public boolean assignFacultyToCourse(Faculty faculty, CourseOffering courseOffering) {
+        return OP_ASSIGN_FACULTY_TO_COURSE.time(() -> doAssignFacultyToCourse(faculty, courseOffering));
+    }
+    
+    private boolean doAssignFacultyToCourse(Faculty faculty, CourseOffering courseOffering) {
         if (faculty == null || courseOffering == null) {
             return false;
         }
@@ -356,6 +473,10 @@ public class AdminService {
      * Delete faculty record
      */
     public boolean deleteFaculty(Faculty faculty) {
+        return OP_DELETE_FACULTY.time(() -> doDeleteFaculty(faculty));
+    }
+    
+    private boolean doDeleteFaculty(Faculty faculty) {
         if (faculty == null) {
             return false;
         }
@@ -380,6 +501,7 @@ public class AdminService {
         if (user != null) {
             authService.deleteUser(user.getUsername());
         }
+        journal.append(MutationJournal.DELETE_PERSON, faculty.getUniversityId());
         
         return true;
     }
@@ -391,6 +513,12 @@ public class AdminService {
      */
     public boolean updateRegistrarInfo(Registrar registrar, String email, String phoneNumber,
                                       String officeLocation, String officeHours) {
+        return OP_UPDATE_REGISTRAR_INFO.time(() -> doUpdateRegistrarInfo(registrar, email, phoneNumber,
+            officeLocation, officeHours));
+    }
+    
+    private boolean doUpdateRegistrarInfo(Registrar registrar, String email, String phoneNumber,
+                                         String officeLocation, String officeHours) {
         if (registrar == null) {
             return false;
         }
@@ -420,18 +548,22 @@ public class AdminService {
      * Delete registrar record
      */
     public boolean deleteRegistrar(Registrar registrar) {
+        return OP_DELETE_REGISTRAR.time(() -> doDeleteRegistrar(registrar));
+    }
+    
+    private boolean doDeleteRegistrar(Registrar registrar) {
         if (registrar == null) {
             return false;
         }
         
-        directory.getRegistrars().remove(registrar);
-        directory.removePerson(registrar);
+        directory.removeRegistrar(registrar);
         
         // Delete user account
         User user = findUserByPerson(registrar);
         if (user != null) {
             authService.deleteUser(user.getUsername());
         }
+        journal.append(MutationJournal.DELETE_PERSON, registrar.getUniversityId());
         
         return true;
     }
@@ -454,6 +586,10 @@ public class AdminService {
      * Get total active users by role
      */
     public int getTotalUsersByRole(String role) {
+        return OP_GET_TOTAL_USERS_BY_ROLE.time(() -> doGetTotalUsersByRole(role));
+    }
+    
+    private int doGetTotalUsersByRole(String role) {
         int count = 0;
         for (User user : authService.getAllUsers().values()) {
             if (user.getRole().equalsIgnoreCase(role) && user.isActive()) {
@@ -0,0 +1,121 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.TreeSet;
+
+/**
+ * AutocompleteService - Completions for search boxes while the user types
+ *
+ * Reads the directory's word-prefix dictionaries, so each call costs
+ * O(log n + limit) and can run on the Event Dispatch Thread per keystroke.
+ * Author: [Your Name]
+ */
+public class AutocompleteService {
+
+    public static final int DEFAULT_LIMIT = 8;
+
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_SUGGEST_COURSE_IDS =
+        MetricsRegistry.getInstance().operation("AutocompleteService.suggestCourseIds");
+    private static final OperationMetric OP_SUGGEST_COURSE_TITLES =
+        MetricsRegistry.getInstance().operation("AutocompleteService.suggestCourseTitles");
+    private static final OperationMetric OP_SUGGEST_INSTRUCTORS =
+        MetricsRegistry.getInstance().operation("AutocompleteService.suggestInstructors");
+    private static final OperationMetric OP_SUGGEST_STUDENT_NAMES =
+        MetricsRegistry.getInstance().operation("AutocompleteService.suggestStudentNames");
+    private static final OperationMetric OP_SUGGEST_PERSON_NAMES =
+        MetricsRegistry.getInstance().operation("AutocompleteService.suggestPersonNames");
+
+    private UniversityDirectory directory;
+
+    public AutocompleteService() {
+        this.directory = UniversityDirectory.getInstance();
+    }
+
+    /**
+     * Course IDs with a word starting with the prefix, e.g. "50" finds "CS 5015"
+     */
+    public ArrayList<String> suggestCourseIds(String prefix, int limit) {
+        return OP_SUGGEST_COURSE_IDS.time(() -> doSuggestCourseIds(prefix, limit));
+    }
+
+    private ArrayList<String> doSuggestCourseIds(String prefix, int limit) {
+        String term = clean(prefix, limit);
+        return term == null ? new ArrayList<>() : directory.completeCourseIds(term, limit);
+    }
+
+    /**
+     * Course titles with a word starting with the prefix
+     */
+    public ArrayList<String> suggestCourseTitles(String prefix, int limit) {
+        return OP_SUGGEST_COURSE_TITLES.time(() -> doSuggestCourseTitles(prefix, limit));
+    }
+
+    private ArrayList<String> doSuggestCourseTitles(String prefix, int limit) {
+        String term = clean(prefix, limit);
+        return term == null ? new ArrayList<>() : directory.completeCourseTitles(term, limit);
+    }
+
+    /**
+     * Instructor (faculty) names with a word starting with the prefix
+     */
+    public ArrayList<String> suggestInstructors(String prefix, int limit) {
+        return OP_SUGGEST_INSTRUCTORS.time(() -> doSuggestInstructors(prefix, limit));
+    }
+
+    private ArrayList<String> doSuggestInstructors(String prefix, int limit) {
+        String term = clean(prefix, limit);
+        return term == null ? new ArrayList<>() : directory.completeFacultyNames(term, limit);
+    }
+
+    /**
+     * Student names with a word starting with the prefix
+     */
+    public ArrayList<String> suggestStudentNames(String prefix, int limit) {
+        return OP_SUGGEST_STUDENT_NAMES.time(() -> doSuggestStudentNames(prefix, limit));
+    }
+
+    private ArrayList<String> doSuggestStudentNames(String prefix, int limit) {
+        String term = clean(prefix, limit);
+        return term == null ? new ArrayList<>() : directory.completeStudentNames(term, limit);
+    }
+
+    /**
+     * Student and faculty names together, alphabetically
+     */
+    public ArrayList<String> suggestPersonNames(String prefix, int limit) {
+        return OP_SUGGEST_PERSON_NAMES.time(() -> doSuggestPersonNames(prefix, limit));
+    }
+
+    private ArrayList<String> doSuggestPersonNames(String prefix, int limit) {
+        String term = clean(prefix, limit);
+        if (term == null) {
+            return new ArrayList<>();
+        }
+        TreeSet<String> merged = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        merged.addAll(directory.completeStudentNames(term, limit));
+        merged.addAll(directory.completeFacultyNames(term, limit));
+        ArrayList<String> results = new ArrayList<>(limit);
+        for (String name : merged) {
+            if (results.size() == limit) {
+                break;
+            }
+            results.add(name);
+        }
+        return results;
+    }
+
+    /**
+     * Prefix without leading blanks, or null if there is nothing to complete
+     */
+    private static String clean(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive");
+        }
+        if (prefix == null) {
+            return null;
+        }
+        String term = prefix.stripLeading();
+        return term.isEmpty() ? null : term;
+    }
+}
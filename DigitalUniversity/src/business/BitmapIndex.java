@@ -0,0 +1,230 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * BitmapIndex - Per-value bitmaps of entities for multi-criteria searches
+ *
+ * Each entity gets a document number in the order it was added, and each
+ * field maps every value it takes to the bitmap of documents with that
+ * value, so "program contains MSIS and enrolled in Fall 2025" becomes a
+ * union over the few distinct programs and one bitmap AND. A field may give
+ * several values per entity (e.g. the semesters a student is enrolled in).
+ * Bitmaps are word-aligned BitSets: the document range is dense, so they stay
+ * small and intersect 64 entities per instruction. Each entity also keeps a
+ * sequence number that never changes, so a page cursor stays valid when
+ * documents are renumbered. Not thread-safe: guarded by the lock of the
+ * entity type it indexes, like KeyIndex.
+ * Author: [Your Name]
+ */
+class BitmapIndex<T> implements SearchIndex<T> {
+
+    private final ArrayList<Function<T, Collection<?>>> fields;
+    private final ArrayList<HashMap<Object, BitSet>> postings; // per field: value -> documents
+    private final IdentityHashMap<T, Integer> docs = new IdentityHashMap<>();
+    private final BitSet live = new BitSet();
+    private Object[] entities = new Object[64];  // document number -> entity, null once removed
+    private Object[][] indexed = new Object[64][]; // document number -> values it was posted under, per field
+    private long[] sequences = new long[64];       // document number -> sequence, increasing
+    private int nextDoc;
+    private long nextSequence;
+
+    @SafeVarargs
+    BitmapIndex(Function<T, Collection<?>>... fields) {
+        this.fields = new ArrayList<>(fields.length);
+        this.postings = new ArrayList<>(fields.length);
+        for (Function<T, Collection<?>> field : fields) {
+            this.fields.add(field);
+            postings.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void add(T entity) {
+        if (docs.containsKey(entity)) {
+            return;
+        }
+        if (nextDoc == entities.length) {
+            compact();
+        }
+        int doc = nextDoc++;
+        docs.put(entity, doc);
+        entities[doc] = entity;
+        sequences[doc] = nextSequence++;
+        live.set(doc);
+        post(doc, entity);
+    }
+
+    @Override
+    public void remove(T entity) {
+        Integer doc = docs.remove(entity);
+        if (doc == null) {
+            return;
+        }
+        unpost(doc);
+        entities[doc] = null;
+        live.clear(doc);
+    }
+
+    /**
+     * Re-read the field values of an entity that changed
+     */
+    @Override
+    public void update(T entity) {
+        Integer doc = docs.get(entity);
+        if (doc != null) {
+            unpost(doc);
+            post(doc, entity);
+        }
+    }
+
+    /**
+     * Documents whose field has a value passing the test; a new bitmap the caller may modify
+     */
+    BitSet matching(int field, Predicate<Object> test) {
+        BitSet result = new BitSet();
+        for (Map.Entry<Object, BitSet> posting : postings.get(field).entrySet()) {
+            if (test.test(posting.getKey())) {
+                result.or(posting.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Documents whose field has exactly this value; a new bitmap the caller may modify
+     */
+    BitSet matching(int field, Object value) {
+        BitSet posting = postings.get(field).get(value);
+        return posting == null ? new BitSet() : (BitSet) posting.clone();
+    }
+
+    /**
+     * Documents of the given entities that are in this index
+     */
+    BitSet documentsOf(Collection<? extends T> matches) {
+        BitSet result = new BitSet();
+        for (T entity : matches) {
+            Integer doc = docs.get(entity);
+            if (doc != null) {
+                result.set(doc);
+            }
+        }
+        return result;
+    }
+
+    BitSet all() {
+        return (BitSet) live.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    T entity(int doc) {
+        return (T) entities[doc];
+    }
+
+    long sequence(int doc) {
+        return sequences[doc];
+    }
+
+    /**
+     * First document added after the one with this sequence number, removed or not
+     */
+    int firstAfter(long sequence) {
+        int at = Arrays.binarySearch(sequences, 0, nextDoc, sequence);
+        return at >= 0 ? at + 1 : -at - 1;
+    }
+
+    /**
+     * Entities of the documents, in the order they were added
+     */
+    ArrayList<T> entities(BitSet matches) {
+        ArrayList<T> results = new ArrayList<>(matches.cardinality());
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            results.add(entity(doc));
+        }
+        return results;
+    }
+
+    private void post(int doc, T entity) {
+        Object[] values = new Object[fields.size()];
+        for (int field = 0; field < values.length; field++) {
+            Collection<?> fieldValues = fields.get(field).apply(entity);
+            values[field] = fieldValues == null ? new Object[0] : fieldValues.toArray();
+        }
+        post(doc, values);
+    }
+
+    /**
+     * Post a document under values already read from its entity
+     */
+    private void post(int doc, Object[] values) {
+        for (int field = 0; field < values.length; field++) {
+            for (Object value : (Object[]) values[field]) {
+                postings.get(field).computeIfAbsent(value, v -> new BitSet()).set(doc);
+            }
+        }
+        indexed[doc] = values;
+    }
+
+    private void unpost(int doc) {
+        Object[] values = indexed[doc];
+        for (int field = 0; field < values.length; field++) {
+            for (Object value : (Object[]) values[field]) {
+                BitSet posting = postings.get(field).get(value);
+                if (posting != null) {
+                    posting.clear(doc);
+                    if (posting.isEmpty()) {
+                        postings.get(field).remove(value);
+                    }
+                }
+            }
+        }
+        indexed[doc] = null;
+    }
+
+    /**
+     * Renumber the live documents in order, or grow the tables if few were removed
+     * Documents keep the values they were posted under; compacting never reads
+     * entities, whose state may be changing under their own locks.
+     */
+    @SuppressWarnings("unchecked")
+    private void compact() {
+        if (docs.size() > entities.length / 2) {
+            entities = Arrays.copyOf(entities, entities.length * 2);
+            indexed = Arrays.copyOf(indexed, indexed.length * 2);
+            sequences = Arrays.copyOf(sequences, sequences.length * 2);
+            return;
+        }
+        Object[] oldEntities = entities;
+        Object[][] oldIndexed = indexed;
+        long[] oldSequences = sequences;
+        int oldCount = nextDoc;
+        entities = new Object[oldEntities.length];
+        indexed = new Object[oldEntities.length][];
+        sequences = new long[oldEntities.length];
+        for (HashMap<Object, BitSet> field : postings) {
+            field.clear();
+        }
+        live.clear();
+        nextDoc = 0;
+        for (int old = 0; old < oldCount; old++) {
+            if (oldEntities[old] != null) {
+                T entity = (T) oldEntities[old];
+                int doc = nextDoc++;
+                docs.put(entity, doc);
+                entities[doc] = entity;
+                sequences[doc] = oldSequences[old];
+                live.set(doc);
+                post(doc, oldIndexed[old]);
+            }
+        }
+    }
+}
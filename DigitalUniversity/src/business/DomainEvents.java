@@ -0,0 +1,196 @@
+package business;
+
+import model.*;
+import java.util.Collection;
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * DomainEvents - JDK Flight Recorder events for business operations
+ *
+ * Each event is begun when a service operation starts and finished in its
+ * finally block, so a recording shows the operation's duration alongside the
+ * GC pauses and lock waits that happened during it. Fields are only filled
+ * in when the event is actually going to be written, so with no recording
+ * running an event costs a begin and a cheap enabled check.
+ * Author: [Your Name]
+ */
+public final class DomainEvents {
+
+    private DomainEvents() {
+    }
+
+    /**
+     * Fields shared by every business operation event
+     */
+    @Category("University")
+    @StackTrace(false)
+    public abstract static class OperationEvent extends Event {
+
+        @Label("Offering ID")
+        public String offeringId;
+
+        @Label("Semester")
+        public String semester;
+
+        @Label("Result")
+        public String result;
+
+        /**
+         * Stop the clock and write the event if a recording wants it
+         * A null result means the operation ended with an exception.
+         */
+        protected void complete(CourseOffering offering, Semester semester, String result) {
+            end();
+            if (!shouldCommit()) {
+                return;
+            }
+            if (offering != null) {
+                this.offeringId = offering.getOfferingId();
+                if (semester == null) {
+                    semester = offering.getSemester();
+                }
+            }
+            if (semester != null) {
+                this.semester = semester.getFullName();
+            }
+            this.result = result == null ? "failed" : result;
+            commit();
+        }
+    }
+
+    /**
+     * Base for operations on behalf of one student
+     */
+    public abstract static class StudentEvent extends OperationEvent {
+
+        @Label("Student ID")
+        public String studentId;
+
+        public void finish(Student student, CourseOffering offering, String result) {
+            if (student != null) {
+                studentId = student.getUniversityId();
+            }
+            complete(offering, null, result);
+        }
+    }
+
+    @Name("university.Enrollment")
+    @Label("Enrollment")
+    @Description("A student enrolling in a course offering")
+    public static class EnrollmentEvent extends StudentEvent {
+    }
+
+    @Name("university.Drop")
+    @Label("Drop")
+    @Description("A student dropping a course offering")
+    public static class DropEvent extends StudentEvent {
+    }
+
+    @Name("university.TuitionPayment")
+    @Label("Tuition Payment")
+    @Description("A tuition payment for one enrollment")
+    public static class TuitionPaymentEvent extends StudentEvent {
+
+        @Label("Amount")
+        public double amount;
+    }
+
+    @Name("university.AssignmentGrade")
+    @Label("Assignment Grade")
+    @Description("A faculty member grading one student's assignment")
+    public static class AssignmentGradeEvent extends StudentEvent {
+
+        @Label("Assignment ID")
+        public String assignmentId;
+
+        @Label("Score")
+        public double score;
+    }
+
+    @Name("university.FinalGrade")
+    @Label("Final Grade")
+    @Description("A final letter grade assigned to an enrollment")
+    public static class FinalGradeEvent extends StudentEvent {
+    }
+
+    /**
+     * Base for read-only operations whose result is a number of rows or entries
+     */
+    public abstract static class QueryEvent extends OperationEvent {
+
+        @Label("Operation")
+        public String operation;
+
+        @Label("Result Count")
+        public int resultCount;
+
+        // Not recorded; set once the operation produced a value
+        private transient boolean returned;
+
+        /**
+         * Note the size of a returned value and hand it back unchanged
+         */
+        public <T> T found(T value) {
+            returned = true;
+            if (value == null) {
+                resultCount = 0;
+            } else if (value instanceof Collection) {
+                resultCount = ((Collection<?>) value).size();
+            } else if (value instanceof Map) {
+                resultCount = ((Map<?, ?>) value).size();
+            } else {
+                resultCount = 1;
+            }
+            return value;
+        }
+
+        /**
+         * Finish with "ok" once a value was returned, or "failed" on an exception
+         */
+        public void finish(CourseOffering offering, Semester semester) {
+            complete(offering, semester, returned ? "ok" : null);
+        }
+    }
+
+    @Name("university.Report")
+    @Label("Report")
+    @Description("Generation of a report or dashboard")
+    public static class ReportEvent extends QueryEvent {
+    }
+
+    @Name("university.Search")
+    @Label("Search")
+    @Description("A directory or catalog search")
+    public static class SearchEvent extends QueryEvent {
+
+        @Label("Query")
+        public String query;
+    }
+
+    /**
+     * Begin timing a report
+     */
+    public static ReportEvent beginReport(String operation) {
+        ReportEvent event = new ReportEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Begin timing a search
+     */
+    public static SearchEvent beginSearch(String operation, String query) {
+        SearchEvent event = new SearchEvent();
+        event.operation = operation;
+        event.query = query;
+        event.begin();
+        return event;
+    }
+}
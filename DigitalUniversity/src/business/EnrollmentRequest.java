@@ -0,0 +1,35 @@
+package business;
+
+import model.CourseOffering;
+import model.Student;
+
+/**
+ * EnrollmentRequest - One student/offering pair in a registrar batch enrollment
+ * Author: [Your Name - Registrar Use Case]
+ */
+public class EnrollmentRequest {
+    private final Student student;
+    private final CourseOffering offering;
+    
+    // Constructor
+    public EnrollmentRequest(Student student, CourseOffering offering) {
+        this.student = student;
+        this.offering = offering;
+    }
+    
+    // Getters
+    public Student getStudent() {
+        return student;
+    }
+    
+    public CourseOffering getOffering() {
+        return offering;
+    }
+    
+    @Override
+    public String toString() {
+        String who = student == null ? "?" : student.getUniversityId();
+        String what = offering == null ? "?" : offering.getOfferingId();
+        return who + " -> " + what;
+    }
+}
@@ -0,0 +1,42 @@
+package business;
+
+import model.Enrollment;
+
+/**
+ * EnrollmentResult - Outcome of one request in a registrar batch enrollment
+ * Author: [Your Name - Registrar Use Case]
+ */
+public class EnrollmentResult {
+    private final EnrollmentRequest request;
+    private final Enrollment enrollment; // null when the request was rejected
+    private final String message;
+    
+    // Constructor
+    EnrollmentResult(EnrollmentRequest request, Enrollment enrollment, String message) {
+        this.request = request;
+        this.enrollment = enrollment;
+        this.message = message;
+    }
+    
+    // Getters
+    public EnrollmentRequest getRequest() {
+        return request;
+    }
+    
+    public Enrollment getEnrollment() {
+        return enrollment;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public boolean isSuccess() {
+        return enrollment != null;
+    }
+    
+    @Override
+    public String toString() {
+        return request + ": " + (isSuccess() ? "Enrolled" : "Rejected") + " - " + message;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * FacultyService - Business logic for faculty operations
@@ -13,10 +14,48 @@ import java.util.List;
  */
 public class FacultyService {
     
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_UPDATE_COURSE_OFFERING =
+        MetricsRegistry.getInstance().operation("FacultyService.updateCourseOffering");
+    private static final OperationMetric OP_UPDATE_SYLLABUS =
+        MetricsRegistry.getInstance().operation("FacultyService.updateSyllabus");
+    private static final OperationMetric OP_OPEN_ENROLLMENT =
+        MetricsRegistry.getInstance().operation("FacultyService.openEnrollment");
+    private static final OperationMetric OP_CLOSE_ENROLLMENT =
+        MetricsRegistry.getInstance().operation("FacultyService.closeEnrollment");
+    private static final OperationMetric OP_GET_ENROLLED_STUDENTS =
+        MetricsRegistry.getInstance().operation("FacultyService.getEnrolledStudents");
+    private static final OperationMetric OP_GET_STUDENT_TRANSCRIPT =
+        MetricsRegistry.getInstance().operation("FacultyService.getStudentTranscript");
+    private static final OperationMetric OP_GET_STUDENT_PROGRESS =
+        MetricsRegistry.getInstance().operation("FacultyService.getStudentProgress");
+    private static final OperationMetric OP_CREATE_ASSIGNMENT =
+        MetricsRegistry.getInstance().operation("FacultyService.createAssignment");
+    private static final OperationMetric OP_GRADE_ASSIGNMENT =
+        MetricsRegistry.getInstance().operation("FacultyService.gradeAssignment");
+    private static final OperationMetric OP_ASSIGN_FINAL_GRADE =
+        MetricsRegistry.getInstance().operation("FacultyService.assignFinalGrade");
+    private static final OperationMetric OP_RANK_STUDENTS_BY_GRADE =
+        MetricsRegistry.getInstance().operation("FacultyService.rankStudentsByGrade");
+    private static final OperationMetric OP_CALCULATE_CLASS_GPA =
+        MetricsRegistry.getInstance().operation("FacultyService.calculateClassGPA");
+    private static final OperationMetric OP_GENERATE_COURSE_REPORT =
+        MetricsRegistry.getInstance().operation("FacultyService.generateCourseReport");
+    private static final OperationMetric OP_GET_COURSES_BY_SEMESTER =
+        MetricsRegistry.getInstance().operation("FacultyService.getCoursesBySemester");
+    private static final OperationMetric OP_GET_TOTAL_TUITION_COLLECTED =
+        MetricsRegistry.getInstance().operation("FacultyService.getTotalTuitionCollected");
+    private static final OperationMetric OP_GET_ALL_FACULTY_COURSES =
+        MetricsRegistry.getInstance().operation("FacultyService.getAllFacultyCourses");
+    
     private UniversityDirectory directory;
+    private WaitlistService waitlistService;
+    private MutationJournal journal;
     
     public FacultyService() {
         this.directory = UniversityDirectory.getInstance();
+        this.waitlistService = new WaitlistService();
+        this.journal = MutationJournal.getInstance();
     }
     
     // ========== COURSE MANAGEMENT ==========
@@ -27,6 +66,13 @@ public class FacultyService {
     public boolean updateCourseOffering(CourseOffering offering, String title, 
                                        String description, String schedule, 
                                        String roomLocation, int maxCapacity) {
+        return OP_UPDATE_COURSE_OFFERING.time(() -> doUpdateCourseOffering(offering, title, description,
+            schedule, roomLocation, maxCapacity));
+    }
+    
+    private boolean doUpdateCourseOffering(CourseOffering offering, String title, 
+                                          String description, String schedule, 
+                                          String roomLocation, int maxCapacity) {
         if (offering == null) {
             return false;
         }
@@ -45,6 +91,7 @@ public class FacultyService {
         }
         if (maxCapacity > 0 && maxCapacity >= offering.getCurrentEnrollment()) {
             offering.setMaxCapacity(maxCapacity);
+            waitlistService.promoteFromWaitlist(offering); // Added seats go to the waitlist first
         }
         
         return true;
@@ -54,6 +101,10 @@ public class FacultyService {
      * Upload or modify syllabus
      */
     public boolean updateSyllabus(CourseOffering offering, String syllabus) {
+        return OP_UPDATE_SYLLABUS.time(() -> doUpdateSyllabus(offering, syllabus));
+    }
+    
+    private boolean doUpdateSyllabus(CourseOffering offering, String syllabus) {
         if (offering == null || syllabus == null) {
             return false;
         }
@@ -66,11 +117,18 @@ public class FacultyService {
      * Open course enrollment
      */
     public boolean openEnrollment(CourseOffering offering) {
+        return OP_OPEN_ENROLLMENT.time(() -> doOpenEnrollment(offering));
+    }
+    
+    private boolean doOpenEnrollment(CourseOffering offering) {
         if (offering == null) {
             return false;
         }
         
         offering.setEnrollmentOpen(true);
+        
+        // Seats freed while enrollment was closed go to the waitlist first
+        waitlistService.promoteFromWaitlist(offering);
         return true;
     }
     
@@ -78,6 +136,10 @@ public class FacultyService {
      * Close course enrollment
      */
     public boolean closeEnrollment(CourseOffering offering) {
+        return OP_CLOSE_ENROLLMENT.time(() -> doCloseEnrollment(offering));
+    }
+    
+    private boolean doCloseEnrollment(CourseOffering offering) {
         if (offering == null) {
             return false;
         }
@@ -92,6 +154,10 @@ public class FacultyService {
      * Get list of enrolled students for a course
      */
     public ArrayList<Student> getEnrolledStudents(CourseOffering offering) {
+        return OP_GET_ENROLLED_STUDENTS.time(() -> doGetEnrolledStudents(offering));
+    }
+    
+    private ArrayList<Student> doGetEnrolledStudents(CourseOffering offering) {
         ArrayList<Student> students = new ArrayList<>();
         
         if (offering == null) {
@@ -111,6 +177,10 @@ public class FacultyService {
      * Get student's transcript summary for a specific student
      */
     public ArrayList<Enrollment> getStudentTranscript(Student student) {
+        return OP_GET_STUDENT_TRANSCRIPT.time(() -> doGetStudentTranscript(student));
+    }
+    
+    private ArrayList<Enrollment> doGetStudentTranscript(Student student) {
         if (student == null) {
             return new ArrayList<>();
         }
@@ -122,6 +192,10 @@ public class FacultyService {
      * Get student's progress in a specific course
      */
     public HashMap<String, Object> getStudentProgress(Student student, CourseOffering offering) {
+        return OP_GET_STUDENT_PROGRESS.time(() -> doGetStudentProgress(student, offering));
+    }
+    
+    private HashMap<String, Object> doGetStudentProgress(Student student, CourseOffering offering) {
         HashMap<String, Object> progress = new HashMap<>();
         
         if (student == null || offering == null) {
@@ -175,6 +249,11 @@ public class FacultyService {
      */
     public Assignment createAssignment(CourseOffering offering, String title, 
                                       String description, double maxPoints) {
+        return OP_CREATE_ASSIGNMENT.time(() -> doCreateAssignment(offering, title, description, maxPoints));
+    }
+    
+    private Assignment doCreateAssignment(CourseOffering offering, String title, 
+                                         String description, double maxPoints) {
         if (offering == null || title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Invalid assignment data");
         }
@@ -188,6 +267,8 @@ public class FacultyService {
         assignment.setDescription(description);
         
         offering.addAssignment(assignment);
+        journal.append(MutationJournal.CREATE_ASSIGNMENT, assignment.getAssignmentId(),
+            offering.getOfferingId(), assignment.getTitle(), assignment.getDescription(), maxPoints);
         
         return assignment;
     }
@@ -196,59 +277,106 @@ public class FacultyService {
      * Grade an assignment for a student
      */
     public boolean gradeAssignment(Assignment assignment, Student student, double score) {
-        if (assignment == null || student == null) {
-            return false;
-        }
-        
-        if (score < 0 || score > assignment.getMaxPoints()) {
-            throw new IllegalArgumentException("Score must be between 0 and " + assignment.getMaxPoints());
+        return OP_GRADE_ASSIGNMENT.time(() -> doGradeAssignment(assignment, student, score));
+    }
+    
+    private boolean doGradeAssignment(Assignment assignment, Student student, double score) {
+        DomainEvents.AssignmentGradeEvent event = new DomainEvents.AssignmentGradeEvent();
+        event.begin();
+        String result = null;
+        try {
+            if (assignment == null || student == null) {
+                result = "rejected";
+                return false;
+            }
+            
+            if (score < 0 || score > assignment.getMaxPoints()) {
+                throw new IllegalArgumentException("Score must be between 0 and " + assignment.getMaxPoints());
+            }
+            
+            assignment.gradeStudent(student, score);
+            event.assignmentId = assignment.getAssignmentId();
+            event.score = score;
+            journal.append(MutationJournal.GRADE_ASSIGNMENT, assignment.getAssignmentId(),
+                assignment.getCourseOffering().getOfferingId(), student.getUniversityId(), score);
+            result = "graded";
+            return true;
+        } finally {
+            event.finish(student, assignment == null ? null : assignment.getCourseOffering(), result);
         }
-        
-        assignment.gradeStudent(student, score);
-        return true;
     }
     
     /**
      * Calculate and assign final grade for a student in a course
      */
     public boolean assignFinalGrade(Student student, CourseOffering offering) {
-        if (student == null || offering == null) {
-            return false;
-        }
-        
-        // Find enrollment
-        Enrollment enrollment = null;
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getCourseOffering().equals(offering)) {
-                enrollment = e;
-                break;
+        return OP_ASSIGN_FINAL_GRADE.time(() -> doAssignFinalGrade(student, offering));
+    }
+    
+    private boolean doAssignFinalGrade(Student student, CourseOffering offering) {
+        DomainEvents.FinalGradeEvent event = new DomainEvents.FinalGradeEvent();
+        event.begin();
+        String result = null;
+        try {
+            if (student == null || offering == null) {
+                result = "rejected";
+                return false;
             }
+            
+            // Find enrollment
+            Enrollment enrollment = null;
+            for (Enrollment e : student.getEnrollments()) {
+                if (e.getCourseOffering().equals(offering)) {
+                    enrollment = e;
+                    break;
+                }
+            }
+            
+            if (enrollment == null) {
+                result = "not enrolled";
+                return false;
+            }
+            
+            // Calculate percentage
+            double percentage = GradeCalculator.calculateCoursePercentage(student, offering);
+            
+            // Convert to letter grade
+            String letterGrade = GradeCalculator.calculateLetterGrade(percentage);
+            
+            // Assign grade; the student lock keeps this atomic with enroll/drop
+            ReentrantLock lock = student.getRegistrationLock();
+            lock.lock();
+            try {
+                // Journal first: if the write is rejected the grade is not assigned
+                journal.append(MutationJournal.FINAL_GRADE, enrollment.getEnrollmentId(),
+                    student.getUniversityId(), letterGrade);
+                enrollment.setGrade(letterGrade);
+                enrollment.setActive(false); // Mark as completed
+            } finally {
+                lock.unlock();
+            }
+            
+            // Update student's GPA
+            GradeCalculator.updateStudentGPA(student);
+            
+            // A completed course no longer counts toward the semester's credit limit
+            waitlistService.creditsFreed(student, offering.getSemester());
+            
+            result = letterGrade;
+            return true;
+        } finally {
+            event.finish(student, offering, result);
         }
-        
-        if (enrollment == null) {
-            return false;
-        }
-        
-        // Calculate percentage
-        double percentage = GradeCalculator.calculateCoursePercentage(student, offering);
-        
-        // Convert to letter grade
-        String letterGrade = GradeCalculator.calculateLetterGrade(percentage);
-        
-        // Assign grade
-        enrollment.setGrade(letterGrade);
-        enrollment.setActive(false); // Mark as completed
-        
-        // Update student's GPA
-        GradeCalculator.updateStudentGPA(student);
-        
-        return true;
     }
     
     /**
      * Rank students by total grade percentage
      */
     public ArrayList<HashMap<String, Object>> rankStudentsByGrade(CourseOffering offering) {
+        return OP_RANK_STUDENTS_BY_GRADE.time(() -> doRankStudentsByGrade(offering));
+    }
+    
+    private ArrayList<HashMap<String, Object>> doRankStudentsByGrade(CourseOffering offering) {
         ArrayList<HashMap<String, Object>> rankings = new ArrayList<>();
         
         if (offering == null) {
@@ -285,6 +413,10 @@ public class FacultyService {
      * Calculate class GPA for a course
      */
     public double calculateClassGPA(CourseOffering offering) {
+        return OP_CALCULATE_CLASS_GPA.time(() -> doCalculateClassGPA(offering));
+    }
+    
+    private double doCalculateClassGPA(CourseOffering offering) {
         if (offering == null || offering.getEnrollments().isEmpty()) {
             return 0.0;
         }
@@ -308,6 +440,10 @@ public class FacultyService {
      * Generate course performance report
      */
     public HashMap<String, Object> generateCourseReport(CourseOffering offering) {
+        return OP_GENERATE_COURSE_REPORT.time(() -> doGenerateCourseReport(offering));
+    }
+    
+    private HashMap<String, Object> doGenerateCourseReport(CourseOffering offering) {
         HashMap<String, Object> report = new HashMap<>();
         
         if (offering == null) {
@@ -365,6 +501,10 @@ public class FacultyService {
      * Get course offerings for a faculty member by semester
      */
     public ArrayList<CourseOffering> getCoursesBySemester(Faculty faculty, Semester semester) {
+        return OP_GET_COURSES_BY_SEMESTER.time(() -> doGetCoursesBySemester(faculty, semester));
+    }
+    
+    private ArrayList<CourseOffering> doGetCoursesBySemester(Faculty faculty, Semester semester) {
         if (faculty == null) {
             return new ArrayList<>();
         }
@@ -376,6 +516,10 @@ public class FacultyService {
      * Calculate total tuition collected from enrolled students
      */
     public double getTotalTuitionCollected(CourseOffering offering) {
+        return OP_GET_TOTAL_TUITION_COLLECTED.time(() -> doGetTotalTuitionCollected(offering));
+    }
+    
+    private double doGetTotalTuitionCollected(CourseOffering offering) {
         if (offering == null) {
             return 0.0;
         }
@@ -387,6 +531,10 @@ public class FacultyService {
      * Get all course offerings for a faculty member
      */
     public ArrayList<CourseOffering> getAllFacultyCourses(Faculty faculty) {
+        return OP_GET_ALL_FACULTY_COURSES.time(() -> doGetAllFacultyCourses(faculty));
+    }
+
+    private ArrayList<CourseOffering> doGetAllFacultyCourses(Faculty faculty) {
         if (faculty == null) {
             return new ArrayList<>();
         }
@@ -0,0 +1,101 @@
+package business;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * FlightRecording - Starts and stops a JDK Flight Recorder recording in-process
+ *
+ * Uses the JDK "profile" settings, which include GC pauses, lock waits and
+ * allocation samples, plus the university.* domain events. A recording can be
+ * started from the admin dashboard or at launch with -Duniversity.jfr=file.jfr,
+ * in which case it is written when the application exits.
+ * Author: [Your Name]
+ */
+public class FlightRecording {
+
+    private Recording recording;
+    private Path destination;
+
+    private FlightRecording() {
+    }
+
+    private static class Holder {
+        private static final FlightRecording INSTANCE = new FlightRecording();
+    }
+
+    public static FlightRecording getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Start recording into the given file
+     */
+    public synchronized void start(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Recording file cannot be null");
+        }
+        if (recording != null) {
+            throw new IllegalStateException("A recording is already running");
+        }
+
+        Configuration profile;
+        try {
+            profile = Configuration.getConfiguration("profile");
+        } catch (ParseException e) {
+            throw new IOException("Could not read the JFR profile settings", e);
+        }
+        Recording started = new Recording(profile);
+        started.setName("DigitalUniversity");
+        started.setToDisk(true);
+        started.setDumpOnExit(true);
+        started.setDestination(file);
+        started.start();
+
+        recording = started;
+        destination = file;
+    }
+
+    /**
+     * Stop recording and write the file; returns the file, or null if nothing was running
+     */
+    public synchronized Path stop() {
+        if (recording == null) {
+            return null;
+        }
+        Path written = destination;
+        recording.stop(); // Writes to the destination
+        recording.close();
+        recording = null;
+        destination = null;
+        return written;
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    public synchronized Path getDestination() {
+        return destination;
+    }
+
+    /**
+     * Start a recording if -Duniversity.jfr names a file
+     */
+    public static void startFromProperty() {
+        String file = System.getProperty("university.jfr");
+        if (file == null || file.trim().isEmpty()) {
+            return;
+        }
+        try {
+            getInstance().start(Paths.get(file.trim()));
+            System.out.println("✅ Flight recording to " + file.trim());
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Could not start flight recording: " + e.getMessage());
+        }
+    }
+}
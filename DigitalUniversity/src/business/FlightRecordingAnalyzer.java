@@ -0,0 +1,175 @@
+package business;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * FlightRecordingAnalyzer - Summarizes the slowest business operations in a .jfr file
+ *
+ * Reports per-operation counts and latency percentiles for the university.*
+ * events, then lists the slowest individual operations with the GC pause
+ * time and the time their thread spent blocked on locks while each one ran.
+ *
+ * Usage: java -cp build/classes business.FlightRecordingAnalyzer recording.jfr [top]
+ * Author: [Your Name]
+ */
+public class FlightRecordingAnalyzer {
+
+    private static final String DOMAIN_PREFIX = "university.";
+
+    // Time spent waiting on a contended lock, reported per thread
+    private static final String[] BLOCKING_EVENTS = {
+        "jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadPark"
+    };
+
+    private final TreeMap<String, LatencyHistogram> latencyByOperation = new TreeMap<>();
+    private final PriorityQueue<RecordedEvent> slowest =
+        new PriorityQueue<>((a, b) -> a.getDuration().compareTo(b.getDuration()));
+    private final ArrayList<long[]> gcPauses = new ArrayList<>();
+    private final HashMap<Long, ArrayList<long[]>> blockedByThread = new HashMap<>();
+    private int top;
+
+    /**
+     * Read a recording and return the summary text
+     */
+    public static String summarize(Path file, int top) throws IOException {
+        if (top <= 0) {
+            throw new IllegalArgumentException("Number of operations to list must be positive");
+        }
+        FlightRecordingAnalyzer analyzer = new FlightRecordingAnalyzer();
+        analyzer.top = top;
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                analyzer.accept(recording.readEvent());
+            }
+        }
+        return analyzer.format(file);
+    }
+
+    private void accept(RecordedEvent event) {
+        String type = event.getEventType().getName();
+        if (type.startsWith(DOMAIN_PREFIX)) {
+            latencyByOperation.computeIfAbsent(operationName(event), k -> new LatencyHistogram())
+                .record(event.getDuration().toNanos());
+            slowest.add(event);
+            if (slowest.size() > top) {
+                slowest.poll(); // Drop the fastest of the kept events
+            }
+        } else if (type.equals("jdk.GCPhasePause")) {
+            gcPauses.add(interval(event));
+        } else {
+            for (String blocking : BLOCKING_EVENTS) {
+                if (type.equals(blocking) && event.getThread() != null) {
+                    blockedByThread.computeIfAbsent(event.getThread().getJavaThreadId(),
+                        k -> new ArrayList<>()).add(interval(event));
+                    break;
+                }
+            }
+        }
+    }
+
+    private String format(Path file) {
+        StringBuilder out = new StringBuilder();
+        out.append("Flight recording ").append(file).append('\n');
+        if (latencyByOperation.isEmpty()) {
+            out.append("No university operation events found\n");
+            return out.toString();
+        }
+
+        out.append(String.format("%n%-52s %8s %10s %10s %10s %10s%n",
+            "operation", "count", "mean ms", "p50 ms", "p99 ms", "max ms"));
+        for (String name : latencyByOperation.keySet()) {
+            LatencyHistogram latency = latencyByOperation.get(name);
+            out.append(String.format("%-52s %8d %10.3f %10.3f %10.3f %10.3f%n",
+                name, latency.getCount(), latency.getMean() / 1e6,
+                latency.getValueAtPercentile(50) / 1e6, latency.getValueAtPercentile(99) / 1e6,
+                latency.getMax() / 1e6));
+        }
+
+        ArrayList<RecordedEvent> ranked = new ArrayList<>(slowest);
+        Collections.sort(ranked, (a, b) -> b.getDuration().compareTo(a.getDuration()));
+        out.append(String.format("%nTop %d slowest operations (%d GC pauses in recording)%n",
+            ranked.size(), gcPauses.size()));
+        out.append(String.format("%10s  %-40s %-12s %-14s %-24s %10s %10s  %s%n",
+            "ms", "operation", "offering", "semester", "result", "gc ms", "blocked ms", "thread"));
+        for (RecordedEvent event : ranked) {
+            long[] span = interval(event);
+            RecordedThread thread = event.getThread();
+            ArrayList<long[]> blocked = thread == null ? null : blockedByThread.get(thread.getJavaThreadId());
+            out.append(String.format("%10.3f  %-40s %-12s %-14s %-24s %10.3f %10.3f  %s%n",
+                event.getDuration().toNanos() / 1e6,
+                operationName(event),
+                text(event, "offeringId"),
+                text(event, "semester"),
+                text(event, "result"),
+                overlap(span, gcPauses) / 1e6,
+                overlap(span, blocked) / 1e6,
+                thread == null ? "-" : thread.getJavaName()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Event type label, plus the service method for reports and searches
+     */
+    private static String operationName(RecordedEvent event) {
+        String label = event.getEventType().getLabel();
+        if (event.hasField("operation")) {
+            return label + " " + event.getString("operation");
+        }
+        return label;
+    }
+
+    private static String text(RecordedEvent event, String field) {
+        if (!event.hasField(field)) {
+            return "-";
+        }
+        String value = event.getString(field);
+        return value == null ? "-" : value;
+    }
+
+    private static long[] interval(RecordedEvent event) {
+        return new long[]{toNanos(event.getStartTime()), toNanos(event.getEndTime())};
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * Total nanoseconds of the given intervals that fall inside span
+     */
+    private static long overlap(long[] span, ArrayList<long[]> intervals) {
+        if (intervals == null) {
+            return 0;
+        }
+        long total = 0;
+        for (long[] interval : intervals) {
+            long start = Math.max(span[0], interval[0]);
+            long end = Math.min(span[1], interval[1]);
+            if (end > start) {
+                total += end - start;
+            }
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: FlightRecordingAnalyzer <recording.jfr> [top]");
+            System.exit(2);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        System.out.print(summarize(Paths.get(args[0]), top));
+    }
+}
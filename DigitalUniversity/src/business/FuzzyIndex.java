@@ -0,0 +1,235 @@
+package business;
+
+import model.SearchKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * FuzzyIndex - Typo-tolerant word lookup over entity text
+ *
+ * Distinct words are kept in a sorted list, and each maps to the entities
+ * that contain it. A lookup within k edits walks the list in order while
+ * computing Levenshtein rows one letter at a time, as a Levenshtein
+ * automaton would: words sharing a prefix share its rows, and once every
+ * cell of a prefix's row exceeds k, all words under that prefix are skipped.
+ * Not thread-safe: guarded by the lock of the entity type it indexes, like
+ * KeyIndex.
+ * Author: [Your Name]
+ */
+class FuzzyIndex<T> implements SearchIndex<T> {
+
+    private final Function<T, String> textOf;
+    private final HashMap<String, LinkedHashSet<T>> entitiesByWord = new HashMap<>();
+    private final ArrayList<String> dictionary = new ArrayList<>(); // distinct words, sorted
+    private final IdentityHashMap<T, String[]> indexed = new IdentityHashMap<>(); // entity -> its words
+
+    FuzzyIndex(Function<T, String> textOf) {
+        this.textOf = textOf;
+    }
+
+    /**
+     * Words of a text's search key, split on anything that is not a letter or digit
+     */
+    static String[] words(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        ArrayList<String> words = new ArrayList<>();
+        String lower = SearchKey.normalize(text);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean inWord = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    @Override
+    public void add(T entity) {
+        if (indexed.containsKey(entity)) {
+            return;
+        }
+        String[] words = words(textOf.apply(entity));
+        indexed.put(entity, words);
+        link(entity, words);
+    }
+
+    @Override
+    public void remove(T entity) {
+        String[] words = indexed.remove(entity);
+        if (words != null) {
+            unlink(entity, words);
+        }
+    }
+
+    /**
+     * Re-read the text of an entity that was edited
+     */
+    @Override
+    public void update(T entity) {
+        String[] old = indexed.get(entity);
+        if (old == null) {
+            return;
+        }
+        String[] words = words(textOf.apply(entity));
+        if (!Arrays.equals(old, words)) {
+            unlink(entity, old);
+            indexed.put(entity, words);
+            link(entity, words);
+        }
+    }
+
+    /**
+     * Entities that have, for every word of the query, a word within maxEdits
+     * of it, closest total distance first; maxEdits is lowered for short words
+     */
+    ArrayList<T> search(String query, int maxEdits) {
+        String[] queryWords = words(query);
+        if (queryWords.length == 0) {
+            return new ArrayList<>();
+        }
+
+        // Best total distance per entity, narrowed word by word
+        LinkedHashMap<T, Integer> scores = null;
+        for (String queryWord : queryWords) {
+            HashMap<String, Integer> near = new HashMap<>();
+            collect(queryWord, Math.min(maxEdits, allowedEdits(queryWord)), near);
+
+            LinkedHashMap<T, Integer> matched = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> word : near.entrySet()) {
+                for (T entity : entitiesByWord.get(word.getKey())) {
+                    if (scores != null && !scores.containsKey(entity)) {
+                        continue;
+                    }
+                    int previous = scores == null ? 0 : scores.get(entity);
+                    matched.merge(entity, previous + word.getValue(), Math::min);
+                }
+            }
+            scores = matched;
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        ArrayList<Map.Entry<T, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.comparingByValue());
+        ArrayList<T> results = new ArrayList<>(ranked.size());
+        for (Map.Entry<T, Integer> entry : ranked) {
+            results.add(entry.getKey());
+        }
+        return results;
+    }
+
+    /**
+     * Short words tolerate fewer edits; otherwise "al" would match every two-letter name
+     */
+    private static int allowedEdits(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    private void link(T entity, String[] words) {
+        for (String word : words) {
+            LinkedHashSet<T> entities = entitiesByWord.get(word);
+            if (entities == null) {
+                entities = new LinkedHashSet<>();
+                entitiesByWord.put(word, entities);
+                dictionary.add(-Collections.binarySearch(dictionary, word) - 1, word);
+            }
+            entities.add(entity);
+        }
+    }
+
+    private void unlink(T entity, String[] words) {
+        for (String word : words) {
+            LinkedHashSet<T> entities = entitiesByWord.get(word);
+            if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+                entitiesByWord.remove(word);
+                dictionary.remove(Collections.binarySearch(dictionary, word));
+            }
+        }
+    }
+
+    /**
+     * Dictionary words within maxEdits of query, with their distances
+     */
+    private void collect(String query, int maxEdits, HashMap<String, Integer> near) {
+        int columns = query.length() + 1;
+        int[][] rows = new int[16][]; // rows[i] = distances from query to the first i letters of word
+        rows[0] = new int[columns];
+        for (int j = 0; j < columns; j++) {
+            rows[0][j] = j;
+        }
+
+        String previous = "";
+        int valid = 0; // rows 0..valid hold the prefix of previous
+        int index = 0;
+        while (index < dictionary.size()) {
+            String word = dictionary.get(index);
+            int shared = Math.min(valid, commonPrefix(previous, word));
+            int i = shared;
+            boolean pruned = false;
+            while (i < word.length()) {
+                i++;
+                if (i == rows.length) {
+                    rows = Arrays.copyOf(rows, rows.length * 2);
+                }
+                if (rows[i] == null) {
+                    rows[i] = new int[columns];
+                }
+                if (nextRow(rows[i - 1], rows[i], word.charAt(i - 1), query) > maxEdits) {
+                    pruned = true;
+                    break;
+                }
+            }
+            previous = word;
+            valid = i;
+            index++;
+            if (pruned) {
+                // No word starting with these i letters can come within maxEdits
+                while (index < dictionary.size() && dictionary.get(index).regionMatches(0, word, 0, i)) {
+                    index++;
+                }
+            } else if (rows[i][query.length()] <= maxEdits) {
+                near.put(word, rows[i][query.length()]);
+            }
+        }
+    }
+
+    /**
+     * Fill row from the previous row for one more letter; returns the row's minimum
+     */
+    private static int nextRow(int[] previous, int[] row, char letter, String query) {
+        row[0] = previous[0] + 1;
+        int min = row[0];
+        for (int j = 1; j < row.length; j++) {
+            int substitute = previous[j - 1] + (letter == query.charAt(j - 1) ? 0 : 1);
+            row[j] = Math.min(substitute, Math.min(previous[j], row[j - 1]) + 1);
+            min = Math.min(min, row[j]);
+        }
+        return min;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
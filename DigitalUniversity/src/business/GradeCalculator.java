@@ -3,6 +3,7 @@ package business;
 import model.*;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * GradeCalculator - Utility class for calculating GPAs and academic standing
@@ -40,43 +41,17 @@ public class GradeCalculator {
     }
     
     /**
-     * Calculate term GPA for a specific semester
+     * Calculate term GPA for a specific semester, from the student's running totals
      */
     public static double calculateTermGPA(Student student, Semester semester) {
-        double totalQualityPoints = 0.0;
-        int totalCredits = 0;
-        
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getCourseOffering().getSemester().equals(semester) && e.getGrade() != null) {
-                int credits = e.getCourseOffering().getCourse().getCreditHours();
-                double gradePoints = getGradePoints(e.getGrade());
-                totalQualityPoints += gradePoints * credits;
-                totalCredits += credits;
-            }
-        }
-        
-        if (totalCredits == 0) return 0.0;
-        return totalQualityPoints / totalCredits;
+        return student.getTermGPA(semester);
     }
     
     /**
-     * Calculate overall GPA for all semesters
+     * Calculate overall GPA of completed courses, from the student's running totals
      */
     public static double calculateOverallGPA(Student student) {
-        double totalQualityPoints = 0.0;
-        int totalCredits = 0;
-        
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getGrade() != null && !e.isActive()) { // Only completed courses
-                int credits = e.getCourseOffering().getCourse().getCreditHours();
-                double gradePoints = getGradePoints(e.getGrade());
-                totalQualityPoints += gradePoints * credits;
-                totalCredits += credits;
-            }
-        }
-        
-        if (totalCredits == 0) return 0.0;
-        return totalQualityPoints / totalCredits;
+        return student.getCompletedGPA();
     }
     
     /**
@@ -96,14 +71,15 @@ public class GradeCalculator {
     }
     
     /**
-     * Update student's overall GPA and academic standing
+     * Update student's overall GPA and academic standing; reads the running
+     * totals the student keeps as grades are set, so no enrollment is rescanned
      */
     public static void updateStudentGPA(Student student) {
         double overallGPA = calculateOverallGPA(student);
         student.setOverallGPA(overallGPA);
         
         // Get most recent semester
-        Semester latestSemester = getLatestSemester(student);
+        Semester latestSemester = student.getLatestSemester();
         if (latestSemester != null) {
             double termGPA = calculateTermGPA(student, latestSemester);
             String standing = determineAcademicStanding(termGPA, overallGPA);
@@ -111,34 +87,6 @@ public class GradeCalculator {
         }
     }
     
-    /**
-     * Get the latest semester the student is enrolled in
-     */
-    private static Semester getLatestSemester(Student student) {
-        Semester latest = null;
-        for (Enrollment e : student.getEnrollments()) {
-            Semester sem = e.getCourseOffering().getSemester();
-            if (latest == null || sem.getYear() > latest.getYear() || 
-                (sem.getYear() == latest.getYear() && isLaterTerm(sem.getTerm(), latest.getTerm()))) {
-                latest = sem;
-            }
-        }
-        return latest;
-    }
-    
-    /**
-     * Determine if term1 comes after term2
-     */
-    private static boolean isLaterTerm(String term1, String term2) {
-        String[] termOrder = {"Spring", "Summer", "Fall"};
-        int index1 = -1, index2 = -1;
-        for (int i = 0; i < termOrder.length; i++) {
-            if (termOrder[i].equalsIgnoreCase(term1)) index1 = i;
-            if (termOrder[i].equalsIgnoreCase(term2)) index2 = i;
-        }
-        return index1 > index2;
-    }
-    
     /**
      * Calculate letter grade from percentage score
      */
@@ -180,7 +128,7 @@ public class GradeCalculator {
      * Calculate average grade for a course offering
      */
     public static double calculateCourseAverage(CourseOffering courseOffering) {
-        ArrayList<Enrollment> enrollments = courseOffering.getEnrollments();
+        List<Enrollment> enrollments = courseOffering.getEnrollments();
         if (enrollments.isEmpty()) return 0.0;
         
         double totalPercentage = 0.0;
@@ -0,0 +1,397 @@
+package business;
+
+import model.*;
+import accesscontrol.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * JournalReplayer - Recovers mutations journaled after the latest snapshot
+ *
+ * Replays records onto the loaded directory in journal order. Every record
+ * carries the IDs it created, and each one is skipped when its effect is
+ * already present, so replaying records that the snapshot also contains is
+ * harmless; an enrollment that a snapshot caught half made is completed.
+ * Run this before the journal is opened so replay is not journaled again.
+ * Author: [Your Name]
+ */
+public class JournalReplayer {
+
+    private UniversityDirectory directory;
+    private AuthenticationService authService;
+    private int applied;
+    private HashMap<String, Enrollment> directoryEnrollments; // by ID, built on first use
+
+    public JournalReplayer() {
+        this.directory = UniversityDirectory.getInstance();
+        this.authService = AuthenticationService.getInstance();
+    }
+
+    /**
+     * Replay an interrupted checkpoint's journal, then the current one
+     * Returns the number of records that changed the directory.
+     */
+    public int recover(Path journalFile) throws IOException {
+        if (MutationJournal.getInstance().isOpen()) {
+            throw new IllegalStateException("Recover before opening the journal");
+        }
+        applied = 0;
+        directoryEnrollments = null;
+        MutationJournal.readRecords(MutationJournal.previousPath(journalFile), this::apply);
+        MutationJournal.readRecords(journalFile, this::apply);
+        return applied;
+    }
+
+    private void apply(MutationJournal.Record record) {
+        boolean changed;
+        switch (record.getType()) {
+            case MutationJournal.ENROLL:
+                changed = applyEnroll(record);
+                break;
+            case MutationJournal.DROP:
+                changed = applyDrop(record);
+                break;
+            case MutationJournal.PAY:
+                changed = applyPay(record);
+                break;
+            case MutationJournal.GRADE_ASSIGNMENT:
+                changed = applyAssignmentGrade(record);
+                break;
+            case MutationJournal.FINAL_GRADE:
+                changed = applyFinalGrade(record);
+                break;
+            case MutationJournal.CREATE_OFFERING:
+                changed = applyCreateOffering(record);
+                break;
+            case MutationJournal.CREATE_SEMESTER:
+                changed = applyCreateSemester(record);
+                break;
+            case MutationJournal.CREATE_ASSIGNMENT:
+                changed = applyCreateAssignment(record);
+                break;
+            case MutationJournal.REGISTER_STUDENT:
+            case MutationJournal.REGISTER_FACULTY:
+            case MutationJournal.REGISTER_REGISTRAR:
+            case MutationJournal.REGISTER_ADMIN:
+                changed = applyRegister(record);
+                break;
+            case MutationJournal.DELETE_PERSON:
+                changed = applyDeletePerson(record);
+                break;
+            case MutationJournal.USER_CREATE:
+                changed = applyUserCreate(record);
+                break;
+            case MutationJournal.USER_MODIFY:
+                changed = applyUserModify(record);
+                break;
+            case MutationJournal.USER_DELETE:
+                changed = authService.deleteUser(record.getString(0));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown journal record type " + record.getType());
+        }
+        if (changed) {
+            applied++;
+        }
+    }
+
+    // ========== REGISTRATION ==========
+
+    private boolean applyEnroll(MutationJournal.Record record) {
+        String enrollmentId = record.getString(0);
+        Student student = directory.findStudentByUniversityId(record.getString(1));
+        CourseOffering offering = directory.findCourseOfferingById(record.getString(2));
+        if (student == null || offering == null) {
+            return false;
+        }
+
+        // A snapshot taken while this enrollment was being made may hold it in
+        // the directory or on the roster only; complete that copy instead of
+        // making a second one
+        boolean changed = false;
+        Enrollment enrollment = findEnrollment(student, enrollmentId);
+        if (enrollment == null) {
+            enrollment = findEnrollment(offering.getEnrollments(), enrollmentId);
+            if (enrollment == null) {
+                enrollment = directoryEnrollments().get(enrollmentId);
+            }
+            if (enrollment == null) {
+                enrollment = new Enrollment(enrollmentId, student, offering);
+            }
+            student.addEnrollment(enrollment); // Adds tuition to balance
+            offering.getWaitlist().remove(student);
+            directory.reserveGeneratedId(enrollmentId);
+            changed = true;
+        }
+        if (!directoryEnrollments().containsKey(enrollmentId)) {
+            directory.addEnrollment(enrollment);
+            directoryEnrollments.put(enrollmentId, enrollment);
+            changed = true;
+        }
+        // Active enrollments are always on their roster; the seat was granted
+        // when the record was written, so capacity is not re-checked
+        if (enrollment.isActive() && !offering.getEnrollments().contains(enrollment)) {
+            offering.addEnrollment(enrollment);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean applyDrop(MutationJournal.Record record) {
+        Student student = directory.findStudentByUniversityId(record.getString(1));
+        Enrollment enrollment = student == null ? null : findEnrollment(student, record.getString(0));
+        if (enrollment == null || !enrollment.isActive()) {
+            return false;
+        }
+        CourseOffering offering = enrollment.getCourseOffering();
+
+        enrollment.setActive(false);
+        enrollment.setDropDate(record.getDate(2));
+        offering.removeEnrollment(enrollment);
+
+        String refundId = record.getString(3);
+        if (refundId != null) {
+            student.refundEnrollment(enrollment);
+            TuitionPayment refund = new TuitionPayment(refundId, student, enrollment,
+                enrollment.getTuitionAmount());
+            refund.setAmount(-enrollment.getTuitionAmount()); // Negative for refund
+            refund.setDescription("Refund for dropping " + offering.getCourse().getCourseId());
+            student.addPayment(refund);
+            directory.reserveGeneratedId(refundId);
+        } else {
+            student.setAccountBalance(student.getAccountBalance() - enrollment.getTuitionAmount());
+        }
+        return true;
+    }
+
+    private boolean applyPay(MutationJournal.Record record) {
+        String paymentId = record.getString(0);
+        Student student = directory.findStudentByUniversityId(record.getString(1));
+        Enrollment enrollment = student == null ? null : findEnrollment(student, record.getString(2));
+        if (enrollment == null || hasPayment(student, paymentId)) {
+            return false;
+        }
+        directory.reserveGeneratedId(paymentId);
+        return student.payForEnrollment(enrollment, paymentId);
+    }
+
+    // ========== GRADING ==========
+
+    private boolean applyAssignmentGrade(MutationJournal.Record record) {
+        CourseOffering offering = directory.findCourseOfferingById(record.getString(1));
+        Assignment assignment = offering == null ? null : findAssignment(offering, record.getString(0));
+        Student student = directory.findStudentByUniversityId(record.getString(2));
+        if (assignment == null || student == null) {
+            return false;
+        }
+        assignment.gradeStudent(student, record.getDouble(3));
+        return true;
+    }
+
+    private boolean applyFinalGrade(MutationJournal.Record record) {
+        Student student = directory.findStudentByUniversityId(record.getString(1));
+        Enrollment enrollment = student == null ? null : findEnrollment(student, record.getString(0));
+        if (enrollment == null) {
+            return false;
+        }
+        enrollment.setGrade(record.getString(2));
+        enrollment.setActive(false); // Mark as completed
+        GradeCalculator.updateStudentGPA(student);
+        return true;
+    }
+
+    // ========== CATALOG ==========
+
+    private boolean applyCreateOffering(MutationJournal.Record record) {
+        String offeringId = record.getString(0);
+        Course course = directory.findCourseById(record.getString(1));
+        Semester semester = directory.findSemesterById(record.getString(2));
+        Faculty instructor = directory.findFacultyByUniversityId(record.getString(3));
+        if (directory.findCourseOfferingById(offeringId) != null || course == null
+            || semester == null || instructor == null) {
+            return false;
+        }
+
+        CourseOffering offering = new CourseOffering(offeringId, course, semester, instructor);
+        offering.setSchedule(record.getString(4));
+        offering.setRoomLocation(record.getString(5));
+        offering.setMaxCapacity(record.getInt(6));
+        offering.setEnrollmentOpen(true);
+        directory.addCourseOffering(offering);
+        instructor.addCourse(offering);
+        directory.reserveGeneratedId(offeringId);
+        return true;
+    }
+
+    private boolean applyCreateSemester(MutationJournal.Record record) {
+        String semesterId = record.getString(0);
+        if (directory.findSemesterById(semesterId) != null) {
+            return false;
+        }
+        Semester semester = new Semester(semesterId, record.getString(1), record.getInt(2));
+        semester.setStartDate(record.getDate(3));
+        semester.setEndDate(record.getDate(4));
+        semester.setActive(true);
+        directory.addSemester(semester);
+        return true;
+    }
+
+    private boolean applyCreateAssignment(MutationJournal.Record record) {
+        String assignmentId = record.getString(0);
+        CourseOffering offering = directory.findCourseOfferingById(record.getString(1));
+        if (offering == null || findAssignment(offering, assignmentId) != null) {
+            return false;
+        }
+
+        Assignment assignment = new Assignment(record.getString(2), record.getString(3),
+            offering, record.getDouble(4));
+        assignment.setAssignmentId(assignmentId);
+        offering.addAssignment(assignment);
+
+        // Keep both assignment ID sequences ahead of the replayed one
+        directory.reserveGeneratedId(record.getString(2));
+        if (assignmentId.startsWith("ASSGN-")) {
+            try {
+                int number = Integer.parseInt(assignmentId.substring(6));
+                if (Assignment.getAssignmentCounter() <= number) {
+                    Assignment.setAssignmentCounter(number + 1);
+                }
+            } catch (NumberFormatException e) {
+                // Not a generated ID
+            }
+        }
+        return true;
+    }
+
+    // ========== PEOPLE & ACCOUNTS ==========
+
+    private boolean applyRegister(MutationJournal.Record record) {
+        String universityId = record.getString(0);
+        if (directory.findPersonByUniversityId(universityId) != null) {
+            return false;
+        }
+        String firstName = record.getString(1);
+        String lastName = record.getString(2);
+        String email = record.getString(3);
+        String phoneNumber = record.getString(4);
+
+        switch (record.getType()) {
+            case MutationJournal.REGISTER_STUDENT: {
+                Student student = new Student(universityId, firstName, lastName, email, record.getString(6));
+                student.setPhoneNumber(phoneNumber);
+                student.setAddress(record.getString(5));
+                directory.addStudent(student);
+                break;
+            }
+            case MutationJournal.REGISTER_FACULTY: {
+                Department department = directory.findDepartmentById(record.getString(5));
+                if (department == null) {
+                    return false;
+                }
+                Faculty faculty = new Faculty(universityId, firstName, lastName, email, department);
+                faculty.setPhoneNumber(phoneNumber);
+                faculty.setOfficeLocation(record.getString(6));
+                faculty.setOfficeHours(record.getString(7));
+                directory.addFaculty(faculty);
+                department.addFaculty(faculty);
+                break;
+            }
+            case MutationJournal.REGISTER_REGISTRAR: {
+                Registrar registrar = new Registrar(universityId, firstName, lastName, email);
+                registrar.setPhoneNumber(phoneNumber);
+                registrar.setOfficeLocation(record.getString(5));
+                registrar.setOfficeHours(record.getString(6));
+                directory.addRegistrar(registrar);
+                break;
+            }
+            default: {
+                Admin admin = new Admin(universityId, firstName, lastName, email, record.getString(5));
+                admin.setPhoneNumber(phoneNumber);
+                directory.addAdmin(admin);
+                break;
+            }
+        }
+        directory.reserveGeneratedId(universityId);
+        return true;
+    }
+
+    private boolean applyDeletePerson(MutationJournal.Record record) {
+        Person person = directory.findPersonByUniversityId(record.getString(0));
+        AdminService adminService = new AdminService(); // journal is closed, so nothing is re-journaled
+        if (person instanceof Student) {
+            return adminService.deleteStudent((Student) person);
+        } else if (person instanceof Faculty) {
+            return adminService.deleteFaculty((Faculty) person);
+        } else if (person instanceof Registrar) {
+            return adminService.deleteRegistrar((Registrar) person);
+        }
+        return false;
+    }
+
+    private boolean applyUserCreate(MutationJournal.Record record) {
+        Person person = directory.findPersonByUniversityId(record.getString(3));
+        if (person == null) {
+            return false;
+        }
+        User user = new User(record.getString(0), record.getString(1), record.getString(2), person);
+        return authService.registerUser(user);
+    }
+
+    private boolean applyUserModify(MutationJournal.Record record) {
+        User user = authService.getUserByUsername(record.getString(0));
+        if (user == null) {
+            return false;
+        }
+        String newPassword = record.getString(1);
+        if (newPassword != null && !newPassword.trim().isEmpty()) {
+            user.setPassword(newPassword);
+        }
+        user.setActive(record.getBoolean(2));
+        return true;
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private Enrollment findEnrollment(Student student, String enrollmentId) {
+        return findEnrollment(student.getEnrollments(), enrollmentId);
+    }
+
+    private Enrollment findEnrollment(List<Enrollment> enrollments, String enrollmentId) {
+        for (Enrollment e : enrollments) {
+            if (e.getEnrollmentId().equals(enrollmentId)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private HashMap<String, Enrollment> directoryEnrollments() {
+        if (directoryEnrollments == null) {
+            directoryEnrollments = new HashMap<>();
+            for (Enrollment e : directory.getEnrollments()) {
+                directoryEnrollments.put(e.getEnrollmentId(), e);
+            }
+        }
+        return directoryEnrollments;
+    }
+
+    private Assignment findAssignment(CourseOffering offering, String assignmentId) {
+        for (Assignment a : offering.getAssignments()) {
+            if (a.getAssignmentId().equals(assignmentId)) {
+                return a;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasPayment(Student student, String paymentId) {
+        for (TuitionPayment p : student.getPaymentHistory()) {
+            if (paymentId.equals(p.getPaymentId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
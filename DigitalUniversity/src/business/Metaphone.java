@@ -0,0 +1,179 @@
+package business;
+
+/**
+ * Metaphone - Phonetic code of a word, so that names spelled differently but
+ * pronounced alike ("Jon Smyth", "John Smith") get the same code
+ *
+ * Implements Lawrence Philips' original Metaphone rules for English: vowels
+ * count only at the start of a word, letters that sound alike map to one code
+ * letter (C/K/Q to K, PH and V to F, TH to '0'), and silent letters (the K of
+ * KN, the GH of "Wright", the B of "Lamb") are dropped. Works on letters A-Z;
+ * anything else is ignored, so callers pass accent-free search keys.
+ * Author: [Your Name]
+ */
+final class Metaphone {
+
+    private Metaphone() {
+    }
+
+    /**
+     * Metaphone code of a word; empty if it has no letters
+     */
+    static String encode(String word) {
+        String w = letters(word);
+        if (w.isEmpty()) {
+            return "";
+        }
+        StringBuilder code = new StringBuilder(w.length());
+
+        int i = 0;
+        // Silent first letters and special starts
+        if (w.startsWith("AE") || w.startsWith("GN") || w.startsWith("KN")
+                || w.startsWith("PN") || w.startsWith("WR")) {
+            i = 1;
+        } else if (w.charAt(0) == 'X') {
+            code.append('S');
+            i = 1;
+        } else if (w.startsWith("WH")) {
+            code.append('W');
+            i = 2;
+        }
+
+        for (; i < w.length(); i++) {
+            char c = w.charAt(i);
+            // Doubled letters sound once, except C ("Accent" is K then S)
+            if (c != 'C' && i > 0 && w.charAt(i - 1) == c) {
+                continue;
+            }
+            switch (c) {
+                case 'A': case 'E': case 'I': case 'O': case 'U':
+                    if (i == 0) {
+                        code.append(c);
+                    }
+                    break;
+                case 'B':
+                    // Silent in a final MB ("Lamb")
+                    if (!(i == w.length() - 1 && at(w, i - 1) == 'M')) {
+                        code.append('B');
+                    }
+                    break;
+                case 'C':
+                    if (at(w, i + 1) == 'I' && at(w, i + 2) == 'A') {
+                        code.append('X');
+                    } else if (at(w, i + 1) == 'H') {
+                        code.append(at(w, i - 1) == 'S' ? 'K' : 'X');
+                        i++;
+                    } else if (isFrontVowel(at(w, i + 1))) {
+                        if (at(w, i - 1) != 'S') {
+                            code.append('S');
+                        }
+                    } else {
+                        code.append('K');
+                    }
+                    break;
+                case 'D':
+                    if (at(w, i + 1) == 'G' && isFrontVowel(at(w, i + 2))) {
+                        code.append('J');
+                        i += 2;
+                    } else {
+                        code.append('T');
+                    }
+                    break;
+                case 'G':
+                    if (at(w, i + 1) == 'H' && i + 2 < w.length() && !isVowel(at(w, i + 2))) {
+                        break; // "Wright", "Haughton"
+                    }
+                    if (at(w, i + 1) == 'N' && (i + 2 == w.length()
+                            || (w.startsWith("ED", i + 2) && i + 4 == w.length()))) {
+                        break; // "Sign", "Signed"
+                    }
+                    if (isFrontVowel(at(w, i + 1)) && at(w, i - 1) != 'G') {
+                        code.append('J');
+                    } else {
+                        code.append('K');
+                    }
+                    break;
+                case 'H':
+                    if (isVowel(at(w, i + 1)) && !isVowel(at(w, i - 1)) && "CSPTG".indexOf(at(w, i - 1)) < 0) {
+                        code.append('H');
+                    }
+                    break;
+                case 'K':
+                    if (at(w, i - 1) != 'C') {
+                        code.append('K');
+                    }
+                    break;
+                case 'P':
+                    code.append(at(w, i + 1) == 'H' ? 'F' : 'P');
+                    break;
+                case 'Q':
+                    code.append('K');
+                    break;
+                case 'S':
+                    if (at(w, i + 1) == 'H') {
+                        code.append('X');
+                        i++;
+                    } else if (at(w, i + 1) == 'I' && (at(w, i + 2) == 'O' || at(w, i + 2) == 'A')) {
+                        code.append('X');
+                    } else {
+                        code.append('S');
+                    }
+                    break;
+                case 'T':
+                    if (at(w, i + 1) == 'I' && (at(w, i + 2) == 'O' || at(w, i + 2) == 'A')) {
+                        code.append('X');
+                    } else if (at(w, i + 1) == 'H') {
+                        code.append('0');
+                        i++;
+                    } else if (!(at(w, i + 1) == 'C' && at(w, i + 2) == 'H')) {
+                        code.append('T');
+                    }
+                    break;
+                case 'V':
+                    code.append('F');
+                    break;
+                case 'W':
+                case 'Y':
+                    if (isVowel(at(w, i + 1))) {
+                        code.append(c);
+                    }
+                    break;
+                case 'X':
+                    code.append("KS");
+                    break;
+                case 'Z':
+                    code.append('S');
+                    break;
+                default: // F, J, L, M, N, R
+                    code.append(c);
+            }
+        }
+        return code.toString();
+    }
+
+    /**
+     * The word's letters A-Z in upper case
+     */
+    private static String letters(String word) {
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = Character.toUpperCase(word.charAt(i));
+            if (c >= 'A' && c <= 'Z') {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    private static char at(String w, int i) {
+        return i >= 0 && i < w.length() ? w.charAt(i) : '\0';
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'A' || c == 'E' || c == 'I' || c == 'O' || c == 'U';
+    }
+
+    private static boolean isFrontVowel(char c) {
+        return c == 'E' || c == 'I' || c == 'Y';
+    }
+}
@@ -0,0 +1,175 @@
+package business;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MetricsRegistry - Process-wide operation latencies and counters
+ *
+ * Services look up their OperationMetric once (in a static field) and only
+ * touch lock-free structures per call. Reports are assembled on demand from
+ * whatever has been recorded so far.
+ * Author: [Your Name]
+ */
+public class MetricsRegistry {
+
+    private final ConcurrentHashMap<String, OperationMetric> operations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    private MetricsRegistry() {
+    }
+
+    // Lazy holder: the JVM's class initialization publishes the instance safely
+    private static class Holder {
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static MetricsRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get or create the metric for an operation, e.g. "StudentService.enrollInCourse"
+     */
+    public OperationMetric operation(String name) {
+        return operations.computeIfAbsent(name, OperationMetric::new);
+    }
+
+    /**
+     * Get or create a counter
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, n -> new LongAdder());
+    }
+
+    /**
+     * All operations that have been called at least once, by name
+     */
+    public ArrayList<OperationMetric> getActiveOperations() {
+        ArrayList<OperationMetric> result = new ArrayList<>();
+        for (OperationMetric metric : new TreeMap<>(operations).values()) {
+            if (metric.getCount() > 0) {
+                result.add(metric);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Current counter values, by name
+     */
+    public TreeMap<String, Long> getCounterValues() {
+        TreeMap<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().sum());
+        }
+        return values;
+    }
+
+    /**
+     * Seconds since the registry started or was last reset
+     */
+    public double getUptimeSeconds() {
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+
+    /**
+     * Clear every metric and counter
+     */
+    public void reset() {
+        for (OperationMetric metric : operations.values()) {
+            metric.getLatency().reset();
+        }
+        for (LongAdder counter : counters.values()) {
+            counter.reset();
+        }
+        startNanos = System.nanoTime();
+    }
+
+    // ========== REPORTS ==========
+
+    /**
+     * Plain-text table of all recorded operations and counters
+     */
+    public String formatText() {
+        double uptime = getUptimeSeconds();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Operations over %.1f s%n", uptime));
+        out.append(String.format(Locale.ROOT, "%-48s %10s %9s %10s %10s %10s %10s %10s%n",
+            "operation", "count", "rate/s", "mean ms", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (OperationMetric metric : getActiveOperations()) {
+            LatencyHistogram latency = metric.getLatency();
+            out.append(String.format(Locale.ROOT, "%-48s %10d %9.2f %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                metric.getName(), latency.getCount(), latency.getCount() / uptime,
+                latency.getMean() / 1e6, millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMax())));
+        }
+        TreeMap<String, Long> counterValues = getCounterValues();
+        if (!counterValues.isEmpty()) {
+            out.append(String.format("%nCounters%n"));
+            for (Map.Entry<String, Long> entry : counterValues.entrySet()) {
+                out.append(String.format(Locale.ROOT, "%-48s %10d%n", entry.getKey(), entry.getValue()));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * JSON document of all recorded operations (latencies in nanoseconds) and counters
+     */
+    public String formatJson() {
+        double uptime = getUptimeSeconds();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "{%n  \"uptimeSeconds\": %.3f,%n  \"operations\": [", uptime));
+        String separator = "";
+        for (OperationMetric metric : getActiveOperations()) {
+            LatencyHistogram latency = metric.getLatency();
+            out.append(separator);
+            out.append(String.format(Locale.ROOT,
+                "%n    {\"name\": \"%s\", \"count\": %d, \"ratePerSecond\": %.3f, \"meanNanos\": %.1f, "
+                + "\"p50Nanos\": %d, \"p99Nanos\": %d, \"p999Nanos\": %d, \"maxNanos\": %d}",
+                escape(metric.getName()), latency.getCount(), latency.getCount() / uptime, latency.getMean(),
+                latency.getValueAtPercentile(50), latency.getValueAtPercentile(99),
+                latency.getValueAtPercentile(99.9), latency.getMax()));
+            separator = ",";
+        }
+        out.append(String.format("%n  ],%n  \"counters\": {"));
+        separator = "";
+        for (Map.Entry<String, Long> entry : getCounterValues().entrySet()) {
+            out.append(separator);
+            out.append(String.format("%n    \"%s\": %d", escape(entry.getKey()), entry.getValue()));
+            separator = ",";
+        }
+        out.append(String.format("%n  }%n}%n"));
+        return out.toString();
+    }
+
+    /**
+     * Write the report to a file, as JSON if the name ends in .json and as text otherwise
+     */
+    public void dump(Path file) throws IOException {
+        boolean json = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+        Files.writeString(file, json ? formatJson() : formatText(), StandardCharsets.UTF_8);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
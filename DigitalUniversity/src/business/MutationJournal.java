@@ -0,0 +1,568 @@
+package business;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * MutationJournal - Append-only write-ahead journal of directory mutations
+ *
+ * Services append one compact record per mutation before applying it, so a
+ * rejected write leaves nothing to undo. A single flusher thread writes
+ * everything appended since its last pass and forces it to disk with one
+ * fsync, so concurrent writers share fsyncs (group commit). append() returns
+ * once its record is durable; appendAsync()/awaitDurable() let batch callers
+ * wait only once.
+ *
+ * Record frame: int length, payload (type byte, field count, tagged fields),
+ * int CRC32 of the payload. A torn or corrupt tail ends replay and is cut
+ * off when the journal is reopened. While the journal is not open, appends
+ * are no-ops, which is what replay relies on. If a write fails, no later
+ * record is acknowledged: waiting and new appends throw until a checkpoint
+ * has saved the state to a fresh journal and snapshot.
+ * Author: [Your Name]
+ */
+public class MutationJournal {
+
+    public static final String DEFAULT_FILE = "university.journal";
+
+    // Record types
+    public static final byte ENROLL = 1;
+    public static final byte DROP = 2;
+    public static final byte PAY = 3;
+    public static final byte GRADE_ASSIGNMENT = 4;
+    public static final byte FINAL_GRADE = 5;
+    public static final byte CREATE_OFFERING = 6;
+    public static final byte CREATE_SEMESTER = 7;
+    public static final byte CREATE_ASSIGNMENT = 8;
+    public static final byte REGISTER_STUDENT = 9;
+    public static final byte REGISTER_FACULTY = 10;
+    public static final byte REGISTER_REGISTRAR = 11;
+    public static final byte REGISTER_ADMIN = 12;
+    public static final byte DELETE_PERSON = 13;
+    public static final byte USER_CREATE = 14;
+    public static final byte USER_MODIFY = 15;
+    public static final byte USER_DELETE = 16;
+
+    // Field tags
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DATE = 5;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hasPending = lock.newCondition();
+    private final Condition madeDurable = lock.newCondition();
+    private final ReentrantLock ioLock = new ReentrantLock(); // guards the channel
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long appendedSeq;
+    private long durableSeq;
+    private boolean closing;
+    private IOException failure; // first failed write since the last checkpoint
+    private volatile boolean open;
+
+    private Path file;
+    private FileChannel channel;
+    private Thread flusher;
+
+    private MutationJournal() {
+    }
+
+    // Lazy holder: the JVM's class initialization publishes the instance safely
+    private static class Holder {
+        private static final MutationJournal INSTANCE = new MutationJournal();
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static MutationJournal getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Journal location; override with -Duniversity.journal=path
+     */
+    public static Path getDefaultPath() {
+        return Paths.get(System.getProperty("university.journal", DEFAULT_FILE));
+    }
+
+    /**
+     * Where the previous journal is kept while a checkpoint is in progress
+     */
+    public static Path previousPath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".prev");
+    }
+
+    // ========== LIFECYCLE ==========
+
+    /**
+     * Start journaling to a file; call after recovery has replayed it
+     */
+    public void open(Path file) throws IOException {
+        lock.lock();
+        try {
+            if (open) {
+                throw new IllegalStateException("Journal is already open");
+            }
+            this.file = file;
+            this.channel = openChannel(file);
+            this.closing = false;
+            this.failure = null;
+            this.open = true;
+            this.flusher = new Thread(this::flushLoop, "journal-flusher");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Flush outstanding records and stop journaling
+     */
+    public void close() {
+        Thread thread;
+        lock.lock();
+        try {
+            if (!open) {
+                return;
+            }
+            open = false;
+            closing = true;
+            hasPending.signalAll();
+            thread = flusher;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ioLock.lock();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Every acknowledged record was already forced; nothing is lost
+        } finally {
+            ioLock.unlock();
+        }
+    }
+
+    /**
+     * Take a snapshot and drop the journal it makes redundant
+     * Appends go to a fresh journal from the moment the snapshot starts, so
+     * no mutation falls between the two; replay is idempotent, so records
+     * that also made it into the snapshot are harmless. A successful
+     * checkpoint also clears an earlier write failure, since the snapshot
+     * holds every change the failed journal lost.
+     */
+    public void checkpoint(SnapshotAction snapshot) throws IOException {
+        if (!open) {
+            snapshot.save();
+            return;
+        }
+        Path previous = previousPath(file);
+        long batchSeq;
+        ioLock.lock();
+        try {
+            byte[] batch;
+            boolean failed;
+            lock.lock();
+            try {
+                batch = drainPending();
+                batchSeq = appendedSeq;
+                failed = failure != null;
+            } finally {
+                lock.unlock();
+            }
+            if (!failed) {
+                try {
+                    writeAndForce(batch);
+                    markDurable(batchSeq);
+                } catch (IOException e) {
+                    fail(e); // the snapshot below still saves these changes
+                }
+            }
+            channel.close();
+            Files.move(file, previous, StandardCopyOption.REPLACE_EXISTING);
+            channel = openChannel(file);
+        } finally {
+            ioLock.unlock();
+        }
+        snapshot.save();
+        Files.deleteIfExists(previous);
+
+        // The snapshot holds whatever a failed write lost
+        lock.lock();
+        try {
+            failure = null;
+        } finally {
+            lock.unlock();
+        }
+        markDurable(batchSeq);
+    }
+
+    /**
+     * Snapshot callback used by checkpoint()
+     */
+    public interface SnapshotAction {
+        void save() throws IOException;
+    }
+
+    // ========== APPEND ==========
+
+    /**
+     * Append a record and wait until it is on disk
+     * Throws IllegalStateException if the journal could not write it.
+     */
+    public void append(byte type, Object... fields) {
+        awaitDurable(appendAsync(type, fields));
+    }
+
+    /**
+     * Append a record without waiting; returns a sequence for awaitDurable (0 if not open)
+     */
+    public long appendAsync(byte type, Object... fields) {
+        if (!open) {
+            return 0;
+        }
+        byte[] frame = encode(type, fields);
+        lock.lock();
+        try {
+            if (!open) {
+                return 0;
+            }
+            throwIfFailed();
+            pending.write(frame, 0, frame.length);
+            appendedSeq++;
+            hasPending.signal();
+            return appendedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until every record up to the given sequence has been forced to disk
+     * Throws IllegalStateException if a write failed before they got there.
+     */
+    public void awaitDurable(long seq) {
+        if (seq == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (durableSeq < seq && failure == null && (open || closing)) {
+                madeDurable.awaitUninterruptibly();
+            }
+            if (durableSeq < seq) {
+                throwIfFailed();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            lock.lock();
+            try {
+                while (pending.size() == 0 && !closing) {
+                    hasPending.awaitUninterruptibly();
+                }
+                if (pending.size() == 0) {
+                    closing = false;
+                    madeDurable.signalAll();
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // Take the batch while holding the channel so a checkpoint cannot
+            // rotate the file between draining and writing it
+            ioLock.lock();
+            try {
+                byte[] batch;
+                long batchSeq;
+                boolean failed;
+                lock.lock();
+                try {
+                    batch = drainPending();
+                    batchSeq = appendedSeq;
+                    failed = failure != null;
+                } finally {
+                    lock.unlock();
+                }
+                // After a failed write the file may end in a torn record that
+                // hides anything behind it from replay, so stop acknowledging
+                if (!failed) {
+                    try {
+                        writeAndForce(batch);
+                        markDurable(batchSeq);
+                    } catch (IOException e) {
+                        fail(e);
+                    }
+                }
+            } finally {
+                ioLock.unlock();
+            }
+        }
+    }
+
+    private void markDurable(long seq) {
+        lock.lock();
+        try {
+            durableSeq = Math.max(durableSeq, seq);
+            madeDurable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a failed write and wake the waiters so they can report it
+     */
+    private void fail(IOException e) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = e;
+            }
+            madeDurable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Callers hold lock
+    private void throwIfFailed() {
+        if (failure != null) {
+            throw new IllegalStateException("Journal write failed, change is not durable: "
+                + failure.getMessage(), failure);
+        }
+    }
+
+    // Callers hold lock
+    private byte[] drainPending() {
+        byte[] batch = pending.toByteArray();
+        pending = new ByteArrayOutputStream(Math.max(256, batch.length));
+        return batch;
+    }
+
+    // Callers hold ioLock
+    private void writeAndForce(byte[] batch) throws IOException {
+        if (batch.length == 0) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(batch);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Open for appending, cutting off any torn tail left by a crash
+     */
+    private static FileChannel openChannel(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validLength = readRecords(file, null);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        return channel;
+    }
+
+    // ========== ENCODING ==========
+
+    private static byte[] encode(byte type, Object[] fields) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0); // length, patched below
+            out.writeByte(type);
+            out.writeByte(fields.length);
+            for (Object field : fields) {
+                writeField(out, field);
+            }
+            byte[] frame = bytes.toByteArray();
+            int payloadLength = frame.length - 4;
+
+            CRC32 crc = new CRC32();
+            crc.update(frame, 4, payloadLength);
+            ByteBuffer result = ByteBuffer.allocate(frame.length + 4);
+            result.putInt(payloadLength);
+            result.put(frame, 4, payloadLength);
+            result.putInt((int) crc.getValue());
+            return result.array();
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory streams do not fail
+        }
+    }
+
+    private static void writeField(DataOutputStream out, Object field) throws IOException {
+        if (field == null) {
+            out.writeByte(NULL);
+        } else if (field instanceof String) {
+            byte[] utf8 = ((String) field).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        } else if (field instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) field);
+        } else if (field instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) field);
+        } else if (field instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) field);
+        } else if (field instanceof LocalDate) {
+            out.writeByte(DATE);
+            out.writeLong(((LocalDate) field).toEpochDay());
+        } else {
+            throw new IllegalArgumentException("Unsupported journal field: " + field.getClass());
+        }
+    }
+
+    // ========== READING ==========
+
+    /**
+     * Record - One decoded journal record
+     */
+    public static class Record {
+        private final byte type;
+        private final Object[] fields;
+
+        Record(byte type, Object[] fields) {
+            this.type = type;
+            this.fields = fields;
+        }
+
+        public byte getType() {
+            return type;
+        }
+
+        public String getString(int index) {
+            return (String) fields[index];
+        }
+
+        public int getInt(int index) {
+            return (Integer) fields[index];
+        }
+
+        public double getDouble(int index) {
+            return (Double) fields[index];
+        }
+
+        public boolean getBoolean(int index) {
+            return (Boolean) fields[index];
+        }
+
+        public LocalDate getDate(int index) {
+            return (LocalDate) fields[index];
+        }
+    }
+
+    /**
+     * Callback for readRecords()
+     */
+    public interface RecordHandler {
+        void handle(Record record);
+    }
+
+    /**
+     * Decode records in order until the end of the file or the first torn/corrupt record
+     * Returns the length of the valid prefix; a missing file reads as empty.
+     */
+    static long readRecords(Path file, RecordHandler handler) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        long valid = 0;
+        while (in.remaining() >= 4) {
+            int start = in.position();
+            int length = in.getInt();
+            if (length < 2 || length > in.remaining() - 4) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(in.array(), start + 4, length);
+            int payloadEnd = start + 4 + length;
+            if ((int) crc.getValue() != in.getInt(payloadEnd)) {
+                break;
+            }
+
+            Record record;
+            try {
+                record = decode(in, payloadEnd);
+            } catch (RuntimeException e) {
+                break;
+            }
+            in.position(payloadEnd + 4);
+            valid = in.position();
+            if (handler != null) {
+                handler.handle(record);
+            }
+        }
+        return valid;
+    }
+
+    private static Record decode(ByteBuffer in, int payloadEnd) {
+        byte type = in.get();
+        Object[] fields = new Object[in.get()];
+        for (int i = 0; i < fields.length; i++) {
+            byte tag = in.get();
+            switch (tag) {
+                case NULL:
+                    fields[i] = null;
+                    break;
+                case STRING:
+                    byte[] utf8 = new byte[in.getInt()];
+                    in.get(utf8);
+                    fields[i] = new String(utf8, StandardCharsets.UTF_8);
+                    break;
+                case INT:
+                    fields[i] = in.getInt();
+                    break;
+                case DOUBLE:
+                    fields[i] = in.getDouble();
+                    break;
+                case BOOLEAN:
+                    fields[i] = in.get() != 0;
+                    break;
+                case DATE:
+                    fields[i] = LocalDate.ofEpochDay(in.getLong());
+                    break;
+                default:
+                    throw new IllegalArgumentException("bad field tag " + tag);
+            }
+        }
+        if (in.position() != payloadEnd) {
+            throw new IllegalArgumentException("record length mismatch");
+        }
+        return new Record(type, fields);
+    }
+}
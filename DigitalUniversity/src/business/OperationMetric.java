@@ -0,0 +1,64 @@
+package business;
+
+import java.util.function.Supplier;
+
+/**
+ * OperationMetric - Call count and latency histogram for one service operation
+ *
+ * A public service method hands its work to time(), which records the
+ * duration in a finally block, so failed calls are timed too and the
+ * method body itself carries no timing code.
+ * Author: [Your Name]
+ */
+public class OperationMetric {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationMetric(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Run an operation and record how long it took
+     */
+    public <T> T time(Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            record(start);
+        }
+    }
+
+    /**
+     * Run an operation without a result and record how long it took
+     */
+    public void time(Runnable operation) {
+        long start = System.nanoTime();
+        try {
+            operation.run();
+        } finally {
+            record(start);
+        }
+    }
+
+    /**
+     * Record a call that started at the given System.nanoTime()
+     */
+    public void record(long startNanos) {
+        latency.record(System.nanoTime() - startNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
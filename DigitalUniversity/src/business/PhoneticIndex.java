@@ -0,0 +1,128 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.function.Function;
+
+/**
+ * PhoneticIndex - Sound-alike word lookup over entity text
+ *
+ * Each word of an entity's text is reduced to its Metaphone code, and each
+ * code maps to the entities with a word of that sound. A query is coded the
+ * same way, so "Jon Smyth" finds "John Smith" with one hash lookup per query
+ * word and an intersection, without comparing the query to any name. Not
+ * thread-safe: guarded by the lock of the entity type it indexes, like
+ * KeyIndex.
+ * Author: [Your Name]
+ */
+class PhoneticIndex<T> implements SearchIndex<T> {
+
+    private final Function<T, String> textOf;
+    private final HashMap<String, LinkedHashSet<T>> entitiesByCode = new HashMap<>();
+    private final IdentityHashMap<T, String[]> indexed = new IdentityHashMap<>(); // entity -> codes of its words
+
+    PhoneticIndex(Function<T, String> textOf) {
+        this.textOf = textOf;
+    }
+
+    /**
+     * Distinct Metaphone codes of the words of a text
+     */
+    static String[] codes(String text) {
+        LinkedHashSet<String> codes = new LinkedHashSet<>();
+        for (String word : FuzzyIndex.words(text)) {
+            String code = Metaphone.encode(word);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return codes.toArray(new String[0]);
+    }
+
+    @Override
+    public void add(T entity) {
+        if (indexed.containsKey(entity)) {
+            return;
+        }
+        String[] codes = codes(textOf.apply(entity));
+        indexed.put(entity, codes);
+        link(entity, codes);
+    }
+
+    @Override
+    public void remove(T entity) {
+        String[] codes = indexed.remove(entity);
+        if (codes != null) {
+            unlink(entity, codes);
+        }
+    }
+
+    /**
+     * Re-read the text of an entity that was edited
+     */
+    @Override
+    public void update(T entity) {
+        String[] old = indexed.get(entity);
+        if (old == null) {
+            return;
+        }
+        String[] codes = codes(textOf.apply(entity));
+        if (!Arrays.equals(old, codes)) {
+            unlink(entity, old);
+            indexed.put(entity, codes);
+            link(entity, codes);
+        }
+    }
+
+    /**
+     * Entities with a word sounding like each word of the query, in the order
+     * they were first indexed under the query's rarest sound
+     */
+    ArrayList<T> search(String query) {
+        String[] codes = codes(query);
+        if (codes.length == 0) {
+            return new ArrayList<>();
+        }
+
+        ArrayList<LinkedHashSet<T>> lists = new ArrayList<>(codes.length);
+        for (String code : codes) {
+            LinkedHashSet<T> entities = entitiesByCode.get(code);
+            if (entities == null) {
+                return new ArrayList<>(); // Nobody has a word sounding like this one
+            }
+            lists.add(entities);
+        }
+        lists.sort(Comparator.comparingInt(LinkedHashSet::size));
+
+        ArrayList<T> results = new ArrayList<>();
+        for (T entity : lists.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(entity);
+            }
+            if (inAll) {
+                results.add(entity);
+            }
+        }
+        return results;
+    }
+
+    private void link(T entity, String[] codes) {
+        for (String code : codes) {
+            entitiesByCode.computeIfAbsent(code, c -> new LinkedHashSet<>()).add(entity);
+        }
+    }
+
+    private void unlink(T entity, String[] codes) {
+        for (String code : codes) {
+            LinkedHashSet<T> entities = entitiesByCode.get(code);
+            if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+                entitiesByCode.remove(code);
+            }
+        }
+    }
+}
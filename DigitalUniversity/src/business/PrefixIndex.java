@@ -0,0 +1,120 @@
+package business;
+
+import model.SearchKey;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * PrefixIndex - Sorted term dictionary for autocomplete
+ *
+ * Every word of an entity's text starts a term ("john smith" and "smith" for
+ * John Smith), so a prefix of any word finds it. Terms are kept sorted, and
+ * a lookup seeks to the prefix and reads forward until it has enough distinct
+ * completions: O(log n + k) however many entities share the prefix. Entities
+ * with identical text share their terms through a count. Not thread-safe:
+ * guarded by the lock of the entity type it indexes, like KeyIndex.
+ * Author: [Your Name]
+ */
+class PrefixIndex<T> implements SearchIndex<T> {
+
+    // Separates the term from the display text inside a dictionary key
+    private static final char SEPARATOR = '\u0000';
+
+    private final Function<T, String> textOf;
+    private final TreeMap<String, int[]> terms = new TreeMap<>(); // term + SEPARATOR + text -> {count}
+    private final IdentityHashMap<T, String> indexed = new IdentityHashMap<>(); // entity -> text it was indexed under
+
+    PrefixIndex(Function<T, String> textOf) {
+        this.textOf = textOf;
+    }
+
+    /**
+     * Fold a prefix the same way the terms were folded (see SearchKey)
+     */
+    static String normalize(String prefix) {
+        return SearchKey.normalize(prefix);
+    }
+
+    @Override
+    public void add(T entity) {
+        if (indexed.containsKey(entity)) {
+            return;
+        }
+        String text = textOf.apply(entity);
+        indexed.put(entity, text);
+        post(text, 1);
+    }
+
+    @Override
+    public void remove(T entity) {
+        if (!indexed.containsKey(entity)) {
+            return;
+        }
+        post(indexed.remove(entity), -1);
+    }
+
+    /**
+     * Re-read the text of an entity that was edited
+     */
+    @Override
+    public void update(T entity) {
+        if (!indexed.containsKey(entity)) {
+            return;
+        }
+        String text = textOf.apply(entity);
+        String old = indexed.put(entity, text);
+        if (text == null ? old != null : !text.equals(old)) {
+            post(old, -1);
+            post(text, 1);
+        }
+    }
+
+    /**
+     * Up to limit distinct texts with a word starting with the prefix, in term
+     * order; the prefix must already be normalized
+     */
+    ArrayList<String> complete(String prefix, int limit) {
+        LinkedHashSet<String> found = new LinkedHashSet<>();
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>(found);
+        }
+        String end = prefix + Character.MAX_VALUE;
+        for (String key : terms.subMap(prefix, true, end, false).keySet()) {
+            found.add(key.substring(key.indexOf(SEPARATOR) + 1));
+            if (found.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    int size() {
+        return indexed.size();
+    }
+
+    private void post(String text, int delta) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String lower = normalize(text);
+        for (int i = 0; i < lower.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(lower.charAt(i))
+                && (i == 0 || !Character.isLetterOrDigit(lower.charAt(i - 1)));
+            if (!wordStart) {
+                continue;
+            }
+            String key = lower.substring(i) + SEPARATOR + text;
+            if (delta > 0) {
+                terms.computeIfAbsent(key, k -> new int[1])[0]++;
+            } else {
+                int[] count = terms.get(key);
+                if (count != null && --count[0] == 0) {
+                    terms.remove(key);
+                }
+            }
+        }
+    }
+}
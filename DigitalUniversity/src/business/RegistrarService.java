@@ -3,7 +3,14 @@ package business;
 import model.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * RegistrarService - Business logic for registrar operations
@@ -11,10 +18,48 @@ import java.util.HashMap;
  */
 public class RegistrarService {
     
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_CREATE_COURSE_OFFERING =
+        MetricsRegistry.getInstance().operation("RegistrarService.createCourseOffering");
+    private static final OperationMetric OP_UPDATE_COURSE_OFFERING =
+        MetricsRegistry.getInstance().operation("RegistrarService.updateCourseOffering");
+    private static final OperationMetric OP_DELETE_COURSE_OFFERING =
+        MetricsRegistry.getInstance().operation("RegistrarService.deleteCourseOffering");
+    private static final OperationMetric OP_ENROLL_STUDENT =
+        MetricsRegistry.getInstance().operation("RegistrarService.enrollStudent");
+    private static final OperationMetric OP_ENROLL_STUDENTS =
+        MetricsRegistry.getInstance().operation("RegistrarService.enrollStudents");
+    private static final OperationMetric OP_DROP_STUDENT =
+        MetricsRegistry.getInstance().operation("RegistrarService.dropStudent");
+    private static final OperationMetric OP_GET_TUITION_PAYMENT_STATUS =
+        MetricsRegistry.getInstance().operation("RegistrarService.getTuitionPaymentStatus");
+    private static final OperationMetric OP_GENERATE_FINANCIAL_REPORT =
+        MetricsRegistry.getInstance().operation("RegistrarService.generateFinancialReport");
+    private static final OperationMetric OP_GET_STUDENTS_WITH_UNPAID_TUITION =
+        MetricsRegistry.getInstance().operation("RegistrarService.getStudentsWithUnpaidTuition");
+    private static final OperationMetric OP_GET_ENROLLMENT_BY_DEPARTMENT =
+        MetricsRegistry.getInstance().operation("RegistrarService.getEnrollmentByDepartment");
+    private static final OperationMetric OP_GET_ENROLLMENT_BY_COURSE =
+        MetricsRegistry.getInstance().operation("RegistrarService.getEnrollmentByCourse");
+    private static final OperationMetric OP_GET_GPA_DISTRIBUTION_BY_PROGRAM =
+        MetricsRegistry.getInstance().operation("RegistrarService.getGPADistributionByProgram");
+    private static final OperationMetric OP_GET_SEMESTER_COURSE_OFFERINGS =
+        MetricsRegistry.getInstance().operation("RegistrarService.getSemesterCourseOfferings");
+    private static final OperationMetric OP_CREATE_SEMESTER =
+        MetricsRegistry.getInstance().operation("RegistrarService.createSemester");
+    private static final OperationMetric OP_GET_TOTAL_ENROLLMENT =
+        MetricsRegistry.getInstance().operation("RegistrarService.getTotalEnrollment");
+    private static final OperationMetric OP_GET_ENROLLMENT_STATISTICS =
+        MetricsRegistry.getInstance().operation("RegistrarService.getEnrollmentStatistics");
+    
     private UniversityDirectory directory;
+    private WaitlistService waitlistService;
+    private MutationJournal journal;
     
     public RegistrarService() {
         this.directory = UniversityDirectory.getInstance();
+        this.waitlistService = new WaitlistService();
+        this.journal = MutationJournal.getInstance();
     }
     
     // ========== COURSE OFFERING MANAGEMENT ==========
@@ -25,6 +70,13 @@ public class RegistrarService {
     public CourseOffering createCourseOffering(Course course, Semester semester, 
                                               Faculty instructor, String schedule, 
                                               String roomLocation, int maxCapacity) {
+        return OP_CREATE_COURSE_OFFERING.time(() -> doCreateCourseOffering(course, semester, instructor,
+            schedule, roomLocation, maxCapacity));
+    }
+    
+    private CourseOffering doCreateCourseOffering(Course course, Semester semester, 
+                                                 Faculty instructor, String schedule, 
+                                                 String roomLocation, int maxCapacity) {
         // Validation
         if (course == null) {
             throw new IllegalArgumentException("Course cannot be null");
@@ -54,6 +106,8 @@ public class RegistrarService {
         
         // Add to faculty's courses
         instructor.addCourse(offering);
+        journal.append(MutationJournal.CREATE_OFFERING, offeringId, course.getCourseId(),
+            semester.getSemesterId(), instructor.getUniversityId(), schedule, roomLocation, maxCapacity);
         
         return offering;
     }
@@ -63,6 +117,12 @@ public class RegistrarService {
      */
     public boolean updateCourseOffering(CourseOffering offering, Faculty instructor, 
                                        int maxCapacity, String schedule, String roomLocation) {
+        return OP_UPDATE_COURSE_OFFERING.time(() -> doUpdateCourseOffering(offering, instructor,
+            maxCapacity, schedule, roomLocation));
+    }
+    
+    private boolean doUpdateCourseOffering(CourseOffering offering, Faculty instructor, 
+                                          int maxCapacity, String schedule, String roomLocation) {
         if (offering == null) {
             return false;
         }
@@ -83,6 +143,7 @@ public class RegistrarService {
         // Update capacity (only if greater than current enrollment)
         if (maxCapacity > 0 && maxCapacity >= offering.getCurrentEnrollment()) {
             offering.setMaxCapacity(maxCapacity);
+            waitlistService.promoteFromWaitlist(offering); // Added seats go to the waitlist first
         }
         
         // Update schedule and room
@@ -100,6 +161,10 @@ public class RegistrarService {
      * Delete a course offering (only if no students enrolled)
      */
     public boolean deleteCourseOffering(CourseOffering offering) {
+        return OP_DELETE_COURSE_OFFERING.time(() -> doDeleteCourseOffering(offering));
+    }
+    
+    private boolean doDeleteCourseOffering(CourseOffering offering) {
         if (offering == null) {
             return false;
         }
@@ -116,7 +181,7 @@ public class RegistrarService {
         }
         
         // Remove from directory
-        directory.getCourseOfferings().remove(offering);
+        directory.removeCourseOffering(offering);
         
         return true;
     }
@@ -127,94 +192,276 @@ public class RegistrarService {
      * Enroll a student into a course offering (admin/registrar side)
      */
     public Enrollment enrollStudent(Student student, CourseOffering offering) {
-        // Validation
-        if (student == null || offering == null) {
-            throw new IllegalArgumentException("Student and course offering cannot be null");
-        }
-        
-        // Check if course has available seats
-        if (!offering.hasAvailableSeats()) {
-            throw new IllegalArgumentException("Course is full");
-        }
-        
-        // Check if student is already enrolled
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getCourseOffering().equals(offering) && e.isActive()) {
-                throw new IllegalArgumentException("Student is already enrolled in this course");
+        return OP_ENROLL_STUDENT.time(() -> doEnrollStudent(student, offering));
+    }
+    
+    private Enrollment doEnrollStudent(Student student, CourseOffering offering) {
+        DomainEvents.EnrollmentEvent event = new DomainEvents.EnrollmentEvent();
+        event.begin();
+        String result = null;
+        try {
+            // Validation
+            if (student == null || offering == null) {
+                throw new IllegalArgumentException("Student and course offering cannot be null");
             }
+            
+            // Claim a seat up front; the CAS never oversells the offering
+            if (!offering.reserveSeat()) {
+                throw new IllegalArgumentException("Course is full");
+            }
+            
+            boolean committed = false;
+            ReentrantLock lock = student.getRegistrationLock();
+            lock.lock();
+            try {
+                // Check if student is already enrolled
+                if (student.isActivelyEnrolled(offering)) {
+                    throw new IllegalArgumentException("Student is already enrolled in this course");
+                }
+                
+                // Check credit hour limit (max 8 credits per semester)
+                int currentCredits = student.getCurrentSemesterCredits(offering.getSemester());
+                int courseCredits = offering.getCourse().getCreditHours();
+                
+                if (currentCredits + courseCredits > 8) {
+                    throw new IllegalArgumentException(
+                        "Student cannot exceed 8 credit hours per semester. Current: " + currentCredits
+                    );
+                }
+                
+                // Journal first: if the write is rejected nothing has changed yet
+                // and the reserved seat is released below
+                String enrollmentId = directory.generateEnrollmentId();
+                journal.append(MutationJournal.ENROLL, enrollmentId,
+                    student.getUniversityId(), offering.getOfferingId());
+                
+                // Create and add enrollment
+                Enrollment enrollment = new Enrollment(enrollmentId, student, offering);
+                directory.addEnrollment(enrollment);
+                student.addEnrollment(enrollment); // This now adds tuition to balance automatically
+                offering.commitSeat(enrollment);
+                committed = true;
+                
+                result = "enrolled";
+                return enrollment;
+            } finally {
+                lock.unlock();
+                if (!committed) {
+                    offering.releaseSeat();
+                }
+            }
+        } finally {
+            event.finish(student, offering, result);
         }
-        
-        // Check credit hour limit (max 8 credits per semester)
-        int currentCredits = student.getCurrentSemesterCredits(offering.getSemester());
-        int courseCredits = offering.getCourse().getCreditHours();
-        
-        if (currentCredits + courseCredits > 8) {
-            throw new IllegalArgumentException(
-                "Student cannot exceed 8 credit hours per semester. Current: " + currentCredits
-            );
+    }
+    
+    /**
+     * Enroll a batch of students (e.g., block-registering a cohort)
+     * Seats are reserved once per offering and each student's credit limit is
+     * checked in a single pass, so the batch runs in time linear in its size.
+     * Each row is registered as it is committed; a row the journal refuses is
+     * rejected on its own. Returns one result per request, in request order.
+     */
+    public ArrayList<EnrollmentResult> enrollStudents(Collection<EnrollmentRequest> requests) {
+        return OP_ENROLL_STUDENTS.time(() -> doEnrollStudents(requests));
+    }
+    
+    private ArrayList<EnrollmentResult> doEnrollStudents(Collection<EnrollmentRequest> requests) {
+        DomainEvents.EnrollmentEvent event = new DomainEvents.EnrollmentEvent();
+        event.begin();
+        String result = null;
+        try {
+            if (requests == null) {
+                throw new IllegalArgumentException("Enrollment requests cannot be null");
+            }
+            
+            ArrayList<EnrollmentRequest> batch = new ArrayList<>(requests);
+            EnrollmentResult[] results = new EnrollmentResult[batch.size()];
+            
+            // 1. Group requests by offering, rejecting bad and duplicate rows
+            LinkedHashMap<CourseOffering, ArrayList<Integer>> byOffering = new LinkedHashMap<>();
+            HashMap<CourseOffering, HashSet<Student>> seen = new HashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                EnrollmentRequest request = batch.get(i);
+                if (request == null || request.getStudent() == null || request.getOffering() == null) {
+                    results[i] = new EnrollmentResult(request, null, "Student and course offering cannot be null");
+                } else if (!seen.computeIfAbsent(request.getOffering(), o -> new HashSet<>()).add(request.getStudent())) {
+                    results[i] = new EnrollmentResult(request, null, "Duplicate request in batch");
+                } else {
+                    byOffering.computeIfAbsent(request.getOffering(), o -> new ArrayList<>()).add(i);
+                }
+            }
+            
+            // 2. Reserve seats in one step per offering; first come, first served
+            LinkedHashMap<Student, ArrayList<Integer>> byStudent = new LinkedHashMap<>();
+            HashMap<CourseOffering, Integer> uncommitted = new HashMap<>(); // reserved seats not yet taken
+            try {
+                for (Map.Entry<CourseOffering, ArrayList<Integer>> group : byOffering.entrySet()) {
+                    ArrayList<Integer> rows = group.getValue();
+                    int granted = group.getKey().reserveSeats(rows.size());
+                    uncommitted.put(group.getKey(), granted);
+                    for (int r = 0; r < rows.size(); r++) {
+                        int i = rows.get(r);
+                        if (r < granted) {
+                            byStudent.computeIfAbsent(batch.get(i).getStudent(), s -> new ArrayList<>()).add(i);
+                        } else {
+                            results[i] = new EnrollmentResult(batch.get(i), null, "Course is full");
+                        }
+                    }
+                }
+                
+                // 3. One locked pass per student over that student's rows; each row
+                // is journaled, then registered everywhere under the lock, so a
+                // concurrent drop or snapshot always sees it whole
+                long journalSeq = 0;
+                ArrayList<Integer> enrolledRows = new ArrayList<>();
+                for (Map.Entry<Student, ArrayList<Integer>> group : byStudent.entrySet()) {
+                    Student student = group.getKey();
+                    ReentrantLock lock = student.getRegistrationLock();
+                    lock.lock();
+                    try {
+                        for (int i : group.getValue()) {
+                            EnrollmentRequest request = batch.get(i);
+                            CourseOffering offering = request.getOffering();
+                            String rejection = null;
+                            
+                            if (student.isActivelyEnrolled(offering)) {
+                                rejection = "Student is already enrolled in this course";
+                            } else {
+                                int currentCredits = student.getCurrentSemesterCredits(offering.getSemester());
+                                if (currentCredits + offering.getCourse().getCreditHours() > 8) {
+                                    rejection = "Student cannot exceed 8 credit hours per semester. Current: " + currentCredits;
+                                }
+                            }
+                            
+                            if (rejection != null) {
+                                results[i] = new EnrollmentResult(request, null, rejection);
+                                continue;
+                            }
+                            
+                            // Journal first; a rejected write rejects this row only
+                            String enrollmentId = directory.generateEnrollmentId();
+                            try {
+                                journalSeq = journal.appendAsync(MutationJournal.ENROLL, enrollmentId,
+                                    student.getUniversityId(), offering.getOfferingId());
+                            } catch (IllegalStateException e) {
+                                results[i] = new EnrollmentResult(request, null, e.getMessage());
+                                continue;
+                            }
+                            
+                            Enrollment enrollment = new Enrollment(enrollmentId, student, offering);
+                            directory.addEnrollment(enrollment);
+                            student.addEnrollment(enrollment); // Updates credit totals for the next row
+                            offering.commitSeat(enrollment);
+                            uncommitted.merge(offering, -1, Integer::sum);
+                            enrolledRows.add(i);
+                            results[i] = new EnrollmentResult(request, enrollment, "Enrolled");
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+                
+                // One wait covers the whole batch; the journal commits it in few fsyncs.
+                // The enrollments are already in place, so a failed write is reported
+                // on their rows; the next checkpoint saves them.
+                try {
+                    journal.awaitDurable(journalSeq);
+                } catch (IllegalStateException e) {
+                    for (int i : enrolledRows) {
+                        results[i] = new EnrollmentResult(batch.get(i), results[i].getEnrollment(),
+                            "Enrolled, but not yet saved: " + e.getMessage());
+                    }
+                }
+                result = "batch: " + enrolledRows.size() + " of " + batch.size() + " enrolled";
+                
+                return new ArrayList<>(Arrays.asList(results));
+            } finally {
+                // Give back the seats of rejected rows, or of every row not reached on failure
+                for (Map.Entry<CourseOffering, Integer> group : uncommitted.entrySet()) {
+                    if (group.getValue() > 0) {
+                        group.getKey().releaseSeats(group.getValue());
+                    }
+                }
+            }
+        } finally {
+            event.finish(null, null, result);
         }
-        
-        // Create enrollment
-        String enrollmentId = directory.generateEnrollmentId();
-        Enrollment enrollment = new Enrollment(enrollmentId, student, offering);
-        
-        // Add enrollment
-        directory.addEnrollment(enrollment);
-        student.addEnrollment(enrollment); // This now adds tuition to balance automatically
-        offering.addEnrollment(enrollment);
-        
-        return enrollment;
     }
     
     /**
      * Drop a student from a course
      */
     public boolean dropStudent(Student student, CourseOffering offering) {
-        if (student == null || offering == null) {
-            return false;
-        }
-        
-        // Find enrollment
-        Enrollment enrollment = null;
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getCourseOffering().equals(offering) && e.isActive()) {
-                enrollment = e;
-                break;
+        return OP_DROP_STUDENT.time(() -> doDropStudent(student, offering));
+    }
+    
+    private boolean doDropStudent(Student student, CourseOffering offering) {
+        DomainEvents.DropEvent event = new DomainEvents.DropEvent();
+        event.begin();
+        String result = null;
+        try {
+            if (student == null || offering == null) {
+                result = "rejected";
+                return false;
             }
-        }
-        
-        if (enrollment == null) {
-            return false;
-        }
-        
-        // Mark as inactive
-        enrollment.setActive(false);
-        enrollment.setDropDate(LocalDate.now());
-        
-        // Remove from offering
-        offering.removeEnrollment(enrollment);
-        
-        // Refund tuition if paid
-        if (enrollment.isPaid()) {
-            student.refundEnrollment(enrollment);
             
-            // Create refund payment record
-            String paymentId = directory.generatePaymentId();
-            TuitionPayment refund = new TuitionPayment(
-                paymentId,
-                student,
-                enrollment,
-                enrollment.getTuitionAmount()
-            );
-            refund.setDescription("Refund for dropping " + offering.getCourse().getCourseId());
-            refund.setAmount(-enrollment.getTuitionAmount()); // Negative for refund
-            student.addPayment(refund);
-        } else {
-            // Just remove the tuition charge
-            student.setAccountBalance(student.getAccountBalance() - enrollment.getTuitionAmount());
+            // Serialize with other enroll/drop calls for this student
+            ReentrantLock lock = student.getRegistrationLock();
+            lock.lock();
+            try {
+                // Find enrollment
+                Enrollment enrollment = student.getActiveEnrollment(offering);
+                
+                if (enrollment == null) {
+                    result = "not enrolled";
+                    return false;
+                }
+                
+                // Journal first: if the write is rejected the enrollment stays as it was
+                LocalDate dropDate = LocalDate.now();
+                String refundId = enrollment.isPaid() ? directory.generatePaymentId() : null;
+                journal.append(MutationJournal.DROP, enrollment.getEnrollmentId(),
+                    student.getUniversityId(), dropDate, refundId);
+                
+                // Mark as inactive
+                enrollment.setActive(false);
+                enrollment.setDropDate(dropDate);
+                
+                // Remove from offering
+                offering.removeEnrollment(enrollment);
+                
+                // Refund tuition if paid
+                if (refundId != null) {
+                    student.refundEnrollment(enrollment);
+                    
+                    // Create refund payment record
+                    TuitionPayment refund = new TuitionPayment(
+                        refundId,
+                        student,
+                        enrollment,
+                        enrollment.getTuitionAmount()
+                    );
+                    refund.setDescription("Refund for dropping " + offering.getCourse().getCourseId());
+                    refund.setAmount(-enrollment.getTuitionAmount()); // Negative for refund
+                    student.addPayment(refund);
+                } else {
+                    // Just remove the tuition charge
+                    student.setAccountBalance(student.getAccountBalance() - enrollment.getTuitionAmount());
+                }
+            } finally {
+                lock.unlock();
+            }
+            
+            // Hand the freed seat to the waitlist outside this student's lock, and
+            // give the student back any places the credit limit blocked
+            waitlistService.promoteFromWaitlist(offering);
+            waitlistService.creditsFreed(student, offering.getSemester());
+            result = "dropped";
+            return true;
+        } finally {
+            event.finish(student, offering, result);
         }
-        
-        return true;
     }
     
     // ========== TUITION & FINANCIAL RECONCILIATION ==========
@@ -223,6 +470,10 @@ public class RegistrarService {
      * Get tuition payment status for all students
      */
     public ArrayList<HashMap<String, Object>> getTuitionPaymentStatus() {
+        return OP_GET_TUITION_PAYMENT_STATUS.time(() -> doGetTuitionPaymentStatus());
+    }
+    
+    private ArrayList<HashMap<String, Object>> doGetTuitionPaymentStatus() {
         ArrayList<HashMap<String, Object>> statusList = new ArrayList<>();
         
         for (Student student : directory.getStudents()) {
@@ -241,6 +492,10 @@ public class RegistrarService {
      * Generate financial report for a semester
      */
     public HashMap<String, Object> generateFinancialReport(Semester semester) {
+        return OP_GENERATE_FINANCIAL_REPORT.time(() -> doGenerateFinancialReport(semester));
+    }
+    
+    private HashMap<String, Object> doGenerateFinancialReport(Semester semester) {
         HashMap<String, Object> report = new HashMap<>();
         
         if (semester == null) {
@@ -281,6 +536,10 @@ public class RegistrarService {
      * Get students with unpaid tuition
      */
     public ArrayList<Student> getStudentsWithUnpaidTuition() {
+        return OP_GET_STUDENTS_WITH_UNPAID_TUITION.time(() -> doGetStudentsWithUnpaidTuition());
+    }
+    
+    private ArrayList<Student> doGetStudentsWithUnpaidTuition() {
         ArrayList<Student> unpaidStudents = new ArrayList<>();
         
         for (Student student : directory.getStudents()) {
@@ -298,6 +557,10 @@ public class RegistrarService {
      * Generate enrollment report by department
      */
     public HashMap<String, Integer> getEnrollmentByDepartment() {
+        return OP_GET_ENROLLMENT_BY_DEPARTMENT.time(() -> doGetEnrollmentByDepartment());
+    }
+    
+    private HashMap<String, Integer> doGetEnrollmentByDepartment() {
         HashMap<String, Integer> enrollmentCount = new HashMap<>();
         
         for (Department dept : directory.getDepartments()) {
@@ -321,6 +584,10 @@ public class RegistrarService {
      * Generate enrollment report by course
      */
     public HashMap<String, Integer> getEnrollmentByCourse(Semester semester) {
+        return OP_GET_ENROLLMENT_BY_COURSE.time(() -> doGetEnrollmentByCourse(semester));
+    }
+    
+    private HashMap<String, Integer> doGetEnrollmentByCourse(Semester semester) {
         HashMap<String, Integer> enrollmentCount = new HashMap<>();
         
         for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
@@ -335,6 +602,10 @@ public class RegistrarService {
      * Calculate GPA distribution by program
      */
     public HashMap<String, ArrayList<Double>> getGPADistributionByProgram() {
+        return OP_GET_GPA_DISTRIBUTION_BY_PROGRAM.time(() -> doGetGPADistributionByProgram());
+    }
+    
+    private HashMap<String, ArrayList<Double>> doGetGPADistributionByProgram() {
         HashMap<String, ArrayList<Double>> distribution = new HashMap<>();
         
         for (Student student : directory.getStudents()) {
@@ -353,7 +624,11 @@ public class RegistrarService {
     /**
      * Get all course offerings for a semester
      */
-    public ArrayList<CourseOffering> getSemesterCourseOfferings(Semester semester) {
+    public List<CourseOffering> getSemesterCourseOfferings(Semester semester) {
+        return OP_GET_SEMESTER_COURSE_OFFERINGS.time(() -> doGetSemesterCourseOfferings(semester));
+    }
+    
+    private List<CourseOffering> doGetSemesterCourseOfferings(Semester semester) {
         if (semester == null) {
             return new ArrayList<>();
         }
@@ -365,6 +640,10 @@ public class RegistrarService {
      * Create a new semester
      */
     public Semester createSemester(String term, int year, LocalDate startDate, LocalDate endDate) {
+        return OP_CREATE_SEMESTER.time(() -> doCreateSemester(term, year, startDate, endDate));
+    }
+    
+    private Semester doCreateSemester(String term, int year, LocalDate startDate, LocalDate endDate) {
         // Validation
         if (term == null || term.trim().isEmpty()) {
             throw new IllegalArgumentException("Term cannot be empty");
@@ -384,6 +663,7 @@ public class RegistrarService {
         
         // Add to directory
         directory.addSemester(semester);
+        journal.append(MutationJournal.CREATE_SEMESTER, semesterId, term, year, startDate, endDate);
         
         return semester;
     }
@@ -392,6 +672,10 @@ public class RegistrarService {
      * Get total enrollment across all courses
      */
     public int getTotalEnrollment() {
+        return OP_GET_TOTAL_ENROLLMENT.time(() -> doGetTotalEnrollment());
+    }
+    
+    private int doGetTotalEnrollment() {
         return directory.getEnrollments().size();
     }
     
@@ -399,6 +683,10 @@ public class RegistrarService {
      * Get enrollment statistics
      */
     public HashMap<String, Object> getEnrollmentStatistics(Semester semester) {
+        return OP_GET_ENROLLMENT_STATISTICS.time(() -> doGetEnrollmentStatistics(semester));
+    }
+    
+    private HashMap<String, Object> doGetEnrollmentStatistics(Semester semester) {
         HashMap<String, Object> stats = new HashMap<>();
         
         if (semester == null) {
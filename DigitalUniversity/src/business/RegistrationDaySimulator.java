@@ -0,0 +1,544 @@
+package business;
+
+import model.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * RegistrationDaySimulator - Headless load test of the opening of registration
+ *
+ * Opens a new term with a set of fresh sections, then releases every
+ * simulated student at once. Each student is a thread of its own (virtual
+ * where the JVM has them) that browses the open sections, tries to enroll
+ * (mostly in a few hot sections), and sometimes pays or drops, with random
+ * think time between steps. The
+ * result reports throughput, latency percentiles per operation, rejections
+ * by reason, oversold seats, and lock contention as seen by Flight Recorder.
+ *
+ * Usage: java -cp build/classes business.RegistrationDaySimulator [key=value ...]
+ * Keys: university, students, sections, capacity, hot, skew, attempts, think, pay, drop, seed
+ * Author: [Your Name]
+ */
+public class RegistrationDaySimulator {
+
+    private static final String BROWSE = "getAvailableCourses";
+    private static final String ENROLL = "enrollInCourse";
+    private static final String PAY = "payForCourse";
+    private static final String DROP = "dropCourse";
+
+    private UniversityDirectory directory;
+    private StudentService studentService;
+    private RegistrarService registrarService;
+
+    private long seed;
+    private int studentCount = 2000;
+    private int sectionCount = 40;
+    private int sectionCapacity = 30;
+    private int hotSectionCount = 4;
+    private double hotSkew = 0.7;
+    private int attemptsPerStudent = 3;
+    private int meanThinkMillis = 20;
+    private double payProbability = 0.5;
+    private double dropProbability = 0.1;
+    private boolean measureLockContention = true;
+
+    public RegistrationDaySimulator(long seed) {
+        this.directory = UniversityDirectory.getInstance();
+        this.studentService = new StudentService();
+        this.registrarService = new RegistrarService();
+        this.seed = seed;
+    }
+
+    // ========== SETTINGS ==========
+
+    public void setStudentCount(int studentCount) {
+        this.studentCount = requirePositive(studentCount, "Student count");
+    }
+
+    public void setSectionCount(int sectionCount) {
+        this.sectionCount = requirePositive(sectionCount, "Section count");
+    }
+
+    public void setSectionCapacity(int sectionCapacity) {
+        this.sectionCapacity = requirePositive(sectionCapacity, "Section capacity");
+    }
+
+    public void setHotSectionCount(int hotSectionCount) {
+        this.hotSectionCount = requirePositive(hotSectionCount, "Hot section count");
+    }
+
+    /**
+     * Fraction of enrollment attempts aimed at the hot sections
+     */
+    public void setHotSkew(double hotSkew) {
+        this.hotSkew = requireProbability(hotSkew, "Hot skew");
+    }
+
+    public void setAttemptsPerStudent(int attemptsPerStudent) {
+        this.attemptsPerStudent = requirePositive(attemptsPerStudent, "Attempts per student");
+    }
+
+    /**
+     * Mean of the exponentially distributed pause between a student's steps; 0 for none
+     */
+    public void setMeanThinkMillis(int meanThinkMillis) {
+        if (meanThinkMillis < 0) {
+            throw new IllegalArgumentException("Think time cannot be negative");
+        }
+        this.meanThinkMillis = meanThinkMillis;
+    }
+
+    public void setPayProbability(double payProbability) {
+        this.payProbability = requireProbability(payProbability, "Pay probability");
+    }
+
+    public void setDropProbability(double dropProbability) {
+        this.dropProbability = requireProbability(dropProbability, "Drop probability");
+    }
+
+    public void setMeasureLockContention(boolean measureLockContention) {
+        this.measureLockContention = measureLockContention;
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        }
+        return value;
+    }
+
+    private static double requireProbability(double value, String name) {
+        if (value < 0 || value > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1");
+        }
+        return value;
+    }
+
+    // ========== SIMULATION ==========
+
+    /**
+     * Open a new term and run registration day against the current directory
+     */
+    public Result run() throws InterruptedException {
+        ArrayList<Student> students = new ArrayList<>(directory.getStudents());
+        if (students.size() < studentCount) {
+            throw new IllegalArgumentException("Directory has only " + students.size()
+                + " students; " + studentCount + " requested");
+        }
+        if (hotSectionCount > sectionCount) {
+            throw new IllegalArgumentException("Hot sections cannot outnumber sections");
+        }
+        Collections.shuffle(students, new java.util.Random(seed));
+
+        Semester term = openTerm();
+        ArrayList<CourseOffering> sections = new ArrayList<>(directory.getCourseOfferingsBySemester(term));
+        List<CourseOffering> hotSections = sections.subList(0, hotSectionCount);
+
+        Result result = new Result(term, sections);
+        CountDownLatch gate = new CountDownLatch(1);
+        ThreadFactory factory = studentThreads(result);
+        ArrayList<Thread> threads = new ArrayList<>(studentCount);
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < studentCount; i++) {
+            Student student = students.get(i);
+            SplittableRandom random = root.split();
+            threads.add(factory.newThread(() -> {
+                try {
+                    gate.await();
+                    simulateStudent(student, term, sections, hotSections, random, result);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    result.reject("unexpected", e.getClass().getSimpleName());
+                }
+            }));
+        }
+
+        Recording recording = measureLockContention ? startContentionRecording() : null;
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long start = System.nanoTime();
+        gate.countDown(); // Registration opens
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        if (recording != null) {
+            result.readContention(recording);
+        }
+        result.countSeats();
+        return result;
+    }
+
+    /**
+     * Create a term after every existing one with fresh, empty sections
+     */
+    private Semester openTerm() {
+        int year = LocalDate.now().getYear();
+        for (Semester semester : directory.getSemesters()) {
+            year = Math.max(year, semester.getYear() + 1);
+        }
+        Semester term = registrarService.createSemester("Fall", year,
+            LocalDate.of(year, 9, 1), LocalDate.of(year, 12, 15));
+
+        ArrayList<Course> courses = directory.getCourses();
+        ArrayList<Faculty> faculties = directory.getFaculties();
+        if (courses.isEmpty() || faculties.isEmpty()) {
+            throw new IllegalArgumentException("Directory needs courses and faculty to open a term");
+        }
+        for (int i = 0; i < sectionCount; i++) {
+            registrarService.createCourseOffering(courses.get(i % courses.size()), term,
+                faculties.get(i % faculties.size()), "TBA", "Room " + (100 + i), sectionCapacity);
+        }
+        return term;
+    }
+
+    private void simulateStudent(Student student, Semester term, List<CourseOffering> sections,
+                                 List<CourseOffering> hotSections, SplittableRandom random,
+                                 Result result) throws InterruptedException {
+        for (int attempt = 0; attempt < attemptsPerStudent; attempt++) {
+            think(random);
+            long start = System.nanoTime();
+            studentService.getAvailableCourses(term);
+            result.record(BROWSE, start);
+
+            // Students aim for the popular sections whether or not they still look open
+            CourseOffering target = random.nextDouble() < hotSkew
+                ? hotSections.get(random.nextInt(hotSections.size()))
+                : sections.get(random.nextInt(sections.size()));
+            think(random);
+            Enrollment enrollment = null;
+            start = System.nanoTime();
+            try {
+                enrollment = studentService.enrollInCourse(student, target);
+            } catch (IllegalArgumentException e) {
+                result.reject(ENROLL, e.getMessage());
+            } finally {
+                result.record(ENROLL, start);
+            }
+            if (enrollment == null) {
+                continue;
+            }
+
+            if (random.nextDouble() < payProbability) {
+                think(random);
+                start = System.nanoTime();
+                try {
+                    studentService.payForCourse(student, enrollment);
+                } catch (IllegalArgumentException e) {
+                    result.reject(PAY, e.getMessage());
+                } finally {
+                    result.record(PAY, start);
+                }
+            }
+            if (random.nextDouble() < dropProbability) {
+                think(random);
+                start = System.nanoTime();
+                try {
+                    studentService.dropCourse(student, enrollment);
+                } catch (IllegalArgumentException e) {
+                    result.reject(DROP, e.getMessage());
+                } finally {
+                    result.record(DROP, start);
+                }
+            }
+        }
+    }
+
+    private void think(SplittableRandom random) throws InterruptedException {
+        if (meanThinkMillis > 0) {
+            // Exponential pauses give the bursty arrivals of real users
+            long pause = (long) (-Math.log(1.0 - random.nextDouble()) * meanThinkMillis);
+            Thread.sleep(pause);
+        }
+    }
+
+    /**
+     * Virtual threads where the running JVM offers them, else daemon platform threads
+     * Looked up reflectively so the simulator still compiles and runs on Java
+     * 17, and on 19 and 20 without --enable-preview, where they are missing or
+     * refuse to start.
+     */
+    private static ThreadFactory studentThreads(Result result) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = Class.forName("java.lang.Thread$Builder$OfVirtual")
+                .getMethod("name", String.class, long.class).invoke(builder, "student-", 0L);
+            ThreadFactory factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                .getMethod("factory").invoke(builder);
+            result.virtualThreads = true;
+            return factory;
+        } catch (ReflectiveOperationException e) {
+            return runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    private static Recording startContentionRecording() {
+        try {
+            Recording recording = new Recording();
+            recording.enable("jdk.ThreadPark").withThreshold(Duration.ZERO).withoutStackTrace();
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ZERO).withoutStackTrace();
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withoutStackTrace();
+            recording.start();
+            return recording;
+        } catch (RuntimeException e) {
+            System.err.println("Lock contention not measured: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ========== RESULT ==========
+
+    /**
+     * Outcome of one simulated registration day
+     */
+    public static class Result {
+
+        private final Semester term;
+        private final List<CourseOffering> sections;
+        private final ConcurrentHashMap<String, LatencyHistogram> latency = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, LongAdder> rejections = new ConcurrentHashMap<>();
+        private final TreeMap<String, long[]> contention = new TreeMap<>(); // name -> {count, nanos, max}
+        private long elapsedNanos;
+        private boolean virtualThreads;
+        private boolean contentionMeasured;
+        private int seatsTaken;
+        private int oversoldSeats;
+        private int seatCountMismatches;
+
+        private Result(Semester term, List<CourseOffering> sections) {
+            this.term = term;
+            this.sections = sections;
+        }
+
+        private void record(String operation, long startNanos) {
+            latency.computeIfAbsent(operation, k -> new LatencyHistogram())
+                .record(System.nanoTime() - startNanos);
+        }
+
+        private void reject(String operation, String message) {
+            // "Cannot exceed 8 credit hours per semester. Current: 6" -> one bucket per rule
+            String reason = message == null ? "no message" : message;
+            int detail = reason.indexOf(". ");
+            if (detail > 0) {
+                reason = reason.substring(0, detail);
+            }
+            rejections.computeIfAbsent(operation + ": " + reason, k -> new LongAdder()).increment();
+        }
+
+        /**
+         * Compare each section's seat counter with its active enrollments
+         */
+        private void countSeats() {
+            for (CourseOffering section : sections) {
+                int active = 0;
+                for (Enrollment enrollment : section.getEnrollments()) {
+                    if (enrollment.isActive()) {
+                        active++;
+                    }
+                }
+                seatsTaken += active;
+                oversoldSeats += Math.max(0, active - section.getMaxCapacity());
+                if (active != section.getCurrentEnrollment()) {
+                    seatCountMismatches++;
+                }
+            }
+        }
+
+        /**
+         * Total lock waits by lock class, and virtual threads pinned to their carrier
+         */
+        private void readContention(Recording recording) {
+            Path file = null;
+            try {
+                recording.stop();
+                file = Files.createTempFile("registration-day", ".jfr");
+                recording.dump(file);
+                try (RecordingFile events = new RecordingFile(file)) {
+                    while (events.hasMoreEvents()) {
+                        addContention(events.readEvent());
+                    }
+                }
+                contentionMeasured = true;
+            } catch (IOException e) {
+                System.err.println("Lock contention not measured: " + e.getMessage());
+            } finally {
+                recording.close();
+                if (file != null) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        // Temporary file; nothing else to do
+                    }
+                }
+            }
+        }
+
+        private void addContention(RecordedEvent event) {
+            String type = event.getEventType().getName();
+            String name;
+            if (type.equals("jdk.ThreadPark")) {
+                // Only lock waits; idle pool workers, sleeps and the start gate also park
+                if (event.getClass("parkedClass") == null
+                    || !event.getClass("parkedClass").getName().contains("Lock")) {
+                    return;
+                }
+                name = "lock " + event.getClass("parkedClass").getName();
+            } else if (type.equals("jdk.JavaMonitorEnter")) {
+                name = "monitor " + event.getClass("monitorClass").getName();
+                if (name.startsWith("monitor jdk.jfr.")) {
+                    return; // The recorder itself
+                }
+            } else if (type.equals("jdk.VirtualThreadPinned")) {
+                name = "virtual thread pinned";
+            } else {
+                return;
+            }
+            long nanos = event.getDuration().toNanos();
+            long[] totals = contention.computeIfAbsent(name, k -> new long[3]);
+            totals[0]++;
+            totals[1] += nanos;
+            totals[2] = Math.max(totals[2], nanos);
+        }
+
+        public double getElapsedSeconds() {
+            return elapsedNanos / 1e9;
+        }
+
+        public long getOperationCount() {
+            long total = 0;
+            for (LatencyHistogram histogram : latency.values()) {
+                total += histogram.getCount();
+            }
+            return total;
+        }
+
+        public double getThroughput() {
+            return getOperationCount() / Math.max(1e-9, getElapsedSeconds());
+        }
+
+        public LatencyHistogram getLatency(String operation) {
+            return latency.get(operation);
+        }
+
+        public HashMap<String, Long> getRejections() {
+            HashMap<String, Long> counts = new HashMap<>();
+            for (Map.Entry<String, LongAdder> entry : rejections.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().sum());
+            }
+            return counts;
+        }
+
+        public int getSeatsTaken() {
+            return seatsTaken;
+        }
+
+        public int getOversoldSeats() {
+            return oversoldSeats;
+        }
+
+        public int getSeatCountMismatches() {
+            return seatCountMismatches;
+        }
+
+        /**
+         * Human-readable summary of the run
+         */
+        public String format() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("Registration day for %s: %d sections, %s%n",
+                term.getFullName(), sections.size(),
+                virtualThreads ? "virtual threads" : "platform threads (virtual threads unavailable)"));
+            out.append(String.format("%d operations in %.2f s, %.0f ops/s%n",
+                getOperationCount(), getElapsedSeconds(), getThroughput()));
+
+            out.append(String.format("%n%-22s %8s %10s %10s %10s %10s%n",
+                "operation", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+            for (String operation : new String[]{BROWSE, ENROLL, PAY, DROP}) {
+                LatencyHistogram histogram = latency.get(operation);
+                if (histogram == null) {
+                    continue;
+                }
+                out.append(String.format("%-22s %8d %10.3f %10.3f %10.3f %10.3f%n", operation,
+                    histogram.getCount(), histogram.getValueAtPercentile(50) / 1e6,
+                    histogram.getValueAtPercentile(99) / 1e6,
+                    histogram.getValueAtPercentile(99.9) / 1e6, histogram.getMax() / 1e6));
+            }
+
+            out.append(String.format("%nSeats taken: %d, oversold: %d, sections with a wrong seat count: %d%n",
+                seatsTaken, oversoldSeats, seatCountMismatches));
+
+            out.append(String.format("%nRejected requests%n"));
+            for (Map.Entry<String, Long> entry : new TreeMap<>(getRejections()).entrySet()) {
+                out.append(String.format("  %8d  %s%n", entry.getValue(), entry.getKey()));
+            }
+
+            out.append(String.format("%nLock contention%n"));
+            if (!contentionMeasured) {
+                out.append("  not measured\n");
+            } else if (contention.isEmpty()) {
+                out.append("  none recorded\n");
+            }
+            for (Map.Entry<String, long[]> entry : contention.entrySet()) {
+                long[] totals = entry.getValue();
+                out.append(String.format("  %8d waits %10.3f ms total %8.3f ms max  %s%n",
+                    totals[0], totals[1] / 1e6, totals[2] / 1e6, entry.getKey()));
+            }
+            return out.toString();
+        }
+    }
+
+    // ========== COMMAND LINE ==========
+
+    public static void main(String[] args) throws InterruptedException {
+        HashMap<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            options.put(arg.substring(0, equals), arg.substring(equals + 1));
+        }
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        generator.setStudentCount(Integer.parseInt(options.getOrDefault("university", "10000")));
+        generator.setCreateUserAccounts(false);
+        generator.generate();
+
+        RegistrationDaySimulator simulator = new RegistrationDaySimulator(seed);
+        simulator.setStudentCount(Integer.parseInt(options.getOrDefault("students", "2000")));
+        simulator.setSectionCount(Integer.parseInt(options.getOrDefault("sections", "40")));
+        simulator.setSectionCapacity(Integer.parseInt(options.getOrDefault("capacity", "30")));
+        simulator.setHotSectionCount(Integer.parseInt(options.getOrDefault("hot", "4")));
+        simulator.setHotSkew(Double.parseDouble(options.getOrDefault("skew", "0.7")));
+        simulator.setAttemptsPerStudent(Integer.parseInt(options.getOrDefault("attempts", "3")));
+        simulator.setMeanThinkMillis(Integer.parseInt(options.getOrDefault("think", "20")));
+        simulator.setPayProbability(Double.parseDouble(options.getOrDefault("pay", "0.5")));
+        simulator.setDropProbability(Double.parseDouble(options.getOrDefault("drop", "0.1")));
+
+        System.out.print(simulator.run().format());
+    }
+}
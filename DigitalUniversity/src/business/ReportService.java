@@ -10,6 +10,34 @@ import java.util.HashMap;
  */
 public class ReportService {
     
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_GET_TOTAL_USERS_BY_ROLE =
+        MetricsRegistry.getInstance().operation("ReportService.getTotalUsersByRole");
+    private static final OperationMetric OP_GET_COURSES_PER_SEMESTER =
+        MetricsRegistry.getInstance().operation("ReportService.getCoursesPerSemester");
+    private static final OperationMetric OP_GET_ENROLLMENT_PER_COURSE =
+        MetricsRegistry.getInstance().operation("ReportService.getEnrollmentPerCourse");
+    private static final OperationMetric OP_GET_TUITION_REVENUE_SUMMARY =
+        MetricsRegistry.getInstance().operation("ReportService.getTuitionRevenueSummary");
+    private static final OperationMetric OP_GENERATE_ADMIN_DASHBOARD =
+        MetricsRegistry.getInstance().operation("ReportService.generateAdminDashboard");
+    private static final OperationMetric OP_GENERATE_FACULTY_COURSE_REPORT =
+        MetricsRegistry.getInstance().operation("ReportService.generateFacultyCourseReport");
+    private static final OperationMetric OP_GENERATE_ALL_FACULTY_COURSES_REPORT =
+        MetricsRegistry.getInstance().operation("ReportService.generateAllFacultyCoursesReport");
+    private static final OperationMetric OP_GENERATE_TRANSCRIPT =
+        MetricsRegistry.getInstance().operation("ReportService.generateTranscript");
+    private static final OperationMetric OP_GENERATE_TRANSCRIPT_BY_SEMESTER =
+        MetricsRegistry.getInstance().operation("ReportService.generateTranscriptBySemester");
+    private static final OperationMetric OP_GENERATE_ENROLLMENT_REPORT =
+        MetricsRegistry.getInstance().operation("ReportService.generateEnrollmentReport");
+    private static final OperationMetric OP_GENERATE_GPA_DISTRIBUTION_REPORT =
+        MetricsRegistry.getInstance().operation("ReportService.generateGPADistributionReport");
+    private static final OperationMetric OP_GENERATE_FINANCIAL_SUMMARY =
+        MetricsRegistry.getInstance().operation("ReportService.generateFinancialSummary");
+    private static final OperationMetric OP_GET_STUDENTS_WITH_ACADEMIC_ISSUES =
+        MetricsRegistry.getInstance().operation("ReportService.getStudentsWithAcademicIssues");
+    
     private UniversityDirectory directory;
     
     public ReportService() {
@@ -22,95 +50,140 @@ public class ReportService {
      * Get total active users by role
      */
     public HashMap<String, Integer> getTotalUsersByRole() {
-        HashMap<String, Integer> roleCount = new HashMap<>();
-        
-        roleCount.put("ADMIN", directory.getAdmins().size());
-        roleCount.put("FACULTY", directory.getFaculties().size());
-        roleCount.put("STUDENT", directory.getStudents().size());
-        roleCount.put("REGISTRAR", directory.getRegistrars().size());
-        
-        return roleCount;
+        return OP_GET_TOTAL_USERS_BY_ROLE.time(() -> doGetTotalUsersByRole());
+    }
+    
+    private HashMap<String, Integer> doGetTotalUsersByRole() {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.getTotalUsersByRole");
+        try {
+            HashMap<String, Integer> roleCount = new HashMap<>();
+            
+            roleCount.put("ADMIN", directory.getAdmins().size());
+            roleCount.put("FACULTY", directory.getFaculties().size());
+            roleCount.put("STUDENT", directory.getStudents().size());
+            roleCount.put("REGISTRAR", directory.getRegistrars().size());
+            
+            return event.found(roleCount);
+        } finally {
+            event.finish(null, null);
+        }
     }
     
     /**
      * Get total courses offered per semester
      */
     public HashMap<String, Integer> getCoursesPerSemester() {
-        HashMap<String, Integer> courseCount = new HashMap<>();
-        
-        for (Semester semester : directory.getSemesters()) {
-            int count = directory.getCourseOfferingsBySemester(semester).size();
-            courseCount.put(semester.getFullName(), count);
+        return OP_GET_COURSES_PER_SEMESTER.time(() -> doGetCoursesPerSemester());
+    }
+    
+    private HashMap<String, Integer> doGetCoursesPerSemester() {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.getCoursesPerSemester");
+        try {
+            HashMap<String, Integer> courseCount = new HashMap<>();
+            
+            for (Semester semester : directory.getSemesters()) {
+                int count = directory.getCourseOfferingsBySemester(semester).size();
+                courseCount.put(semester.getFullName(), count);
+            }
+            
+            return event.found(courseCount);
+        } finally {
+            event.finish(null, null);
         }
-        
-        return courseCount;
     }
     
     /**
      * Get total enrolled students per course
      */
     public HashMap<String, Integer> getEnrollmentPerCourse(Semester semester) {
-        HashMap<String, Integer> enrollmentCount = new HashMap<>();
-        
-        for (CourseOffering offering : directory.getCourseOfferingsBySemester(semester)) {
-            String courseName = offering.getCourse().getCourseId();
-            enrollmentCount.put(courseName, offering.getCurrentEnrollment());
+        return OP_GET_ENROLLMENT_PER_COURSE.time(() -> doGetEnrollmentPerCourse(semester));
+    }
+    
+    private HashMap<String, Integer> doGetEnrollmentPerCourse(Semester semester) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.getEnrollmentPerCourse");
+        try {
+            HashMap<String, Integer> enrollmentCount = new HashMap<>();
+            
+            for (CourseOffering offering : directory.getCourseOfferingsBySemester(semester)) {
+                String courseName = offering.getCourse().getCourseId();
+                enrollmentCount.put(courseName, offering.getCurrentEnrollment());
+            }
+            
+            return event.found(enrollmentCount);
+        } finally {
+            event.finish(null, semester);
         }
-        
-        return enrollmentCount;
     }
     
     /**
      * Calculate tuition revenue summary
      */
     public HashMap<String, Object> getTuitionRevenueSummary() {
-        HashMap<String, Object> summary = new HashMap<>();
-        
-        double totalTuitionBilled = 0.0;
-        double totalTuitionPaid = 0.0;
-        double totalOutstanding = 0.0;
-        
-        for (Student student : directory.getStudents()) {
-            double balance = student.getAccountBalance();
-            
-            // Calculate total billed (sum of all enrollment tuitions)
-            for (Enrollment e : student.getEnrollments()) {
-                totalTuitionBilled += e.getTuitionAmount();
-                if (e.isPaid()) {
-                    totalTuitionPaid += e.getTuitionAmount();
+        return OP_GET_TUITION_REVENUE_SUMMARY.time(() -> doGetTuitionRevenueSummary());
+    }
+    
+    private HashMap<String, Object> doGetTuitionRevenueSummary() {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.getTuitionRevenueSummary");
+        try {
+            HashMap<String, Object> summary = new HashMap<>();
+            
+            double totalTuitionBilled = 0.0;
+            double totalTuitionPaid = 0.0;
+            double totalOutstanding = 0.0;
+            
+            for (Student student : directory.getStudents()) {
+                double balance = student.getAccountBalance();
+                
+                // Calculate total billed (sum of all enrollment tuitions)
+                for (Enrollment e : student.getEnrollments()) {
+                    totalTuitionBilled += e.getTuitionAmount();
+                    if (e.isPaid()) {
+                        totalTuitionPaid += e.getTuitionAmount();
+                    }
+                }
+                
+                // Outstanding balance
+                if (balance > 0) {
+                    totalOutstanding += balance;
                 }
             }
             
-            // Outstanding balance
-            if (balance > 0) {
-                totalOutstanding += balance;
-            }
+            summary.put("totalBilled", totalTuitionBilled);
+            summary.put("totalPaid", totalTuitionPaid);
+            summary.put("totalOutstanding", totalOutstanding);
+            summary.put("collectionRate", totalTuitionBilled > 0 ? 
+                (totalTuitionPaid / totalTuitionBilled) * 100 : 0.0);
+            
+            return event.found(summary);
+        } finally {
+            event.finish(null, null);
         }
-        
-        summary.put("totalBilled", totalTuitionBilled);
-        summary.put("totalPaid", totalTuitionPaid);
-        summary.put("totalOutstanding", totalOutstanding);
-        summary.put("collectionRate", totalTuitionBilled > 0 ? 
-            (totalTuitionPaid / totalTuitionBilled) * 100 : 0.0);
-        
-        return summary;
     }
     
     /**
      * Generate comprehensive admin dashboard data
      */
     public HashMap<String, Object> generateAdminDashboard() {
-        HashMap<String, Object> dashboard = new HashMap<>();
-        
-        dashboard.put("usersByRole", getTotalUsersByRole());
-        dashboard.put("totalPersons", directory.getPersons().size());
-        dashboard.put("totalDepartments", directory.getDepartments().size());
-        dashboard.put("totalCourses", directory.getCourses().size());
-        dashboard.put("totalSemesters", directory.getSemesters().size());
-        dashboard.put("totalEnrollments", directory.getEnrollments().size());
-        dashboard.put("tuitionSummary", getTuitionRevenueSummary());
-        
-        return dashboard;
+        return OP_GENERATE_ADMIN_DASHBOARD.time(() -> doGenerateAdminDashboard());
+    }
+    
+    private HashMap<String, Object> doGenerateAdminDashboard() {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateAdminDashboard");
+        try {
+            HashMap<String, Object> dashboard = new HashMap<>();
+            
+            dashboard.put("usersByRole", getTotalUsersByRole());
+            dashboard.put("totalPersons", directory.getPersons().size());
+            dashboard.put("totalDepartments", directory.getDepartments().size());
+            dashboard.put("totalCourses", directory.getCourses().size());
+            dashboard.put("totalSemesters", directory.getSemesters().size());
+            dashboard.put("totalEnrollments", directory.getEnrollments().size());
+            dashboard.put("tuitionSummary", getTuitionRevenueSummary());
+            
+            return event.found(dashboard);
+        } finally {
+            event.finish(null, null);
+        }
     }
     
     // ========== FACULTY PERFORMANCE REPORTS ==========
@@ -119,80 +192,98 @@ public class ReportService {
      * Generate detailed course report for faculty
      */
     public HashMap<String, Object> generateFacultyCourseReport(CourseOffering offering) {
-        HashMap<String, Object> report = new HashMap<>();
-        
-        if (offering == null) {
-            return report;
-        }
-        
-        // Basic course info
-        report.put("courseId", offering.getCourse().getCourseId());
-        report.put("courseTitle", offering.getCourse().getTitle());
-        report.put("semester", offering.getSemester().getFullName());
-        report.put("instructor", offering.getInstructor().getFullName());
-        report.put("schedule", offering.getSchedule());
-        report.put("roomLocation", offering.getRoomLocation());
-        
-        // Enrollment statistics
-        report.put("currentEnrollment", offering.getCurrentEnrollment());
-        report.put("maxCapacity", offering.getMaxCapacity());
-        report.put("availableSeats", offering.getAvailableSeats());
-        report.put("utilizationRate", offering.getMaxCapacity() > 0 ? 
-            ((double) offering.getCurrentEnrollment() / offering.getMaxCapacity()) * 100 : 0.0);
-        
-        // Grade statistics
-        double averageGrade = GradeCalculator.calculateCourseAverage(offering);
-        report.put("averageGrade", averageGrade);
-        
-        // Class GPA
-        double classGPA = 0.0;
-        int gradeCount = 0;
-        for (Enrollment e : offering.getEnrollments()) {
-            if (e.getGrade() != null) {
-                classGPA += e.getGradePoints();
-                gradeCount++;
+        return OP_GENERATE_FACULTY_COURSE_REPORT.time(() -> doGenerateFacultyCourseReport(offering));
+    }
+    
+    private HashMap<String, Object> doGenerateFacultyCourseReport(CourseOffering offering) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateFacultyCourseReport");
+        try {
+            HashMap<String, Object> report = new HashMap<>();
+            
+            if (offering == null) {
+                return event.found(report);
             }
-        }
-        classGPA = gradeCount > 0 ? classGPA / gradeCount : 0.0;
-        report.put("classGPA", classGPA);
-        
-        // Grade distribution
-        HashMap<String, Integer> gradeDistribution = new HashMap<>();
-        for (String grade : GradeCalculator.getAllGrades()) {
-            gradeDistribution.put(grade, 0);
-        }
-        for (Enrollment e : offering.getEnrollments()) {
-            if (e.getGrade() != null) {
-                gradeDistribution.put(e.getGrade(), 
-                    gradeDistribution.getOrDefault(e.getGrade(), 0) + 1);
+            
+            // Basic course info
+            report.put("courseId", offering.getCourse().getCourseId());
+            report.put("courseTitle", offering.getCourse().getTitle());
+            report.put("semester", offering.getSemester().getFullName());
+            report.put("instructor", offering.getInstructor().getFullName());
+            report.put("schedule", offering.getSchedule());
+            report.put("roomLocation", offering.getRoomLocation());
+            
+            // Enrollment statistics
+            report.put("currentEnrollment", offering.getCurrentEnrollment());
+            report.put("maxCapacity", offering.getMaxCapacity());
+            report.put("availableSeats", offering.getAvailableSeats());
+            report.put("utilizationRate", offering.getMaxCapacity() > 0 ? 
+                ((double) offering.getCurrentEnrollment() / offering.getMaxCapacity()) * 100 : 0.0);
+            
+            // Grade statistics
+            double averageGrade = GradeCalculator.calculateCourseAverage(offering);
+            report.put("averageGrade", averageGrade);
+            
+            // Class GPA
+            double classGPA = 0.0;
+            int gradeCount = 0;
+            for (Enrollment e : offering.getEnrollments()) {
+                if (e.getGrade() != null) {
+                    classGPA += e.getGradePoints();
+                    gradeCount++;
+                }
             }
+            classGPA = gradeCount > 0 ? classGPA / gradeCount : 0.0;
+            report.put("classGPA", classGPA);
+            
+            // Grade distribution
+            HashMap<String, Integer> gradeDistribution = new HashMap<>();
+            for (String grade : GradeCalculator.getAllGrades()) {
+                gradeDistribution.put(grade, 0);
+            }
+            for (Enrollment e : offering.getEnrollments()) {
+                if (e.getGrade() != null) {
+                    gradeDistribution.put(e.getGrade(), 
+                        gradeDistribution.getOrDefault(e.getGrade(), 0) + 1);
+                }
+            }
+            report.put("gradeDistribution", gradeDistribution);
+            
+            // Assignment statistics
+            report.put("totalAssignments", offering.getAssignments().size());
+            
+            // Tuition info
+            report.put("tuitionCollected", offering.getTotalTuitionCollected());
+            
+            return event.found(report);
+        } finally {
+            event.finish(offering, null);
         }
-        report.put("gradeDistribution", gradeDistribution);
-        
-        // Assignment statistics
-        report.put("totalAssignments", offering.getAssignments().size());
-        
-        // Tuition info
-        report.put("tuitionCollected", offering.getTotalTuitionCollected());
-        
-        return report;
     }
     
     /**
      * Generate report for all faculty courses
      */
     public ArrayList<HashMap<String, Object>> generateAllFacultyCoursesReport(Faculty faculty) {
-        ArrayList<HashMap<String, Object>> reports = new ArrayList<>();
-        
-        if (faculty == null) {
-            return reports;
-        }
-        
-        for (CourseOffering offering : faculty.getAssignedCourses()) {
-            reports.add(generateFacultyCourseReport(offering));
+        return OP_GENERATE_ALL_FACULTY_COURSES_REPORT.time(() -> doGenerateAllFacultyCoursesReport(faculty));
+    }
+    
+    private ArrayList<HashMap<String, Object>> doGenerateAllFacultyCoursesReport(Faculty faculty) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateAllFacultyCoursesReport");
+        try {
+            ArrayList<HashMap<String, Object>> reports = new ArrayList<>();
+            
+            if (faculty == null) {
+                return event.found(reports);
+            }
+            
+            for (CourseOffering offering : faculty.getAssignedCourses()) {
+                reports.add(generateFacultyCourseReport(offering));
+            }
+            
+            return event.found(reports);
+        } finally {
+            event.finish(null, null);
         }
-        
-        return reports;
     }
     
     // ========== STUDENT TRANSCRIPT REPORTS ==========
@@ -201,58 +292,23 @@ public class ReportService {
      * Generate formatted transcript for student
      */
     public ArrayList<HashMap<String, Object>> generateTranscript(Student student) {
-        ArrayList<HashMap<String, Object>> transcript = new ArrayList<>();
-        
-        if (student == null) {
-            return transcript;
-        }
-        
-        for (Enrollment e : student.getEnrollments()) {
-            HashMap<String, Object> record = new HashMap<>();
-            
-            CourseOffering co = e.getCourseOffering();
-            Semester semester = co.getSemester();
-            
-            record.put("term", semester.getFullName());
-            record.put("courseId", co.getCourse().getCourseId());
-            record.put("courseName", co.getCourse().getTitle());
-            record.put("credits", co.getCourse().getCreditHours());
-            record.put("grade", e.getGrade());
-            record.put("gradePoints", e.getGradePoints());
-            record.put("qualityPoints", e.getQualityPoints());
-            
-            // Calculate term GPA
-            double termGPA = GradeCalculator.calculateTermGPA(student, semester);
-            record.put("termGPA", termGPA);
-            
-            // Overall GPA
-            record.put("overallGPA", student.getOverallGPA());
-            
-            // Academic standing
-            String standing = GradeCalculator.determineAcademicStanding(termGPA, student.getOverallGPA());
-            record.put("academicStanding", standing);
-            
-            transcript.add(record);
-        }
-        
-        return transcript;
+        return OP_GENERATE_TRANSCRIPT.time(() -> doGenerateTranscript(student));
     }
     
-    /**
-     * Generate transcript for specific semester
-     */
-    public ArrayList<HashMap<String, Object>> generateTranscriptBySemester(Student student, Semester semester) {
-        ArrayList<HashMap<String, Object>> transcript = new ArrayList<>();
-        
-        if (student == null || semester == null) {
-            return transcript;
-        }
-        
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getCourseOffering().getSemester().equals(semester)) {
+    private ArrayList<HashMap<String, Object>> doGenerateTranscript(Student student) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateTranscript");
+        try {
+            ArrayList<HashMap<String, Object>> transcript = new ArrayList<>();
+            
+            if (student == null) {
+                return event.found(transcript);
+            }
+            
+            for (Enrollment e : student.getEnrollments()) {
                 HashMap<String, Object> record = new HashMap<>();
                 
                 CourseOffering co = e.getCourseOffering();
+                Semester semester = co.getSemester();
                 
                 record.put("term", semester.getFullName());
                 record.put("courseId", co.getCourse().getCourseId());
@@ -262,7 +318,7 @@ public class ReportService {
                 record.put("gradePoints", e.getGradePoints());
                 record.put("qualityPoints", e.getQualityPoints());
                 
-                // Term GPA
+                // Calculate term GPA
                 double termGPA = GradeCalculator.calculateTermGPA(student, semester);
                 record.put("termGPA", termGPA);
                 
@@ -275,9 +331,63 @@ public class ReportService {
                 
                 transcript.add(record);
             }
+            
+            return event.found(transcript);
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * Generate transcript for specific semester
+     */
+    public ArrayList<HashMap<String, Object>> generateTranscriptBySemester(Student student, Semester semester) {
+        return OP_GENERATE_TRANSCRIPT_BY_SEMESTER.time(() -> doGenerateTranscriptBySemester(student,
+            semester));
+    }
+    
+    private ArrayList<HashMap<String, Object>> doGenerateTranscriptBySemester(Student student, Semester semester) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateTranscriptBySemester");
+        try {
+            ArrayList<HashMap<String, Object>> transcript = new ArrayList<>();
+            
+            if (student == null || semester == null) {
+                return event.found(transcript);
+            }
+            
+            for (Enrollment e : student.getEnrollments()) {
+                if (e.getCourseOffering().getSemester().equals(semester)) {
+                    HashMap<String, Object> record = new HashMap<>();
+                    
+                    CourseOffering co = e.getCourseOffering();
+                    
+                    record.put("term", semester.getFullName());
+                    record.put("courseId", co.getCourse().getCourseId());
+                    record.put("courseName", co.getCourse().getTitle());
+                    record.put("credits", co.getCourse().getCreditHours());
+                    record.put("grade", e.getGrade());
+                    record.put("gradePoints", e.getGradePoints());
+                    record.put("qualityPoints", e.getQualityPoints());
+                    
+                    // Term GPA
+                    double termGPA = GradeCalculator.calculateTermGPA(student, semester);
+                    record.put("termGPA", termGPA);
+                    
+                    // Overall GPA
+                    record.put("overallGPA", student.getOverallGPA());
+                    
+                    // Academic standing
+                    String standing = GradeCalculator.determineAcademicStanding(termGPA, student.getOverallGPA());
+                    record.put("academicStanding", standing);
+                    
+                    transcript.add(record);
+                }
+            }
+            
+            return event.found(transcript);
+        } finally {
+            event.finish(null, semester);
         }
-        
-        return transcript;
     }
     
     // ========== REGISTRAR REPORTS ==========
@@ -286,149 +396,185 @@ public class ReportService {
      * Generate comprehensive enrollment report
      */
     public HashMap<String, Object> generateEnrollmentReport(Semester semester) {
-        HashMap<String, Object> report = new HashMap<>();
-        
-        if (semester == null) {
-            return report;
-        }
-        
-        int totalEnrollments = 0;
-        int totalCapacity = 0;
-        HashMap<String, Integer> departmentEnrollment = new HashMap<>();
-        
-        for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
-            totalEnrollments += co.getCurrentEnrollment();
-            totalCapacity += co.getMaxCapacity();
-            
-            String deptName = co.getCourse().getDepartment().getName();
-            departmentEnrollment.put(deptName, 
-                departmentEnrollment.getOrDefault(deptName, 0) + co.getCurrentEnrollment());
+        return OP_GENERATE_ENROLLMENT_REPORT.time(() -> doGenerateEnrollmentReport(semester));
+    }
+    
+    private HashMap<String, Object> doGenerateEnrollmentReport(Semester semester) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateEnrollmentReport");
+        try {
+            HashMap<String, Object> report = new HashMap<>();
+            
+            if (semester == null) {
+                return event.found(report);
+            }
+            
+            int totalEnrollments = 0;
+            int totalCapacity = 0;
+            HashMap<String, Integer> departmentEnrollment = new HashMap<>();
+            
+            for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
+                totalEnrollments += co.getCurrentEnrollment();
+                totalCapacity += co.getMaxCapacity();
+                
+                String deptName = co.getCourse().getDepartment().getName();
+                departmentEnrollment.put(deptName, 
+                    departmentEnrollment.getOrDefault(deptName, 0) + co.getCurrentEnrollment());
+            }
+            
+            report.put("semester", semester.getFullName());
+            report.put("totalEnrollments", totalEnrollments);
+            report.put("totalCapacity", totalCapacity);
+            report.put("utilizationRate", totalCapacity > 0 ? 
+                ((double) totalEnrollments / totalCapacity) * 100 : 0.0);
+            report.put("departmentEnrollment", departmentEnrollment);
+            
+            return event.found(report);
+        } finally {
+            event.finish(null, semester);
         }
-        
-        report.put("semester", semester.getFullName());
-        report.put("totalEnrollments", totalEnrollments);
-        report.put("totalCapacity", totalCapacity);
-        report.put("utilizationRate", totalCapacity > 0 ? 
-            ((double) totalEnrollments / totalCapacity) * 100 : 0.0);
-        report.put("departmentEnrollment", departmentEnrollment);
-        
-        return report;
     }
     
     /**
      * Generate GPA distribution report
      */
     public HashMap<String, Object> generateGPADistributionReport() {
-        HashMap<String, Object> report = new HashMap<>();
-        
-        ArrayList<Double> allGPAs = new ArrayList<>();
-        HashMap<String, Integer> gpaRanges = new HashMap<>();
-        
-        // Initialize GPA ranges
-        gpaRanges.put("4.0", 0);
-        gpaRanges.put("3.5-3.99", 0);
-        gpaRanges.put("3.0-3.49", 0);
-        gpaRanges.put("2.5-2.99", 0);
-        gpaRanges.put("2.0-2.49", 0);
-        gpaRanges.put("Below 2.0", 0);
-        
-        for (Student student : directory.getStudents()) {
-            double gpa = student.getOverallGPA();
-            allGPAs.add(gpa);
-            
-            // Categorize into ranges
-            if (gpa == 4.0) {
-                gpaRanges.put("4.0", gpaRanges.get("4.0") + 1);
-            } else if (gpa >= 3.5) {
-                gpaRanges.put("3.5-3.99", gpaRanges.get("3.5-3.99") + 1);
-            } else if (gpa >= 3.0) {
-                gpaRanges.put("3.0-3.49", gpaRanges.get("3.0-3.49") + 1);
-            } else if (gpa >= 2.5) {
-                gpaRanges.put("2.5-2.99", gpaRanges.get("2.5-2.99") + 1);
-            } else if (gpa >= 2.0) {
-                gpaRanges.put("2.0-2.49", gpaRanges.get("2.0-2.49") + 1);
-            } else {
-                gpaRanges.put("Below 2.0", gpaRanges.get("Below 2.0") + 1);
+        return OP_GENERATE_GPA_DISTRIBUTION_REPORT.time(() -> doGenerateGPADistributionReport());
+    }
+    
+    private HashMap<String, Object> doGenerateGPADistributionReport() {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateGPADistributionReport");
+        try {
+            HashMap<String, Object> report = new HashMap<>();
+            
+            ArrayList<Double> allGPAs = new ArrayList<>();
+            HashMap<String, Integer> gpaRanges = new HashMap<>();
+            
+            // Initialize GPA ranges
+            gpaRanges.put("4.0", 0);
+            gpaRanges.put("3.5-3.99", 0);
+            gpaRanges.put("3.0-3.49", 0);
+            gpaRanges.put("2.5-2.99", 0);
+            gpaRanges.put("2.0-2.49", 0);
+            gpaRanges.put("Below 2.0", 0);
+            
+            for (Student student : directory.getStudents()) {
+                double gpa = student.getOverallGPA();
+                allGPAs.add(gpa);
+                
+                // Categorize into ranges
+                if (gpa == 4.0) {
+                    gpaRanges.put("4.0", gpaRanges.get("4.0") + 1);
+                } else if (gpa >= 3.5) {
+                    gpaRanges.put("3.5-3.99", gpaRanges.get("3.5-3.99") + 1);
+                } else if (gpa >= 3.0) {
+                    gpaRanges.put("3.0-3.49", gpaRanges.get("3.0-3.49") + 1);
+                } else if (gpa >= 2.5) {
+                    gpaRanges.put("2.5-2.99", gpaRanges.get("2.5-2.99") + 1);
+                } else if (gpa >= 2.0) {
+                    gpaRanges.put("2.0-2.49", gpaRanges.get("2.0-2.49") + 1);
+                } else {
+                    gpaRanges.put("Below 2.0", gpaRanges.get("Below 2.0") + 1);
+                }
             }
-        }
-        
-        // Calculate average GPA
-        double averageGPA = 0.0;
-        if (!allGPAs.isEmpty()) {
-            for (double gpa : allGPAs) {
-                averageGPA += gpa;
+            
+            // Calculate average GPA
+            double averageGPA = 0.0;
+            if (!allGPAs.isEmpty()) {
+                for (double gpa : allGPAs) {
+                    averageGPA += gpa;
+                }
+                averageGPA /= allGPAs.size();
             }
-            averageGPA /= allGPAs.size();
+            
+            report.put("averageGPA", averageGPA);
+            report.put("gpaDistribution", gpaRanges);
+            report.put("totalStudents", allGPAs.size());
+            
+            return event.found(report);
+        } finally {
+            event.finish(null, null);
         }
-        
-        report.put("averageGPA", averageGPA);
-        report.put("gpaDistribution", gpaRanges);
-        report.put("totalStudents", allGPAs.size());
-        
-        return report;
     }
     
     /**
      * Generate financial summary report
      */
     public HashMap<String, Object> generateFinancialSummary(Semester semester) {
-        HashMap<String, Object> summary = new HashMap<>();
-        
-        if (semester == null) {
-            return summary;
-        }
-        
-        double totalRevenue = 0.0;
-        double paidTuition = 0.0;
-        double unpaidTuition = 0.0;
-        HashMap<String, Double> departmentRevenue = new HashMap<>();
-        
-        for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
-            String deptName = co.getCourse().getDepartment().getName();
-            
-            for (Enrollment e : co.getEnrollments()) {
-                double tuition = e.getTuitionAmount();
-                totalRevenue += tuition;
+        return OP_GENERATE_FINANCIAL_SUMMARY.time(() -> doGenerateFinancialSummary(semester));
+    }
+    
+    private HashMap<String, Object> doGenerateFinancialSummary(Semester semester) {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.generateFinancialSummary");
+        try {
+            HashMap<String, Object> summary = new HashMap<>();
+            
+            if (semester == null) {
+                return event.found(summary);
+            }
+            
+            double totalRevenue = 0.0;
+            double paidTuition = 0.0;
+            double unpaidTuition = 0.0;
+            HashMap<String, Double> departmentRevenue = new HashMap<>();
+            
+            for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
+                String deptName = co.getCourse().getDepartment().getName();
                 
-                if (e.isPaid()) {
-                    paidTuition += tuition;
-                    departmentRevenue.put(deptName, 
-                        departmentRevenue.getOrDefault(deptName, 0.0) + tuition);
-                } else {
-                    unpaidTuition += tuition;
+                for (Enrollment e : co.getEnrollments()) {
+                    double tuition = e.getTuitionAmount();
+                    totalRevenue += tuition;
+                    
+                    if (e.isPaid()) {
+                        paidTuition += tuition;
+                        departmentRevenue.put(deptName, 
+                            departmentRevenue.getOrDefault(deptName, 0.0) + tuition);
+                    } else {
+                        unpaidTuition += tuition;
+                    }
                 }
             }
+            
+            summary.put("semester", semester.getFullName());
+            summary.put("totalRevenue", totalRevenue);
+            summary.put("paidTuition", paidTuition);
+            summary.put("unpaidTuition", unpaidTuition);
+            summary.put("collectionRate", totalRevenue > 0 ? 
+                (paidTuition / totalRevenue) * 100 : 0.0);
+            summary.put("departmentRevenue", departmentRevenue);
+            
+            return event.found(summary);
+        } finally {
+            event.finish(null, semester);
         }
-        
-        summary.put("semester", semester.getFullName());
-        summary.put("totalRevenue", totalRevenue);
-        summary.put("paidTuition", paidTuition);
-        summary.put("unpaidTuition", unpaidTuition);
-        summary.put("collectionRate", totalRevenue > 0 ? 
-            (paidTuition / totalRevenue) * 100 : 0.0);
-        summary.put("departmentRevenue", departmentRevenue);
-        
-        return summary;
     }
     
     /**
      * Get students with academic standing issues
      */
     public ArrayList<HashMap<String, Object>> getStudentsWithAcademicIssues() {
-        ArrayList<HashMap<String, Object>> studentList = new ArrayList<>();
-        
-        for (Student student : directory.getStudents()) {
-            if (!student.getAcademicStanding().equals("Good Standing")) {
-                HashMap<String, Object> info = new HashMap<>();
-                info.put("student", student);
-                info.put("gpa", student.getOverallGPA());
-                info.put("standing", student.getAcademicStanding());
-                info.put("creditsCompleted", student.getTotalCreditsCompleted());
-                
-                studentList.add(info);
+        return OP_GET_STUDENTS_WITH_ACADEMIC_ISSUES.time(() -> doGetStudentsWithAcademicIssues());
+    }
+    
+    private ArrayList<HashMap<String, Object>> doGetStudentsWithAcademicIssues() {
+        DomainEvents.ReportEvent event = DomainEvents.beginReport("ReportService.getStudentsWithAcademicIssues");
+        try {
+            ArrayList<HashMap<String, Object>> studentList = new ArrayList<>();
+            
+            for (Student student : directory.getStudents()) {
+                if (!student.getAcademicStanding().equals("Good Standing")) {
+                    HashMap<String, Object> info = new HashMap<>();
+                    info.put("student", student);
+                    info.put("gpa", student.getOverallGPA());
+                    info.put("standing", student.getAcademicStanding());
+                    info.put("creditsCompleted", student.getTotalCreditsCompleted());
+                    
+                    studentList.add(info);
+                }
             }
+            
+            return event.found(studentList);
+        } finally {
+            event.finish(null, null);
         }
-        
-        return studentList;
     }
 }
\ No newline at end of file
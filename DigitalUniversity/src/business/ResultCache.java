@@ -0,0 +1,73 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ResultCache - Bounded LRU cache of query results
+ *
+ * Each result is stored with the directory version it was computed at,
+ * read before the query ran: a change that lands while the query runs
+ * moves the version on, so the result is never served stale. The
+ * version passed in is the sum of the UniversityDirectory change counters
+ * the query depends on; the counters only grow, so the sum changes
+ * whenever any of them does. Callers get their own copy of a cached list.
+ * Thread-safe; queries run outside the cache's lock.
+ * Author: [Your Name]
+ */
+class ResultCache {
+
+    private final int capacity;
+    private final LinkedHashMap<List<Object>, CachedResult> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    ResultCache(String name, int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<List<Object>, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedResult> eldest) {
+                return size() > ResultCache.this.capacity;
+            }
+        };
+        this.hits = MetricsRegistry.getInstance().counter(name + ".cacheHits");
+        this.misses = MetricsRegistry.getInstance().counter(name + ".cacheMisses");
+    }
+
+    /**
+     * The result of query for this key, from the cache if it was computed at
+     * the current version; key is the operation name followed by its arguments
+     */
+    @SuppressWarnings("unchecked")
+    <T> ArrayList<T> get(long version, Supplier<ArrayList<T>> query, Object... key) {
+        List<Object> cacheKey = Arrays.asList(key);
+        synchronized (this) {
+            CachedResult cached = entries.get(cacheKey);
+            if (cached != null && cached.version == version) {
+                hits.increment();
+                return new ArrayList<>((List<T>) cached.results);
+            }
+        }
+        misses.increment();
+        ArrayList<T> results = query.get();
+        synchronized (this) {
+            entries.put(cacheKey, new CachedResult(version, new ArrayList<>(results)));
+        }
+        return results;
+    }
+
+    private static class CachedResult {
+        final long version;
+        final ArrayList<?> results;
+
+        CachedResult(long version, ArrayList<?> results) {
+            this.version = version;
+            this.results = results;
+        }
+    }
+}
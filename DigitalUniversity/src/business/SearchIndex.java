@@ -0,0 +1,17 @@
+package business;
+
+/**
+ * SearchIndex - Secondary index the directory keeps in step with its entities
+ * Author: [Your Name]
+ */
+interface SearchIndex<T> {
+
+    void add(T entity);
+
+    void remove(T entity);
+
+    /**
+     * Re-read the indexed fields of an entity that changed
+     */
+    void update(T entity);
+}
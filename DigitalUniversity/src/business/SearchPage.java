@@ -0,0 +1,71 @@
+package business;
+
+import java.util.ArrayList;
+
+/**
+ * SearchPage - One page of search results and the cursor for the next page
+ *
+ * Results come in a stable order (the order entities were added to the
+ * directory), and the cursor marks the last entity returned rather than an
+ * offset, so entities added or removed between requests do not shift later
+ * pages. Cursors are opaque strings; pass one back unchanged.
+ * Author: [Your Name]
+ */
+public class SearchPage<T> {
+    private static final String CURSOR_PREFIX = "s";
+    
+    private final ArrayList<T> items;
+    private final String nextCursor; // null on the last page
+    
+    // Constructor
+    SearchPage(ArrayList<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters
+    public ArrayList<T> getItems() {
+        return items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+    
+    /**
+     * Cursor resuming after the entity with this sequence number
+     */
+    static String cursorAfter(long sequence) {
+        return CURSOR_PREFIX + Long.toString(sequence, Character.MAX_RADIX);
+    }
+    
+    /**
+     * Sequence number a cursor resumes after; -1 (before everything) for a null cursor
+     */
+    static long sequenceOf(String cursor) {
+        if (cursor == null) {
+            return -1;
+        }
+        if (!cursor.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Invalid search cursor: " + cursor);
+        }
+        try {
+            long sequence = Long.parseLong(cursor.substring(CURSOR_PREFIX.length()), Character.MAX_RADIX);
+            if (sequence < 0) {
+                throw new IllegalArgumentException("Invalid search cursor: " + cursor);
+            }
+            return sequence;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + cursor);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return items.size() + " results" + (hasMore() ? ", more available" : "");
+    }
+}
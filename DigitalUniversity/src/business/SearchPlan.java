@@ -0,0 +1,157 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * SearchPlan - Runs a conjunction of criteria over a BitmapIndex
+ *
+ * Bitmap criteria are intersected smallest first, so the most selective one
+ * bounds all later work and an empty intersection stops early. Criteria
+ * whose bitmap is costly to build (e.g. a name substring) are applied last:
+ * by testing each remaining candidate when only a few are left, otherwise
+ * by building their bitmap and intersecting it. A page of results tests
+ * candidates only until the page is full.
+ * Author: [Your Name]
+ */
+class SearchPlan<T> {
+
+    // Below this many candidates, testing them beats building a bitmap
+    private static final int VERIFY_LIMIT = 2048;
+
+    private final BitmapIndex<T> index;
+    private final ArrayList<BitSet> bitmaps = new ArrayList<>();
+    private final ArrayList<Predicate<T>> checks = new ArrayList<>();
+    private final ArrayList<Supplier<BitSet>> checkBitmaps = new ArrayList<>();
+
+    SearchPlan(BitmapIndex<T> index) {
+        this.index = index;
+    }
+
+    /**
+     * Keep only documents in matches
+     */
+    SearchPlan<T> require(BitSet matches) {
+        bitmaps.add(matches);
+        return this;
+    }
+
+    /**
+     * Keep only entities passing check; matches builds the same set as a bitmap
+     */
+    SearchPlan<T> require(Predicate<T> check, Supplier<BitSet> matches) {
+        checks.add(check);
+        checkBitmaps.add(matches);
+        return this;
+    }
+
+    /**
+     * Whether no criterion was added, so every entity matches
+     */
+    boolean isUnrestricted() {
+        return bitmaps.isEmpty() && checks.isEmpty();
+    }
+
+    /**
+     * Matching entities in the order they were added to the index
+     */
+    ArrayList<T> run() {
+        BitSet result = intersect();
+        if (result != null && result.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        for (int i = 0; i < checks.size(); i++) {
+            if (result != null && result.cardinality() <= VERIFY_LIMIT) {
+                Predicate<T> check = checks.get(i);
+                for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+                    if (!check.test(index.entity(doc))) {
+                        result.clear(doc);
+                    }
+                }
+            } else if (result == null) {
+                result = checkBitmaps.get(i).get();
+            } else {
+                result.and(checkBitmaps.get(i).get());
+            }
+            if (result.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+
+        return index.entities(result == null ? index.all() : result);
+    }
+
+    /**
+     * Up to pageSize matching entities added after the cursor's, in the same
+     * order as run(). Candidates are tested one by one; if that many fail
+     * without filling the page, the costly criteria are rare enough that
+     * building their bitmaps is cheaper
+     */
+    SearchPage<T> page(String cursor, int pageSize) {
+        long after = SearchPage.sequenceOf(cursor);
+        BitSet candidates = intersect();
+        if (candidates == null) {
+            candidates = index.all();
+        }
+
+        ArrayList<T> items = new ArrayList<>(Math.min(pageSize, candidates.cardinality()));
+        boolean checked = checks.isEmpty();
+        int tested = 0;
+        int last = -1; // document of the last item on the page
+        int doc = candidates.nextSetBit(index.firstAfter(after));
+        while (doc >= 0) {
+            if (!checked && tested == VERIFY_LIMIT) {
+                for (Supplier<BitSet> matches : checkBitmaps) {
+                    candidates.and(matches.get());
+                }
+                checked = true;
+                doc = candidates.nextSetBit(doc);
+                continue;
+            }
+            T entity = index.entity(doc);
+            if (checked || passesChecks(entity)) {
+                if (items.size() == pageSize) {
+                    // Another match follows, so there is a next page
+                    return new SearchPage<>(items, SearchPage.cursorAfter(index.sequence(last)));
+                }
+                items.add(entity);
+                last = doc;
+            }
+            tested++;
+            doc = candidates.nextSetBit(doc + 1);
+        }
+        return new SearchPage<>(items, null);
+    }
+
+    /**
+     * Intersection of the bitmap criteria, smallest first; null if there are none
+     */
+    private BitSet intersect() {
+        bitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = null;
+        for (BitSet bitmap : bitmaps) {
+            if (result == null) {
+                result = (BitSet) bitmap.clone();
+            } else {
+                result.and(bitmap);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private boolean passesChecks(T entity) {
+        for (Predicate<T> check : checks) {
+            if (!check.test(entity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
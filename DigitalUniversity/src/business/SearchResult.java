@@ -0,0 +1,69 @@
+package business;
+
+/**
+ * SearchResult - One ranked hit of SearchService.search
+ *
+ * The score says how well the query matched the entity: an exact ID or
+ * name scores highest, then a match at the start of a field, then at the
+ * start of a word, then anywhere inside a field.
+ * Author: [Your Name]
+ */
+public class SearchResult {
+    // Entity types
+    public static final String PERSON = "Person";
+    public static final String COURSE = "Course";
+    public static final String OFFERING = "Course Offering";
+    public static final String DEPARTMENT = "Department";
+    
+    // Match qualities, best first
+    public static final int EXACT = 400;
+    public static final int PREFIX = 300;
+    public static final int TOKEN = 200;
+    public static final int SUBSTRING = 100;
+    
+    private final Object entity;
+    private final String type;
+    private final int score;
+    final int keyLength; // length of the matched field; shorter is the closer match
+    final int order;     // order the hit was found in, for stable ties
+    
+    // Constructor
+    SearchResult(Object entity, String type, int score, int keyLength, int order) {
+        this.entity = entity;
+        this.type = type;
+        this.score = score;
+        this.keyLength = keyLength;
+        this.order = order;
+    }
+    
+    // Getters
+    public Object getEntity() {
+        return entity;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public int getScore() {
+        return score;
+    }
+    
+    /**
+     * Compare by match quality, the closest match first
+     */
+    int compareQuality(SearchResult other) {
+        if (score != other.score) {
+            return Integer.compare(other.score, score);
+        }
+        if (keyLength != other.keyLength) {
+            return Integer.compare(keyLength, other.keyLength);
+        }
+        return Integer.compare(order, other.order);
+    }
+    
+    @Override
+    public String toString() {
+        return type + ": " + entity;
+    }
+}
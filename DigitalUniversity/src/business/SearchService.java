@@ -2,6 +2,14 @@ package business;
 
 import model.*;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * SearchService - Centralized search functionality for all entities
@@ -9,88 +17,217 @@ import java.util.ArrayList;
  */
 public class SearchService {
     
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_SEARCH_STUDENTS_BY_NAME =
+        MetricsRegistry.getInstance().operation("SearchService.searchStudentsByName");
+    private static final OperationMetric OP_SEARCH_STUDENT_BY_ID =
+        MetricsRegistry.getInstance().operation("SearchService.searchStudentById");
+    private static final OperationMetric OP_SEARCH_STUDENTS_BY_PROGRAM =
+        MetricsRegistry.getInstance().operation("SearchService.searchStudentsByProgram");
+    private static final OperationMetric OP_SEARCH_STUDENT_BY_EMAIL =
+        MetricsRegistry.getInstance().operation("SearchService.searchStudentByEmail");
+    private static final OperationMetric OP_SEARCH_FACULTY_BY_NAME =
+        MetricsRegistry.getInstance().operation("SearchService.searchFacultyByName");
+    private static final OperationMetric OP_SEARCH_FACULTY_BY_ID =
+        MetricsRegistry.getInstance().operation("SearchService.searchFacultyById");
+    private static final OperationMetric OP_SEARCH_FACULTY_BY_DEPARTMENT =
+        MetricsRegistry.getInstance().operation("SearchService.searchFacultyByDepartment");
+    private static final OperationMetric OP_SEARCH_FACULTY_BY_DEPARTMENT_NAME =
+        MetricsRegistry.getInstance().operation("SearchService.searchFacultyByDepartmentName");
+    private static final OperationMetric OP_SEARCH_PERSONS_BY_NAME =
+        MetricsRegistry.getInstance().operation("SearchService.searchPersonsByName");
+    private static final OperationMetric OP_SEARCH_PERSON_BY_ID =
+        MetricsRegistry.getInstance().operation("SearchService.searchPersonById");
+    private static final OperationMetric OP_SEARCH_PERSON_BY_EMAIL =
+        MetricsRegistry.getInstance().operation("SearchService.searchPersonByEmail");
+    private static final OperationMetric OP_SEARCH_PERSONS_BY_EMAIL =
+        MetricsRegistry.getInstance().operation("SearchService.searchPersonsByEmail");
+    private static final OperationMetric OP_SEARCH_PERSONS_FUZZY =
+        MetricsRegistry.getInstance().operation("SearchService.searchPersonsFuzzy");
+    private static final OperationMetric OP_SEARCH_PERSONS_BY_SOUND =
+        MetricsRegistry.getInstance().operation("SearchService.searchPersonsBySound");
+    private static final OperationMetric OP_SEARCH_COURSES_FUZZY =
+        MetricsRegistry.getInstance().operation("SearchService.searchCoursesFuzzy");
+    private static final OperationMetric OP_SEARCH_COURSE_BY_ID =
+        MetricsRegistry.getInstance().operation("SearchService.searchCourseById");
+    private static final OperationMetric OP_SEARCH_COURSE_BY_TITLE =
+        MetricsRegistry.getInstance().operation("SearchService.searchCourseByTitle");
+    private static final OperationMetric OP_SEARCH_COURSE_BY_DEPARTMENT =
+        MetricsRegistry.getInstance().operation("SearchService.searchCourseByDepartment");
+    private static final OperationMetric OP_SEARCH_OFFERINGS_BY_COURSE_ID =
+        MetricsRegistry.getInstance().operation("SearchService.searchOfferingsByCourseId");
+    private static final OperationMetric OP_SEARCH_OFFERINGS_BY_INSTRUCTOR =
+        MetricsRegistry.getInstance().operation("SearchService.searchOfferingsByInstructor");
+    private static final OperationMetric OP_SEARCH_OFFERINGS_BY_SEMESTER =
+        MetricsRegistry.getInstance().operation("SearchService.searchOfferingsBySemester");
+    private static final OperationMetric OP_SEARCH_OFFERINGS_BY_TITLE =
+        MetricsRegistry.getInstance().operation("SearchService.searchOfferingsByTitle");
+    private static final OperationMetric OP_SEARCH_DEPARTMENTS_BY_NAME =
+        MetricsRegistry.getInstance().operation("SearchService.searchDepartmentsByName");
+    private static final OperationMetric OP_SEARCH_DEPARTMENT_BY_ID =
+        MetricsRegistry.getInstance().operation("SearchService.searchDepartmentById");
+    private static final OperationMetric OP_ADVANCED_STUDENT_SEARCH =
+        MetricsRegistry.getInstance().operation("SearchService.advancedStudentSearch");
+    private static final OperationMetric OP_ADVANCED_FACULTY_SEARCH =
+        MetricsRegistry.getInstance().operation("SearchService.advancedFacultySearch");
+    private static final OperationMetric OP_SEARCH =
+        MetricsRegistry.getInstance().operation("SearchService.search");
+    private static final OperationMetric OP_ADVANCED_STUDENT_SEARCH_PAGE =
+        MetricsRegistry.getInstance().operation("SearchService.advancedStudentSearchPage");
+    private static final OperationMetric OP_ADVANCED_FACULTY_SEARCH_PAGE =
+        MetricsRegistry.getInstance().operation("SearchService.advancedFacultySearchPage");
+    
+    // Page size used when streaming results
+    private static final int STREAM_PAGE_SIZE = 256;
+    
+    // Recent results, shared by every SearchService and dropped when the directory changes
+    private static final ResultCache RESULTS = new ResultCache("SearchService", 512);
+    
     private UniversityDirectory directory;
     
     public SearchService() {
         this.directory = UniversityDirectory.getInstance();
     }
     
+    /**
+     * Version of what offering searches read: offerings, and the courses and
+     * instructors whose names they match
+     */
+    private long offeringSearchVersion() {
+        return directory.getOfferingVersion() + directory.getCourseVersion() + directory.getPersonVersion();
+    }
+    
+    // ========== RANKED SEARCH ==========
+    
+    /**
+     * Search persons, courses, course offerings and departments at once and
+     * return the limit best matches, best first: exact IDs and names, then
+     * matches at the start of a field, at the start of a word, and anywhere
+     */
+    public ArrayList<SearchResult> search(String query, int limit) {
+        return OP_SEARCH.time(() -> doSearch(query, limit));
+    }
+    
+    private ArrayList<SearchResult> doSearch(String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Result limit must be positive");
+        }
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.search", query);
+        try {
+            if (query == null || query.trim().isEmpty()) {
+                return event.found(new ArrayList<>());
+            }
+            
+            return event.found(RESULTS.get(directory.getPersonVersion() + directory.getDepartmentVersion()
+                + directory.getCourseVersion() + directory.getOfferingVersion(),
+                () -> directory.searchAll(query, limit), "search", query, limit));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
     // ========== STUDENT SEARCH ==========
     
     /**
      * Search students by name (first or last name)
      */
     public ArrayList<Student> searchStudentsByName(String name) {
-        ArrayList<Student> results = new ArrayList<>();
-        
-        if (name == null || name.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = name.toLowerCase().trim();
-        
-        for (Student student : directory.getStudents()) {
-            String fullName = student.getFullName().toLowerCase();
-            String firstName = student.getFirstName().toLowerCase();
-            String lastName = student.getLastName().toLowerCase();
-            
-            if (fullName.contains(searchTerm) || 
-                firstName.contains(searchTerm) || 
-                lastName.contains(searchTerm)) {
-                results.add(student);
+        return OP_SEARCH_STUDENTS_BY_NAME.time(() -> doSearchStudentsByName(name));
+    }
+    
+    private ArrayList<Student> doSearchStudentsByName(String name) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchStudentsByName", name);
+        try {
+            ArrayList<Student> results = new ArrayList<>();
+            
+            if (name == null || name.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            // First and last name are both substrings of the full name
+            return event.found(RESULTS.get(directory.getPersonVersion(),
+                () -> directory.findStudentsByNameContaining(name.trim()), "searchStudentsByName", name.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search students by university ID
      */
     public Student searchStudentById(String universityId) {
-        if (universityId == null || universityId.trim().isEmpty()) {
-            return null;
+        return OP_SEARCH_STUDENT_BY_ID.time(() -> doSearchStudentById(universityId));
+    }
+    
+    private Student doSearchStudentById(String universityId) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchStudentById", universityId);
+        try {
+            if (universityId == null || universityId.trim().isEmpty()) {
+                return event.found(null);
+            }
+            
+            return event.found(directory.findStudentByUniversityId(universityId.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return directory.findStudentByUniversityId(universityId.trim());
     }
     
     /**
      * Search students by department/program
      */
     public ArrayList<Student> searchStudentsByProgram(String program) {
-        ArrayList<Student> results = new ArrayList<>();
-        
-        if (program == null || program.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = program.toLowerCase().trim();
-        
-        for (Student student : directory.getStudents()) {
-            if (student.getProgram().toLowerCase().contains(searchTerm)) {
-                results.add(student);
+        return OP_SEARCH_STUDENTS_BY_PROGRAM.time(() -> doSearchStudentsByProgram(program));
+    }
+    
+    private ArrayList<Student> doSearchStudentsByProgram(String program) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchStudentsByProgram", program);
+        try {
+            ArrayList<Student> results = new ArrayList<>();
+            
+            if (program == null || program.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            String searchTerm = SearchKey.normalize(program.trim());
+            
+            return event.found(RESULTS.get(directory.getPersonVersion(), () -> {
+                ArrayList<Student> matches = new ArrayList<>();
+                for (Student student : directory.getStudents()) {
+                    if (student.getSearchProgram() != null && student.getSearchProgram().contains(searchTerm)) {
+                        matches.add(student);
+                    }
+                }
+                return matches;
+            }, "searchStudentsByProgram", searchTerm));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search students by email
      */
     public Student searchStudentByEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return null;
-        }
-        
-        Person person = directory.findPersonByEmail(email.trim());
-        
-        if (person instanceof Student) {
-            return (Student) person;
+        return OP_SEARCH_STUDENT_BY_EMAIL.time(() -> doSearchStudentByEmail(email));
+    }
+    
+    private Student doSearchStudentByEmail(String email) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchStudentByEmail", email);
+        try {
+            if (email == null || email.trim().isEmpty()) {
+                return event.found(null);
+            }
+            
+            Person person = directory.findPersonByEmail(email.trim());
+            
+            if (person instanceof Student) {
+                return event.found((Student) person);
+            }
+            
+            return event.found(null);
+        } finally {
+            event.finish(null, null);
         }
-        
-        return null;
     }
     
     // ========== FACULTY SEARCH ==========
@@ -99,73 +236,99 @@ public class SearchService {
      * Search faculty by name
      */
     public ArrayList<Faculty> searchFacultyByName(String name) {
-        ArrayList<Faculty> results = new ArrayList<>();
-        
-        if (name == null || name.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = name.toLowerCase().trim();
-        
-        for (Faculty faculty : directory.getFaculties()) {
-            String fullName = faculty.getFullName().toLowerCase();
-            String firstName = faculty.getFirstName().toLowerCase();
-            String lastName = faculty.getLastName().toLowerCase();
-            
-            if (fullName.contains(searchTerm) || 
-                firstName.contains(searchTerm) || 
-                lastName.contains(searchTerm)) {
-                results.add(faculty);
+        return OP_SEARCH_FACULTY_BY_NAME.time(() -> doSearchFacultyByName(name));
+    }
+    
+    private ArrayList<Faculty> doSearchFacultyByName(String name) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchFacultyByName", name);
+        try {
+            ArrayList<Faculty> results = new ArrayList<>();
+            
+            if (name == null || name.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            // First and last name are both substrings of the full name
+            return event.found(RESULTS.get(directory.getPersonVersion(),
+                () -> directory.findFacultiesByNameContaining(name.trim()), "searchFacultyByName", name.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search faculty by university ID
      */
     public Faculty searchFacultyById(String universityId) {
-        if (universityId == null || universityId.trim().isEmpty()) {
-            return null;
+        return OP_SEARCH_FACULTY_BY_ID.time(() -> doSearchFacultyById(universityId));
+    }
+    
+    private Faculty doSearchFacultyById(String universityId) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchFacultyById", universityId);
+        try {
+            if (universityId == null || universityId.trim().isEmpty()) {
+                return event.found(null);
+            }
+            
+            return event.found(directory.findFacultyByUniversityId(universityId.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return directory.findFacultyByUniversityId(universityId.trim());
     }
     
     /**
      * Search faculty by department
      */
     public ArrayList<Faculty> searchFacultyByDepartment(Department department) {
-        ArrayList<Faculty> results = new ArrayList<>();
-        
-        if (department == null) {
-            return results;
+        return OP_SEARCH_FACULTY_BY_DEPARTMENT.time(() -> doSearchFacultyByDepartment(department));
+    }
+    
+    private ArrayList<Faculty> doSearchFacultyByDepartment(Department department) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchFacultyByDepartment", department == null ? null : department.getName());
+        try {
+            ArrayList<Faculty> results = new ArrayList<>();
+            
+            if (department == null) {
+                return event.found(results);
+            }
+            
+            return event.found(new ArrayList<>(department.getFacultyMembers()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return new ArrayList<>(department.getFacultyMembers());
     }
     
     /**
      * Search faculty by department name
      */
     public ArrayList<Faculty> searchFacultyByDepartmentName(String departmentName) {
-        ArrayList<Faculty> results = new ArrayList<>();
-        
-        if (departmentName == null || departmentName.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = departmentName.toLowerCase().trim();
-        
-        for (Faculty faculty : directory.getFaculties()) {
-            if (faculty.getDepartment() != null && 
-                faculty.getDepartment().getName().toLowerCase().contains(searchTerm)) {
-                results.add(faculty);
+        return OP_SEARCH_FACULTY_BY_DEPARTMENT_NAME.time(() -> doSearchFacultyByDepartmentName(departmentName));
+    }
+    
+    private ArrayList<Faculty> doSearchFacultyByDepartmentName(String departmentName) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchFacultyByDepartmentName", departmentName);
+        try {
+            ArrayList<Faculty> results = new ArrayList<>();
+            
+            if (departmentName == null || departmentName.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            String searchTerm = SearchKey.normalize(departmentName.trim());
+            
+            return event.found(RESULTS.get(directory.getPersonVersion() + directory.getDepartmentVersion(), () -> {
+                ArrayList<Faculty> matches = new ArrayList<>();
+                for (Faculty faculty : directory.getFaculties()) {
+                    if (faculty.getDepartment() != null && 
+                        faculty.getDepartment().getSearchName().contains(searchTerm)) {
+                        matches.add(faculty);
+                    }
+                }
+                return matches;
+            }, "searchFacultyByDepartmentName", searchTerm));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     // ========== PERSON SEARCH (GENERAL) ==========
@@ -174,45 +337,131 @@ public class SearchService {
      * Search any person by name
      */
     public ArrayList<Person> searchPersonsByName(String name) {
-        ArrayList<Person> results = new ArrayList<>();
-        
-        if (name == null || name.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = name.toLowerCase().trim();
-        
-        for (Person person : directory.getPersons()) {
-            String fullName = person.getFullName().toLowerCase();
-            
-            if (fullName.contains(searchTerm)) {
-                results.add(person);
+        return OP_SEARCH_PERSONS_BY_NAME.time(() -> doSearchPersonsByName(name));
+    }
+    
+    private ArrayList<Person> doSearchPersonsByName(String name) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchPersonsByName", name);
+        try {
+            ArrayList<Person> results = new ArrayList<>();
+            
+            if (name == null || name.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(directory.getPersonVersion(),
+                () -> directory.findPersonsByNameContaining(name.trim()), "searchPersonsByName", name.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search person by university ID
      */
     public Person searchPersonById(String universityId) {
-        if (universityId == null || universityId.trim().isEmpty()) {
-            return null;
+        return OP_SEARCH_PERSON_BY_ID.time(() -> doSearchPersonById(universityId));
+    }
+    
+    private Person doSearchPersonById(String universityId) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchPersonById", universityId);
+        try {
+            if (universityId == null || universityId.trim().isEmpty()) {
+                return event.found(null);
+            }
+            
+            return event.found(directory.findPersonByUniversityId(universityId.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return directory.findPersonByUniversityId(universityId.trim());
     }
     
     /**
      * Search person by email
      */
     public Person searchPersonByEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return null;
+        return OP_SEARCH_PERSON_BY_EMAIL.time(() -> doSearchPersonByEmail(email));
+    }
+    
+    private Person doSearchPersonByEmail(String email) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchPersonByEmail", email);
+        try {
+            if (email == null || email.trim().isEmpty()) {
+                return event.found(null);
+            }
+            
+            return event.found(directory.findPersonByEmail(email.trim()));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * Search persons whose email contains part of an address
+     */
+    public ArrayList<Person> searchPersonsByEmail(String emailFragment) {
+        return OP_SEARCH_PERSONS_BY_EMAIL.time(() -> doSearchPersonsByEmail(emailFragment));
+    }
+    
+    private ArrayList<Person> doSearchPersonsByEmail(String emailFragment) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchPersonsByEmail", emailFragment);
+        try {
+            if (emailFragment == null || emailFragment.trim().isEmpty()) {
+                return event.found(new ArrayList<>());
+            }
+            
+            return event.found(RESULTS.get(directory.getPersonVersion(),
+                () -> directory.findPersonsByEmailContaining(emailFragment.trim()), "searchPersonsByEmail", emailFragment.trim()));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * Search persons by name, tolerating up to maxEdits typos per word
+     * (e.g. "Rodriquez" finds "Rodriguez"); closest matches first
+     */
+    public ArrayList<Person> searchPersonsFuzzy(String name, int maxEdits) {
+        return OP_SEARCH_PERSONS_FUZZY.time(() -> doSearchPersonsFuzzy(name, maxEdits));
+    }
+    
+    private ArrayList<Person> doSearchPersonsFuzzy(String name, int maxEdits) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchPersonsFuzzy", name);
+        try {
+            checkMaxEdits(maxEdits);
+            if (name == null || name.trim().isEmpty()) {
+                return event.found(new ArrayList<>());
+            }
+            
+            return event.found(RESULTS.get(directory.getPersonVersion(),
+                () -> directory.findPersonsByNameFuzzy(name, maxEdits), "searchPersonsFuzzy", name, maxEdits));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * Search persons by how their name sounds, for names heard rather than
+     * read (e.g. "Jon Smyth" finds "John Smith"); every query word must sound
+     * like one of the person's name words
+     */
+    public ArrayList<Person> searchPersonsBySound(String name) {
+        return OP_SEARCH_PERSONS_BY_SOUND.time(() -> doSearchPersonsBySound(name));
+    }
+    
+    private ArrayList<Person> doSearchPersonsBySound(String name) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchPersonsBySound", name);
+        try {
+            if (name == null || name.trim().isEmpty()) {
+                return event.found(new ArrayList<>());
+            }
+            
+            String searchTerm = SearchKey.normalize(name.trim());
+            return event.found(RESULTS.get(directory.getPersonVersion(),
+                () -> directory.findPersonsByNameSound(searchTerm), "searchPersonsBySound", searchTerm));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return directory.findPersonByEmail(email.trim());
     }
     
     // ========== COURSE SEARCH ==========
@@ -221,61 +470,105 @@ public class SearchService {
      * Search courses by course ID
      */
     public ArrayList<Course> searchCourseById(String courseId) {
-        ArrayList<Course> results = new ArrayList<>();
-        
-        if (courseId == null || courseId.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = courseId.toLowerCase().trim();
-        
-        for (Course course : directory.getCourses()) {
-            if (course.getCourseId().toLowerCase().contains(searchTerm)) {
-                results.add(course);
+        return OP_SEARCH_COURSE_BY_ID.time(() -> doSearchCourseById(courseId));
+    }
+    
+    private ArrayList<Course> doSearchCourseById(String courseId) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchCourseById", courseId);
+        try {
+            ArrayList<Course> results = new ArrayList<>();
+            
+            if (courseId == null || courseId.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(directory.getCourseVersion(),
+                () -> directory.findCoursesByIdContaining(courseId.trim()), "searchCourseById", courseId.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search courses by title
      */
     public ArrayList<Course> searchCourseByTitle(String title) {
-        ArrayList<Course> results = new ArrayList<>();
-        
-        if (title == null || title.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = title.toLowerCase().trim();
-        
-        for (Course course : directory.getCourses()) {
-            if (course.getTitle().toLowerCase().contains(searchTerm)) {
-                results.add(course);
+        return OP_SEARCH_COURSE_BY_TITLE.time(() -> doSearchCourseByTitle(title));
+    }
+    
+    private ArrayList<Course> doSearchCourseByTitle(String title) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchCourseByTitle", title);
+        try {
+            ArrayList<Course> results = new ArrayList<>();
+            
+            if (title == null || title.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(directory.getCourseVersion(),
+                () -> directory.findCoursesByTitleContaining(title.trim()), "searchCourseByTitle", title.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search courses by department
      */
     public ArrayList<Course> searchCourseByDepartment(Department department) {
-        ArrayList<Course> results = new ArrayList<>();
-        
-        if (department == null) {
-            return results;
-        }
-        
-        for (Course course : directory.getCourses()) {
-            if (course.getDepartment().equals(department)) {
-                results.add(course);
+        return OP_SEARCH_COURSE_BY_DEPARTMENT.time(() -> doSearchCourseByDepartment(department));
+    }
+    
+    private ArrayList<Course> doSearchCourseByDepartment(Department department) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchCourseByDepartment", department == null ? null : department.getName());
+        try {
+            ArrayList<Course> results = new ArrayList<>();
+            
+            if (department == null) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(directory.getCourseVersion(), () -> {
+                ArrayList<Course> matches = new ArrayList<>();
+                for (Course course : directory.getCourses()) {
+                    if (course.getDepartment().equals(department)) {
+                        matches.add(course);
+                    }
+                }
+                return matches;
+            }, "searchCourseByDepartment", department));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * Search courses by ID or title words, tolerating up to maxEdits typos per word;
+     * closest matches first
+     */
+    public ArrayList<Course> searchCoursesFuzzy(String text, int maxEdits) {
+        return OP_SEARCH_COURSES_FUZZY.time(() -> doSearchCoursesFuzzy(text, maxEdits));
+    }
+    
+    private ArrayList<Course> doSearchCoursesFuzzy(String text, int maxEdits) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchCoursesFuzzy", text);
+        try {
+            checkMaxEdits(maxEdits);
+            if (text == null || text.trim().isEmpty()) {
+                return event.found(new ArrayList<>());
+            }
+            
+            return event.found(RESULTS.get(directory.getCourseVersion(),
+                () -> directory.findCoursesFuzzy(text, maxEdits), "searchCoursesFuzzy", text, maxEdits));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    private static void checkMaxEdits(int maxEdits) {
+        if (maxEdits < 0 || maxEdits > 2) {
+            throw new IllegalArgumentException("Fuzzy search allows 0 to 2 edits per word");
         }
-        
-        return results;
     }
     
     // ========== COURSE OFFERING SEARCH ==========
@@ -284,77 +577,89 @@ public class SearchService {
      * Search course offerings by course ID
      */
     public ArrayList<CourseOffering> searchOfferingsByCourseId(String courseId) {
-        ArrayList<CourseOffering> results = new ArrayList<>();
-        
-        if (courseId == null || courseId.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = courseId.toLowerCase().trim();
-        
-        for (CourseOffering offering : directory.getCourseOfferings()) {
-            if (offering.getCourse().getCourseId().toLowerCase().contains(searchTerm)) {
-                results.add(offering);
+        return OP_SEARCH_OFFERINGS_BY_COURSE_ID.time(() -> doSearchOfferingsByCourseId(courseId));
+    }
+    
+    private ArrayList<CourseOffering> doSearchOfferingsByCourseId(String courseId) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchOfferingsByCourseId", courseId);
+        try {
+            ArrayList<CourseOffering> results = new ArrayList<>();
+            
+            if (courseId == null || courseId.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(offeringSearchVersion(),
+                () -> directory.findOfferingsByCourseIdContaining(courseId.trim()), "searchOfferingsByCourseId", courseId.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search course offerings by instructor name
      */
     public ArrayList<CourseOffering> searchOfferingsByInstructor(String instructorName) {
-        ArrayList<CourseOffering> results = new ArrayList<>();
-        
-        if (instructorName == null || instructorName.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = instructorName.toLowerCase().trim();
-        
-        for (CourseOffering offering : directory.getCourseOfferings()) {
-            if (offering.getInstructor() != null) {
-                String fullName = offering.getInstructor().getFullName().toLowerCase();
-                if (fullName.contains(searchTerm)) {
-                    results.add(offering);
-                }
+        return OP_SEARCH_OFFERINGS_BY_INSTRUCTOR.time(() -> doSearchOfferingsByInstructor(instructorName));
+    }
+    
+    private ArrayList<CourseOffering> doSearchOfferingsByInstructor(String instructorName) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchOfferingsByInstructor", instructorName);
+        try {
+            ArrayList<CourseOffering> results = new ArrayList<>();
+            
+            if (instructorName == null || instructorName.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(offeringSearchVersion(),
+                () -> directory.findOfferingsByInstructorContaining(instructorName.trim()), "searchOfferingsByInstructor", instructorName.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search course offerings by semester
      */
-    public ArrayList<CourseOffering> searchOfferingsBySemester(Semester semester) {
-        if (semester == null) {
-            return new ArrayList<>();
+    public List<CourseOffering> searchOfferingsBySemester(Semester semester) {
+        return OP_SEARCH_OFFERINGS_BY_SEMESTER.time(() -> doSearchOfferingsBySemester(semester));
+    }
+    
+    private List<CourseOffering> doSearchOfferingsBySemester(Semester semester) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchOfferingsBySemester", null);
+        try {
+            if (semester == null) {
+                return event.found(new ArrayList<>());
+            }
+            
+            return event.found(directory.getCourseOfferingsBySemester(semester));
+        } finally {
+            event.finish(null, semester);
         }
-        
-        return directory.getCourseOfferingsBySemester(semester);
     }
     
     /**
      * Search course offerings by course title
      */
     public ArrayList<CourseOffering> searchOfferingsByTitle(String title) {
-        ArrayList<CourseOffering> results = new ArrayList<>();
-        
-        if (title == null || title.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = title.toLowerCase().trim();
-        
-        for (CourseOffering offering : directory.getCourseOfferings()) {
-            if (offering.getCourse().getTitle().toLowerCase().contains(searchTerm)) {
-                results.add(offering);
+        return OP_SEARCH_OFFERINGS_BY_TITLE.time(() -> doSearchOfferingsByTitle(title));
+    }
+    
+    private ArrayList<CourseOffering> doSearchOfferingsByTitle(String title) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchOfferingsByTitle", title);
+        try {
+            ArrayList<CourseOffering> results = new ArrayList<>();
+            
+            if (title == null || title.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            return event.found(RESULTS.get(offeringSearchVersion(),
+                () -> directory.findOfferingsByTitleContaining(title.trim()), "searchOfferingsByTitle", title.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     // ========== DEPARTMENT SEARCH ==========
@@ -363,32 +668,52 @@ public class SearchService {
      * Search departments by name
      */
     public ArrayList<Department> searchDepartmentsByName(String name) {
-        ArrayList<Department> results = new ArrayList<>();
-        
-        if (name == null || name.trim().isEmpty()) {
-            return results;
-        }
-        
-        String searchTerm = name.toLowerCase().trim();
-        
-        for (Department dept : directory.getDepartments()) {
-            if (dept.getName().toLowerCase().contains(searchTerm)) {
-                results.add(dept);
+        return OP_SEARCH_DEPARTMENTS_BY_NAME.time(() -> doSearchDepartmentsByName(name));
+    }
+    
+    private ArrayList<Department> doSearchDepartmentsByName(String name) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchDepartmentsByName", name);
+        try {
+            ArrayList<Department> results = new ArrayList<>();
+            
+            if (name == null || name.trim().isEmpty()) {
+                return event.found(results);
             }
+            
+            String searchTerm = SearchKey.normalize(name.trim());
+            
+            return event.found(RESULTS.get(directory.getDepartmentVersion(), () -> {
+                ArrayList<Department> matches = new ArrayList<>();
+                for (Department dept : directory.getDepartments()) {
+                    if (dept.getSearchName() != null && dept.getSearchName().contains(searchTerm)) {
+                        matches.add(dept);
+                    }
+                }
+                return matches;
+            }, "searchDepartmentsByName", searchTerm));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search department by ID
      */
     public Department searchDepartmentById(String departmentId) {
-        if (departmentId == null || departmentId.trim().isEmpty()) {
-            return null;
+        return OP_SEARCH_DEPARTMENT_BY_ID.time(() -> doSearchDepartmentById(departmentId));
+    }
+    
+    private Department doSearchDepartmentById(String departmentId) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.searchDepartmentById", departmentId);
+        try {
+            if (departmentId == null || departmentId.trim().isEmpty()) {
+                return event.found(null);
+            }
+            
+            return event.found(directory.findDepartmentById(departmentId.trim()));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return directory.findDepartmentById(departmentId.trim());
     }
     
     // ========== ADVANCED SEARCH ==========
@@ -397,60 +722,158 @@ public class SearchService {
      * Search students by multiple criteria
      */
     public ArrayList<Student> advancedStudentSearch(String name, String universityId, String program) {
-        ArrayList<Student> results = new ArrayList<>(directory.getStudents());
-        
-        // Filter by name
-        if (name != null && !name.trim().isEmpty()) {
-            String searchTerm = name.toLowerCase().trim();
-            results.removeIf(student -> 
-                !student.getFullName().toLowerCase().contains(searchTerm));
-        }
-        
-        // Filter by ID
-        if (universityId != null && !universityId.trim().isEmpty()) {
-            String searchTerm = universityId.trim();
-            results.removeIf(student -> 
-                !student.getUniversityId().equalsIgnoreCase(searchTerm));
-        }
-        
-        // Filter by program
-        if (program != null && !program.trim().isEmpty()) {
-            String searchTerm = program.toLowerCase().trim();
-            results.removeIf(student -> 
-                !student.getProgram().toLowerCase().contains(searchTerm));
+        return advancedStudentSearch(name, universityId, program, null, null);
+    }
+    
+    /**
+     * Search students by multiple criteria, also by academic standing and by the
+     * semester they are actively enrolled in; null or blank criteria are ignored
+     */
+    public ArrayList<Student> advancedStudentSearch(String name, String universityId, String program,
+                                                    String academicStanding, Semester enrolledIn) {
+        return OP_ADVANCED_STUDENT_SEARCH.time(() -> doAdvancedStudentSearch(name, universityId, program,
+            academicStanding, enrolledIn));
+    }
+    
+    private ArrayList<Student> doAdvancedStudentSearch(String name, String universityId, String program,
+                                                       String academicStanding, Semester enrolledIn) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.advancedStudentSearch", name);
+        try {
+            // Most selective criterion first, intersected over per-value bitmaps
+            long version = directory.getPersonVersion();
+            if ((academicStanding != null && !academicStanding.trim().isEmpty()) || enrolledIn != null) {
+                version += directory.getStudentStatusVersion();
+            }
+            return event.found(RESULTS.get(version,
+                () -> directory.findStudentsMatching(name, universityId, program, academicStanding, enrolledIn),
+                "advancedStudentSearch", name, universityId, program, academicStanding, enrolledIn));
+        } finally {
+            event.finish(null, null);
         }
-        
-        return results;
     }
     
     /**
      * Search faculty by multiple criteria
      */
     public ArrayList<Faculty> advancedFacultySearch(String name, String universityId, String departmentName) {
-        ArrayList<Faculty> results = new ArrayList<>(directory.getFaculties());
-        
-        // Filter by name
-        if (name != null && !name.trim().isEmpty()) {
-            String searchTerm = name.toLowerCase().trim();
-            results.removeIf(faculty -> 
-                !faculty.getFullName().toLowerCase().contains(searchTerm));
-        }
-        
-        // Filter by ID
-        if (universityId != null && !universityId.trim().isEmpty()) {
-            String searchTerm = universityId.trim();
-            results.removeIf(faculty -> 
-                !faculty.getUniversityId().equalsIgnoreCase(searchTerm));
-        }
-        
-        // Filter by department
-        if (departmentName != null && !departmentName.trim().isEmpty()) {
-            String searchTerm = departmentName.toLowerCase().trim();
-            results.removeIf(faculty -> 
-                faculty.getDepartment() == null || 
-                !faculty.getDepartment().getName().toLowerCase().contains(searchTerm));
-        }
-        
-        return results;
-    }
-}
\ No newline at end of file
+        return OP_ADVANCED_FACULTY_SEARCH.time(() -> doAdvancedFacultySearch(name, universityId,
+            departmentName));
+    }
+    
+    private ArrayList<Faculty> doAdvancedFacultySearch(String name, String universityId, String departmentName) {
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.advancedFacultySearch", name);
+        try {
+            return event.found(RESULTS.get(directory.getPersonVersion() + directory.getDepartmentVersion(),
+                () -> directory.findFacultiesMatching(name, universityId, departmentName), "advancedFacultySearch", name, universityId, departmentName));
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    // ========== PAGED SEARCH ==========
+    
+    /**
+     * One page of advancedStudentSearch results; pass null as the cursor for the
+     * first page and the page's next cursor for the following one
+     */
+    public SearchPage<Student> advancedStudentSearchPage(String name, String universityId, String program,
+                                                         String academicStanding, Semester enrolledIn,
+                                                         String cursor, int pageSize) {
+        return OP_ADVANCED_STUDENT_SEARCH_PAGE.time(() -> doAdvancedStudentSearchPage(name, universityId,
+            program, academicStanding, enrolledIn, cursor, pageSize));
+    }
+    
+    private SearchPage<Student> doAdvancedStudentSearchPage(String name, String universityId, String program,
+                                                            String academicStanding, Semester enrolledIn,
+                                                            String cursor, int pageSize) {
+        checkPageSize(pageSize);
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.advancedStudentSearchPage", name);
+        try {
+            SearchPage<Student> page = directory.findStudentsMatching(name, universityId, program,
+                academicStanding, enrolledIn, cursor, pageSize);
+            event.found(page.getItems());
+            return page;
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * One page of advancedFacultySearch results; cursors work as in advancedStudentSearchPage
+     */
+    public SearchPage<Faculty> advancedFacultySearchPage(String name, String universityId, String departmentName,
+                                                         String cursor, int pageSize) {
+        return OP_ADVANCED_FACULTY_SEARCH_PAGE.time(() -> doAdvancedFacultySearchPage(name, universityId,
+            departmentName, cursor, pageSize));
+    }
+    
+    private SearchPage<Faculty> doAdvancedFacultySearchPage(String name, String universityId, String departmentName,
+                                                            String cursor, int pageSize) {
+        checkPageSize(pageSize);
+        DomainEvents.SearchEvent event = DomainEvents.beginSearch("SearchService.advancedFacultySearchPage", name);
+        try {
+            SearchPage<Faculty> page = directory.findFacultiesMatching(name, universityId, departmentName,
+                cursor, pageSize);
+            event.found(page.getItems());
+            return page;
+        } finally {
+            event.finish(null, null);
+        }
+    }
+    
+    /**
+     * advancedStudentSearch results fetched a page at a time as the stream is consumed
+     */
+    public Stream<Student> streamStudents(String name, String universityId, String program,
+                                          String academicStanding, Semester enrolledIn) {
+        return stream(cursor -> advancedStudentSearchPage(name, universityId, program,
+            academicStanding, enrolledIn, cursor, STREAM_PAGE_SIZE));
+    }
+    
+    /**
+     * advancedFacultySearch results fetched a page at a time as the stream is consumed
+     */
+    public Stream<Faculty> streamFaculties(String name, String universityId, String departmentName) {
+        return stream(cursor -> advancedFacultySearchPage(name, universityId, departmentName,
+            cursor, STREAM_PAGE_SIZE));
+    }
+    
+    private static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+    
+    /**
+     * Lazy stream over successive pages; no lock is held between pages, so
+     * edits made while the stream is consumed are seen by the later pages
+     */
+    private static <T> Stream<T> stream(Function<String, SearchPage<T>> fetch) {
+        Iterator<T> results = new Iterator<T>() {
+            private SearchPage<T> page;
+            private int next;
+            
+            @Override
+            public boolean hasNext() {
+                if (page == null) {
+                    page = fetch.apply(null);
+                }
+                while (next == page.getItems().size() && page.hasMore()) {
+                    page = fetch.apply(page.getNextCursor());
+                    next = 0;
+                }
+                return next < page.getItems().size();
+            }
+            
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.getItems().get(next++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results,
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
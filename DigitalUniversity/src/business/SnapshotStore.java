@@ -0,0 +1,899 @@
+package business;
+
+import model.*;
+import accesscontrol.*;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SnapshotStore - Binary snapshot of the university directory and user accounts
+ *
+ * Each entity is written once, in sections ordered so that references only
+ * point backwards, and is referenced elsewhere by its integer handle (its
+ * position within its section; -1 for null). Strings are interned into a
+ * table built on the fly. Loading pulls the file into one buffer with a
+ * single NIO channel read (no mapping, so the file can be replaced on save
+ * even on Windows), decodes everything into fresh objects and only then
+ * publishes them to the directory, so a corrupt snapshot never leaves the
+ * directory half-loaded.
+ * Author: [Your Name]
+ */
+public class SnapshotStore {
+
+    public static final String DEFAULT_FILE = "university.snapshot";
+
+    private static final int MAGIC = 0x44555331; // "DUS1"
+    private static final int VERSION = 1;
+
+    // Person type tags
+    private static final byte PERSON = 0;
+    private static final byte STUDENT = 1;
+    private static final byte FACULTY = 2;
+    private static final byte ADMIN = 3;
+    private static final byte REGISTRAR = 4;
+
+    // Enrollment membership flags
+    private static final byte IN_DIRECTORY = 1;
+    private static final byte IN_STUDENT = 2;
+    private static final byte IN_OFFERING = 4;
+
+    private UniversityDirectory directory;
+    private AuthenticationService authService;
+
+    public SnapshotStore() {
+        this.directory = UniversityDirectory.getInstance();
+        this.authService = AuthenticationService.getInstance();
+    }
+
+    /**
+     * Snapshot location; override with -Duniversity.snapshot=path
+     */
+    public static Path getDefaultPath() {
+        return Paths.get(System.getProperty("university.snapshot", DEFAULT_FILE));
+    }
+
+    // ========== SAVE ==========
+
+    /**
+     * Write a snapshot; the file is replaced atomically where the platform allows
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            new Writer(out).writeAll();
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private class Writer {
+        private final DataOutputStream out;
+        private final HashMap<String, Integer> strings = new HashMap<>();
+        private final IdentityHashMap<Object, Integer> handles = new IdentityHashMap<>();
+        private final IdentityHashMap<Student, StudentState> studentStates = new IdentityHashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeAll() throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            ArrayList<Department> departments = directory.getDepartments();
+            out.writeInt(departments.size());
+            for (int i = 0; i < departments.size(); i++) {
+                Department d = departments.get(i);
+                handles.put(d, i);
+                writeString(d.getDepartmentId());
+                writeString(d.getName());
+                writeString(d.getLocation());
+            }
+
+            ArrayList<Course> courses = directory.getCourses();
+            out.writeInt(courses.size());
+            for (int i = 0; i < courses.size(); i++) {
+                Course c = courses.get(i);
+                handles.put(c, i);
+                writeString(c.getCourseId());
+                writeString(c.getTitle());
+                writeString(c.getDescription());
+                out.writeInt(c.getCreditHours());
+                writeRef(c.getDepartment());
+                out.writeBoolean(c.isCoreRequired());
+            }
+
+            ArrayList<Semester> semesters = directory.getSemesters();
+            out.writeInt(semesters.size());
+            for (int i = 0; i < semesters.size(); i++) {
+                Semester s = semesters.get(i);
+                handles.put(s, i);
+                writeString(s.getSemesterId());
+                writeString(s.getTerm());
+                out.writeInt(s.getYear());
+                writeDate(s.getStartDate());
+                writeDate(s.getEndDate());
+                out.writeBoolean(s.isActive());
+            }
+
+            ArrayList<Person> persons = directory.getPersons();
+            captureStudents(persons);
+            out.writeInt(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                Person p = persons.get(i);
+                handles.put(p, i);
+                writePerson(p);
+            }
+
+            // Department membership (persons now have handles)
+            for (Department d : departments) {
+                writeRefs(d.getFacultyMembers());
+                writeRefs(d.getStudents());
+            }
+
+            ArrayList<CourseOffering> offerings = directory.getCourseOfferings();
+            out.writeInt(offerings.size());
+            for (int i = 0; i < offerings.size(); i++) {
+                CourseOffering o = offerings.get(i);
+                handles.put(o, i);
+                writeString(o.getOfferingId());
+                writeRef(o.getCourse());
+                writeRef(o.getSemester());
+                writeRef(o.getInstructor());
+                writeString(o.getSchedule());
+                writeString(o.getRoomLocation());
+                out.writeInt(o.getMaxCapacity());
+                out.writeBoolean(o.isEnrollmentOpen());
+                writeString(o.getSyllabus());
+            }
+
+            // Faculty teaching assignments, in person order
+            for (Person p : persons) {
+                if (p instanceof Faculty) {
+                    writeRefs(((Faculty) p).getAssignedCourses());
+                }
+            }
+
+            writeEnrollments(persons, offerings);
+            writePayments(persons);
+            writeAssignments(offerings);
+            writeWaitlists(offerings);
+            writeUsers();
+
+            int[] counters = directory.getIdCounters();
+            out.writeInt(counters.length);
+            for (int counter : counters) {
+                out.writeInt(counter);
+            }
+            out.writeInt(Assignment.getAssignmentCounter());
+        }
+
+        /**
+         * Copy each student's balance, enrollments and payments under its
+         * registration lock, which every enroll, drop, payment and grade holds,
+         * so the snapshot never sees half of one of those changes
+         */
+        private void captureStudents(ArrayList<Person> persons) {
+            for (Person p : persons) {
+                if (p instanceof Student) {
+                    Student s = (Student) p;
+                    ReentrantLock lock = s.getRegistrationLock();
+                    lock.lock();
+                    try {
+                        studentStates.put(s, new StudentState(s));
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+        private void writePerson(Person p) throws IOException {
+            byte tag = p instanceof Student ? STUDENT
+                     : p instanceof Faculty ? FACULTY
+                     : p instanceof Admin ? ADMIN
+                     : p instanceof Registrar ? REGISTRAR
+                     : PERSON;
+            out.writeByte(tag);
+            writeString(p.getUniversityId());
+            writeString(p.getFirstName());
+            writeString(p.getLastName());
+            writeString(p.getEmail());
+            writeString(p.getPhoneNumber());
+            writeString(p.getAddress());
+
+            switch (tag) {
+                case STUDENT:
+                    Student s = (Student) p;
+                    StudentState state = studentStates.get(s);
+                    writeString(s.getProgram());
+                    writeString(s.getAcademicStanding());
+                    out.writeDouble(state.overallGPA);
+                    out.writeInt(state.totalCreditsCompleted);
+                    out.writeDouble(state.accountBalance);
+                    break;
+                case FACULTY:
+                    Faculty f = (Faculty) p;
+                    writeRef(f.getDepartment());
+                    writeString(f.getOfficeLocation());
+                    writeString(f.getOfficeHours());
+                    break;
+                case ADMIN:
+                    writeString(((Admin) p).getAdminLevel());
+                    break;
+                case REGISTRAR:
+                    Registrar r = (Registrar) p;
+                    writeString(r.getOfficeLocation());
+                    writeString(r.getOfficeHours());
+                    writeString(r.getDepartment());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Enrollments live in up to three lists (directory, student, offering);
+         * write each once with flags saying which lists hold it. Enrollments of
+         * a student come from its captured state; any others (a change that
+         * began after the capture) are written as found, and replaying their
+         * journal record completes them.
+         */
+        private void writeEnrollments(ArrayList<Person> persons, ArrayList<CourseOffering> offerings)
+                throws IOException {
+            IdentityHashMap<Enrollment, EnrollmentState> states = new IdentityHashMap<>();
+            ArrayList<EnrollmentState> all = new ArrayList<>();
+
+            // Student order first so each student's list keeps its order on reload
+            for (Person p : persons) {
+                if (p instanceof Student) {
+                    for (EnrollmentState state : studentStates.get((Student) p).enrollments) {
+                        states.put(state.enrollment, state);
+                        all.add(state);
+                    }
+                }
+            }
+            // Read after the capture: a captured enrollment was added to the
+            // directory before its student, under the same lock
+            ArrayList<Enrollment> directoryEnrollments = directory.getEnrollments();
+            Set<Enrollment> inDirectory = identitySet(directoryEnrollments);
+            for (Enrollment e : directoryEnrollments) {
+                if (!states.containsKey(e)) {
+                    EnrollmentState state = new EnrollmentState(e, 0);
+                    states.put(e, state);
+                    all.add(state);
+                }
+            }
+            for (CourseOffering o : offerings) {
+                for (Enrollment e : o.getEnrollments()) {
+                    EnrollmentState state = states.get(e);
+                    if (state == null) {
+                        state = new EnrollmentState(e, 0);
+                        states.put(e, state);
+                        all.add(state);
+                    }
+                    if ((state.flags & IN_STUDENT) == 0) {
+                        state.flags |= IN_OFFERING; // captured ones keep what the lock saw
+                    }
+                }
+            }
+
+            out.writeInt(all.size());
+            int i = 0;
+            for (EnrollmentState state : all) {
+                Enrollment e = state.enrollment;
+                handles.put(e, i++);
+                writeString(e.getEnrollmentId());
+                writeRef(e.getStudent());
+                writeRef(e.getCourseOffering());
+                writeDate(e.getEnrollmentDate());
+                writeDate(state.dropDate);
+                out.writeBoolean(state.active);
+                writeString(state.grade);
+                out.writeBoolean(state.paid);
+                out.writeDouble(e.getTuitionAmount());
+                out.writeByte(state.flags | (inDirectory.contains(e) ? IN_DIRECTORY : 0));
+            }
+        }
+
+        private void writePayments(ArrayList<Person> persons) throws IOException {
+            int count = 0;
+            for (Person p : persons) {
+                if (p instanceof Student) {
+                    count += studentStates.get((Student) p).payments.size();
+                }
+            }
+            out.writeInt(count);
+            for (Person p : persons) {
+                if (p instanceof Student) {
+                    for (TuitionPayment payment : studentStates.get((Student) p).payments) {
+                        writeRef(p);
+                        writeString(payment.getPaymentId());
+                        writeRef(payment.getEnrollment());
+                        out.writeDouble(payment.getAmount());
+                        writeDateTime(payment.getPaymentDate());
+                        writeString(payment.getPaymentMethod());
+                        writeString(payment.getSemester());
+                        writeString(payment.getDescription());
+                    }
+                }
+            }
+        }
+
+        private void writeAssignments(ArrayList<CourseOffering> offerings) throws IOException {
+            int count = 0;
+            for (CourseOffering o : offerings) {
+                count += o.getAssignments().size();
+            }
+            out.writeInt(count);
+            for (CourseOffering o : offerings) {
+                for (Assignment a : o.getAssignments()) {
+                    writeRef(o);
+                    writeString(a.getAssignmentId());
+                    writeString(a.getTitle());
+                    writeString(a.getDescription());
+                    writeDate(a.getDueDate());
+                    out.writeDouble(a.getMaxPoints());
+                    out.writeInt(a.getSubmissions().size());
+                    for (Map.Entry<Student, Double> submission : a.getSubmissions().entrySet()) {
+                        writeRef(submission.getKey());
+                        out.writeDouble(submission.getValue());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Blocked entries are written as waiting ones; the first promotion
+         * after loading blocks them again if they are still over the limit
+         */
+        private void writeWaitlists(ArrayList<CourseOffering> offerings) throws IOException {
+            HashMap<CourseOffering, ArrayList<WaitlistEntry>> waiting = new HashMap<>();
+            for (CourseOffering o : offerings) {
+                ArrayList<WaitlistEntry> entries = o.getWaitlist().getEntries();
+                if (!entries.isEmpty()) {
+                    waiting.put(o, entries);
+                }
+            }
+            out.writeInt(waiting.size());
+            for (CourseOffering o : offerings) {
+                ArrayList<WaitlistEntry> entries = waiting.get(o);
+                if (entries == null) {
+                    continue;
+                }
+                writeRef(o);
+                out.writeInt(entries.size());
+                for (WaitlistEntry entry : entries) {
+                    writeRef(entry.getStudent());
+                    out.writeInt(entry.getPriorityClass());
+                    writeDateTime(entry.getRegistrationTime());
+                }
+            }
+        }
+
+        private void writeUsers() throws IOException {
+            ArrayList<User> users = new ArrayList<>(authService.getAllUsers().values());
+            out.writeInt(users.size());
+            for (User u : users) {
+                writeString(u.getUsername());
+                writeString(u.getPassword());
+                writeString(u.getRole());
+                writeRef(u.getPerson());
+                out.writeBoolean(u.isActive());
+            }
+        }
+
+        // ----- primitives -----
+
+        /**
+         * Interned string: -1 for null, a known index, or the next index followed by its UTF-8 bytes
+         */
+        private void writeString(String s) throws IOException {
+            if (s == null) {
+                out.writeInt(-1);
+                return;
+            }
+            Integer index = strings.get(s);
+            if (index != null) {
+                out.writeInt(index);
+                return;
+            }
+            index = strings.size();
+            strings.put(s, index);
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(index);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeRef(Object entity) throws IOException {
+            Integer handle = entity == null ? null : handles.get(entity);
+            out.writeInt(handle == null ? -1 : handle);
+        }
+
+        private void writeRefs(List<?> entities) throws IOException {
+            int count = 0;
+            for (Object entity : entities) {
+                if (handles.containsKey(entity)) {
+                    count++;
+                }
+            }
+            out.writeInt(count);
+            for (Object entity : entities) {
+                if (handles.containsKey(entity)) {
+                    writeRef(entity);
+                }
+            }
+        }
+
+        private void writeDate(LocalDate date) throws IOException {
+            out.writeLong(date == null ? Long.MIN_VALUE : date.toEpochDay());
+        }
+
+        private void writeDateTime(LocalDateTime dateTime) throws IOException {
+            if (dateTime == null) {
+                out.writeLong(Long.MIN_VALUE);
+                return;
+            }
+            out.writeLong(dateTime.toLocalDate().toEpochDay());
+            out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+        }
+    }
+
+    /**
+     * A student's registration state as of one moment; taken under its lock
+     */
+    private static final class StudentState {
+        final double overallGPA;
+        final int totalCreditsCompleted;
+        final double accountBalance;
+        final ArrayList<EnrollmentState> enrollments = new ArrayList<>();
+        final ArrayList<TuitionPayment> payments;
+
+        StudentState(Student s) {
+            this.overallGPA = s.getOverallGPA();
+            this.totalCreditsCompleted = s.getTotalCreditsCompleted();
+            this.accountBalance = s.getAccountBalance();
+            for (Enrollment e : s.getEnrollments()) {
+                CourseOffering o = e.getCourseOffering();
+                boolean onRoster = o != null && o.getEnrollments().contains(e);
+                enrollments.add(new EnrollmentState(e, IN_STUDENT | (onRoster ? IN_OFFERING : 0)));
+            }
+            this.payments = s.getPaymentHistory();
+        }
+    }
+
+    /**
+     * The mutable fields of an enrollment as of one moment
+     */
+    private static final class EnrollmentState {
+        final Enrollment enrollment;
+        final LocalDate dropDate;
+        final boolean active;
+        final String grade;
+        final boolean paid;
+        int flags;
+
+        EnrollmentState(Enrollment e, int flags) {
+            this.enrollment = e;
+            this.dropDate = e.getDropDate();
+            this.active = e.isActive();
+            this.grade = e.getGrade();
+            this.paid = e.isPaid();
+            this.flags = flags;
+        }
+    }
+
+    private static <T> Set<T> identitySet(List<T> items) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(items);
+        return set;
+    }
+
+    // ========== LOAD ==========
+
+    /**
+     * Restore a snapshot into the (empty) directory and authentication service
+     * Returns false if the file does not exist.
+     */
+    public boolean load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        if (!directory.getPersons().isEmpty() || !directory.getCourses().isEmpty()) {
+            throw new IllegalStateException("Snapshots can only be loaded into an empty directory");
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large: " + file);
+            }
+            buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full
+            }
+            buffer.flip();
+        }
+
+        Reader reader = new Reader(buffer);
+        try {
+            reader.readAll();
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt snapshot " + file + ": " + e, e);
+        }
+        reader.publish();
+        return true;
+    }
+
+    private class Reader {
+        private final ByteBuffer in;
+        private final ArrayList<String> strings = new ArrayList<>();
+
+        private Department[] departments;
+        private Course[] courses;
+        private Semester[] semesters;
+        private Person[] persons;
+        private double[] balances; // applied after enrollments, which add tuition
+        private CourseOffering[] offerings;
+        private Enrollment[] enrollments;
+        private ArrayList<Enrollment> directoryEnrollments = new ArrayList<>();
+        private IdentityHashMap<CourseOffering, ArrayList<Enrollment>> offeringEnrollments = new IdentityHashMap<>();
+        private ArrayList<User> users = new ArrayList<>();
+        private int[] idCounters;
+        private int assignmentCounter;
+
+        Reader(ByteBuffer in) {
+            this.in = in;
+        }
+
+        void readAll() {
+            if (in.getInt() != MAGIC) {
+                throw new IllegalArgumentException("not a snapshot file");
+            }
+            int version = in.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("unsupported snapshot version " + version);
+            }
+
+            departments = new Department[in.getInt()];
+            for (int i = 0; i < departments.length; i++) {
+                Department d = new Department(readString(), readString());
+                d.setLocation(readString());
+                departments[i] = d;
+            }
+
+            courses = new Course[in.getInt()];
+            for (int i = 0; i < courses.length; i++) {
+                String courseId = readString();
+                String title = readString();
+                String description = readString();
+                int creditHours = in.getInt();
+                Course c = new Course(courseId, title, creditHours, ref(departments));
+                c.setDescription(description);
+                c.setCoreRequired(in.get() != 0);
+                courses[i] = c;
+            }
+
+            semesters = new Semester[in.getInt()];
+            for (int i = 0; i < semesters.length; i++) {
+                Semester s = new Semester(readString(), readString(), in.getInt());
+                s.setStartDate(readDate());
+                s.setEndDate(readDate());
+                s.setActive(in.get() != 0);
+                semesters[i] = s;
+            }
+
+            persons = new Person[in.getInt()];
+            balances = new double[persons.length];
+            for (int i = 0; i < persons.length; i++) {
+                persons[i] = readPerson(i);
+            }
+
+            for (Department d : departments) {
+                d.getFacultyMembers().addAll(refs(persons, Faculty.class));
+                d.getStudents().addAll(refs(persons, Student.class));
+            }
+
+            offerings = new CourseOffering[in.getInt()];
+            for (int i = 0; i < offerings.length; i++) {
+                String offeringId = readString();
+                Course course = ref(courses);
+                Semester semester = ref(semesters);
+                Faculty instructor = (Faculty) ref(persons);
+                CourseOffering o = new CourseOffering(offeringId, course, semester, instructor);
+                o.setSchedule(readString());
+                o.setRoomLocation(readString());
+                o.setMaxCapacity(in.getInt());
+                o.setEnrollmentOpen(in.get() != 0);
+                o.setSyllabus(readString());
+                offerings[i] = o;
+            }
+
+            for (Person p : persons) {
+                if (p instanceof Faculty) {
+                    ((Faculty) p).getAssignedCourses().addAll(refs(offerings, CourseOffering.class));
+                }
+            }
+
+            readEnrollments();
+            readPayments();
+            readAssignments();
+            readWaitlists();
+            readUsers();
+
+            idCounters = new int[in.getInt()];
+            for (int i = 0; i < idCounters.length; i++) {
+                idCounters[i] = in.getInt();
+            }
+            assignmentCounter = in.getInt();
+
+            for (int i = 0; i < persons.length; i++) {
+                if (persons[i] instanceof Student) {
+                    ((Student) persons[i]).setAccountBalance(balances[i]);
+                }
+            }
+        }
+
+        private Person readPerson(int index) {
+            byte tag = in.get();
+            String universityId = readString();
+            String firstName = readString();
+            String lastName = readString();
+            String email = readString();
+            String phoneNumber = readString();
+            String address = readString();
+
+            Person p;
+            switch (tag) {
+                case STUDENT:
+                    Student s = new Student(universityId, firstName, lastName, email, readString());
+                    s.setAcademicStanding(readString());
+                    s.setOverallGPA(in.getDouble());
+                    s.setTotalCreditsCompleted(in.getInt());
+                    balances[index] = in.getDouble();
+                    p = s;
+                    break;
+                case FACULTY:
+                    Faculty f = new Faculty(universityId, firstName, lastName, email, ref(departments));
+                    f.setOfficeLocation(readString());
+                    f.setOfficeHours(readString());
+                    p = f;
+                    break;
+                case ADMIN:
+                    Admin a = new Admin(universityId, firstName, lastName, email);
+                    a.setAdminLevel(readString());
+                    p = a;
+                    break;
+                case REGISTRAR:
+                    Registrar r = new Registrar(universityId, firstName, lastName, email);
+                    r.setOfficeLocation(readString());
+                    r.setOfficeHours(readString());
+                    r.setDepartment(readString());
+                    p = r;
+                    break;
+                case PERSON:
+                    p = new Person(universityId, firstName, lastName, email);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown person type " + tag);
+            }
+            p.setPhoneNumber(phoneNumber);
+            p.setAddress(address);
+            return p;
+        }
+
+        private void readEnrollments() {
+            enrollments = new Enrollment[in.getInt()];
+            for (int i = 0; i < enrollments.length; i++) {
+                String enrollmentId = readString();
+                Student student = (Student) ref(persons);
+                CourseOffering offering = ref(offerings);
+                Enrollment e = new Enrollment(enrollmentId, student, offering);
+                e.setEnrollmentDate(readDate());
+                e.setDropDate(readDate());
+                e.setActive(in.get() != 0);
+                String grade = readString();
+                if (grade != null) {
+                    e.setGrade(grade);
+                }
+                e.setPaid(in.get() != 0);
+                e.setTuitionAmount(in.getDouble());
+                int flags = in.get();
+
+                if ((flags & IN_STUDENT) != 0 && student != null) {
+                    student.addEnrollment(e);
+                }
+                if ((flags & IN_OFFERING) != 0) {
+                    offeringEnrollments.computeIfAbsent(offering, o -> new ArrayList<>()).add(e);
+                }
+                if ((flags & IN_DIRECTORY) != 0) {
+                    directoryEnrollments.add(e);
+                }
+                enrollments[i] = e;
+            }
+            // One bulk add per offering instead of a copy-on-write copy per enrollment
+            for (Map.Entry<CourseOffering, ArrayList<Enrollment>> group : offeringEnrollments.entrySet()) {
+                group.getKey().addEnrollments(group.getValue());
+            }
+        }
+
+        private void readPayments() {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                Student student = (Student) ref(persons);
+                String paymentId = readString();
+                Enrollment enrollment = ref(enrollments);
+                double amount = in.getDouble();
+                TuitionPayment payment = new TuitionPayment(paymentId, student, enrollment, amount);
+                payment.setPaymentDate(readDateTime());
+                payment.setPaymentMethod(readString());
+                payment.setSemester(readString());
+                payment.setDescription(readString());
+                student.addPayment(payment);
+            }
+        }
+
+        private void readAssignments() {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                CourseOffering offering = ref(offerings);
+                String assignmentId = readString();
+                String title = readString();
+                String description = readString();
+                LocalDate dueDate = readDate();
+                Assignment a = new Assignment(title, description, offering, in.getDouble());
+                a.setAssignmentId(assignmentId);
+                a.setDueDate(dueDate);
+                int submissions = in.getInt();
+                for (int j = 0; j < submissions; j++) {
+                    Student student = (Student) ref(persons);
+                    a.getSubmissions().put(student, in.getDouble());
+                }
+                offering.getAssignments().add(a);
+            }
+        }
+
+        private void readWaitlists() {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                CourseOffering offering = ref(offerings);
+                int entries = in.getInt();
+                for (int j = 0; j < entries; j++) {
+                    Student student = (Student) ref(persons);
+                    int priorityClass = in.getInt();
+                    LocalDateTime registrationTime = readDateTime();
+                    offering.getWaitlist().add(
+                        new WaitlistEntry(student, offering, priorityClass, registrationTime));
+                }
+            }
+        }
+
+        private void readUsers() {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                String username = readString();
+                String password = readString();
+                String role = readString();
+                User u = new User(username, password, role, ref(persons));
+                u.setActive(in.get() != 0);
+                users.add(u);
+            }
+        }
+
+        /**
+         * Hand the decoded objects to the directory and authentication service
+         */
+        void publish() {
+            for (Department d : departments) {
+                directory.addDepartment(d);
+            }
+            for (Course c : courses) {
+                directory.addCourse(c);
+            }
+            for (Semester s : semesters) {
+                directory.addSemester(s);
+            }
+            for (Person p : persons) {
+                if (p instanceof Student) {
+                    directory.addStudent((Student) p);
+                } else if (p instanceof Faculty) {
+                    directory.addFaculty((Faculty) p);
+                } else if (p instanceof Admin) {
+                    directory.addAdmin((Admin) p);
+                } else if (p instanceof Registrar) {
+                    directory.addRegistrar((Registrar) p);
+                } else {
+                    directory.addPerson(p);
+                }
+            }
+            for (CourseOffering o : offerings) {
+                directory.addCourseOffering(o);
+            }
+            directory.addEnrollments(directoryEnrollments);
+            for (User u : users) {
+                authService.registerUser(u);
+            }
+            directory.restoreIdCounters(idCounters);
+            Assignment.setAssignmentCounter(assignmentCounter);
+        }
+
+        // ----- primitives -----
+
+        private String readString() {
+            int index = in.getInt();
+            if (index < 0) {
+                return null;
+            }
+            if (index < strings.size()) {
+                return strings.get(index);
+            }
+            if (index != strings.size()) {
+                throw new IllegalArgumentException("bad string index " + index);
+            }
+            byte[] bytes = new byte[in.getInt()];
+            in.get(bytes);
+            String s = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(s);
+            return s;
+        }
+
+        private <T> T ref(T[] table) {
+            int handle = in.getInt();
+            return handle < 0 ? null : table[handle];
+        }
+
+        private <T> ArrayList<T> refs(Object[] table, Class<T> type) {
+            int count = in.getInt();
+            ArrayList<T> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(type.cast(table[in.getInt()]));
+            }
+            return result;
+        }
+
+        private LocalDate readDate() {
+            long epochDay = in.getLong();
+            return epochDay == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(epochDay);
+        }
+
+        private LocalDateTime readDateTime() {
+            long epochDay = in.getLong();
+            if (epochDay == Long.MIN_VALUE) {
+                return null;
+            }
+            return LocalDateTime.of(LocalDate.ofEpochDay(epochDay),
+                                    LocalTime.ofNanoOfDay(in.getLong()));
+        }
+    }
+}
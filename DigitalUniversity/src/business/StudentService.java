@@ -4,6 +4,7 @@ import model.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * StudentService - Business logic for student operations
@@ -11,10 +12,61 @@ import java.util.HashMap;
  */
 public class StudentService {
     
+    // Latency metrics, one per public operation
+    private static final OperationMetric OP_ENROLL_IN_COURSE =
+        MetricsRegistry.getInstance().operation("StudentService.enrollInCourse");
+    private static final OperationMetric OP_DROP_COURSE =
+        MetricsRegistry.getInstance().operation("StudentService.dropCourse");
+    private static final OperationMetric OP_GET_AVAILABLE_COURSES =
+        MetricsRegistry.getInstance().operation("StudentService.getAvailableCourses");
+    private static final OperationMetric OP_SEARCH_BY_COURSE_ID =
+        MetricsRegistry.getInstance().operation("StudentService.searchByCourseId");
+    private static final OperationMetric OP_SEARCH_BY_INSTRUCTOR =
+        MetricsRegistry.getInstance().operation("StudentService.searchByInstructor");
+    private static final OperationMetric OP_SEARCH_BY_TITLE =
+        MetricsRegistry.getInstance().operation("StudentService.searchByTitle");
+    private static final OperationMetric OP_IS_ELIGIBLE_TO_GRADUATE =
+        MetricsRegistry.getInstance().operation("StudentService.isEligibleToGraduate");
+    private static final OperationMetric OP_GET_GRADUATION_STATUS =
+        MetricsRegistry.getInstance().operation("StudentService.getGraduationStatus");
+    private static final OperationMetric OP_UPDATE_CREDITS_COMPLETED =
+        MetricsRegistry.getInstance().operation("StudentService.updateCreditsCompleted");
+    private static final OperationMetric OP_GET_TRANSCRIPT_BY_SEMESTER =
+        MetricsRegistry.getInstance().operation("StudentService.getTranscriptBySemester");
+    private static final OperationMetric OP_GET_COMPLETE_TRANSCRIPT =
+        MetricsRegistry.getInstance().operation("StudentService.getCompleteTranscript");
+    private static final OperationMetric OP_CALCULATE_TERM_GPA =
+        MetricsRegistry.getInstance().operation("StudentService.calculateTermGPA");
+    private static final OperationMetric OP_CAN_VIEW_TRANSCRIPT =
+        MetricsRegistry.getInstance().operation("StudentService.canViewTranscript");
+    private static final OperationMetric OP_PAY_FOR_COURSE =
+        MetricsRegistry.getInstance().operation("StudentService.payForCourse");
+    private static final OperationMetric OP_GET_UNPAID_ENROLLMENTS =
+        MetricsRegistry.getInstance().operation("StudentService.getUnpaidEnrollments");
+    private static final OperationMetric OP_GET_PAYMENT_HISTORY =
+        MetricsRegistry.getInstance().operation("StudentService.getPaymentHistory");
+    private static final OperationMetric OP_CALCULATE_UNPAID_BALANCE =
+        MetricsRegistry.getInstance().operation("StudentService.calculateUnpaidBalance");
+    private static final OperationMetric OP_CALCULATE_TOTAL_TUITION =
+        MetricsRegistry.getInstance().operation("StudentService.calculateTotalTuition");
+    private static final OperationMetric OP_SUBMIT_ASSIGNMENT =
+        MetricsRegistry.getInstance().operation("StudentService.submitAssignment");
+    private static final OperationMetric OP_GET_COURSE_ASSIGNMENTS =
+        MetricsRegistry.getInstance().operation("StudentService.getCourseAssignments");
+    private static final OperationMetric OP_GET_ASSIGNMENT_SCORE =
+        MetricsRegistry.getInstance().operation("StudentService.getAssignmentScore");
+    
+    // Recent course searches, dropped when an offering, course or instructor changes
+    private static final ResultCache RESULTS = new ResultCache("StudentService", 256);
+    
     private UniversityDirectory directory;
+    private WaitlistService waitlistService;
+    private MutationJournal journal;
     
     public StudentService() {
         this.directory = UniversityDirectory.getInstance();
+        this.waitlistService = new WaitlistService();
+        this.journal = MutationJournal.getInstance();
     }
     
     // ========== COURSE REGISTRATION ==========
@@ -23,111 +75,173 @@ public class StudentService {
      * Enroll student in a course offering
      */
     public Enrollment enrollInCourse(Student student, CourseOffering offering) {
-        // Validation
-        if (student == null || offering == null) {
-            throw new IllegalArgumentException("Student and course offering cannot be null");
-        }
-        
-        // Check if enrollment is open
-        if (!offering.isEnrollmentOpen()) {
-            throw new IllegalArgumentException("Enrollment is closed for this course");
-        }
-        
-        // Check if course has available seats
-        if (!offering.hasAvailableSeats()) {
-            throw new IllegalArgumentException("Course is full");
-        }
-        
-        // Check if student is already enrolled
-        for (Enrollment e : student.getEnrollments()) {
-            if (e.getCourseOffering().equals(offering) && e.isActive()) {
-                throw new IllegalArgumentException("Already enrolled in this course");
+        return OP_ENROLL_IN_COURSE.time(() -> doEnrollInCourse(student, offering));
+    }
+    
+    private Enrollment doEnrollInCourse(Student student, CourseOffering offering) {
+        DomainEvents.EnrollmentEvent event = new DomainEvents.EnrollmentEvent();
+        event.begin();
+        String result = null;
+        try {
+            // Validation
+            if (student == null || offering == null) {
+                throw new IllegalArgumentException("Student and course offering cannot be null");
             }
+            
+            // Check if enrollment is open
+            if (!offering.isEnrollmentOpen()) {
+                throw new IllegalArgumentException("Enrollment is closed for this course");
+            }
+            
+            // Students already on the waitlist are ahead of new registrations
+            if (!offering.getWaitlist().isEmpty()) {
+                waitlistService.promoteFromWaitlist(offering);
+            }
+            
+            // Claim a seat up front; the CAS never oversells the offering
+            if (!offering.reserveSeat()) {
+                throw new IllegalArgumentException("Course is full");
+            }
+            
+            boolean committed = false;
+            ReentrantLock lock = student.getRegistrationLock();
+            lock.lock();
+            try {
+                // Check if student is already enrolled
+                if (student.isActivelyEnrolled(offering)) {
+                    throw new IllegalArgumentException("Already enrolled in this course");
+                }
+                
+                // Check credit hour limit (max 8 credits per semester)
+                int currentCredits = student.getCurrentSemesterCredits(offering.getSemester());
+                int courseCredits = offering.getCourse().getCreditHours();
+                
+                if (currentCredits + courseCredits > 8) {
+                    throw new IllegalArgumentException(
+                        "Cannot exceed 8 credit hours per semester. Current: " + currentCredits + 
+                        ", Course: " + courseCredits
+                    );
+                }
+                
+                // Journal first: if the write is rejected nothing has changed yet
+                // and the reserved seat is released below
+                String enrollmentId = directory.generateEnrollmentId();
+                journal.append(MutationJournal.ENROLL, enrollmentId,
+                    student.getUniversityId(), offering.getOfferingId());
+                
+                // Create enrollment and add it to all relevant places
+                Enrollment enrollment = new Enrollment(enrollmentId, student, offering);
+                directory.addEnrollment(enrollment);
+                student.addEnrollment(enrollment); // This now adds tuition to balance automatically
+                offering.commitSeat(enrollment);
+                committed = true;
+                
+                result = "enrolled";
+                return enrollment;
+            } finally {
+                lock.unlock();
+                if (!committed) {
+                    offering.releaseSeat();
+                }
+            }
+        } finally {
+            event.finish(student, offering, result);
         }
-        
-        // Check credit hour limit (max 8 credits per semester)
-        int currentCredits = student.getCurrentSemesterCredits(offering.getSemester());
-        int courseCredits = offering.getCourse().getCreditHours();
-        
-        if (currentCredits + courseCredits > 8) {
-            throw new IllegalArgumentException(
-                "Cannot exceed 8 credit hours per semester. Current: " + currentCredits + 
-                ", Course: " + courseCredits
-            );
-        }
-        
-        // Create enrollment
-        String enrollmentId = directory.generateEnrollmentId();
-        Enrollment enrollment = new Enrollment(enrollmentId, student, offering);
-        
-        // Add enrollment to all relevant places
-        directory.addEnrollment(enrollment);
-        student.addEnrollment(enrollment); // This now adds tuition to balance automatically
-        offering.addEnrollment(enrollment);
-        
-        return enrollment;
     }
     
     /**
      * Drop a course
      */
     public boolean dropCourse(Student student, Enrollment enrollment) {
-        if (student == null || enrollment == null) {
-            return false;
-        }
-        
-        if (!enrollment.isActive()) {
-            throw new IllegalArgumentException("Cannot drop an inactive enrollment");
-        }
-        
-        CourseOffering offering = enrollment.getCourseOffering();
-        
-        // Mark enrollment as inactive
-        enrollment.setActive(false);
-        
-        // Remove from course offering
-        offering.removeEnrollment(enrollment);
-        
-        // Refund tuition if already paid
-        if (enrollment.isPaid()) {
-            student.refundEnrollment(enrollment);
+        return OP_DROP_COURSE.time(() -> doDropCourse(student, enrollment));
+    }
+    
+    private boolean doDropCourse(Student student, Enrollment enrollment) {
+        DomainEvents.DropEvent event = new DomainEvents.DropEvent();
+        event.begin();
+        String result = null;
+        try {
+            if (student == null || enrollment == null) {
+                result = "rejected";
+                return false;
+            }
             
-            // Create refund payment record
-            String paymentId = directory.generatePaymentId();
-            TuitionPayment refund = new TuitionPayment(
-                paymentId, 
-                student, 
-                enrollment,
-                enrollment.getTuitionAmount()
-            );
-            refund.setAmount(-enrollment.getTuitionAmount()); // Negative for refund
-            refund.setDescription("Refund for dropping " + offering.getCourse().getCourseId());
-            student.addPayment(refund);
-        } else {
-            // Just remove the tuition charge
-            student.setAccountBalance(student.getAccountBalance() - enrollment.getTuitionAmount());
+            CourseOffering offering = enrollment.getCourseOffering();
+            
+            // Re-check under the student lock so concurrent drops free the seat once
+            ReentrantLock lock = student.getRegistrationLock();
+            lock.lock();
+            try {
+                if (!enrollment.isActive()) {
+                    throw new IllegalArgumentException("Cannot drop an inactive enrollment");
+                }
+                
+                // Journal first: if the write is rejected the enrollment stays as it was
+                String refundId = enrollment.isPaid() ? directory.generatePaymentId() : null;
+                journal.append(MutationJournal.DROP, enrollment.getEnrollmentId(),
+                    student.getUniversityId(), enrollment.getDropDate(), refundId);
+                
+                // Mark enrollment as inactive
+                enrollment.setActive(false);
+                
+                // Remove from course offering
+                offering.removeEnrollment(enrollment);
+                
+                // Refund tuition if already paid
+                if (refundId != null) {
+                    student.refundEnrollment(enrollment);
+                    
+                    // Create refund payment record
+                    TuitionPayment refund = new TuitionPayment(
+                        refundId, 
+                        student, 
+                        enrollment,
+                        enrollment.getTuitionAmount()
+                    );
+                    refund.setAmount(-enrollment.getTuitionAmount()); // Negative for refund
+                    refund.setDescription("Refund for dropping " + offering.getCourse().getCourseId());
+                    student.addPayment(refund);
+                } else {
+                    // Just remove the tuition charge
+                    student.setAccountBalance(student.getAccountBalance() - enrollment.getTuitionAmount());
+                }
+            } finally {
+                lock.unlock();
+            }
+            
+            // Hand the freed seat to the waitlist outside this student's lock, and
+            // give the student back any places the credit limit blocked
+            waitlistService.promoteFromWaitlist(offering);
+            waitlistService.creditsFreed(student, offering.getSemester());
+            result = "dropped";
+            return true;
+        } finally {
+            event.finish(student, enrollment == null ? null : enrollment.getCourseOffering(), result);
         }
-        
-        return true;
     }
     
     /**
      * Get available course offerings for a semester
      */
     public ArrayList<CourseOffering> getAvailableCourses(Semester semester) {
+        return OP_GET_AVAILABLE_COURSES.time(() -> doGetAvailableCourses(semester));
+    }
+    
+    private ArrayList<CourseOffering> doGetAvailableCourses(Semester semester) {
         if (semester == null) {
             return new ArrayList<>();
         }
         
-        ArrayList<CourseOffering> available = new ArrayList<>();
-        
-        for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
-            if (co.isEnrollmentOpen() && co.hasAvailableSeats()) {
-                available.add(co);
+        // Offerings report filling up, freeing a seat and opening or closing enrollment
+        return RESULTS.get(directory.getOfferingVersion(), () -> {
+            ArrayList<CourseOffering> available = new ArrayList<>();
+            for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
+                if (co.isEnrollmentOpen() && co.hasAvailableSeats()) {
+                    available.add(co);
+                }
             }
-        }
-        
-        return available;
+            return available;
+        }, "getAvailableCourses", semester);
     }
     
     // ========== COURSE SEARCH ==========
@@ -136,66 +250,62 @@ public class StudentService {
      * Search courses by course ID
      */
     public ArrayList<CourseOffering> searchByCourseId(String courseId, Semester semester) {
+        return OP_SEARCH_BY_COURSE_ID.time(() -> doSearchByCourseId(courseId, semester));
+    }
+    
+    private ArrayList<CourseOffering> doSearchByCourseId(String courseId, Semester semester) {
         ArrayList<CourseOffering> results = new ArrayList<>();
         
         if (courseId == null || courseId.trim().isEmpty()) {
             return results;
         }
         
-        for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
-            if (co.getCourse().getCourseId().toLowerCase().contains(courseId.toLowerCase())) {
-                results.add(co);
-            }
-        }
-        
-        return results;
+        return RESULTS.get(offeringSearchVersion(),
+            () -> directory.findOfferingsByCourseIdContaining(courseId, semester), "searchByCourseId", courseId, semester);
     }
     
     /**
      * Search courses by instructor name
      */
     public ArrayList<CourseOffering> searchByInstructor(String instructorName, Semester semester) {
+        return OP_SEARCH_BY_INSTRUCTOR.time(() -> doSearchByInstructor(instructorName, semester));
+    }
+    
+    private ArrayList<CourseOffering> doSearchByInstructor(String instructorName, Semester semester) {
         ArrayList<CourseOffering> results = new ArrayList<>();
         
         if (instructorName == null || instructorName.trim().isEmpty()) {
             return results;
         }
         
-        String searchTerm = instructorName.toLowerCase();
-        
-        for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
-            Faculty instructor = co.getInstructor();
-            if (instructor != null) {
-                String fullName = instructor.getFullName().toLowerCase();
-                if (fullName.contains(searchTerm)) {
-                    results.add(co);
-                }
-            }
-        }
-        
-        return results;
+        return RESULTS.get(offeringSearchVersion(),
+            () -> directory.findOfferingsByInstructorContaining(instructorName, semester), "searchByInstructor", instructorName, semester);
     }
     
     /**
      * Search courses by course title
      */
     public ArrayList<CourseOffering> searchByTitle(String title, Semester semester) {
+        return OP_SEARCH_BY_TITLE.time(() -> doSearchByTitle(title, semester));
+    }
+    
+    private ArrayList<CourseOffering> doSearchByTitle(String title, Semester semester) {
         ArrayList<CourseOffering> results = new ArrayList<>();
         
         if (title == null || title.trim().isEmpty()) {
             return results;
         }
         
-        String searchTerm = title.toLowerCase();
-        
-        for (CourseOffering co : directory.getCourseOfferingsBySemester(semester)) {
-            String courseTitle = co.getCourse().getTitle().toLowerCase();
-            if (courseTitle.contains(searchTerm)) {
-                results.add(co);
-            }
-        }
-        
-        return results;
+        return RESULTS.get(offeringSearchVersion(),
+            () -> directory.findOfferingsByTitleContaining(title, semester), "searchByTitle", title, semester);
+    }
+    
+    /**
+     * Version of what offering searches read: offerings, and the courses and
+     * instructors whose names they match
+     */
+    private long offeringSearchVersion() {
+        return directory.getOfferingVersion() + directory.getCourseVersion() + directory.getPersonVersion();
     }
     
     // ========== GRADUATION AUDIT ==========
@@ -205,6 +315,10 @@ public class StudentService {
      * MSIS: 32 credits required, including INFO 5100 (4 credit core)
      */
     public boolean isEligibleToGraduate(Student student) {
+        return OP_IS_ELIGIBLE_TO_GRADUATE.time(() -> doIsEligibleToGraduate(student));
+    }
+    
+    private boolean doIsEligibleToGraduate(Student student) {
         if (student == null) {
             return false;
         }
@@ -216,6 +330,10 @@ public class StudentService {
      * Get graduation status details
      */
     public HashMap<String, Object> getGraduationStatus(Student student) {
+        return OP_GET_GRADUATION_STATUS.time(() -> doGetGraduationStatus(student));
+    }
+    
+    private HashMap<String, Object> doGetGraduationStatus(Student student) {
         HashMap<String, Object> status = new HashMap<>();
         
         if (student == null) {
@@ -249,6 +367,10 @@ public class StudentService {
      * Update student's total credits completed
      */
     public void updateCreditsCompleted(Student student) {
+        OP_UPDATE_CREDITS_COMPLETED.time(() -> doUpdateCreditsCompleted(student));
+    }
+    
+    private void doUpdateCreditsCompleted(Student student) {
         if (student == null) {
             return;
         }
@@ -271,6 +393,10 @@ public class StudentService {
      * Get transcript for a specific semester (only paid enrollments)
      */
     public ArrayList<Enrollment> getTranscriptBySemester(Student student, Semester semester) {
+        return OP_GET_TRANSCRIPT_BY_SEMESTER.time(() -> doGetTranscriptBySemester(student, semester));
+    }
+    
+    private ArrayList<Enrollment> doGetTranscriptBySemester(Student student, Semester semester) {
         ArrayList<Enrollment> transcript = new ArrayList<>();
         
         if (student == null || semester == null) {
@@ -290,6 +416,10 @@ public class StudentService {
      * Get complete transcript (only paid enrollments)
      */
     public ArrayList<Enrollment> getCompleteTranscript(Student student) {
+        return OP_GET_COMPLETE_TRANSCRIPT.time(() -> doGetCompleteTranscript(student));
+    }
+    
+    private ArrayList<Enrollment> doGetCompleteTranscript(Student student) {
         if (student == null) {
             return new ArrayList<>();
         }
@@ -301,6 +431,10 @@ public class StudentService {
      * Calculate term GPA for a semester
      */
     public double calculateTermGPA(Student student, Semester semester) {
+        return OP_CALCULATE_TERM_GPA.time(() -> doCalculateTermGPA(student, semester));
+    }
+    
+    private double doCalculateTermGPA(Student student, Semester semester) {
         if (student == null || semester == null) {
             return 0.0;
         }
@@ -312,6 +446,10 @@ public class StudentService {
      * Check if student can view transcript (all tuition must be paid)
      */
     public boolean canViewTranscript(Student student) {
+        return OP_CAN_VIEW_TRANSCRIPT.time(() -> doCanViewTranscript(student));
+    }
+    
+    private boolean doCanViewTranscript(Student student) {
         if (student == null) {
             return false;
         }
@@ -326,45 +464,73 @@ public class StudentService {
      * Pay tuition for a specific enrollment/course
      */
     public TuitionPayment payForCourse(Student student, Enrollment enrollment) {
-        if (student == null) {
-            throw new IllegalArgumentException("Student cannot be null");
-        }
-        
-        if (enrollment == null) {
-            throw new IllegalArgumentException("Enrollment cannot be null");
-        }
-        
-        if (!student.getEnrollments().contains(enrollment)) {
-            throw new IllegalArgumentException("Enrollment does not belong to this student");
-        }
-        
-        if (enrollment.isPaid()) {
-            throw new IllegalArgumentException("This course is already paid");
-        }
-        
-        if (!enrollment.isActive()) {
-            throw new IllegalArgumentException("Cannot pay for inactive enrollment");
-        }
-        
-        // Generate payment ID
-        String paymentId = directory.generatePaymentId();
-        
-        // Use student's payForEnrollment method
-        boolean success = student.payForEnrollment(enrollment, paymentId);
-        
-        if (!success) {
-            throw new IllegalArgumentException("Payment failed");
+        return OP_PAY_FOR_COURSE.time(() -> doPayForCourse(student, enrollment));
+    }
+    
+    private TuitionPayment doPayForCourse(Student student, Enrollment enrollment) {
+        DomainEvents.TuitionPaymentEvent event = new DomainEvents.TuitionPaymentEvent();
+        event.begin();
+        String result = null;
+        try {
+            if (student == null) {
+                throw new IllegalArgumentException("Student cannot be null");
+            }
+            
+            if (enrollment == null) {
+                throw new IllegalArgumentException("Enrollment cannot be null");
+            }
+            
+            // Check and pay under the student lock, so a concurrent drop cannot
+            // refund the enrollment between the checks and the payment
+            ReentrantLock lock = student.getRegistrationLock();
+            lock.lock();
+            try {
+                if (!student.getEnrollments().contains(enrollment)) {
+                    throw new IllegalArgumentException("Enrollment does not belong to this student");
+                }
+            
+                if (enrollment.isPaid()) {
+                    throw new IllegalArgumentException("This course is already paid");
+                }
+            
+                if (!enrollment.isActive()) {
+                    throw new IllegalArgumentException("Cannot pay for inactive enrollment");
+                }
+            
+                // Generate payment ID and journal it first; the checks above
+                // guarantee the payment below goes through
+                String paymentId = directory.generatePaymentId();
+                journal.append(MutationJournal.PAY, paymentId, student.getUniversityId(),
+                    enrollment.getEnrollmentId());
+            
+                // Use student's payForEnrollment method
+                boolean success = student.payForEnrollment(enrollment, paymentId);
+            
+                if (!success) {
+                    throw new IllegalArgumentException("Payment failed");
+                }
+            
+                // Get the payment that was just created
+                ArrayList<TuitionPayment> payments = student.getPaymentHistory();
+                event.amount = enrollment.getTuitionAmount();
+                result = "paid";
+                return payments.get(payments.size() - 1);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            event.finish(student, enrollment == null ? null : enrollment.getCourseOffering(), result);
         }
-        
-        // Get the payment that was just created
-        ArrayList<TuitionPayment> payments = student.getPaymentHistory();
-        return payments.get(payments.size() - 1);
     }
     
     /**
      * Get list of unpaid enrollments for payment selection
      */
     public ArrayList<Enrollment> getUnpaidEnrollments(Student student) {
+        return OP_GET_UNPAID_ENROLLMENTS.time(() -> doGetUnpaidEnrollments(student));
+    }
+    
+    private ArrayList<Enrollment> doGetUnpaidEnrollments(Student student) {
         if (student == null) {
             return new ArrayList<>();
         }
@@ -376,17 +542,25 @@ public class StudentService {
      * Get payment history
      */
     public ArrayList<TuitionPayment> getPaymentHistory(Student student) {
+        return OP_GET_PAYMENT_HISTORY.time(() -> doGetPaymentHistory(student));
+    }
+    
+    private ArrayList<TuitionPayment> doGetPaymentHistory(Student student) {
         if (student == null) {
             return new ArrayList<>();
         }
         
-        return new ArrayList<>(student.getPaymentHistory());
+        return student.getPaymentHistory();
     }
     
     /**
      * Calculate total unpaid tuition
      */
     public double calculateUnpaidBalance(Student student) {
+        return OP_CALCULATE_UNPAID_BALANCE.time(() -> doCalculateUnpaidBalance(student));
+    }
+    
+    private double doCalculateUnpaidBalance(Student student) {
         if (student == null) {
             return 0.0;
         }
@@ -398,6 +572,10 @@ public class StudentService {
      * Calculate total tuition for all active enrollments
      */
     public double calculateTotalTuition(Student student) {
+        return OP_CALCULATE_TOTAL_TUITION.time(() -> doCalculateTotalTuition(student));
+    }
+    
+    private double doCalculateTotalTuition(Student student) {
         if (student == null) {
             return 0.0;
         }
@@ -412,6 +590,10 @@ public class StudentService {
      * This would be used to track when student submits work
      */
     public boolean submitAssignment(Student student, Assignment assignment) {
+        return OP_SUBMIT_ASSIGNMENT.time(() -> doSubmitAssignment(student, assignment));
+    }
+    
+    private boolean doSubmitAssignment(Student student, Assignment assignment) {
         if (student == null || assignment == null) {
             return false;
         }
@@ -420,6 +602,8 @@ public class StudentService {
         // Faculty will grade it later
         if (!assignment.hasSubmitted(student)) {
             assignment.gradeStudent(student, 0.0);
+            journal.append(MutationJournal.GRADE_ASSIGNMENT, assignment.getAssignmentId(),
+                assignment.getCourseOffering().getOfferingId(), student.getUniversityId(), 0.0);
             return true;
         }
         
@@ -430,6 +614,10 @@ public class StudentService {
      * Get student's assignments for a course
      */
     public ArrayList<Assignment> getCourseAssignments(Student student, CourseOffering offering) {
+        return OP_GET_COURSE_ASSIGNMENTS.time(() -> doGetCourseAssignments(student, offering));
+    }
+    
+    private ArrayList<Assignment> doGetCourseAssignments(Student student, CourseOffering offering) {
         if (offering == null) {
             return new ArrayList<>();
         }
@@ -441,6 +629,10 @@ public class StudentService {
      * Get student's score for an assignment
      */
     public Double getAssignmentScore(Student student, Assignment assignment) {
+        return OP_GET_ASSIGNMENT_SCORE.time(() -> doGetAssignmentScore(student, assignment));
+    }
+    
+    private Double doGetAssignmentScore(Student student, Assignment assignment) {
         if (student == null || assignment == null) {
             return null;
         }
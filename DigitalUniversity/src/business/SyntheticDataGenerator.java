@@ -0,0 +1,466 @@
+package business;
+
+import model.*;
+import accesscontrol.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * SyntheticDataGenerator - Builds large, realistic universities for sizing and benchmarking
+ *
+ * The same seed and settings always produce the same university, IDs
+ * included. All random choices (who takes what, grades, payments) are made
+ * in one sequential planning pass that also enforces course capacity and
+ * the 8-credit limit; the object graph is then built in parallel per student
+ * and per offering, where no two tasks touch the same object.
+ * Author: [Your Name]
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[][] DEPARTMENTS = {
+        {"CS", "Computer Science"}, {"INFO", "Information Systems"},
+        {"EECE", "Electrical Engineering"}, {"MATH", "Mathematics"},
+        {"PHYS", "Physics"}, {"BIOL", "Biology"}, {"CHEM", "Chemistry"},
+        {"ECON", "Economics"}, {"MGMT", "Management"}, {"DS", "Data Science"}
+    };
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Charlie", "Diana", "Edward", "Fiona", "George", "Hannah",
+        "Ian", "Julia", "Kevin", "Laura", "Michael", "Nina", "Oscar", "Priya",
+        "Quinn", "Rahul", "Sofia", "Thomas", "Uma", "Victor", "Wei", "Xavier",
+        "Yuki", "Zara", "Aarav", "Mei", "Omar", "Lucia", "Ethan", "Chloe"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Baker", "Chen", "Davis", "Evans", "Foster", "Garcia", "Harris",
+        "Ito", "Jackson", "Kim", "Lopez", "Martinez", "Nguyen", "Okafor", "Patel",
+        "Quinn", "Rodriguez", "Smith", "Taylor", "Usman", "Vargas", "Wang", "Xu",
+        "Yamamoto", "Zhang", "Brown", "Miller", "Wilson", "Moore", "Singh", "Cohen"
+    };
+
+    private static final String[] SCHEDULES = {
+        "Mon/Wed 9:00-10:30 AM", "Mon/Wed 11:00-12:30 PM", "Mon/Wed 2:00-3:30 PM",
+        "Tue/Thu 9:00-10:30 AM", "Tue/Thu 2:00-3:30 PM", "Tue/Thu 4:00-5:30 PM",
+        "Wed/Fri 1:00-2:30 PM", "Fri 9:00 AM-12:00 PM"
+    };
+
+    private static final int MAX_SEMESTER_CREDITS = 8;
+    private static final int PROGRAM_SEMESTERS = 4; // 32 credits at 8 per semester
+
+    private UniversityDirectory directory;
+    private AuthenticationService authService;
+
+    private long seed;
+    private int departmentCount = 10;
+    private int facultyPerDepartment = 20;
+    private int coursesPerDepartment = 25;
+    private int studentCount = 40000;
+    private int semesterCount = 8;
+    private int offeringsPerSemester = 500;
+    private int offeringCapacity = 100;
+    private int assignmentsPerOffering = 3;
+    private int startYear = 2022;
+    private boolean createUserAccounts = true;
+
+    public SyntheticDataGenerator(long seed) {
+        this.directory = UniversityDirectory.getInstance();
+        this.authService = AuthenticationService.getInstance();
+        this.seed = seed;
+    }
+
+    // ========== SETTINGS ==========
+
+    public void setDepartmentCount(int departmentCount) {
+        this.departmentCount = requirePositive(departmentCount, "Department count");
+    }
+
+    public void setFacultyPerDepartment(int facultyPerDepartment) {
+        this.facultyPerDepartment = requirePositive(facultyPerDepartment, "Faculty per department");
+    }
+
+    public void setCoursesPerDepartment(int coursesPerDepartment) {
+        this.coursesPerDepartment = requirePositive(coursesPerDepartment, "Courses per department");
+    }
+
+    public void setStudentCount(int studentCount) {
+        if (studentCount < 0) {
+            throw new IllegalArgumentException("Student count cannot be negative");
+        }
+        this.studentCount = studentCount;
+    }
+
+    public void setSemesterCount(int semesterCount) {
+        this.semesterCount = requirePositive(semesterCount, "Semester count");
+    }
+
+    public void setOfferingsPerSemester(int offeringsPerSemester) {
+        this.offeringsPerSemester = requirePositive(offeringsPerSemester, "Offerings per semester");
+    }
+
+    public void setOfferingCapacity(int offeringCapacity) {
+        this.offeringCapacity = requirePositive(offeringCapacity, "Offering capacity");
+    }
+
+    public void setAssignmentsPerOffering(int assignmentsPerOffering) {
+        if (assignmentsPerOffering < 0) {
+            throw new IllegalArgumentException("Assignments per offering cannot be negative");
+        }
+        this.assignmentsPerOffering = assignmentsPerOffering;
+    }
+
+    public void setStartYear(int startYear) {
+        this.startYear = startYear;
+    }
+
+    public void setCreateUserAccounts(boolean createUserAccounts) {
+        this.createUserAccounts = createUserAccounts;
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        }
+        return value;
+    }
+
+    // ========== GENERATION ==========
+
+    /**
+     * One planned enrollment; grade is null for the current semester
+     */
+    private static class PlannedEnrollment {
+        final int offering;
+        final String enrollmentId;
+        final String grade;
+        final String paymentId;
+
+        PlannedEnrollment(int offering, String enrollmentId, String grade, String paymentId) {
+            this.offering = offering;
+            this.enrollmentId = enrollmentId;
+            this.grade = grade;
+            this.paymentId = paymentId;
+        }
+    }
+
+    /**
+     * Generate the university into the directory
+     * Returns the number of objects created by kind.
+     */
+    public HashMap<String, Integer> generate() {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        ArrayList<Department> departments = createDepartments();
+        ArrayList<ArrayList<Faculty>> facultyByDepartment = createFaculty(departments);
+        ArrayList<Course> courses = createCourses(departments, random);
+        ArrayList<Semester> semesters = createSemesters();
+        ArrayList<CourseOffering> offerings = createOfferings(courses, semesters, facultyByDepartment);
+        ArrayList<Student> students = createStudents(departments, random);
+
+        // Plan every enrollment sequentially so the result only depends on the seed
+        int[] studentStart = new int[students.size() + 1];
+        ArrayList<PlannedEnrollment> plan = planEnrollments(students.size(), offerings, semesters, random, studentStart);
+
+        // Build each student's enrollments, payments and GPA in parallel
+        Enrollment[] created = new Enrollment[plan.size()];
+        IntStream.range(0, students.size()).parallel().forEach(s -> {
+            Student student = students.get(s);
+            for (int i = studentStart[s]; i < studentStart[s + 1]; i++) {
+                PlannedEnrollment planned = plan.get(i);
+                CourseOffering offering = offerings.get(planned.offering);
+                LocalDate semesterStart = offering.getSemester().getStartDate();
+
+                Enrollment enrollment = new Enrollment(planned.enrollmentId, student, offering);
+                enrollment.setEnrollmentDate(semesterStart.minusDays(30));
+                student.addEnrollment(enrollment); // Adds tuition to balance
+                if (planned.paymentId != null) {
+                    student.payForEnrollment(enrollment, planned.paymentId);
+                    ArrayList<TuitionPayment> history = student.getPaymentHistory();
+                    history.get(history.size() - 1).setPaymentDate(semesterStart.atStartOfDay());
+                }
+                if (planned.grade != null) {
+                    enrollment.setGrade(planned.grade);
+                    enrollment.setActive(false); // Completed
+                }
+                created[i] = enrollment;
+            }
+            GradeCalculator.updateStudentGPA(student);
+            updateCreditsCompleted(student);
+        });
+
+        // Group by offering in plan order, then fill rosters and score assignments in parallel
+        ArrayList<ArrayList<Enrollment>> byOffering = new ArrayList<>(offerings.size());
+        for (int o = 0; o < offerings.size(); o++) {
+            byOffering.add(new ArrayList<>());
+        }
+        for (int i = 0; i < created.length; i++) {
+            byOffering.get(plan.get(i).offering).add(created[i]);
+        }
+        ArrayList<ArrayList<Assignment>> assignments = createAssignments(offerings);
+        IntStream.range(0, offerings.size()).parallel().forEach(o -> {
+            ArrayList<Enrollment> roster = byOffering.get(o);
+            offerings.get(o).addEnrollments(roster);
+            scoreAssignments(assignments.get(o), roster, new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (o + 1))));
+        });
+
+        ArrayList<Enrollment> allEnrollments = new ArrayList<>(created.length);
+        for (Enrollment e : created) {
+            allEnrollments.add(e);
+        }
+        directory.addEnrollments(allEnrollments);
+
+        if (createUserAccounts) {
+            createAccounts(students, facultyByDepartment);
+        }
+
+        HashMap<String, Integer> counts = new HashMap<>();
+        counts.put("departments", departments.size());
+        counts.put("faculty", departmentCount * facultyPerDepartment);
+        counts.put("courses", courses.size());
+        counts.put("semesters", semesters.size());
+        counts.put("offerings", offerings.size());
+        counts.put("students", students.size());
+        counts.put("enrollments", created.length);
+        counts.put("assignments", offerings.size() * assignmentsPerOffering);
+
+        System.out.println("Synthetic data generated in " + (System.nanoTime() - start) / 1_000_000
+            + " ms (seed " + seed + "): " + counts);
+        return counts;
+    }
+
+    private ArrayList<Department> createDepartments() {
+        ArrayList<Department> departments = new ArrayList<>();
+        for (int d = 0; d < departmentCount; d++) {
+            String[] template = DEPARTMENTS[d % DEPARTMENTS.length];
+            int round = d / DEPARTMENTS.length;
+            String code = round == 0 ? template[0] : template[0] + (round + 1);
+            String name = round == 0 ? template[1] : template[1] + " " + (round + 1);
+
+            Department department = new Department(code + String.format("%03d", d + 1), name);
+            department.setLocation("Building " + (char) ('A' + d % 26));
+            directory.addDepartment(department);
+            departments.add(department);
+        }
+        return departments;
+    }
+
+    private ArrayList<ArrayList<Faculty>> createFaculty(ArrayList<Department> departments) {
+        ArrayList<ArrayList<Faculty>> facultyByDepartment = new ArrayList<>();
+        int index = 0;
+        for (Department department : departments) {
+            ArrayList<Faculty> members = new ArrayList<>();
+            for (int f = 0; f < facultyPerDepartment; f++, index++) {
+                String firstName = FIRST_NAMES[(index * 7) % FIRST_NAMES.length];
+                String lastName = LAST_NAMES[(index * 11 + 3) % LAST_NAMES.length];
+                Faculty faculty = new Faculty(directory.generateUniversityId(), firstName, lastName,
+                    firstName.toLowerCase() + "." + lastName.toLowerCase() + "." + index + "@university.edu",
+                    department);
+                faculty.setPhoneNumber("555-" + String.format("%04d", index % 10000));
+                faculty.setOfficeLocation("Faculty Building, Room " + (100 + index % 900));
+                faculty.setOfficeHours(index % 2 == 0 ? "Mon/Wed 2-4PM" : "Tue/Thu 2-4PM");
+                directory.addFaculty(faculty);
+                department.addFaculty(faculty);
+                members.add(faculty);
+            }
+            facultyByDepartment.add(members);
+        }
+        return facultyByDepartment;
+    }
+
+    private ArrayList<Course> createCourses(ArrayList<Department> departments, SplittableRandom random) {
+        ArrayList<Course> courses = new ArrayList<>();
+        for (Department department : departments) {
+            String code = department.getDepartmentId().substring(0, department.getDepartmentId().length() - 3);
+            for (int c = 0; c < coursesPerDepartment; c++) {
+                int credits = random.nextInt(5) == 0 ? 2 : 4;
+                Course course = new Course(code + " " + (5000 + c * 5), department.getName() + " Topics " + (c + 1),
+                    credits, department);
+                course.setDescription("Graduate course " + (c + 1) + " in " + department.getName());
+                course.setCoreRequired(c == 0);
+                directory.addCourse(course);
+                courses.add(course);
+            }
+        }
+        return courses;
+    }
+
+    private ArrayList<Semester> createSemesters() {
+        ArrayList<Semester> semesters = new ArrayList<>();
+        for (int s = 0; s < semesterCount; s++) {
+            int year = startYear + s / 2;
+            boolean spring = s % 2 == 0;
+            String semesterId = "SEM" + String.format("%03d", directory.getSemesters().size() + 1);
+            Semester semester = new Semester(semesterId, spring ? "Spring" : "Fall", year);
+            semester.setStartDate(spring ? LocalDate.of(year, 1, 10) : LocalDate.of(year, 9, 1));
+            semester.setEndDate(spring ? LocalDate.of(year, 5, 5) : LocalDate.of(year, 12, 15));
+            semester.setActive(s == semesterCount - 1);
+            directory.addSemester(semester);
+            semesters.add(semester);
+        }
+        return semesters;
+    }
+
+    private ArrayList<CourseOffering> createOfferings(ArrayList<Course> courses, ArrayList<Semester> semesters,
+                                                      ArrayList<ArrayList<Faculty>> facultyByDepartment) {
+        ArrayList<CourseOffering> offerings = new ArrayList<>();
+        int[] nextInstructor = new int[departmentCount];
+        for (int s = 0; s < semesters.size(); s++) {
+            boolean current = s == semesters.size() - 1;
+            for (int k = 0; k < offeringsPerSemester; k++) {
+                int courseIndex = (s * offeringsPerSemester + k) % courses.size();
+                int department = courseIndex / coursesPerDepartment;
+                ArrayList<Faculty> members = facultyByDepartment.get(department);
+                Faculty instructor = members.get(nextInstructor[department]++ % members.size());
+                Course course = courses.get(courseIndex);
+
+                CourseOffering offering = new CourseOffering(directory.generateOfferingId(), course,
+                    semesters.get(s), instructor);
+                offering.setMaxCapacity(offeringCapacity);
+                offering.setSchedule(SCHEDULES[k % SCHEDULES.length]);
+                offering.setRoomLocation("Room " + (100 + k % 400));
+                offering.setEnrollmentOpen(current);
+                offering.setSyllabus("Syllabus for " + course.getTitle());
+                directory.addCourseOffering(offering);
+                instructor.addCourse(offering);
+                offerings.add(offering);
+            }
+        }
+        return offerings;
+    }
+
+    private ArrayList<Student> createStudents(ArrayList<Department> departments, SplittableRandom random) {
+        ArrayList<Student> students = new ArrayList<>(studentCount);
+        HashMap<Department, ArrayList<Student>> byDepartment = new HashMap<>();
+        for (int i = 0; i < studentCount; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Department department = departments.get(random.nextInt(departments.size()));
+            Student student = new Student(directory.generateUniversityId(), firstName, lastName,
+                firstName.toLowerCase() + "." + lastName.toLowerCase() + "." + i + "@student.edu",
+                department.getName());
+            student.setPhoneNumber("555-" + String.format("%04d", random.nextInt(10000)));
+            student.setAddress((1 + random.nextInt(999)) + " Campus Drive, Boston, MA");
+            directory.addStudent(student);
+            byDepartment.computeIfAbsent(department, d -> new ArrayList<>()).add(student);
+            students.add(student);
+        }
+        for (Department department : departments) {
+            department.addStudents(byDepartment.getOrDefault(department, new ArrayList<>()));
+        }
+        return students;
+    }
+
+    /**
+     * Choose each student's offerings, grades and payments semester by semester
+     */
+    private ArrayList<PlannedEnrollment> planEnrollments(int students, ArrayList<CourseOffering> offerings,
+                                                         ArrayList<Semester> semesters, SplittableRandom random,
+                                                         int[] studentStart) {
+        ArrayList<PlannedEnrollment> plan = new ArrayList<>();
+        int[] seatsTaken = new int[offerings.size()];
+        String[] grades = GradeCalculator.getAllGrades();
+        int lastSemester = semesters.size() - 1;
+
+        for (int s = 0; s < students; s++) {
+            studentStart[s] = plan.size();
+            int entry = random.nextInt(semesters.size());
+            int exit = Math.min(lastSemester, entry + PROGRAM_SEMESTERS - 1);
+            double ability = 2.0 + random.nextDouble() * 2.5; // steady per-student strength
+
+            for (int sem = entry; sem <= exit; sem++) {
+                boolean current = sem == lastSemester;
+                int credits = 0;
+                int[] taken = new int[MAX_SEMESTER_CREDITS]; // every course has at least one credit
+                int takenCount = 0;
+                for (int attempt = 0; attempt < 6 && credits < MAX_SEMESTER_CREDITS; attempt++) {
+                    int o = sem * offeringsPerSemester + random.nextInt(offeringsPerSemester);
+                    int courseCredits = offerings.get(o).getCourse().getCreditHours();
+                    if (seatsTaken[o] >= offeringCapacity || contains(taken, takenCount, o)
+                        || credits + courseCredits > MAX_SEMESTER_CREDITS) {
+                        continue;
+                    }
+                    seatsTaken[o]++;
+                    credits += courseCredits;
+                    taken[takenCount++] = o;
+
+                    String grade = null;
+                    if (!current) {
+                        double points = ability + random.nextGaussian() * 0.5;
+                        grade = grades[Math.max(0, Math.min(grades.length - 1, (int) Math.round((4.0 - points) * 2.2)))];
+                    }
+                    boolean paid = !current || random.nextInt(10) < 6;
+                    plan.add(new PlannedEnrollment(o, directory.generateEnrollmentId(), grade,
+                        paid ? directory.generatePaymentId() : null));
+                }
+            }
+        }
+        studentStart[students] = plan.size();
+        return plan;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ArrayList<ArrayList<Assignment>> createAssignments(ArrayList<CourseOffering> offerings) {
+        ArrayList<ArrayList<Assignment>> assignments = new ArrayList<>(offerings.size());
+        for (CourseOffering offering : offerings) {
+            ArrayList<Assignment> forOffering = new ArrayList<>();
+            for (int a = 0; a < assignmentsPerOffering; a++) {
+                Assignment assignment = new Assignment("Assignment " + (a + 1),
+                    "Problem set " + (a + 1) + " for " + offering.getCourse().getCourseId(), offering, 100);
+                assignment.setDueDate(offering.getSemester().getStartDate().plusWeeks(3L * (a + 1)));
+                offering.addAssignment(assignment);
+                forOffering.add(assignment);
+            }
+            assignments.add(forOffering);
+        }
+        return assignments;
+    }
+
+    /**
+     * Score completed enrollments close to their final letter grade
+     */
+    private void scoreAssignments(ArrayList<Assignment> assignments, ArrayList<Enrollment> roster,
+                                  SplittableRandom random) {
+        for (Enrollment e : roster) {
+            if (e.getGrade() == null) {
+                continue;
+            }
+            double target = 55 + GradeCalculator.getGradePoints(e.getGrade()) * 11;
+            for (Assignment assignment : assignments) {
+                double score = Math.round(target + random.nextGaussian() * 6);
+                assignment.gradeStudent(e.getStudent(), score);
+            }
+        }
+    }
+
+    private void updateCreditsCompleted(Student student) {
+        int totalCredits = 0;
+        for (Enrollment e : student.getEnrollments()) {
+            if (!e.isActive() && e.getGrade() != null && !e.getGrade().equals("F")) {
+                totalCredits += e.getCourseOffering().getCourse().getCreditHours();
+            }
+        }
+        student.setTotalCreditsCompleted(totalCredits);
+    }
+
+    private void createAccounts(ArrayList<Student> students, ArrayList<ArrayList<Faculty>> facultyByDepartment) {
+        for (ArrayList<Faculty> members : facultyByDepartment) {
+            for (Faculty faculty : members) {
+                authService.registerUser(new User(faculty.getUniversityId().toLowerCase(), "pass", "FACULTY", faculty));
+            }
+        }
+        for (Student student : students) {
+            authService.registerUser(new User(student.getUniversityId().toLowerCase(), "pass", "STUDENT", student));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.PriorityQueue;
+
+/**
+ * TopResults - Keeps the best limit hits of a ranked search
+ *
+ * Hits are offered one at a time into a heap whose root is the worst hit
+ * kept, so each offer costs O(log limit) and memory stays bounded by limit
+ * however many entities match. An entity matched through several fields
+ * keeps its best score. Not thread-safe; used by one search at a time.
+ * Author: [Your Name]
+ */
+class TopResults {
+
+    private final int limit;
+    private final PriorityQueue<SearchResult> heap;
+    private final IdentityHashMap<Object, SearchResult> kept = new IdentityHashMap<>();
+    private int offered;
+
+    TopResults(int limit) {
+        this.limit = limit;
+        this.heap = new PriorityQueue<>(limit, (a, b) -> b.compareQuality(a));
+    }
+
+    /**
+     * Score how well the lowercased query matches a lowercased field
+     */
+    static int score(String key, String query) {
+        if (key.equals(query)) {
+            return SearchResult.EXACT;
+        }
+        if (key.startsWith(query)) {
+            return SearchResult.PREFIX;
+        }
+        // At the start of any word of the key
+        for (int at = key.indexOf(query, 1); at > 0; at = key.indexOf(query, at + 1)) {
+            if (!Character.isLetterOrDigit(key.charAt(at - 1))) {
+                return SearchResult.TOKEN;
+            }
+        }
+        return SearchResult.SUBSTRING;
+    }
+
+    void offer(Object entity, String type, int score, int keyLength) {
+        int order = offered++;
+        SearchResult previous = kept.get(entity);
+        if (previous != null && previous.getScore() >= score) {
+            return;
+        }
+        if (previous == null && heap.size() == limit) {
+            SearchResult worst = heap.peek();
+            // Ties go to the hit found first, which is already kept
+            if (score < worst.getScore() || (score == worst.getScore() && keyLength >= worst.keyLength)) {
+                return;
+            }
+            kept.remove(heap.poll().getEntity());
+        } else if (previous != null) {
+            heap.remove(previous);
+        }
+        SearchResult result = new SearchResult(entity, type, score, keyLength, order);
+        heap.add(result);
+        kept.put(entity, result);
+    }
+
+    /**
+     * The hits kept, best first
+     */
+    ArrayList<SearchResult> results() {
+        ArrayList<SearchResult> results = new ArrayList<>(heap);
+        results.sort(SearchResult::compareQuality);
+        return results;
+    }
+}
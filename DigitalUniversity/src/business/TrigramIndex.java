@@ -0,0 +1,282 @@
+package business;
+
+import model.SearchKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * TrigramIndex - Inverted index from three-character substrings to entities,
+ * answering "key contains fragment" without scanning every entity
+ *
+ * Each entity gets a document number in the order it was added and keeps it
+ * when its key is edited, so results come back in the same order as the
+ * directory list the old scans walked. A query intersects the posting lists
+ * of its trigrams and then checks the few candidates with String.contains;
+ * fragments shorter than three characters fall back to a scan of the stored
+ * keys. Keys are the entities' own search keys (see SearchKey), so indexing
+ * and re-indexing an entity fold no text. Not thread-safe: guarded by the
+ * lock of the entity type it indexes, like KeyIndex.
+ * Author: [Your Name]
+ */
+class TrigramIndex<T> implements SearchIndex<T> {
+
+    private final Function<T, String> keyOf;
+    private final HashMap<Long, Postings> postings = new HashMap<>();
+    private final IdentityHashMap<T, Integer> docs = new IdentityHashMap<>();
+    private Object[] entities = new Object[64]; // document number -> entity, null once removed
+    private String[] keys = new String[64];     // document number -> search key, null if not indexed
+    private int nextDoc;
+
+    TrigramIndex(Function<T, String> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Fold a query the same way the entities' search keys were folded
+     */
+    static String normalize(String text) {
+        return SearchKey.normalize(text);
+    }
+
+    @Override
+    public void add(T entity) {
+        if (docs.containsKey(entity)) {
+            return;
+        }
+        if (nextDoc == entities.length) {
+            compact();
+        }
+        int doc = nextDoc++;
+        docs.put(entity, doc);
+        entities[doc] = entity;
+        keys[doc] = keyOf.apply(entity);
+        post(doc, keys[doc]);
+    }
+
+    @Override
+    public void remove(T entity) {
+        Integer doc = docs.remove(entity);
+        if (doc == null) {
+            return;
+        }
+        unpost(doc, keys[doc]);
+        entities[doc] = null;
+        keys[doc] = null;
+    }
+
+    /**
+     * Re-read the key of an entity whose indexed text changed
+     */
+    @Override
+    public void update(T entity) {
+        Integer doc = docs.get(entity);
+        if (doc == null) {
+            return;
+        }
+        String key = keyOf.apply(entity);
+        if (key == null ? keys[doc] == null : key.equals(keys[doc])) {
+            return;
+        }
+        unpost(doc, keys[doc]);
+        keys[doc] = key;
+        post(doc, key);
+    }
+
+    boolean contains(T entity) {
+        return docs.containsKey(entity);
+    }
+
+    /**
+     * Entities whose key contains the fragment, in the order they were added;
+     * the fragment must already be normalized
+     */
+    ArrayList<T> search(String fragment) {
+        ArrayList<T> results = new ArrayList<>();
+        forEachMatch(fragment, (entity, key) -> results.add(entity));
+        return results;
+    }
+
+    /**
+     * Pass each entity whose key contains the fragment, with that search
+     * key, to action in the order they were added, without collecting them
+     */
+    @SuppressWarnings("unchecked")
+    void forEachMatch(String fragment, BiConsumer<T, String> action) {
+        if (fragment == null || fragment.isEmpty()) {
+            return;
+        }
+        if (fragment.length() < 3) {
+            for (int doc = 0; doc < nextDoc; doc++) {
+                if (keys[doc] != null && keys[doc].contains(fragment)) {
+                    action.accept((T) entities[doc], keys[doc]);
+                }
+            }
+            return;
+        }
+
+        // Posting lists of every trigram in the fragment, shortest first
+        Postings[] lists = new Postings[fragment.length() - 2];
+        int count = 0;
+        for (int i = 0; i + 3 <= fragment.length(); i++) {
+            Postings list = postings.get(trigram(fragment, i));
+            if (list == null) {
+                return; // Some trigram occurs in no key at all
+            }
+            if (!containsList(lists, count, list)) {
+                lists[count++] = list;
+            }
+        }
+        Arrays.sort(lists, 0, count, (a, b) -> Integer.compare(a.size, b.size));
+
+        Postings smallest = lists[0];
+        for (int i = 0; i < smallest.size; i++) {
+            int doc = smallest.docs[i];
+            boolean inAll = true;
+            for (int j = 1; j < count && inAll; j++) {
+                inAll = lists[j].indexOf(doc) >= 0;
+            }
+            // Trigrams can match out of order, so confirm the whole fragment
+            if (inAll && keys[doc].contains(fragment)) {
+                action.accept((T) entities[doc], keys[doc]);
+            }
+        }
+    }
+
+    /**
+     * Entities among the candidates whose key contains the fragment, in
+     * candidate order; costs one key check per candidate, so a small partition
+     * (e.g. one semester's offerings) is searched without touching the rest.
+     * The fragment must already be normalized.
+     */
+    ArrayList<T> searchAmong(Collection<T> candidates, String fragment) {
+        ArrayList<T> results = new ArrayList<>();
+        if (fragment == null || fragment.isEmpty()) {
+            return results;
+        }
+        for (T entity : candidates) {
+            Integer doc = docs.get(entity);
+            if (doc != null && keys[doc] != null && keys[doc].contains(fragment)) {
+                results.add(entity);
+            }
+        }
+        return results;
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    private static boolean containsList(Postings[] lists, int count, Postings list) {
+        for (int i = 0; i < count; i++) {
+            if (lists[i] == list) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void post(int doc, String key) {
+        if (key == null) {
+            return;
+        }
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            postings.computeIfAbsent(trigram(key, i), t -> new Postings()).insert(doc);
+        }
+    }
+
+    private void unpost(int doc, String key) {
+        if (key == null) {
+            return;
+        }
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            Long trigram = trigram(key, i);
+            Postings list = postings.get(trigram);
+            if (list != null && list.delete(doc) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Renumber the live documents in order, or grow the tables if few were removed
+     */
+    @SuppressWarnings("unchecked")
+    private void compact() {
+        int live = docs.size();
+        if (live > entities.length / 2) {
+            entities = Arrays.copyOf(entities, entities.length * 2);
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            return;
+        }
+        Object[] oldEntities = entities;
+        String[] oldKeys = keys;
+        int oldCount = nextDoc;
+        entities = new Object[oldEntities.length];
+        keys = new String[oldKeys.length];
+        postings.clear();
+        nextDoc = 0;
+        for (int old = 0; old < oldCount; old++) {
+            if (oldEntities[old] != null) {
+                int doc = nextDoc++;
+                docs.put((T) oldEntities[old], doc);
+                entities[doc] = oldEntities[old];
+                keys[doc] = oldKeys[old];
+                post(doc, keys[doc]);
+            }
+        }
+    }
+
+    // Three UTF-16 units packed into one long
+    private static Long trigram(String text, int at) {
+        return ((long) text.charAt(at) << 32) | ((long) text.charAt(at + 1) << 16) | text.charAt(at + 2);
+    }
+
+    /**
+     * Sorted, duplicate-free document numbers
+     */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        int indexOf(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc);
+        }
+
+        void insert(int doc) {
+            // New documents have the highest number, so this is almost always an append
+            if (size > 0 && docs[size - 1] >= doc) {
+                int at = indexOf(doc);
+                if (at >= 0) {
+                    return;
+                }
+                insertAt(-at - 1, doc);
+                return;
+            }
+            insertAt(size, doc);
+        }
+
+        boolean delete(int doc) {
+            int at = indexOf(doc);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(docs, at + 1, docs, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        private void insertAt(int at, int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, at, docs, at + 1, size - at);
+            docs[at] = doc;
+            size++;
+        }
+    }
+}
@@ -2,15 +2,35 @@ package business;
 
 import model.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * UniversityDirectory - Central directory for managing all university entities
+ * 
+ * Thread-safe: each entity type is guarded by its own read/write lock, so
+ * sessions working on different entity types never block each other and
+ * readers of one type run in parallel. At most one of these locks is held
+ * at a time, which rules out lock-ordering deadlocks. Getters return
+ * snapshots that are safe to iterate while other sessions mutate.
  * Author: [Your Name]
  */
-public class UniversityDirectory {
-    private static UniversityDirectory instance;
-    
+public class UniversityDirectory implements EntityChangeListener {
+
     private ArrayList<Person> persons;
     private ArrayList<Student> students;
     private ArrayList<Faculty> faculties;
@@ -20,14 +40,78 @@ public class UniversityDirectory {
     private ArrayList<Course> courses;
     private ArrayList<Semester> semesters;
     private ArrayList<CourseOffering> courseOfferings;
-    private ArrayList<Enrollment> enrollments;
-    
-    private int nextPersonId;
-    private int nextEnrollmentId;
-    private int nextOfferingId;
-    private int nextAssignmentId;
-    private int nextPaymentId;
-    
+    private LinkedHashSet<Enrollment> enrollments;
+
+    // Primary-key indexes, kept in sync by every add/remove and by key changes
+    private KeyIndex<Person> personsById;
+    private KeyIndex<Person> personsByEmail;
+    private KeyIndex<Student> studentsById;
+    private KeyIndex<Faculty> facultiesById;
+    private KeyIndex<Department> departmentsById;
+    private KeyIndex<Course> coursesById;
+    private KeyIndex<Semester> semestersById;
+    private KeyIndex<CourseOffering> offeringsById;
+
+    // Substring indexes for the search services
+    private TrigramIndex<Person> personsByName;
+    private TrigramIndex<Person> personsByEmailText;
+    private TrigramIndex<Student> studentsByName;
+    private TrigramIndex<Faculty> facultiesByName;
+    private TrigramIndex<Course> coursesByIdText;
+    private TrigramIndex<Course> coursesByTitle;
+    private TrigramIndex<CourseOffering> offeringsByCourseId;
+    private TrigramIndex<CourseOffering> offeringsByTitle;
+    private TrigramIndex<CourseOffering> offeringsByInstructor;
+
+    // Word-prefix dictionaries for autocomplete
+    private PrefixIndex<Student> studentNameTerms;
+    private PrefixIndex<Faculty> facultyNameTerms;
+    private PrefixIndex<Course> courseIdTerms;
+    private PrefixIndex<Course> courseTitleTerms;
+
+    // Typo-tolerant word indexes
+    private FuzzyIndex<Person> personNameWords;
+    private FuzzyIndex<Course> courseWords;
+
+    // Sound-alike name index
+    private PhoneticIndex<Person> personNameSounds;
+
+    // Per-value bitmaps for the advanced searches
+    private static final int STUDENT_PROGRAM = 0;
+    private static final int STUDENT_STANDING = 1;
+    private static final int STUDENT_SEMESTER = 2;
+    private static final int STUDENT_ID = 3;
+    private static final int FACULTY_DEPARTMENT = 0;
+    private static final int FACULTY_ID = 1;
+    private BitmapIndex<Student> studentCriteria;
+    private BitmapIndex<Faculty> facultyCriteria;
+    private ConcurrentHashMap<Semester, CopyOnWriteArrayList<CourseOffering>> offeringsBySemester;
+
+    // One lock per entity type
+    private final ReentrantReadWriteLock personLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock studentLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock facultyLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock adminLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock registrarLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock departmentLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock courseLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock semesterLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock offeringLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock enrollmentLock = new ReentrantReadWriteLock();
+
+    private final AtomicInteger nextPersonId;
+    private final AtomicInteger nextEnrollmentId;
+    private final AtomicInteger nextOfferingId;
+    private final AtomicInteger nextAssignmentId;
+    private final AtomicInteger nextPaymentId;
+
+    // Change counters per entity type, bumped after every add, remove or indexed edit
+    private final AtomicLong personVersion = new AtomicLong();
+    private final AtomicLong studentStatusVersion = new AtomicLong();
+    private final AtomicLong departmentVersion = new AtomicLong();
+    private final AtomicLong courseVersion = new AtomicLong();
+    private final AtomicLong offeringVersion = new AtomicLong();
+
     // Private constructor for singleton pattern
     private UniversityDirectory() {
         this.persons = new ArrayList<>();
@@ -39,274 +123,1194 @@ public class UniversityDirectory {
         this.courses = new ArrayList<>();
         this.semesters = new ArrayList<>();
         this.courseOfferings = new ArrayList<>();
-        this.enrollments = new ArrayList<>();
-        
-        this.nextPersonId = 1000;
-        this.nextEnrollmentId = 1;
-        this.nextOfferingId = 1;
-        this.nextAssignmentId = 1;
-        this.nextPaymentId = 1;
+        this.enrollments = new LinkedHashSet<>();
+
+        this.personsById = new KeyIndex<>(Person::getUniversityId);
+        this.personsByEmail = new KeyIndex<>(p -> lowerCase(p.getEmail()));
+        this.studentsById = new KeyIndex<>(Student::getUniversityId);
+        this.facultiesById = new KeyIndex<>(Faculty::getUniversityId);
+        this.departmentsById = new KeyIndex<>(Department::getDepartmentId);
+        this.coursesById = new KeyIndex<>(c -> lowerCase(c.getCourseId()));
+        this.semestersById = new KeyIndex<>(Semester::getSemesterId);
+        this.offeringsById = new KeyIndex<>(CourseOffering::getOfferingId);
+        this.offeringsBySemester = new ConcurrentHashMap<>();
+
+        this.personsByName = new TrigramIndex<>(Person::getSearchName);
+        this.personsByEmailText = new TrigramIndex<>(Person::getSearchEmail);
+        this.studentsByName = new TrigramIndex<>(Student::getSearchName);
+        this.facultiesByName = new TrigramIndex<>(Faculty::getSearchName);
+        this.coursesByIdText = new TrigramIndex<>(Course::getSearchCourseId);
+        this.coursesByTitle = new TrigramIndex<>(Course::getSearchTitle);
+        this.offeringsByCourseId = new TrigramIndex<>(o -> o.getCourse() == null ? null : o.getCourse().getSearchCourseId());
+        this.offeringsByTitle = new TrigramIndex<>(o -> o.getCourse() == null ? null : o.getCourse().getSearchTitle());
+        this.offeringsByInstructor = new TrigramIndex<>(o -> o.getInstructor() == null ? null : o.getInstructor().getSearchName());
+
+        this.studentNameTerms = new PrefixIndex<>(Student::getFullName);
+        this.facultyNameTerms = new PrefixIndex<>(Faculty::getFullName);
+        this.courseIdTerms = new PrefixIndex<>(Course::getCourseId);
+        this.courseTitleTerms = new PrefixIndex<>(Course::getTitle);
+
+        this.personNameWords = new FuzzyIndex<>(Person::getSearchName);
+        this.courseWords = new FuzzyIndex<>(c -> c.getSearchCourseId() + " " + c.getSearchTitle());
+
+        this.personNameSounds = new PhoneticIndex<>(Person::getSearchName);
+
+        this.studentCriteria = new BitmapIndex<>(
+            s -> Collections.singletonList(s.getSearchProgram()),
+            s -> Collections.singletonList(s.getAcademicStanding()),
+            Student::getActiveSemesters,
+            s -> Collections.singletonList(lowerCase(s.getUniversityId())));
+        this.facultyCriteria = new BitmapIndex<>(
+            f -> Collections.singletonList(f.getDepartment()),
+            f -> Collections.singletonList(lowerCase(f.getUniversityId())));
+
+        this.nextPersonId = new AtomicInteger(1000);
+        this.nextEnrollmentId = new AtomicInteger(1);
+        this.nextOfferingId = new AtomicInteger(1);
+        this.nextAssignmentId = new AtomicInteger(1);
+        this.nextPaymentId = new AtomicInteger(1);
     }
-    
+
+    // Lazy holder: the JVM's class initialization publishes the instance safely
+    private static class Holder {
+        private static final UniversityDirectory INSTANCE = new UniversityDirectory();
+    }
+
     /**
      * Get singleton instance
      */
     public static UniversityDirectory getInstance() {
-        if (instance == null) {
-            instance = new UniversityDirectory();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
-    
+
     // Person Management
     public String generateUniversityId() {
-        return "U" + String.format("%06d", nextPersonId++);
+        return formatId("U", nextPersonId.getAndIncrement(), 6);
     }
-    
+
     public boolean isEmailExists(String email) {
-        for (Person p : persons) {
-            if (p.getEmail().equalsIgnoreCase(email)) {
-                return true;
-            }
-        }
-        return false;
+        return findPersonByEmail(email) != null;
     }
-    
+
     public boolean isUniversityIdExists(String universityId) {
-        for (Person p : persons) {
-            if (p.getUniversityId().equals(universityId)) {
-                return true;
-            }
-        }
-        return false;
+        return findPersonByUniversityId(universityId) != null;
     }
-    
+
     public void addPerson(Person person) {
-        if (!persons.contains(person)) {
-            persons.add(person);
+        personLock.writeLock().lock();
+        try {
+            if (!personsById.contains(person, persons)) {
+                persons.add(person);
+                personsById.add(person);
+                personsByEmail.add(person);
+                personsByName.add(person);
+                personsByEmailText.add(person);
+                personNameWords.add(person);
+                personNameSounds.add(person);
+                person.setChangeListener(this);
+            }
+        } finally {
+            personLock.writeLock().unlock();
         }
+        personVersion.incrementAndGet();
     }
-    
+
     public void removePerson(Person person) {
-        persons.remove(person);
+        personLock.writeLock().lock();
+        try {
+            if (persons.remove(person)) {
+                personsById.remove(person, persons);
+                personsByEmail.remove(person, persons);
+                personsByName.remove(person);
+                personsByEmailText.remove(person);
+                personNameWords.remove(person);
+                personNameSounds.remove(person);
+                person.setChangeListener(null);
+            }
+        } finally {
+            personLock.writeLock().unlock();
+        }
+        personVersion.incrementAndGet();
     }
-    
+
     public ArrayList<Person> getPersons() {
-        return persons;
+        return snapshot(persons, personLock);
     }
-    
+
     public Person findPersonByUniversityId(String universityId) {
-        for (Person p : persons) {
-            if (p.getUniversityId().equals(universityId)) {
-                return p;
-            }
-        }
-        return null;
+        return find(personsById, universityId, personLock);
     }
-    
+
     public Person findPersonByEmail(String email) {
-        for (Person p : persons) {
-            if (p.getEmail().equalsIgnoreCase(email)) {
-                return p;
-            }
+        if (email == null) {
+            return null;
         }
-        return null;
+        return find(personsByEmail, lowerCase(email), personLock);
     }
-    
+
+    /**
+     * Persons whose full name contains the fragment, ignoring case
+     */
+    public ArrayList<Person> findPersonsByNameContaining(String fragment) {
+        return search(personsByName, fragment, personLock);
+    }
+
+    /**
+     * Persons whose email contains the fragment, ignoring case
+     */
+    public ArrayList<Person> findPersonsByEmailContaining(String fragment) {
+        return search(personsByEmailText, fragment, personLock);
+    }
+
+    /**
+     * Persons whose name words are each within maxEdits of a query word, closest first
+     */
+    public ArrayList<Person> findPersonsByNameFuzzy(String name, int maxEdits) {
+        return fuzzySearch(personNameWords, name, maxEdits, personLock);
+    }
+
+    /**
+     * Persons with a name word sounding like each word of the query
+     */
+    public ArrayList<Person> findPersonsByNameSound(String name) {
+        personLock.readLock().lock();
+        try {
+            return personNameSounds.search(name);
+        } finally {
+            personLock.readLock().unlock();
+        }
+    }
+
     // Student Management
     public void addStudent(Student student) {
-        if (!students.contains(student)) {
-            students.add(student);
+        boolean added;
+        studentLock.writeLock().lock();
+        try {
+            added = !studentsById.contains(student, students);
+            if (added) {
+                students.add(student);
+                studentsById.add(student);
+                studentsByName.add(student);
+                studentNameTerms.add(student);
+                studentCriteria.add(student);
+            }
+        } finally {
+            studentLock.writeLock().unlock();
+        }
+        if (added) {
             addPerson(student);
         }
+        personVersion.incrementAndGet();
     }
-    
+
     public void removeStudent(Student student) {
-        students.remove(student);
+        studentLock.writeLock().lock();
+        try {
+            if (students.remove(student)) {
+                studentsById.remove(student, students);
+                studentsByName.remove(student);
+                studentNameTerms.remove(student);
+                studentCriteria.remove(student);
+            }
+        } finally {
+            studentLock.writeLock().unlock();
+        }
         removePerson(student);
+        personVersion.incrementAndGet();
     }
-    
+
     public ArrayList<Student> getStudents() {
-        return students;
+        return snapshot(students, studentLock);
     }
-    
+
     public Student findStudentByUniversityId(String universityId) {
-        for (Student s : students) {
-            if (s.getUniversityId().equals(universityId)) {
-                return s;
-            }
+        return find(studentsById, universityId, studentLock);
+    }
+
+    /**
+     * Students whose full name contains the fragment, ignoring case
+     */
+    public ArrayList<Student> findStudentsByNameContaining(String fragment) {
+        return search(studentsByName, fragment, studentLock);
+    }
+
+    /**
+     * Up to limit student names with a word starting with the prefix
+     */
+    public ArrayList<String> completeStudentNames(String prefix, int limit) {
+        return complete(studentNameTerms, prefix, limit, studentLock);
+    }
+
+    /**
+     * Students matching every given criterion; null or blank criteria are skipped.
+     * Name and program match by substring and university ID and standing ignoring
+     * case, all as the old list filters did; enrolledIn needs an active enrollment
+     */
+    public ArrayList<Student> findStudentsMatching(String name, String universityId, String program,
+                                                   String standing, Semester enrolledIn) {
+        studentLock.readLock().lock();
+        try {
+            SearchPlan<Student> plan = studentPlan(name, universityId, program, standing, enrolledIn);
+            return plan.isUnrestricted() ? new ArrayList<>(students) : plan.run();
+        } finally {
+            studentLock.readLock().unlock();
         }
-        return null;
     }
-    
+
+    /**
+     * One page of findStudentsMatching, resuming after cursor (null for the first page)
+     */
+    public SearchPage<Student> findStudentsMatching(String name, String universityId, String program,
+                                                    String standing, Semester enrolledIn,
+                                                    String cursor, int pageSize) {
+        studentLock.readLock().lock();
+        try {
+            return studentPlan(name, universityId, program, standing, enrolledIn).page(cursor, pageSize);
+        } finally {
+            studentLock.readLock().unlock();
+        }
+    }
+
+    private SearchPlan<Student> studentPlan(String name, String universityId, String program,
+                                            String standing, Semester enrolledIn) {
+        SearchPlan<Student> plan = new SearchPlan<>(studentCriteria);
+        if (!isBlank(universityId)) {
+            plan.require(studentCriteria.matching(STUDENT_ID, lowerCase(universityId.trim())));
+        }
+        if (!isBlank(program)) {
+            String term = SearchKey.normalize(program.trim());
+            plan.require(studentCriteria.matching(STUDENT_PROGRAM,
+                value -> value != null && ((String) value).contains(term)));
+        }
+        if (!isBlank(standing)) {
+            String term = standing.trim();
+            plan.require(studentCriteria.matching(STUDENT_STANDING,
+                value -> value != null && ((String) value).equalsIgnoreCase(term)));
+        }
+        if (enrolledIn != null) {
+            plan.require(studentCriteria.matching(STUDENT_SEMESTER, enrolledIn));
+        }
+        if (!isBlank(name)) {
+            String term = SearchKey.normalize(name.trim());
+            plan.require(s -> s.getSearchName().contains(term),
+                () -> studentCriteria.documentsOf(studentsByName.search(term)));
+        }
+        return plan;
+    }
+
     // Faculty Management
     public void addFaculty(Faculty faculty) {
-        if (!faculties.contains(faculty)) {
-            faculties.add(faculty);
+        boolean added;
+        facultyLock.writeLock().lock();
+        try {
+            added = !facultiesById.contains(faculty, faculties);
+            if (added) {
+                faculties.add(faculty);
+                facultiesById.add(faculty);
+                facultiesByName.add(faculty);
+                facultyNameTerms.add(faculty);
+                facultyCriteria.add(faculty);
+            }
+        } finally {
+            facultyLock.writeLock().unlock();
+        }
+        if (added) {
             addPerson(faculty);
         }
+        personVersion.incrementAndGet();
     }
-    
+
     public void removeFaculty(Faculty faculty) {
-        faculties.remove(faculty);
+        facultyLock.writeLock().lock();
+        try {
+            if (faculties.remove(faculty)) {
+                facultiesById.remove(faculty, faculties);
+                facultiesByName.remove(faculty);
+                facultyNameTerms.remove(faculty);
+                facultyCriteria.remove(faculty);
+            }
+        } finally {
+            facultyLock.writeLock().unlock();
+        }
         removePerson(faculty);
+        personVersion.incrementAndGet();
     }
-    
+
     public ArrayList<Faculty> getFaculties() {
-        return faculties;
+        return snapshot(faculties, facultyLock);
     }
-    
+
     public Faculty findFacultyByUniversityId(String universityId) {
-        for (Faculty f : faculties) {
-            if (f.getUniversityId().equals(universityId)) {
-                return f;
-            }
+        return find(facultiesById, universityId, facultyLock);
+    }
+
+    /**
+     * Faculty whose full name contains the fragment, ignoring case
+     */
+    public ArrayList<Faculty> findFacultiesByNameContaining(String fragment) {
+        return search(facultiesByName, fragment, facultyLock);
+    }
+
+    /**
+     * Up to limit faculty names with a word starting with the prefix
+     */
+    public ArrayList<String> completeFacultyNames(String prefix, int limit) {
+        return complete(facultyNameTerms, prefix, limit, facultyLock);
+    }
+
+    /**
+     * Faculty matching every given criterion; null or blank criteria are skipped.
+     * Name and department name match by substring, university ID ignoring case
+     */
+    public ArrayList<Faculty> findFacultiesMatching(String name, String universityId, String departmentName) {
+        facultyLock.readLock().lock();
+        try {
+            SearchPlan<Faculty> plan = facultyPlan(name, universityId, departmentName);
+            return plan.isUnrestricted() ? new ArrayList<>(faculties) : plan.run();
+        } finally {
+            facultyLock.readLock().unlock();
         }
-        return null;
     }
-    
+
+    /**
+     * One page of findFacultiesMatching, resuming after cursor (null for the first page)
+     */
+    public SearchPage<Faculty> findFacultiesMatching(String name, String universityId, String departmentName,
+                                                     String cursor, int pageSize) {
+        facultyLock.readLock().lock();
+        try {
+            return facultyPlan(name, universityId, departmentName).page(cursor, pageSize);
+        } finally {
+            facultyLock.readLock().unlock();
+        }
+    }
+
+    private SearchPlan<Faculty> facultyPlan(String name, String universityId, String departmentName) {
+        SearchPlan<Faculty> plan = new SearchPlan<>(facultyCriteria);
+        if (!isBlank(universityId)) {
+            plan.require(facultyCriteria.matching(FACULTY_ID, lowerCase(universityId.trim())));
+        }
+        if (!isBlank(departmentName)) {
+            String term = SearchKey.normalize(departmentName.trim());
+            // Few departments, so test each one's current name
+            plan.require(facultyCriteria.matching(FACULTY_DEPARTMENT, value -> value != null
+                && ((Department) value).getSearchName() != null
+                && ((Department) value).getSearchName().contains(term)));
+        }
+        if (!isBlank(name)) {
+            String term = SearchKey.normalize(name.trim());
+            plan.require(f -> f.getSearchName().contains(term),
+                () -> facultyCriteria.documentsOf(facultiesByName.search(term)));
+        }
+        return plan;
+    }
+
     // Admin Management
     public void addAdmin(Admin admin) {
-        if (!admins.contains(admin)) {
-            admins.add(admin);
+        boolean added;
+        adminLock.writeLock().lock();
+        try {
+            added = !admins.contains(admin);
+            if (added) {
+                admins.add(admin);
+            }
+        } finally {
+            adminLock.writeLock().unlock();
+        }
+        if (added) {
             addPerson(admin);
         }
     }
-    
+
+    public void removeAdmin(Admin admin) {
+        adminLock.writeLock().lock();
+        try {
+            admins.remove(admin);
+        } finally {
+            adminLock.writeLock().unlock();
+        }
+        removePerson(admin);
+    }
+
     public ArrayList<Admin> getAdmins() {
-        return admins;
+        return snapshot(admins, adminLock);
     }
-    
+
     // Registrar Management
     public void addRegistrar(Registrar registrar) {
-        if (!registrars.contains(registrar)) {
-            registrars.add(registrar);
+        boolean added;
+        registrarLock.writeLock().lock();
+        try {
+            added = !registrars.contains(registrar);
+            if (added) {
+                registrars.add(registrar);
+            }
+        } finally {
+            registrarLock.writeLock().unlock();
+        }
+        if (added) {
             addPerson(registrar);
         }
     }
-    
+
+    public void removeRegistrar(Registrar registrar) {
+        registrarLock.writeLock().lock();
+        try {
+            registrars.remove(registrar);
+        } finally {
+            registrarLock.writeLock().unlock();
+        }
+        removePerson(registrar);
+    }
+
     public ArrayList<Registrar> getRegistrars() {
-        return registrars;
+        return snapshot(registrars, registrarLock);
     }
-    
+
     // Department Management
     public void addDepartment(Department department) {
-        if (!departments.contains(department)) {
-            departments.add(department);
+        departmentLock.writeLock().lock();
+        try {
+            if (!departmentsById.contains(department, departments)) {
+                departments.add(department);
+                departmentsById.add(department);
+                department.setChangeListener(this);
+            }
+        } finally {
+            departmentLock.writeLock().unlock();
         }
+        departmentVersion.incrementAndGet();
     }
-    
+
     public ArrayList<Department> getDepartments() {
-        return departments;
+        return snapshot(departments, departmentLock);
     }
-    
+
     public Department findDepartmentById(String departmentId) {
-        for (Department d : departments) {
-            if (d.getDepartmentId().equals(departmentId)) {
-                return d;
-            }
-        }
-        return null;
+        return find(departmentsById, departmentId, departmentLock);
     }
-    
+
+    // ========== CHANGE VERSIONS ==========
+    // A query result cache stores the versions its result was computed at and
+    // discards the result once one of them moves on
+
+    /**
+     * Changes to persons of every kind, including student programs and faculty
+     * departments; not standings or enrolled semesters, which enrollment changes often
+     */
+    public long getPersonVersion() {
+        return personVersion.get();
+    }
+
+    /**
+     * Changes to student academic standings and to the semesters students are enrolled in
+     */
+    public long getStudentStatusVersion() {
+        return studentStatusVersion.get();
+    }
+
+    public long getDepartmentVersion() {
+        return departmentVersion.get();
+    }
+
+    public long getCourseVersion() {
+        return courseVersion.get();
+    }
+
+    /**
+     * Changes to offerings, including opening, closing, filling up and freeing a seat
+     */
+    public long getOfferingVersion() {
+        return offeringVersion.get();
+    }
+
     // Course Management
     public void addCourse(Course course) {
-        if (!courses.contains(course)) {
-            courses.add(course);
+        courseLock.writeLock().lock();
+        try {
+            if (!coursesById.contains(course, courses)) {
+                courses.add(course);
+                coursesById.add(course);
+                coursesByIdText.add(course);
+                coursesByTitle.add(course);
+                courseIdTerms.add(course);
+                courseTitleTerms.add(course);
+                courseWords.add(course);
+                course.setChangeListener(this);
+            }
+        } finally {
+            courseLock.writeLock().unlock();
         }
+        courseVersion.incrementAndGet();
     }
-    
+
     public ArrayList<Course> getCourses() {
-        return courses;
+        return snapshot(courses, courseLock);
     }
-    
+
     public Course findCourseById(String courseId) {
-        for (Course c : courses) {
-            if (c.getCourseId().equalsIgnoreCase(courseId)) {
-                return c;
-            }
+        if (courseId == null) {
+            return null;
         }
-        return null;
+        return find(coursesById, lowerCase(courseId), courseLock);
     }
-    
+
+    /**
+     * Courses whose course ID contains the fragment, ignoring case
+     */
+    public ArrayList<Course> findCoursesByIdContaining(String fragment) {
+        return search(coursesByIdText, fragment, courseLock);
+    }
+
+    /**
+     * Courses whose title contains the fragment, ignoring case
+     */
+    public ArrayList<Course> findCoursesByTitleContaining(String fragment) {
+        return search(coursesByTitle, fragment, courseLock);
+    }
+
+    /**
+     * Up to limit course IDs with a word starting with the prefix
+     */
+    public ArrayList<String> completeCourseIds(String prefix, int limit) {
+        return complete(courseIdTerms, prefix, limit, courseLock);
+    }
+
+    /**
+     * Up to limit course titles with a word starting with the prefix
+     */
+    public ArrayList<String> completeCourseTitles(String prefix, int limit) {
+        return complete(courseTitleTerms, prefix, limit, courseLock);
+    }
+
+    /**
+     * Courses whose ID or title words are each within maxEdits of a query word, closest first
+     */
+    public ArrayList<Course> findCoursesFuzzy(String text, int maxEdits) {
+        return fuzzySearch(courseWords, text, maxEdits, courseLock);
+    }
+
     // Semester Management
     public void addSemester(Semester semester) {
-        if (!semesters.contains(semester)) {
-            semesters.add(semester);
+        semesterLock.writeLock().lock();
+        try {
+            // Semester equality is by ID, so the ID index is an exact membership test
+            if (semestersById.get(semester.getSemesterId()) == null) {
+                semesters.add(semester);
+                semestersById.add(semester);
+            }
+        } finally {
+            semesterLock.writeLock().unlock();
         }
     }
-    
+
     public ArrayList<Semester> getSemesters() {
-        return semesters;
+        return snapshot(semesters, semesterLock);
     }
-    
+
     public Semester findSemesterById(String semesterId) {
-        for (Semester s : semesters) {
-            if (s.getSemesterId().equals(semesterId)) {
-                return s;
-            }
-        }
-        return null;
+        return find(semestersById, semesterId, semesterLock);
     }
-    
+
     // Course Offering Management
     public String generateOfferingId() {
-        return "OFF" + String.format("%05d", nextOfferingId++);
+        return formatId("OFF", nextOfferingId.getAndIncrement(), 5);
     }
-    
+
     public void addCourseOffering(CourseOffering offering) {
-        if (!courseOfferings.contains(offering)) {
-            courseOfferings.add(offering);
+        offeringLock.writeLock().lock();
+        try {
+            if (!offeringsById.contains(offering, courseOfferings)) {
+                courseOfferings.add(offering);
+                offeringsById.add(offering);
+                addToSemesterPartition(offering, offering.getSemester());
+                offeringsByCourseId.add(offering);
+                offeringsByTitle.add(offering);
+                offeringsByInstructor.add(offering);
+                offering.setChangeListener(this);
+            }
+        } finally {
+            offeringLock.writeLock().unlock();
         }
+        offeringVersion.incrementAndGet();
     }
-    
+
+    public void removeCourseOffering(CourseOffering offering) {
+        offeringLock.writeLock().lock();
+        try {
+            if (courseOfferings.remove(offering)) {
+                offeringsById.remove(offering, courseOfferings);
+                removeFromSemesterPartition(offering, offering.getSemester());
+                offeringsByCourseId.remove(offering);
+                offeringsByTitle.remove(offering);
+                offeringsByInstructor.remove(offering);
+                offering.setChangeListener(null);
+            }
+        } finally {
+            offeringLock.writeLock().unlock();
+        }
+        offeringVersion.incrementAndGet();
+    }
+
     public ArrayList<CourseOffering> getCourseOfferings() {
-        return courseOfferings;
+        return snapshot(courseOfferings, offeringLock);
     }
-    
+
     public CourseOffering findCourseOfferingById(String offeringId) {
-        for (CourseOffering co : courseOfferings) {
-            if (co.getOfferingId().equals(offeringId)) {
-                return co;
-            }
+        return find(offeringsById, offeringId, offeringLock);
+    }
+
+    /**
+     * Offerings whose course ID contains the fragment, ignoring case
+     */
+    public ArrayList<CourseOffering> findOfferingsByCourseIdContaining(String fragment) {
+        return search(offeringsByCourseId, fragment, offeringLock);
+    }
+
+    /**
+     * Offerings whose course title contains the fragment, ignoring case
+     */
+    public ArrayList<CourseOffering> findOfferingsByTitleContaining(String fragment) {
+        return search(offeringsByTitle, fragment, offeringLock);
+    }
+
+    /**
+     * Offerings whose instructor's full name contains the fragment, ignoring case
+     */
+    public ArrayList<CourseOffering> findOfferingsByInstructorContaining(String fragment) {
+        return search(offeringsByInstructor, fragment, offeringLock);
+    }
+
+    /**
+     * Offerings of a semester whose course ID contains the fragment; only that
+     * semester's partition is checked
+     */
+    public ArrayList<CourseOffering> findOfferingsByCourseIdContaining(String fragment, Semester semester) {
+        return searchSemester(offeringsByCourseId, fragment, semester);
+    }
+
+    /**
+     * Offerings of a semester whose course title contains the fragment
+     */
+    public ArrayList<CourseOffering> findOfferingsByTitleContaining(String fragment, Semester semester) {
+        return searchSemester(offeringsByTitle, fragment, semester);
+    }
+
+    /**
+     * Offerings of a semester whose instructor's full name contains the fragment
+     */
+    public ArrayList<CourseOffering> findOfferingsByInstructorContaining(String fragment, Semester semester) {
+        return searchSemester(offeringsByInstructor, fragment, semester);
+    }
+
+    private ArrayList<CourseOffering> searchSemester(TrigramIndex<CourseOffering> index, String fragment,
+                                                     Semester semester) {
+        String normalized = TrigramIndex.normalize(fragment);
+        offeringLock.readLock().lock();
+        try {
+            return index.searchAmong(getCourseOfferingsBySemester(semester), normalized);
+        } finally {
+            offeringLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the offerings of a semester as a read-only view of its partition;
+     * partitions are copy-on-write, so the view is safe to iterate without locking
+     */
+    public List<CourseOffering> getCourseOfferingsBySemester(Semester semester) {
+        if (semester == null) {
+            return Collections.emptyList();
         }
-        return null;
+        CopyOnWriteArrayList<CourseOffering> partition = offeringsBySemester.get(semester);
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(partition);
     }
     
-    public ArrayList<CourseOffering> getCourseOfferingsBySemester(Semester semester) {
-        ArrayList<CourseOffering> result = new ArrayList<>();
-        for (CourseOffering co : courseOfferings) {
-            if (co.getSemester().equals(semester)) {
-                result.add(co);
-            }
+    // Callers hold the offering write lock
+    private void addToSemesterPartition(CourseOffering offering, Semester semester) {
+        if (semester != null) {
+            offeringsBySemester.computeIfAbsent(semester, s -> new CopyOnWriteArrayList<>()).add(offering);
         }
-        return result;
     }
     
+    private void removeFromSemesterPartition(CourseOffering offering, Semester semester) {
+        if (semester == null) {
+            return;
+        }
+        CopyOnWriteArrayList<CourseOffering> partition = offeringsBySemester.get(semester);
+        if (partition != null && partition.remove(offering) && partition.isEmpty()) {
+            offeringsBySemester.remove(semester);
+        }
+    }
+
     // Enrollment Management
     public String generateEnrollmentId() {
-        return "ENR" + String.format("%06d", nextEnrollmentId++);
+        return formatId("ENR", nextEnrollmentId.getAndIncrement(), 6);
     }
-    
+
     public void addEnrollment(Enrollment enrollment) {
-        if (!enrollments.contains(enrollment)) {
+        enrollmentLock.writeLock().lock();
+        try {
             enrollments.add(enrollment);
+        } finally {
+            enrollmentLock.writeLock().unlock();
         }
     }
-    
+
+    public void addEnrollments(Collection<Enrollment> newEnrollments) {
+        enrollmentLock.writeLock().lock();
+        try {
+            enrollments.addAll(newEnrollments);
+        } finally {
+            enrollmentLock.writeLock().unlock();
+        }
+    }
+
     public void removeEnrollment(Enrollment enrollment) {
-        enrollments.remove(enrollment);
+        enrollmentLock.writeLock().lock();
+        try {
+            enrollments.remove(enrollment);
+        } finally {
+            enrollmentLock.writeLock().unlock();
+        }
     }
-    
+
     public ArrayList<Enrollment> getEnrollments() {
-        return enrollments;
+        return snapshot(enrollments, enrollmentLock);
     }
-    
+
     public String generateAssignmentId() {
-        return "ASN" + String.format("%05d", nextAssignmentId++);
+        return formatId("ASN", nextAssignmentId.getAndIncrement(), 5);
     }
-    
+
     public String generatePaymentId() {
-        return "PAY" + String.format("%06d", nextPaymentId++);
+        return formatId("PAY", nextPaymentId.getAndIncrement(), 6);
+    }
+
+    /**
+     * Prefix plus zero-padded number; same result as String.format("%0Nd") without parsing a pattern
+     */
+    private static String formatId(String prefix, int value, int width) {
+        String digits = Integer.toString(value);
+        StringBuilder id = new StringBuilder(prefix.length() + Math.max(width, digits.length()));
+        id.append(prefix);
+        for (int i = digits.length(); i < width; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+
+    /**
+     * Current values of the ID counters (person, enrollment, offering, assignment, payment)
+     */
+    int[] getIdCounters() {
+        return new int[] {
+            nextPersonId.get(), nextEnrollmentId.get(), nextOfferingId.get(),
+            nextAssignmentId.get(), nextPaymentId.get()
+        };
+    }
+
+    /**
+     * Restore ID counters saved by getIdCounters()
+     */
+    void restoreIdCounters(int[] counters) {
+        nextPersonId.set(counters[0]);
+        nextEnrollmentId.set(counters[1]);
+        nextOfferingId.set(counters[2]);
+        nextAssignmentId.set(counters[3]);
+        nextPaymentId.set(counters[4]);
+    }
+
+    /**
+     * Move the matching ID counter past an ID that was assigned outside the
+     * generators (e.g., replayed from the journal) so it is never handed out again
+     */
+    void reserveGeneratedId(String id) {
+        if (id == null) {
+            return;
+        }
+        if (id.startsWith("ENR")) {
+            advancePast(nextEnrollmentId, id.substring(3));
+        } else if (id.startsWith("OFF")) {
+            advancePast(nextOfferingId, id.substring(3));
+        } else if (id.startsWith("ASN")) {
+            advancePast(nextAssignmentId, id.substring(3));
+        } else if (id.startsWith("PAY")) {
+            advancePast(nextPaymentId, id.substring(3));
+        } else if (id.startsWith("U")) {
+            advancePast(nextPersonId, id.substring(1));
+        }
+    }
+
+    private static void advancePast(AtomicInteger counter, String digits) {
+        try {
+            int value = Integer.parseInt(digits);
+            counter.accumulateAndGet(value + 1, Math::max);
+        } catch (NumberFormatException e) {
+            // Not a generated ID; nothing to reserve
+        }
+    }
+
+    // ========== LOCKING HELPERS ==========
+
+    private static <T> ArrayList<T> snapshot(Collection<T> source, ReentrantReadWriteLock lock) {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(source);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <T> T find(KeyIndex<T> index, String key, ReentrantReadWriteLock lock) {
+        lock.readLock().lock();
+        try {
+            return index.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static ArrayList<String> complete(PrefixIndex<?> index, String prefix, int limit,
+                                              ReentrantReadWriteLock lock) {
+        String normalized = PrefixIndex.normalize(prefix);
+        lock.readLock().lock();
+        try {
+            return index.complete(normalized, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <T> ArrayList<T> fuzzySearch(FuzzyIndex<T> index, String text, int maxEdits,
+                                                ReentrantReadWriteLock lock) {
+        lock.readLock().lock();
+        try {
+            return index.search(text, maxEdits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <T> ArrayList<T> search(TrigramIndex<T> index, String fragment, ReentrantReadWriteLock lock) {
+        String normalized = TrigramIndex.normalize(fragment);
+        lock.readLock().lock();
+        try {
+            return index.search(normalized);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== RANKED SEARCH ==========
+
+    /**
+     * The limit best matches of the query across departments, courses, persons and
+     * offerings, best first; each type is searched under its own lock in turn and
+     * only the best hits so far are kept
+     */
+    public ArrayList<SearchResult> searchAll(String query, int limit) {
+        String id = query.trim();
+        String term = TrigramIndex.normalize(id);
+        TopResults top = new TopResults(limit);
+
+        departmentLock.readLock().lock();
+        try {
+            for (Department department : departments) {
+                rank(top, department, SearchResult.DEPARTMENT, department.getSearchId(), term);
+                rank(top, department, SearchResult.DEPARTMENT, department.getSearchName(), term);
+            }
+        } finally {
+            departmentLock.readLock().unlock();
+        }
+
+        courseLock.readLock().lock();
+        try {
+            BiConsumer<Course, String> hit = (course, key) -> rank(top, course, SearchResult.COURSE, key, term);
+            coursesByIdText.forEachMatch(term, hit);
+            coursesByTitle.forEachMatch(term, hit);
+        } finally {
+            courseLock.readLock().unlock();
+        }
+
+        personLock.readLock().lock();
+        try {
+            rankId(top, personsById, SearchResult.PERSON, id);
+            BiConsumer<Person, String> hit = (person, key) -> rank(top, person, SearchResult.PERSON, key, term);
+            personsByName.forEachMatch(term, hit);
+            personsByEmailText.forEachMatch(term, hit);
+        } finally {
+            personLock.readLock().unlock();
+        }
+
+        offeringLock.readLock().lock();
+        try {
+            rankId(top, offeringsById, SearchResult.OFFERING, id);
+            BiConsumer<CourseOffering, String> hit =
+                (offering, key) -> rank(top, offering, SearchResult.OFFERING, key, term);
+            offeringsByCourseId.forEachMatch(term, hit);
+            offeringsByTitle.forEachMatch(term, hit);
+            offeringsByInstructor.forEachMatch(term, hit);
+        } finally {
+            offeringLock.readLock().unlock();
+        }
+        return top.results();
+    }
+
+    private static void rank(TopResults top, Object entity, String type, String key, String term) {
+        if (key != null && key.contains(term)) {
+            top.offer(entity, type, TopResults.score(key, term), key.length());
+        }
+    }
+
+    /**
+     * Offer the entity whose ID is exactly id, as typed or in upper case
+     */
+    private static <T> void rankId(TopResults top, KeyIndex<T> byId, String type, String id) {
+        T match = byId.get(id);
+        if (match == null) {
+            match = byId.get(id.toUpperCase(Locale.ROOT));
+        }
+        if (match != null) {
+            top.offer(match, type, SearchResult.EXACT, id.length());
+        }
+    }
+
+    // ========== INDEX MAINTENANCE ==========
+
+    /**
+     * Re-key a person after one of its indexed fields changed
+     */
+    @Override
+    public void personChanged(Person person, String property, Object oldValue) {
+        if (EntityChangeListener.EMAIL.equals(property)) {
+            rekey(personsByEmail, person, lowerCase((String) oldValue), persons, personLock);
+            reindex(personsByEmailText, person, personLock);
+        } else if (EntityChangeListener.FIRST_NAME.equals(property)
+                || EntityChangeListener.LAST_NAME.equals(property)
+                || EntityChangeListener.NAME.equals(property)) {
+            reindex(personsByName, person, personLock);
+            reindex(personNameWords, person, personLock);
+            reindex(personNameSounds, person, personLock);
+            if (person instanceof Student) {
+                reindex(studentsByName, (Student) person, studentLock);
+                reindex(studentNameTerms, (Student) person, studentLock);
+            }
+            if (person instanceof Faculty) {
+                reindex(facultiesByName, (Faculty) person, facultyLock);
+                reindex(facultyNameTerms, (Faculty) person, facultyLock);
+                reindexOfferings(offeringsByInstructor, o -> o.getInstructor() == person);
+            }
+        } else if (EntityChangeListener.PROGRAM.equals(property)) {
+            if (person instanceof Student) {
+                reindex(studentCriteria, (Student) person, studentLock);
+            }
+        } else if (EntityChangeListener.ACADEMIC_STANDING.equals(property)
+                || EntityChangeListener.ACTIVE_SEMESTERS.equals(property)) {
+            // Only the status filters read these, so name and ID searches stay cached
+            if (person instanceof Student) {
+                reindex(studentCriteria, (Student) person, studentLock);
+            }
+            studentStatusVersion.incrementAndGet();
+            return;
+        } else if (EntityChangeListener.DEPARTMENT.equals(property)) {
+            if (person instanceof Faculty) {
+                reindex(facultyCriteria, (Faculty) person, facultyLock);
+            }
+        } else if (EntityChangeListener.UNIVERSITY_ID.equals(property)) {
+            String oldId = (String) oldValue;
+            rekey(personsById, person, oldId, persons, personLock);
+            if (person instanceof Student) {
+                rekeyIfIndexed(studentsById, (Student) person, oldId, students, studentLock);
+                reindex(studentCriteria, (Student) person, studentLock);
+            }
+            if (person instanceof Faculty) {
+                rekeyIfIndexed(facultiesById, (Faculty) person, oldId, faculties, facultyLock);
+                reindex(facultyCriteria, (Faculty) person, facultyLock);
+            }
+        }
+        personVersion.incrementAndGet();
+    }
+
+    /**
+     * Re-key a department after its ID changed
+     */
+    @Override
+    public void departmentChanged(Department department, String property, Object oldValue) {
+        if (EntityChangeListener.DEPARTMENT_ID.equals(property)) {
+            rekey(departmentsById, department, (String) oldValue, departments, departmentLock);
+        }
+        departmentVersion.incrementAndGet();
+    }
+
+    /**
+     * Re-key a course after its course ID or title changed, along with its offerings
+     */
+    @Override
+    public void courseChanged(Course course, String property, Object oldValue) {
+        if (EntityChangeListener.COURSE_ID.equals(property)) {
+            rekey(coursesById, course, lowerCase((String) oldValue), courses, courseLock);
+            reindex(coursesByIdText, course, courseLock);
+            reindex(courseIdTerms, course, courseLock);
+            reindex(courseWords, course, courseLock);
+            reindexOfferings(offeringsByCourseId, o -> o.getCourse() == course);
+        } else if (EntityChangeListener.TITLE.equals(property)) {
+            reindex(coursesByTitle, course, courseLock);
+            reindex(courseTitleTerms, course, courseLock);
+            reindex(courseWords, course, courseLock);
+            reindexOfferings(offeringsByTitle, o -> o.getCourse() == course);
+        }
+        courseVersion.incrementAndGet();
+    }
+
+    /**
+     * Move an offering to its new semester partition, or re-read its search keys
+     */
+    @Override
+    public void offeringChanged(CourseOffering offering, String property, Object oldValue) {
+        if (EntityChangeListener.SEMESTER.equals(property)) {
+            offeringLock.writeLock().lock();
+            try {
+                removeFromSemesterPartition(offering, (Semester) oldValue);
+                addToSemesterPartition(offering, offering.getSemester());
+            } finally {
+                offeringLock.writeLock().unlock();
+            }
+        } else if (EntityChangeListener.COURSE.equals(property)) {
+            offeringLock.writeLock().lock();
+            try {
+                offeringsByCourseId.update(offering);
+                offeringsByTitle.update(offering);
+            } finally {
+                offeringLock.writeLock().unlock();
+            }
+        } else if (EntityChangeListener.INSTRUCTOR.equals(property)) {
+            reindex(offeringsByInstructor, offering, offeringLock);
+        }
+        offeringVersion.incrementAndGet();
+    }
+
+    private static <T> void reindex(SearchIndex<T> index, T entity, ReentrantReadWriteLock lock) {
+        lock.writeLock().lock();
+        try {
+            index.update(entity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Re-read one search key of the offerings that show a changed course or instructor
+     */
+    private void reindexOfferings(TrigramIndex<CourseOffering> index, Predicate<CourseOffering> affected) {
+        offeringLock.writeLock().lock();
+        try {
+            for (CourseOffering offering : courseOfferings) {
+                if (affected.test(offering)) {
+                    index.update(offering);
+                }
+            }
+        } finally {
+            offeringLock.writeLock().unlock();
+        }
+    }
+
+    private static <T> void rekey(KeyIndex<T> index, T entity, String oldKey, List<T> all,
+                                  ReentrantReadWriteLock lock) {
+        lock.writeLock().lock();
+        try {
+            index.rekey(entity, oldKey, all);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Like rekey, but skips entities that were never added to this index
+    private static <T> void rekeyIfIndexed(KeyIndex<T> index, T entity, String oldKey, List<T> all,
+                                           ReentrantReadWriteLock lock) {
+        lock.writeLock().lock();
+        try {
+            if (index.get(oldKey) == entity) {
+                index.rekey(entity, oldKey, all);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.trim().isEmpty();
+    }
+
+    private static String lowerCase(String key) {
+        return key == null ? null : key.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * KeyIndex - Hash index from a key to the first entity added with that key,
+     * which is what the old linear scans returned when keys were shared;
+     * guarded by the lock of the entity type it indexes
+     */
+    private static class KeyIndex<T> {
+        private final HashMap<String, T> map = new HashMap<>();
+        private final HashSet<String> sharedKeys = new HashSet<>(); // keys claimed by more than one entity
+        private final Function<T, String> keyOf;
+
+        KeyIndex(Function<T, String> keyOf) {
+            this.keyOf = keyOf;
+        }
+
+        T get(String key) {
+            return map.get(key);
+        }
+
+        void add(T entity) {
+            String key = keyOf.apply(entity);
+            T current = map.putIfAbsent(key, entity);
+            if (current != null && current != entity) {
+                sharedKeys.add(key);
+            }
+        }
+
+        /**
+         * Membership test; only scans the list when another entity owns the same key
+         */
+        boolean contains(T entity, List<T> all) {
+            T current = map.get(keyOf.apply(entity));
+            if (current == entity) {
+                return true;
+            }
+            return current != null && all.contains(entity);
+        }
+
+        void remove(T entity, List<T> all) {
+            unlink(entity, keyOf.apply(entity), all);
+        }
+
+        void rekey(T entity, String oldKey, List<T> all) {
+            unlink(entity, oldKey, all);
+            add(entity);
+        }
+
+        private void unlink(T entity, String key, List<T> all) {
+            if (map.get(key) != entity) {
+                return;
+            }
+            map.remove(key);
+            if (!sharedKeys.contains(key)) {
+                return;
+            }
+            // Hand the key to the next entity in insertion order
+            for (T other : all) {
+                if (other != entity && Objects.equals(keyOf.apply(other), key)) {
+                    map.put(key, other);
+                    return;
+                }
+            }
+            sharedKeys.remove(key);
+        }
     }
-}
\ No newline at end of file
+}
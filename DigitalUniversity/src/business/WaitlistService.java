@@ -0,0 +1,179 @@
+package business;
+
+import model.*;
+import java.util.ArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WaitlistService - Business logic for course waitlists and automatic promotion
+ * 
+ * Promotion claims a seat with the offering's lock-free reservation first and
+ * only then takes the next waitlisted student, so any number of concurrent
+ * drops each promote a distinct student and never oversell the course.
+ * Author: [Your Name]
+ */
+public class WaitlistService {
+    
+    private UniversityDirectory directory;
+    private MutationJournal journal;
+    
+    public WaitlistService() {
+        this.directory = UniversityDirectory.getInstance();
+        this.journal = MutationJournal.getInstance();
+    }
+    
+    /**
+     * Put a student on the waitlist of a full course offering
+     */
+    public WaitlistEntry joinWaitlist(Student student, CourseOffering offering) {
+        return joinWaitlist(student, offering, WaitlistEntry.PRIORITY_NORMAL);
+    }
+    
+    /**
+     * Put a student on the waitlist with a priority class (lower is promoted first)
+     */
+    public WaitlistEntry joinWaitlist(Student student, CourseOffering offering, int priorityClass) {
+        if (student == null || offering == null) {
+            throw new IllegalArgumentException("Student and course offering cannot be null");
+        }
+        
+        if (!offering.isEnrollmentOpen()) {
+            throw new IllegalArgumentException("Enrollment is closed for this course");
+        }
+        
+        if (student.isActivelyEnrolled(offering)) {
+            throw new IllegalArgumentException("Already enrolled in this course");
+        }
+        
+        WaitlistEntry entry = offering.getWaitlist().add(student, offering, priorityClass);
+        
+        // A seat may have been freed while we were joining; hand it out now
+        promoteFromWaitlist(offering);
+        return entry;
+    }
+    
+    /**
+     * Take a student off a waitlist
+     */
+    public boolean leaveWaitlist(Student student, CourseOffering offering) {
+        if (student == null || offering == null) {
+            return false;
+        }
+        // Under the student lock, so leaving and being admitted never both happen
+        ReentrantLock lock = student.getRegistrationLock();
+        lock.lock();
+        try {
+            return offering.getWaitlist().remove(student);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Fill free seats from the waitlist in priority order
+     * Call whenever seats may have freed up: after a drop, a capacity
+     * increase or reopening enrollment. Students who are already enrolled
+     * are removed from the waitlist; students over the credit limit are
+     * blocked, keeping their place, until creditsFreed() is called for them.
+     */
+    public ArrayList<Enrollment> promoteFromWaitlist(CourseOffering offering) {
+        ArrayList<Enrollment> promoted = new ArrayList<>();
+        if (offering == null) {
+            return promoted;
+        }
+        
+        Waitlist waitlist = offering.getWaitlist();
+        while (offering.isEnrollmentOpen() && !waitlist.isEmpty() && offering.reserveSeat()) {
+            Enrollment enrollment = null;
+            WaitlistEntry entry;
+            while (enrollment == null && (entry = waitlist.poll()) != null) {
+                try {
+                    enrollment = admit(entry, offering);
+                } catch (IllegalStateException e) {
+                    // The journal rejected the enrollment: the student keeps their
+                    // place and the seat stays free for a later promotion
+                    waitlist.requeue(entry);
+                    offering.releaseSeat();
+                    return promoted;
+                }
+            }
+            
+            if (enrollment == null) {
+                // Nobody eligible left; loop re-checks in case someone just joined
+                offering.releaseSeat();
+            } else {
+                promoted.add(enrollment);
+            }
+        }
+        return promoted;
+    }
+    
+    /**
+     * Return a student's blocked waitlist places in a semester to their queues
+     * Call after the student's active credits in that semester went down
+     * (a drop or a completed course), outside the student's lock.
+     */
+    public ArrayList<Enrollment> creditsFreed(Student student, Semester semester) {
+        ArrayList<Enrollment> promoted = new ArrayList<>();
+        if (student == null) {
+            return promoted;
+        }
+        for (CourseOffering offering : directory.getCourseOfferingsBySemester(semester)) {
+            if (offering.getWaitlist().unblock(student)) {
+                promoted.addAll(promoteFromWaitlist(offering));
+            }
+        }
+        return promoted;
+    }
+    
+    /**
+     * Enroll a waitlisted student into an already reserved seat, or return null
+     * if the student is no longer eligible; students over the credit limit
+     * are blocked
+     */
+    private Enrollment admit(WaitlistEntry entry, CourseOffering offering) {
+        Student student = entry.getStudent();
+        Waitlist waitlist = offering.getWaitlist();
+        DomainEvents.EnrollmentEvent event = new DomainEvents.EnrollmentEvent();
+        event.begin();
+        String result = null;
+        ReentrantLock lock = student.getRegistrationLock();
+        lock.lock();
+        try {
+            if (!waitlist.isWaiting(entry)) {
+                result = "left waitlist";
+                return null;
+            }
+            
+            if (student.isActivelyEnrolled(offering)) {
+                waitlist.admitted(entry);
+                result = "already enrolled";
+                return null;
+            }
+            
+            // Credit limit check is O(1) against the student's running semester total
+            int currentCredits = student.getCurrentSemesterCredits(offering.getSemester());
+            if (currentCredits + offering.getCourse().getCreditHours() > 8) {
+                waitlist.block(entry);
+                result = "over credit limit";
+                return null;
+            }
+            
+            // Journal first: if the write is rejected nothing has changed yet
+            String enrollmentId = directory.generateEnrollmentId();
+            journal.append(MutationJournal.ENROLL, enrollmentId,
+                student.getUniversityId(), offering.getOfferingId());
+            
+            Enrollment enrollment = new Enrollment(enrollmentId, student, offering);
+            directory.addEnrollment(enrollment);
+            student.addEnrollment(enrollment); // This now adds tuition to balance automatically
+            offering.commitSeat(enrollment);
+            waitlist.admitted(entry);
+            result = "admitted from waitlist";
+            return enrollment;
+        } finally {
+            lock.unlock();
+            event.finish(student, offering, result);
+        }
+    }
+}
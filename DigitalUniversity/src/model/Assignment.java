@@ -31,6 +31,14 @@ public class Assignment {
         return "ASSGN-" + (assignmentCounter++);
     }
     
+    public static int getAssignmentCounter() {
+        return assignmentCounter;
+    }
+    
+    public static void setAssignmentCounter(int counter) {
+        assignmentCounter = counter;
+    }
+    
     // Getters and Setters
     public String getAssignmentId() {
         return assignmentId;
@@ -19,6 +19,12 @@ public class Course {
     private int credits;
     private int price = 1500; // per credit hour
 
+    private EntityChangeListener changeListener; // directory that indexes this course
+
+    // Search keys (see SearchKey), recomputed by the setters of their fields
+    private String searchCourseId;
+    private String searchTitle;
+
     // ======== Constructors ========
 
     
@@ -28,6 +34,8 @@ public class Course {
         this.creditHours = creditHours;
         this.department = department;
         this.isCoreRequired = false;
+        this.searchCourseId = SearchKey.normalize(courseId);
+        this.searchTitle = SearchKey.normalize(title);
     }
 
    // Jiayu’s constructor
@@ -41,10 +49,27 @@ public class Course {
 
 
     public String getCourseId() { return courseId; }
-    public void setCourseId(String courseId) { this.courseId = courseId; }
+    public void setCourseId(String courseId) {
+        String oldCourseId = this.courseId;
+        this.courseId = courseId;
+        this.searchCourseId = SearchKey.normalize(courseId);
+        if (changeListener != null) {
+            changeListener.courseChanged(this, EntityChangeListener.COURSE_ID, oldCourseId);
+        }
+    }
 
     public String getTitle() { return title; }
-    public void setTitle(String title) { this.title = title; }
+    public void setTitle(String title) {
+        String oldTitle = this.title;
+        this.title = title;
+        this.searchTitle = SearchKey.normalize(title);
+        if (changeListener != null) {
+            changeListener.courseChanged(this, EntityChangeListener.TITLE, oldTitle);
+        }
+    }
+
+    public String getSearchCourseId() { return searchCourseId; }
+    public String getSearchTitle() { return searchTitle; }
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
@@ -53,11 +78,20 @@ public class Course {
     public void setCreditHours(int creditHours) { this.creditHours = creditHours; }
 
     public Department getDepartment() { return department; }
-    public void setDepartment(Department department) { this.department = department; }
+    public void setDepartment(Department department) {
+        Department oldDepartment = this.department;
+        this.department = department;
+        if (changeListener != null) {
+            changeListener.courseChanged(this, EntityChangeListener.DEPARTMENT, oldDepartment);
+        }
+    }
 
     public boolean isCoreRequired() { return isCoreRequired; }
     public void setCoreRequired(boolean coreRequired) { isCoreRequired = coreRequired; }
 
+    public EntityChangeListener getChangeListener() { return changeListener; }
+    public void setChangeListener(EntityChangeListener changeListener) { this.changeListener = changeListener; }
+
     // --- Jiayu’s Getters/Setters ---
     public String getCOurseNumber() { return number; }
     public int getCoursePrice() { return price * credits; }
@@ -1,9 +1,18 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * CourseOffering class representing a specific offering of a course in a semester
+ * 
+ * Seats are handed out lock-free: reserveSeat() claims a seat with a CAS on
+ * the seat counter, then the caller either commitSeat()s it with the new
+ * enrollment or releaseSeat()s it if admission fails. Claimed seats never
+ * exceed maxCapacity, and seat queries are plain atomic reads. The directory
+ * hears about the offering filling up or freeing a seat, not every seat.
  * Author: [Your Name]
  */
 public class CourseOffering {
@@ -13,12 +22,15 @@ public class CourseOffering {
     private Faculty instructor;
     private String schedule; // e.g., "Mon/Wed 2:00-3:30 PM"
     private String roomLocation;
-    private int maxCapacity;
-    private int currentEnrollment;
-    private boolean enrollmentOpen;
+    private volatile int maxCapacity;
+    private final AtomicInteger currentEnrollment; // committed seats
+    private final AtomicInteger seatsTaken; // reserved + committed seats
+    private volatile boolean enrollmentOpen;
     private String syllabus;
-    private ArrayList<Enrollment> enrollments;
+    private CopyOnWriteArrayList<Enrollment> enrollments;
+    private final Waitlist waitlist;
     private ArrayList<Assignment> assignments;
+    private EntityChangeListener changeListener; // directory that indexes this offering
     
     // Constructor
     public CourseOffering(String offeringId, Course course, Semester semester, Faculty instructor) {
@@ -27,9 +39,11 @@ public class CourseOffering {
         this.semester = semester;
         this.instructor = instructor;
         this.maxCapacity = 30; // Default capacity
-        this.currentEnrollment = 0;
+        this.currentEnrollment = new AtomicInteger();
+        this.seatsTaken = new AtomicInteger();
         this.enrollmentOpen = true;
-        this.enrollments = new ArrayList<>();
+        this.enrollments = new CopyOnWriteArrayList<>();
+        this.waitlist = new Waitlist();
         this.assignments = new ArrayList<>();
     }
     
@@ -47,7 +61,11 @@ public class CourseOffering {
     }
     
     public void setCourse(Course course) {
+        Course oldCourse = this.course;
         this.course = course;
+        if (changeListener != null) {
+            changeListener.offeringChanged(this, EntityChangeListener.COURSE, oldCourse);
+        }
     }
     
     public Semester getSemester() {
@@ -55,7 +73,11 @@ public class CourseOffering {
     }
     
     public void setSemester(Semester semester) {
+        Semester oldSemester = this.semester;
         this.semester = semester;
+        if (changeListener != null) {
+            changeListener.offeringChanged(this, EntityChangeListener.SEMESTER, oldSemester);
+        }
     }
     
     public Faculty getInstructor() {
@@ -63,7 +85,11 @@ public class CourseOffering {
     }
     
     public void setInstructor(Faculty instructor) {
+        Faculty oldInstructor = this.instructor;
         this.instructor = instructor;
+        if (changeListener != null) {
+            changeListener.offeringChanged(this, EntityChangeListener.INSTRUCTOR, oldInstructor);
+        }
     }
     
     public String getSchedule() {
@@ -87,15 +113,21 @@ public class CourseOffering {
     }
     
     public void setMaxCapacity(int maxCapacity) {
+        int oldCapacity = this.maxCapacity;
         this.maxCapacity = maxCapacity;
+        if (oldCapacity != maxCapacity) {
+            availabilityChanged();
+        }
     }
     
     public int getCurrentEnrollment() {
-        return currentEnrollment;
+        return currentEnrollment.get();
     }
     
     public void setCurrentEnrollment(int currentEnrollment) {
-        this.currentEnrollment = currentEnrollment;
+        int change = currentEnrollment - this.currentEnrollment.getAndSet(currentEnrollment);
+        int taken = seatsTaken.addAndGet(change);
+        seatsChanged(taken - change, taken);
     }
     
     public boolean isEnrollmentOpen() {
@@ -103,7 +135,11 @@ public class CourseOffering {
     }
     
     public void setEnrollmentOpen(boolean enrollmentOpen) {
+        boolean wasOpen = this.enrollmentOpen;
         this.enrollmentOpen = enrollmentOpen;
+        if (wasOpen != enrollmentOpen) {
+            availabilityChanged();
+        }
     }
     
     public String getSyllabus() {
@@ -114,23 +150,134 @@ public class CourseOffering {
         this.syllabus = syllabus;
     }
     
-    public ArrayList<Enrollment> getEnrollments() {
+    public List<Enrollment> getEnrollments() {
         return enrollments;
     }
     
+    /**
+     * Add an enrollment without a prior reservation (no capacity check)
+     */
     public void addEnrollment(Enrollment enrollment) {
-        if (!enrollments.contains(enrollment)) {
-            this.enrollments.add(enrollment);
-            this.currentEnrollment++;
+        if (enrollments.addIfAbsent(enrollment)) {
+            int taken = seatsTaken.incrementAndGet();
+            currentEnrollment.incrementAndGet();
+            seatsChanged(taken - 1, taken);
         }
     }
     
+    /**
+     * Add several new enrollments in one list copy (no capacity check)
+     */
+    public void addEnrollments(List<Enrollment> newEnrollments) {
+        if (enrollments.addAll(newEnrollments)) {
+            int taken = seatsTaken.addAndGet(newEnrollments.size());
+            currentEnrollment.addAndGet(newEnrollments.size());
+            seatsChanged(taken - newEnrollments.size(), taken);
+        }
+    }
+    
+    /**
+     * Remove an enrollment and free its seat
+     */
     public void removeEnrollment(Enrollment enrollment) {
-        if (this.enrollments.remove(enrollment)) {
-            this.currentEnrollment--;
+        if (enrollments.remove(enrollment)) {
+            currentEnrollment.decrementAndGet();
+            int taken = seatsTaken.decrementAndGet();
+            seatsChanged(taken + 1, taken);
+        }
+    }
+    
+    // ========== Seat Reservation ==========
+    
+    /**
+     * Claim a seat if one is free; never lets claimed seats exceed capacity
+     */
+    public boolean reserveSeat() {
+        while (true) {
+            int taken = seatsTaken.get();
+            if (taken >= maxCapacity) {
+                return false;
+            }
+            if (seatsTaken.compareAndSet(taken, taken + 1)) {
+                seatsChanged(taken, taken + 1);
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Claim up to the requested number of seats in one step; returns how many were claimed
+     */
+    public int reserveSeats(int count) {
+        while (true) {
+            int taken = seatsTaken.get();
+            int granted = Math.max(0, Math.min(count, maxCapacity - taken));
+            if (granted == 0) {
+                return 0;
+            }
+            if (seatsTaken.compareAndSet(taken, taken + granted)) {
+                seatsChanged(taken, taken + granted);
+                return granted;
+            }
+        }
+    }
+    
+    /**
+     * Turn a reserved seat into an enrollment
+     */
+    public void commitSeat(Enrollment enrollment) {
+        if (enrollments.addIfAbsent(enrollment)) {
+            currentEnrollment.incrementAndGet();
+        } else {
+            releaseSeat(); // already enrolled, the reservation is not needed
+        }
+    }
+    
+    /**
+     * Give back a reserved seat that was not committed
+     */
+    public void releaseSeat() {
+        int taken = seatsTaken.decrementAndGet();
+        seatsChanged(taken + 1, taken);
+    }
+    
+    /**
+     * Give back several reserved seats that were not committed
+     */
+    public void releaseSeats(int count) {
+        int taken = seatsTaken.addAndGet(-count);
+        seatsChanged(taken + count, taken);
+    }
+    
+    /**
+     * Report a change of seat count that filled the offering or freed its first seat
+     */
+    private void seatsChanged(int takenBefore, int takenAfter) {
+        int capacity = maxCapacity;
+        if ((takenBefore < capacity) != (takenAfter < capacity)) {
+            availabilityChanged();
+        }
+    }
+    
+    private void availabilityChanged() {
+        EntityChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.offeringChanged(this, EntityChangeListener.AVAILABILITY, null);
         }
     }
     
+    public Waitlist getWaitlist() {
+        return waitlist;
+    }
+    
+    public EntityChangeListener getChangeListener() {
+        return changeListener;
+    }
+    
+    public void setChangeListener(EntityChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+    
     public ArrayList<Assignment> getAssignments() {
         return assignments;
     }
@@ -149,14 +296,14 @@ public class CourseOffering {
      * Check if course has available seats
      */
     public boolean hasAvailableSeats() {
-        return currentEnrollment < maxCapacity;
+        return seatsTaken.get() < maxCapacity;
     }
     
     /**
-     * Get available seats
+     * Get available seats (seats held by in-flight reservations are not available)
      */
     public int getAvailableSeats() {
-        return maxCapacity - currentEnrollment;
+        return maxCapacity - seatsTaken.get();
     }
     
     /**
@@ -1,7 +1,9 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 
 
  import business.PersonDirectory;
@@ -31,6 +33,12 @@ public class Department {
     private Degree degree;
     private HashMap<String, CourseSchedule> mastercoursecatalog;
 
+    private EntityChangeListener changeListener; // directory that indexes this department
+
+    // Search keys (see SearchKey), recomputed by the setters of their fields
+    private String searchId;
+    private String searchName;
+
     // ======== Constructors ========
 
     /** 推荐构造：带部门编号与名称（同事风格 + 你的目录初始化） */
@@ -48,6 +56,8 @@ public class Department {
         this.degree = new Degree("MSIS");
         this.facultydirectory = new FacultyDirectory(this);
         this.employerdirectory = new EmployerDirectory(this);
+        this.searchId = SearchKey.normalize(departmentId);
+        this.searchName = SearchKey.normalize(name);
     }
 
    
@@ -64,6 +74,8 @@ public class Department {
         this.degree = new Degree("MSIS");
         this.facultydirectory = new FacultyDirectory(this);
         this.employerdirectory = new EmployerDirectory(this);
+        this.searchId = SearchKey.normalize(departmentId);
+        this.searchName = SearchKey.normalize(name);
     }
     public Department(String name) {
     // Use name for both departmentId and name if only one argument is provided
@@ -79,18 +91,40 @@ public class Department {
     this.degree = new Degree("MSIS");
     this.facultydirectory = new FacultyDirectory(this);
     this.employerdirectory = new EmployerDirectory(this);
+    this.searchId = SearchKey.normalize(departmentId);
+    this.searchName = SearchKey.normalize(name);
 }
     // ======== Colleague-style Getters/Setters ========
 
     public String getDepartmentId() { return departmentId; }
-    public void setDepartmentId(String departmentId) { this.departmentId = departmentId; }
+    public void setDepartmentId(String departmentId) {
+        String oldDepartmentId = this.departmentId;
+        this.departmentId = departmentId;
+        this.searchId = SearchKey.normalize(departmentId);
+        if (changeListener != null) {
+            changeListener.departmentChanged(this, EntityChangeListener.DEPARTMENT_ID, oldDepartmentId);
+        }
+    }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        String oldName = this.name;
+        this.name = name;
+        this.searchName = SearchKey.normalize(name);
+        if (changeListener != null) {
+            changeListener.departmentChanged(this, EntityChangeListener.NAME, oldName);
+        }
+    }
+
+    public String getSearchId() { return searchId; }
+    public String getSearchName() { return searchName; }
 
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
 
+    public EntityChangeListener getChangeListener() { return changeListener; }
+    public void setChangeListener(EntityChangeListener changeListener) { this.changeListener = changeListener; }
+
     public ArrayList<Faculty> getFacultyMembers() { return facultyMembers; }
     public void addFaculty(Faculty faculty) {
         if (!facultyMembers.contains(faculty)) facultyMembers.add(faculty);
@@ -101,6 +135,13 @@ public class Department {
     public void addStudent(Student student) {
         if (!students.contains(student)) students.add(student);
     }
+    /** Add many students with one membership pass instead of a scan per student */
+    public void addStudents(Collection<Student> newStudents) {
+        HashSet<Student> present = new HashSet<>(students);
+        for (Student student : newStudents) {
+            if (present.add(student)) students.add(student);
+        }
+    }
     public void removeStudent(Student student) { students.remove(student); }
 
     // ======== Zhu Business Logic (目录/课程/注册等) ========
@@ -1,6 +1,7 @@
 package model;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 /**
  * Enrollment class representing a student's enrollment in a course offering
@@ -18,6 +19,18 @@ public class Enrollment {
     private boolean isPaid;
     private double tuitionAmount;
     
+    // Bookkeeping for the owning student's active enrollment counters
+    Student owner;
+    CourseOffering countedOffering; // null when not counted as active
+    Semester countedSemester;
+    int countedCredits;
+    
+    // Bookkeeping for the owning student's GPA running totals
+    Semester totalledSemester; // null when not counted
+    long totalledQualityPoints; // hundredths of a grade point times credits
+    int totalledCredits; // 0 when ungraded
+    boolean totalledCompleted; // counted toward the overall GPA
+    
     // Constructor
     public Enrollment(String enrollmentId, Student student, CourseOffering courseOffering) {
         this.enrollmentId = enrollmentId;
@@ -53,6 +66,10 @@ public class Enrollment {
     
     public void setCourseOffering(CourseOffering courseOffering) {
         this.courseOffering = courseOffering;
+        if (owner != null) {
+            owner.refreshActiveEnrollment(this);
+            owner.refreshGradeTotals(this);
+        }
     }
     
     public LocalDate getEnrollmentDate() {
@@ -77,15 +94,25 @@ public class Enrollment {
     
     public void setActive(boolean active) {
         this.isActive = active;
+        if (owner != null) {
+            owner.refreshActiveEnrollment(this);
+            owner.refreshGradeTotals(this);
+        }
     }
     
     public String getGrade() {
         return grade;
     }
     
+    /**
+     * Set the letter grade, stored trimmed and in upper case ("b+ " is B+)
+     */
     public void setGrade(String grade) {
-        this.grade = grade;
-        this.gradePoints = convertGradeToPoints(grade);
+        this.grade = grade == null ? null : grade.trim().toUpperCase(Locale.ROOT);
+        this.gradePoints = convertGradeToPoints(this.grade);
+        if (owner != null) {
+            owner.refreshGradeTotals(this);
+        }
     }
     
     public double getGradePoints() {
@@ -116,7 +143,7 @@ public class Enrollment {
     private double convertGradeToPoints(String grade) {
         if (grade == null) return 0.0;
         
-        switch (grade.toUpperCase()) {
+        switch (grade) {
             case "A": return 4.0;
             case "A-": return 3.7;
             case "B+": return 3.3;
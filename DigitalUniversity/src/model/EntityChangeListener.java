@@ -0,0 +1,56 @@
+package model;
+
+/**
+ * EntityChangeListener - Callback for changes to fields that a directory indexes
+ * Author: [Your Name]
+ */
+public interface EntityChangeListener {
+
+    // Person properties
+    String UNIVERSITY_ID = "universityId";
+    String EMAIL = "email";
+    String FIRST_NAME = "firstName";
+    String LAST_NAME = "lastName";
+    String NAME = "name";
+
+    // Student properties
+    String PROGRAM = "program";
+    String ACADEMIC_STANDING = "academicStanding";
+    String ACTIVE_SEMESTERS = "activeSemesters"; // a semester gained its first or lost its last active enrollment
+
+    // Faculty properties
+    String DEPARTMENT = "department";
+
+    // Department properties (also NAME)
+    String DEPARTMENT_ID = "departmentId";
+
+    // Course properties (also DEPARTMENT)
+    String COURSE_ID = "courseId";
+    String TITLE = "title";
+
+    // Course offering properties
+    String SEMESTER = "semester";
+    String COURSE = "course";
+    String INSTRUCTOR = "instructor";
+    String AVAILABILITY = "availability"; // opened or closed for enrollment, or filled or freed its last seat
+
+    /**
+     * Called after an indexed property of a person has changed
+     */
+    void personChanged(Person person, String property, Object oldValue);
+
+    /**
+     * Called after an indexed property of a department has changed
+     */
+    void departmentChanged(Department department, String property, Object oldValue);
+
+    /**
+     * Called after an indexed property of a course has changed
+     */
+    void courseChanged(Course course, String property, Object oldValue);
+
+    /**
+     * Called after an indexed property of a course offering has changed
+     */
+    void offeringChanged(CourseOffering offering, String property, Object oldValue);
+}
@@ -25,7 +25,9 @@ public class Faculty extends Person {
     }
     
     public void setDepartment(Department department) {
+        Department oldDepartment = this.department;
         this.department = department;
+        fireChanged(EntityChangeListener.DEPARTMENT, oldDepartment);
     }
     
     public String getOfficeLocation() {
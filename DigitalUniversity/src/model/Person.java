@@ -19,6 +19,12 @@ public class Person {
     private String name;   // legacy single-name field
     private String phone;  // legacy phone alias
 
+    private EntityChangeListener changeListener; // directory that indexes this person
+
+    // Search keys (see SearchKey), recomputed by the setters of their fields
+    private String searchName;
+    private String searchEmail;
+
     // ======== Constructors ========
 
     /** Full constructor (Colleague’s version) */
@@ -27,11 +33,14 @@ public class Person {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
+        this.searchName = SearchKey.normalize(fullName());
+        this.searchEmail = SearchKey.normalize(email);
     }
 
     /** Zhu constructor (Your version) */
     public Person(String id) {
         this.id = id;
+        this.searchName = SearchKey.normalize(fullName());
     }
 
     // ======== Colleague’s Getters/Setters ========
@@ -41,7 +50,9 @@ public class Person {
     }
 
     public void setUniversityId(String universityId) {
+        String oldUniversityId = this.universityId;
         this.universityId = universityId;
+        fireChanged(EntityChangeListener.UNIVERSITY_ID, oldUniversityId);
     }
 
     public String getFirstName() {
@@ -49,7 +60,10 @@ public class Person {
     }
 
     public void setFirstName(String firstName) {
+        String oldFirstName = this.firstName;
         this.firstName = firstName;
+        this.searchName = SearchKey.normalize(fullName());
+        fireChanged(EntityChangeListener.FIRST_NAME, oldFirstName);
     }
 
     public String getLastName() {
@@ -57,7 +71,10 @@ public class Person {
     }
 
     public void setLastName(String lastName) {
+        String oldLastName = this.lastName;
         this.lastName = lastName;
+        this.searchName = SearchKey.normalize(fullName());
+        fireChanged(EntityChangeListener.LAST_NAME, oldLastName);
     }
 
     public String getEmail() {
@@ -65,7 +82,10 @@ public class Person {
     }
 
     public void setEmail(String email) {
+        String oldEmail = this.email;
         this.email = email;
+        this.searchEmail = SearchKey.normalize(email);
+        fireChanged(EntityChangeListener.EMAIL, oldEmail);
     }
 
     public String getPhoneNumber() {
@@ -85,12 +105,43 @@ public class Person {
     }
 
     public String getFullName() {
+        return fullName();
+    }
+
+    /** Full name from the fields; not overridable, so constructors can use it */
+    private String fullName() {
         if (firstName != null && lastName != null) {
             return firstName + " " + lastName;
         }
         return name != null ? name : "Unknown";
     }
 
+    /** Full name as a search key: lowercased, without accents */
+    public String getSearchName() {
+        return searchName;
+    }
+
+    /** Email as a search key */
+    public String getSearchEmail() {
+        return searchEmail;
+    }
+
+    // ======== Change Notification ========
+
+    public EntityChangeListener getChangeListener() {
+        return changeListener;
+    }
+
+    public void setChangeListener(EntityChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    protected void fireChanged(String property, Object oldValue) {
+        if (changeListener != null) {
+            changeListener.personChanged(this, property, oldValue);
+        }
+    }
+
     // ======== Zhu Legacy Methods ========
 
     public String getPersonId() {
@@ -108,7 +159,10 @@ public class Person {
     }
 
     public void setName(String name) {
+        String oldName = this.name;
         this.name = name;
+        this.searchName = SearchKey.normalize(fullName());
+        fireChanged(EntityChangeListener.NAME, oldName);
     }
 
     public String getPhone() {
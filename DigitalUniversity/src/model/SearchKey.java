@@ -0,0 +1,55 @@
+package model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * SearchKey - Folds text into the form searches compare against
+ *
+ * A search key is lowercased and stripped of accents, so "José" and "jose"
+ * match each other. Entities keep the keys of their searchable fields and
+ * recompute them only when a setter changes the field, so a search compares
+ * stored keys against one normalized query instead of folding every entity's
+ * text again. Text that is already a key comes back as the same instance.
+ * Author: [Your Name]
+ */
+public final class SearchKey {
+
+    private SearchKey() {
+    }
+
+    /**
+     * The search key of a text, or null for null
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        boolean upperCase = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                return fold(text);
+            }
+            upperCase |= c >= 'A' && c <= 'Z';
+        }
+        return upperCase ? text.toLowerCase(Locale.ROOT) : text;
+    }
+
+    /**
+     * Decompose accented letters and drop the accents, then lowercase
+     */
+    private static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type != Character.NON_SPACING_MARK && type != Character.ENCLOSING_MARK
+                    && type != Character.COMBINING_SPACING_MARK) {
+                key.append(c);
+            }
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import java.time.LocalDate;
+import java.util.Objects;
 
 /**
  * Semester class representing an academic semester
@@ -78,6 +79,27 @@ public class Semester {
         return term + " " + year;
     }
     
+    /**
+     * Whether this semester comes after the other: a later year, or a later
+     * term of the same year (Spring, then Summer, then Fall)
+     */
+    public boolean isAfter(Semester other) {
+        if (year != other.year) {
+            return year > other.year;
+        }
+        return termOrder(term) > termOrder(other.term);
+    }
+    
+    private static int termOrder(String term) {
+        String[] termOrder = {"Spring", "Summer", "Fall"};
+        for (int i = 0; i < termOrder.length; i++) {
+            if (termOrder[i].equalsIgnoreCase(term)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     @Override
     public String toString() {
         return getFullName();
@@ -88,6 +110,15 @@ public class Semester {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Semester semester = (Semester) obj;
-        return semesterId.equals(semester.semesterId);
+        return Objects.equals(semesterId, semester.semesterId);
+    }
+    
+    /**
+     * Hash on the semester ID to stay consistent with equals;
+     * don't change the ID while the semester is used as a map key
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(semesterId);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Student class representing a student in the university
@@ -8,23 +11,40 @@ import java.util.ArrayList;
  */
 public class Student extends Person {
     private String program; // e.g., "MSIS"
+    private String searchProgram; // program as a search key
     private String academicStanding; // Good Standing, Academic Warning, Academic Probation
     private double overallGPA;
     private int totalCreditsCompleted;
     private double accountBalance; // For tuition tracking
     private ArrayList<Enrollment> enrollments;
     private ArrayList<TuitionPayment> paymentHistory;
+    private HashMap<CourseOffering, Enrollment> activeEnrollments; // active enrollment per offering
+    // Active credit load per semester; concurrent because search indexes copy its keys
+    // without the registration lock, which is taken before the index locks, never after
+    private ConcurrentHashMap<Semester, Integer> activeCreditsBySemester;
+    // GPA running totals, guarded by the registration lock; quality points are
+    // in hundredths so sums stay exact
+    private HashMap<Semester, Integer> enrollmentCountBySemester; // enrollments per semester, active or not
+    private HashMap<Semester, long[]> gradeTotalsBySemester; // {quality points, credits} of graded enrollments
+    private long completedQualityPoints; // graded enrollments no longer active
+    private int completedCredits;
+    private final ReentrantLock registrationLock = new ReentrantLock();
     
     // Constructor
     public Student(String universityId, String firstName, String lastName, String email, String program) {
         super(universityId, firstName, lastName, email);
         this.program = program;
+        this.searchProgram = SearchKey.normalize(program);
         this.academicStanding = "Good Standing";
         this.overallGPA = 0.0;
         this.totalCreditsCompleted = 0;
         this.accountBalance = 0.0;
         this.enrollments = new ArrayList<>();
         this.paymentHistory = new ArrayList<>();
+        this.activeEnrollments = new HashMap<>();
+        this.activeCreditsBySemester = new ConcurrentHashMap<>();
+        this.enrollmentCountBySemester = new HashMap<>();
+        this.gradeTotalsBySemester = new HashMap<>();
     }
     
     // Getters and Setters
@@ -33,7 +53,14 @@ public class Student extends Person {
     }
     
     public void setProgram(String program) {
+        String oldProgram = this.program;
         this.program = program;
+        this.searchProgram = SearchKey.normalize(program);
+        fireChanged(EntityChangeListener.PROGRAM, oldProgram);
+    }
+    
+    public String getSearchProgram() {
+        return searchProgram;
     }
     
     public String getAcademicStanding() {
@@ -41,7 +68,9 @@ public class Student extends Person {
     }
     
     public void setAcademicStanding(String academicStanding) {
+        String oldStanding = this.academicStanding;
         this.academicStanding = academicStanding;
+        fireChanged(EntityChangeListener.ACADEMIC_STANDING, oldStanding);
     }
     
     public double getOverallGPA() {
@@ -61,110 +90,197 @@ public class Student extends Person {
     }
     
     public double getAccountBalance() {
-        return accountBalance;
+        registrationLock.lock();
+        try {
+            return accountBalance;
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
     public void setAccountBalance(double accountBalance) {
-        this.accountBalance = accountBalance;
+        registrationLock.lock();
+        try {
+            this.accountBalance = accountBalance;
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
+    /**
+     * Copy of the student's enrollments, taken under the registration lock
+     */
     public ArrayList<Enrollment> getEnrollments() {
-        return enrollments;
+        registrationLock.lock();
+        try {
+            return new ArrayList<>(enrollments);
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
     public void addEnrollment(Enrollment enrollment) {
-        this.enrollments.add(enrollment);
-        // Add tuition to account balance when enrolling
-        this.accountBalance += enrollment.getTuitionAmount();
+        registrationLock.lock();
+        try {
+            this.enrollments.add(enrollment);
+            enrollment.owner = this;
+            refreshActiveEnrollment(enrollment);
+            refreshGradeTotals(enrollment);
+            // Add tuition to account balance when enrolling
+            this.accountBalance += enrollment.getTuitionAmount();
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
     public void removeEnrollment(Enrollment enrollment) {
-        this.enrollments.remove(enrollment);
-        // If the enrollment was paid, refund the student
-        if (enrollment.isPaid()) {
-            this.accountBalance -= enrollment.getTuitionAmount();
+        registrationLock.lock();
+        try {
+            this.enrollments.remove(enrollment);
+            if (enrollment.owner == this) {
+                Semester counted = enrollment.countedSemester;
+                untrackActiveEnrollment(enrollment);
+                untrackGradeTotals(enrollment);
+                enrollment.owner = null;
+                if (counted != null && !activeCreditsBySemester.containsKey(counted)) {
+                    fireChanged(EntityChangeListener.ACTIVE_SEMESTERS, counted);
+                }
+            }
+            // If the enrollment was paid, refund the student
+            if (enrollment.isPaid()) {
+                this.accountBalance -= enrollment.getTuitionAmount();
+            }
+        } finally {
+            registrationLock.unlock();
         }
     }
     
+    /**
+     * Lock that serializes enroll/drop and payments for this student, so admission
+     * and payment checks and the counters, enrollments and balance they read are
+     * updated atomically; the methods here that touch those take it themselves
+     */
+    public ReentrantLock getRegistrationLock() {
+        return registrationLock;
+    }
+    
+    /**
+     * Copy of the student's payments and refunds, taken under the registration lock
+     */
     public ArrayList<TuitionPayment> getPaymentHistory() {
-        return paymentHistory;
+        registrationLock.lock();
+        try {
+            return new ArrayList<>(paymentHistory);
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
     public void addPayment(TuitionPayment payment) {
-        this.paymentHistory.add(payment);
+        registrationLock.lock();
+        try {
+            this.paymentHistory.add(payment);
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
     /**
      * Get list of unpaid enrollments
      */
     public ArrayList<Enrollment> getUnpaidEnrollments() {
-        ArrayList<Enrollment> unpaid = new ArrayList<>();
-        for (Enrollment e : enrollments) {
-            if (!e.isPaid() && e.isActive()) {
-                unpaid.add(e);
+        registrationLock.lock();
+        try {
+            ArrayList<Enrollment> unpaid = new ArrayList<>();
+            for (Enrollment e : enrollments) {
+                if (!e.isPaid() && e.isActive()) {
+                    unpaid.add(e);
+                }
             }
+            return unpaid;
+        } finally {
+            registrationLock.unlock();
         }
-        return unpaid;
     }
     
     /**
      * Get list of paid enrollments (for transcript display)
      */
     public ArrayList<Enrollment> getPaidEnrollments() {
-        ArrayList<Enrollment> paid = new ArrayList<>();
-        for (Enrollment e : enrollments) {
-            if (e.isPaid()) {
-                paid.add(e);
+        registrationLock.lock();
+        try {
+            ArrayList<Enrollment> paid = new ArrayList<>();
+            for (Enrollment e : enrollments) {
+                if (e.isPaid()) {
+                    paid.add(e);
+                }
             }
+            return paid;
+        } finally {
+            registrationLock.unlock();
         }
-        return paid;
     }
     
     /**
      * Calculate unpaid balance
      */
     public double calculateUnpaidBalance() {
-        double unpaid = 0.0;
-        for (Enrollment e : enrollments) {
-            if (!e.isPaid() && e.isActive()) {
-                unpaid += e.getTuitionAmount();
+        registrationLock.lock();
+        try {
+            double unpaid = 0.0;
+            for (Enrollment e : enrollments) {
+                if (!e.isPaid() && e.isActive()) {
+                    unpaid += e.getTuitionAmount();
+                }
             }
+            return unpaid;
+        } finally {
+            registrationLock.unlock();
         }
-        return unpaid;
     }
     
     /**
      * Process payment for a specific enrollment
      */
     public boolean payForEnrollment(Enrollment enrollment, String paymentId) {
-        if (enrollment == null || !enrollments.contains(enrollment)) {
-            return false;
-        }
+        registrationLock.lock();
+        try {
+            if (enrollment == null || !enrollments.contains(enrollment)) {
+                return false;
+            }
         
-        if (enrollment.isPaid()) {
-            return false; // Already paid
-        }
+            if (enrollment.isPaid()) {
+                return false; // Already paid
+            }
         
-        // Mark enrollment as paid
-        enrollment.setPaid(true);
+            // Mark enrollment as paid
+            enrollment.setPaid(true);
         
-        // Reduce account balance
-        this.accountBalance -= enrollment.getTuitionAmount();
+            // Reduce account balance
+            this.accountBalance -= enrollment.getTuitionAmount();
         
-        // Create payment record
-        TuitionPayment payment = new TuitionPayment(paymentId, this, enrollment, enrollment.getTuitionAmount());
-        this.paymentHistory.add(payment);
+            // Create payment record
+            TuitionPayment payment = new TuitionPayment(paymentId, this, enrollment, enrollment.getTuitionAmount());
+            this.paymentHistory.add(payment);
         
-        return true;
+            return true;
+        } finally {
+            registrationLock.unlock();
+        }
     }
     
     /**
      * Process refund when dropping a paid course
      */
     public void refundEnrollment(Enrollment enrollment) {
-        if (enrollment != null && enrollment.isPaid()) {
-            enrollment.setPaid(false);
-            this.accountBalance -= enrollment.getTuitionAmount(); // Reduce debt (negative balance means credit)
+        registrationLock.lock();
+        try {
+            if (enrollment != null && enrollment.isPaid()) {
+                enrollment.setPaid(false);
+                this.accountBalance -= enrollment.getTuitionAmount(); // Reduce debt (negative balance means credit)
+            }
+        } finally {
+            registrationLock.unlock();
         }
     }
     
@@ -177,7 +293,7 @@ public class Student extends Person {
         }
         
         // Check if INFO 5100 is completed
-        for (Enrollment e : enrollments) {
+        for (Enrollment e : getEnrollments()) {
             if (e.getCourseOffering().getCourse().getCourseId().equals("INFO 5100") 
                 && e.getGrade() != null && !e.getGrade().equals("F")) {
                 return true;
@@ -190,13 +306,178 @@ public class Student extends Person {
      * Calculate current semester credit load
      */
     public int getCurrentSemesterCredits(Semester semester) {
-        int credits = 0;
-        for (Enrollment e : enrollments) {
-            if (e.getCourseOffering().getSemester().equals(semester) && e.isActive()) {
-                credits += e.getCourseOffering().getCourse().getCreditHours();
+        return activeCreditsBySemester.getOrDefault(semester, 0);
+    }
+    
+    /**
+     * Check if the student is actively enrolled in a course offering
+     */
+    public boolean isActivelyEnrolled(CourseOffering offering) {
+        return activeEnrollments.containsKey(offering);
+    }
+    
+    /**
+     * Get the student's active enrollment in a course offering, or null if none
+     */
+    public Enrollment getActiveEnrollment(CourseOffering offering) {
+        return activeEnrollments.get(offering);
+    }
+    
+    /**
+     * Semesters in which the student has at least one active enrollment
+     * Safe to call without the registration lock; the result may then miss
+     * a change that is in progress.
+     */
+    public ArrayList<Semester> getActiveSemesters() {
+        return new ArrayList<>(activeCreditsBySemester.keySet());
+    }
+    
+    // ========== Active Enrollment Tracking ==========
+    
+    /**
+     * Re-count an enrollment after its active flag or offering changed
+     */
+    void refreshActiveEnrollment(Enrollment enrollment) {
+        CourseOffering offering = enrollment.getCourseOffering();
+        Semester counted = enrollment.countedSemester;
+        Semester target = enrollment.isActive() && offering != null ? offering.getSemester() : null;
+        boolean targetWasActive = target != null && activeCreditsBySemester.containsKey(target);
+        untrackActiveEnrollment(enrollment);
+        if (target != null) {
+            int credits = offering.getCourse().getCreditHours();
+            activeEnrollments.putIfAbsent(offering, enrollment);
+            activeCreditsBySemester.merge(target, credits, Integer::sum);
+            // Remember what was counted so untracking stays exact even if
+            // the offering, its semester or the course's credits change later
+            enrollment.countedOffering = offering;
+            enrollment.countedSemester = target;
+            enrollment.countedCredits = credits;
+        }
+        if ((counted != null && !activeCreditsBySemester.containsKey(counted))
+                || (target != null && !targetWasActive)) {
+            fireChanged(EntityChangeListener.ACTIVE_SEMESTERS, counted);
+        }
+    }
+    
+    private void untrackActiveEnrollment(Enrollment enrollment) {
+        if (enrollment.countedOffering == null) {
+            return;
+        }
+        activeEnrollments.remove(enrollment.countedOffering, enrollment);
+        int remaining = activeCreditsBySemester.getOrDefault(enrollment.countedSemester, 0)
+                - enrollment.countedCredits;
+        if (remaining == 0) {
+            activeCreditsBySemester.remove(enrollment.countedSemester);
+        } else {
+            activeCreditsBySemester.put(enrollment.countedSemester, remaining);
+        }
+        enrollment.countedOffering = null;
+        enrollment.countedSemester = null;
+        enrollment.countedCredits = 0;
+    }
+    
+    // ========== GPA Running Totals ==========
+    
+    /**
+     * GPA of the graded enrollments in a semester, active or not; 0 if none
+     */
+    public double getTermGPA(Semester semester) {
+        registrationLock.lock();
+        try {
+            long[] totals = gradeTotalsBySemester.get(semester);
+            return totals == null ? 0.0 : average(totals[0], totals[1]);
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+    
+    /**
+     * GPA of the graded enrollments that are no longer active; 0 if none
+     */
+    public double getCompletedGPA() {
+        registrationLock.lock();
+        try {
+            return average(completedQualityPoints, completedCredits);
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+    
+    /**
+     * Latest semester the student has an enrollment in, active or not; null if none
+     */
+    public Semester getLatestSemester() {
+        registrationLock.lock();
+        try {
+            Semester latest = null;
+            for (Semester semester : enrollmentCountBySemester.keySet()) {
+                if (latest == null || semester.isAfter(latest)) {
+                    latest = semester;
+                }
+            }
+            return latest;
+        } finally {
+            registrationLock.unlock();
+        }
+    }
+    
+    private static double average(long qualityPoints, long credits) {
+        if (credits == 0) return 0.0;
+        return qualityPoints / (100.0 * credits);
+    }
+    
+    /**
+     * Re-count an enrollment after its grade, active flag or offering changed
+     */
+    void refreshGradeTotals(Enrollment enrollment) {
+        untrackGradeTotals(enrollment);
+        CourseOffering offering = enrollment.getCourseOffering();
+        if (offering == null || offering.getSemester() == null) {
+            return;
+        }
+        Semester semester = offering.getSemester();
+        enrollmentCountBySemester.merge(semester, 1, Integer::sum);
+        enrollment.totalledSemester = semester;
+        if (enrollment.getGrade() == null) {
+            return;
+        }
+        // Remember what was counted so untracking stays exact, as for active enrollments
+        int credits = offering.getCourse().getCreditHours();
+        long qualityPoints = Math.round(enrollment.getGradePoints() * 100) * credits;
+        long[] totals = gradeTotalsBySemester.computeIfAbsent(semester, s -> new long[2]);
+        totals[0] += qualityPoints;
+        totals[1] += credits;
+        enrollment.totalledQualityPoints = qualityPoints;
+        enrollment.totalledCredits = credits;
+        if (!enrollment.isActive()) {
+            completedQualityPoints += qualityPoints;
+            completedCredits += credits;
+            enrollment.totalledCompleted = true;
+        }
+    }
+    
+    private void untrackGradeTotals(Enrollment enrollment) {
+        Semester semester = enrollment.totalledSemester;
+        if (semester == null) {
+            return;
+        }
+        enrollmentCountBySemester.computeIfPresent(semester, (s, count) -> count == 1 ? null : count - 1);
+        long[] totals = gradeTotalsBySemester.get(semester);
+        if (totals != null) {
+            totals[0] -= enrollment.totalledQualityPoints;
+            totals[1] -= enrollment.totalledCredits;
+            if (totals[0] == 0 && totals[1] == 0) {
+                gradeTotalsBySemester.remove(semester);
             }
         }
-        return credits;
+        if (enrollment.totalledCompleted) {
+            completedQualityPoints -= enrollment.totalledQualityPoints;
+            completedCredits -= enrollment.totalledCredits;
+        }
+        enrollment.totalledSemester = null;
+        enrollment.totalledQualityPoints = 0;
+        enrollment.totalledCredits = 0;
+        enrollment.totalledCompleted = false;
     }
     
     @Override
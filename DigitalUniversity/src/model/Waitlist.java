@@ -0,0 +1,158 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Waitlist class holding the students waiting for a seat in one course offering
+ * 
+ * A concurrent skip list keeps entries in promotion order, so join, leave and
+ * taking the head are O(log n) and safe to call from many sessions at once.
+ * Students who cannot take a seat yet (over the credit limit) are parked in a
+ * blocked set, so promotion does not rescan them; they keep their entry, and
+ * with it their place, and return to the queue when unblocked. A student
+ * counts as waiting from joining until admitted or leaving, including while
+ * a promotion is looking at their entry.
+ * Author: [Your Name]
+ */
+public class Waitlist {
+    private final ConcurrentSkipListSet<WaitlistEntry> queue;
+    private final ConcurrentHashMap<Student, WaitlistEntry> blocked;
+    private final ConcurrentHashMap<Student, WaitlistEntry> entriesByStudent; // everyone waiting
+    
+    // Constructor
+    public Waitlist() {
+        this.queue = new ConcurrentSkipListSet<>();
+        this.blocked = new ConcurrentHashMap<>();
+        this.entriesByStudent = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Add a student; returns the existing entry if the student is already waiting
+     */
+    public WaitlistEntry add(Student student, CourseOffering offering, int priorityClass) {
+        return add(new WaitlistEntry(student, offering, priorityClass));
+    }
+    
+    /**
+     * Add a prepared entry (e.g., restored from storage); returns the existing
+     * entry if the student is already waiting
+     */
+    public WaitlistEntry add(WaitlistEntry entry) {
+        Student student = entry.getStudent();
+        WaitlistEntry existing = entriesByStudent.putIfAbsent(student, entry);
+        if (existing != null) {
+            return existing;
+        }
+        queue.add(entry);
+        return entry;
+    }
+    
+    /**
+     * Remove a student, queued or blocked; returns false if the student was not waiting
+     */
+    public boolean remove(Student student) {
+        WaitlistEntry entry = entriesByStudent.remove(student);
+        if (entry == null) {
+            return false;
+        }
+        queue.remove(entry);
+        blocked.remove(student, entry);
+        return true;
+    }
+    
+    /**
+     * Take the next queued entry in promotion order, or null if the queue is
+     * empty; the student still counts as waiting until the entry is passed to
+     * admitted(), block() or requeue()
+     */
+    public WaitlistEntry poll() {
+        WaitlistEntry entry;
+        while ((entry = queue.pollFirst()) != null) {
+            // The student map is authoritative; skip entries whose student already left
+            if (isWaiting(entry)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Whether this entry is still the student's place on the waitlist
+     */
+    public boolean isWaiting(WaitlistEntry entry) {
+        return entriesByStudent.get(entry.getStudent()) == entry;
+    }
+    
+    /**
+     * The student of a polled entry got a seat (or no longer needs one)
+     */
+    public void admitted(WaitlistEntry entry) {
+        entriesByStudent.remove(entry.getStudent(), entry);
+    }
+    
+    /**
+     * Park a polled entry until unblock() is called for its student
+     */
+    public void block(WaitlistEntry entry) {
+        blocked.put(entry.getStudent(), entry);
+        if (!isWaiting(entry)) {
+            blocked.remove(entry.getStudent(), entry); // the student left meanwhile
+        }
+    }
+    
+    /**
+     * Put a polled entry back in its place in the queue
+     */
+    public void requeue(WaitlistEntry entry) {
+        queue.add(entry);
+        if (!isWaiting(entry)) {
+            queue.remove(entry); // the student left meanwhile
+        }
+    }
+    
+    /**
+     * Return a blocked student to the queue; returns false if the student was not blocked
+     */
+    public boolean unblock(Student student) {
+        WaitlistEntry entry = blocked.remove(student);
+        if (entry == null) {
+            return false;
+        }
+        requeue(entry);
+        return true;
+    }
+    
+    public boolean isBlocked(Student student) {
+        return blocked.containsKey(student);
+    }
+    
+    public boolean contains(Student student) {
+        return entriesByStudent.containsKey(student);
+    }
+    
+    /**
+     * Whether no queued student is waiting for promotion; blocked students do not count
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+    
+    /**
+     * Number of students waiting, blocked ones included
+     */
+    public int size() {
+        return entriesByStudent.size();
+    }
+    
+    /**
+     * Get every waiting entry, blocked ones included, in promotion order
+     */
+    public ArrayList<WaitlistEntry> getEntries() {
+        ArrayList<WaitlistEntry> entries = new ArrayList<>(entriesByStudent.values());
+        Collections.sort(entries);
+        return entries;
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WaitlistEntry class representing a student's place on a course offering's waitlist
+ * Entries order by priority class, then registration time, then arrival order
+ * Author: [Your Name]
+ */
+public class WaitlistEntry implements Comparable<WaitlistEntry> {
+    // Priority classes (lower value is promoted first)
+    public static final int PRIORITY_HIGH = 0;   // e.g., graduating or program-required
+    public static final int PRIORITY_NORMAL = 1;
+    
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    
+    private final Student student;
+    private final CourseOffering courseOffering;
+    private final int priorityClass;
+    private final LocalDateTime registrationTime;
+    private final long sequence; // tie-breaker for identical timestamps
+    
+    // Constructor
+    public WaitlistEntry(Student student, CourseOffering courseOffering, int priorityClass) {
+        this(student, courseOffering, priorityClass, LocalDateTime.now());
+    }
+    
+    // Constructor for restoring an entry with its original registration time
+    public WaitlistEntry(Student student, CourseOffering courseOffering, int priorityClass,
+                         LocalDateTime registrationTime) {
+        this.student = student;
+        this.courseOffering = courseOffering;
+        this.priorityClass = priorityClass;
+        this.registrationTime = registrationTime;
+        this.sequence = SEQUENCE.getAndIncrement();
+    }
+    
+    // Getters
+    public Student getStudent() {
+        return student;
+    }
+    
+    public CourseOffering getCourseOffering() {
+        return courseOffering;
+    }
+    
+    public int getPriorityClass() {
+        return priorityClass;
+    }
+    
+    public LocalDateTime getRegistrationTime() {
+        return registrationTime;
+    }
+    
+    @Override
+    public int compareTo(WaitlistEntry other) {
+        int result = Integer.compare(priorityClass, other.priorityClass);
+        if (result == 0) {
+            result = registrationTime.compareTo(other.registrationTime);
+        }
+        if (result == 0) {
+            result = Long.compare(sequence, other.sequence);
+        }
+        return result;
+    }
+    
+    @Override
+    public String toString() {
+        return student.getFullName() + " - " + courseOffering.getCourse().getCourseId() +
+               " (waitlisted " + registrationTime.toLocalDate() + ")";
+    }
+}
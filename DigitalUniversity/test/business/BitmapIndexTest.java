@@ -0,0 +1,75 @@
+package business;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * BitmapIndexTest - Postings survive removals and renumbering
+ * Author: [Your Name]
+ */
+public class BitmapIndexTest {
+
+    private static final class Item {
+        final String color;
+        final int size;
+
+        Item(String color, int size) {
+            this.color = color;
+            this.size = size;
+        }
+    }
+
+    @Test
+    public void compactingKeepsPostingsWithoutRereadingEntities() {
+        AtomicInteger reads = new AtomicInteger();
+        BitmapIndex<Item> index = new BitmapIndex<>(
+            item -> {
+                reads.incrementAndGet();
+                return Collections.singletonList(item.color);
+            },
+            item -> Collections.singletonList(item.size));
+
+        ArrayList<Item> items = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Item item = new Item(i % 2 == 0 ? "red" : "blue", i % 4);
+            items.add(item);
+            index.add(item);
+        }
+        for (int i = 0; i < 48; i++) {
+            index.remove(items.get(i));
+        }
+
+        // Documents 0-63 are taken, so this add renumbers the 16 live ones first
+        int readsBefore = reads.get();
+        Item added = new Item("red", 0);
+        index.add(added);
+        assertEquals(readsBefore + 1, reads.get());
+
+        ArrayList<Item> red = index.entities(index.matching(0, "red"));
+        assertEquals(9, red.size());
+        assertEquals(items.get(48), red.get(0));
+        assertEquals(added, red.get(8));
+
+        BitSet redAndZero = index.matching(0, "red");
+        redAndZero.and(index.matching(1, 0));
+        assertEquals(5, redAndZero.cardinality());
+    }
+
+    @Test
+    public void updateMovesAnEntityBetweenValues() {
+        String[] color = {"red"};
+        Item item = new Item("unused", 1);
+        BitmapIndex<Item> index = new BitmapIndex<>(i -> Collections.singletonList(color[0]));
+        index.add(item);
+        assertEquals(1, index.matching(0, "red").cardinality());
+
+        color[0] = "blue";
+        index.update(item);
+        assertEquals(0, index.matching(0, "red").cardinality());
+        assertEquals(1, index.matching(0, "blue").cardinality());
+    }
+}
@@ -0,0 +1,171 @@
+package business;
+
+import model.Course;
+import model.CourseOffering;
+import model.Enrollment;
+import model.Semester;
+import model.Student;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * MutationJournalTest - Record round trip, torn tails and replay
+ * Author: [Your Name]
+ */
+public class MutationJournalTest {
+
+    private MutationJournal journal;
+    private Path dir;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        journal = MutationJournal.getInstance();
+        dir = Files.createTempDirectory("journal-test");
+        file = dir.resolve("university.journal");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(MutationJournal.previousPath(file));
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+    }
+
+    private ArrayList<MutationJournal.Record> read() throws IOException {
+        ArrayList<MutationJournal.Record> records = new ArrayList<>();
+        MutationJournal.readRecords(file, records::add);
+        return records;
+    }
+
+    @Test
+    public void recordsRoundTrip() throws IOException {
+        LocalDate date = LocalDate.of(2031, 9, 1);
+        journal.open(file);
+        journal.append(MutationJournal.PAY, "P-1", 1250, 99.5, true, date, null, "Zoë");
+        journal.close();
+
+        ArrayList<MutationJournal.Record> records = read();
+        assertEquals(1, records.size());
+        MutationJournal.Record record = records.get(0);
+        assertEquals(MutationJournal.PAY, record.getType());
+        assertEquals("P-1", record.getString(0));
+        assertEquals(1250, record.getInt(1));
+        assertEquals(99.5, record.getDouble(2), 0.0);
+        assertTrue(record.getBoolean(3));
+        assertEquals(date, record.getDate(4));
+        assertNull(record.getString(5));
+        assertEquals("Zoë", record.getString(6));
+    }
+
+    @Test
+    public void tornTailIsCutOnReopen() throws IOException {
+        journal.open(file);
+        journal.append(MutationJournal.DROP, "E-1");
+        journal.close();
+        Files.write(file, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND); // half a record
+
+        journal.open(file);
+        journal.append(MutationJournal.DROP, "E-2");
+        journal.close();
+
+        ArrayList<MutationJournal.Record> records = read();
+        assertEquals(2, records.size());
+        assertEquals("E-1", records.get(0).getString(0));
+        assertEquals("E-2", records.get(1).getString(0));
+    }
+
+    @Test
+    public void checkpointStartsAnEmptyJournal() throws IOException {
+        journal.open(file);
+        journal.append(MutationJournal.DROP, "E-1");
+        boolean[] saved = new boolean[1];
+        journal.checkpoint(() -> saved[0] = true);
+        journal.append(MutationJournal.DROP, "E-2");
+        journal.close();
+
+        assertTrue(saved[0]);
+        assertFalse(Files.exists(MutationJournal.previousPath(file)));
+        ArrayList<MutationJournal.Record> records = read();
+        assertEquals(1, records.size());
+        assertEquals("E-2", records.get(0).getString(0));
+    }
+
+    @Test
+    public void replayAppliesEachRecordOnce() throws IOException {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        Semester semester = new Semester("MJ-T1", "Fall", 2031);
+        directory.addSemester(semester);
+        Course course = new Course("MJ-T1-100", "Replay", 4, null);
+        directory.addCourse(course);
+        CourseOffering offering = new CourseOffering("MJ-T1-OFF", course, semester, null);
+        directory.addCourseOffering(offering);
+        Student student = new Student("MJ-T1-S", "Replay", "Student", "mj.t1@example.edu", "MSIS");
+        directory.addStudent(student);
+
+        // A change that was journaled but never reached the snapshot
+        journal.open(file);
+        journal.append(MutationJournal.ENROLL, "MJ-T1-E", student.getUniversityId(), offering.getOfferingId());
+        journal.close();
+        assertFalse(student.isActivelyEnrolled(offering));
+
+        assertEquals(1, new JournalReplayer().recover(file));
+        assertTrue(student.isActivelyEnrolled(offering));
+        assertEquals(1, offering.getCurrentEnrollment());
+
+        assertEquals(0, new JournalReplayer().recover(file));
+        assertEquals(1, offering.getCurrentEnrollment());
+    }
+
+    @Test
+    public void replayCompletesEnrollmentsASnapshotCaughtHalfMade() throws IOException {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        Semester semester = new Semester("MJ-T2", "Fall", 2031);
+        directory.addSemester(semester);
+        Course course = new Course("MJ-T2-100", "Repair", 4, null);
+        directory.addCourse(course);
+        CourseOffering offering = new CourseOffering("MJ-T2-OFF", course, semester, null);
+        directory.addCourseOffering(offering);
+        Student onStudent = new Student("MJ-T2-A", "Repair", "Student", "mj.t2.a@example.edu", "MSIS");
+        Student inDirectory = new Student("MJ-T2-B", "Repair", "Student", "mj.t2.b@example.edu", "MSIS");
+        directory.addStudent(onStudent);
+        directory.addStudent(inDirectory);
+
+        // Saved on the student but not yet on the roster
+        Enrollment first = new Enrollment("MJ-T2-E1", onStudent, offering);
+        directory.addEnrollment(first);
+        onStudent.addEnrollment(first);
+        // Saved in the directory only
+        Enrollment second = new Enrollment("MJ-T2-E2", inDirectory, offering);
+        directory.addEnrollment(second);
+
+        journal.open(file);
+        journal.append(MutationJournal.ENROLL, "MJ-T2-E1", onStudent.getUniversityId(), offering.getOfferingId());
+        journal.append(MutationJournal.ENROLL, "MJ-T2-E2", inDirectory.getUniversityId(), offering.getOfferingId());
+        journal.close();
+
+        int enrollmentsBefore = directory.getEnrollments().size();
+        assertEquals(2, new JournalReplayer().recover(file));
+        assertEquals(2, offering.getCurrentEnrollment());
+        assertTrue(offering.getEnrollments().contains(first));
+        assertTrue(offering.getEnrollments().contains(second));
+        assertEquals(1, onStudent.getEnrollments().size());
+        assertEquals(second, inDirectory.getActiveEnrollment(offering));
+        assertEquals(enrollmentsBefore, directory.getEnrollments().size());
+
+        assertEquals(0, new JournalReplayer().recover(file));
+        assertEquals(2, offering.getCurrentEnrollment());
+    }
+}
@@ -0,0 +1,39 @@
+package business;
+
+import java.util.ArrayList;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * PhoneticIndexTest - Sound-alike queries find names spelled differently
+ * Author: [Your Name]
+ */
+public class PhoneticIndexTest {
+
+    @Test
+    public void findsNamesThatSoundLikeEveryQueryWord() {
+        PhoneticIndex<String> index = new PhoneticIndex<>(name -> name);
+        index.add("John Smith");
+        index.add("John Baker");
+        index.add("Joan Smith");
+
+        ArrayList<String> found = index.search("Jon Smyth");
+        assertEquals(2, found.size());
+        assertEquals("John Smith", found.get(0));
+        assertEquals("Joan Smith", found.get(1));
+        assertTrue(index.search("Jon Carter").isEmpty());
+    }
+
+    @Test
+    public void updateFollowsARename() {
+        String[] name = {"John Smith"};
+        PhoneticIndex<String[]> index = new PhoneticIndex<>(n -> n[0]);
+        index.add(name);
+
+        name[0] = "Mary Baker";
+        index.update(name);
+        assertTrue(index.search("Jon Smyth").isEmpty());
+        assertEquals(1, index.search("Marie Backer").size());
+    }
+}
@@ -0,0 +1,77 @@
+package business;
+
+import model.Course;
+import model.CourseOffering;
+import model.Semester;
+import model.Student;
+import java.util.ArrayList;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * RegistrarServiceTest - Seat accounting of batch enrollment
+ * The directory is a singleton, so every test uses ids of its own.
+ * Author: [Your Name]
+ */
+public class RegistrarServiceTest {
+
+    private static Student student(String id) {
+        Student student = new Student(id, "Student", id, id.toLowerCase() + "@example.edu", "MSIS");
+        UniversityDirectory.getInstance().addStudent(student);
+        return student;
+    }
+
+    private static CourseOffering offering(String id, Course course, Semester semester, int capacity) {
+        CourseOffering offering = new CourseOffering(id, course, semester, null);
+        offering.setMaxCapacity(capacity);
+        UniversityDirectory.getInstance().addCourseOffering(offering);
+        return offering;
+    }
+
+    @Test
+    public void rejectedRowsGiveTheirSeatsBack() {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        Semester semester = new Semester("RS-T1", "Fall", 2033);
+        directory.addSemester(semester);
+        Course course = new Course("RS-T1-100", "Batch", 4, null);
+        directory.addCourse(course);
+        CourseOffering offering = offering("RS-T1-OFF", course, semester, 3);
+
+        Student enrolled = student("RS-T1-A");
+        new StudentService().enrollInCourse(enrolled, offering);
+
+        ArrayList<EnrollmentRequest> requests = new ArrayList<>();
+        requests.add(new EnrollmentRequest(enrolled, offering)); // already enrolled
+        requests.add(new EnrollmentRequest(student("RS-T1-B"), offering));
+        requests.add(new EnrollmentRequest(student("RS-T1-C"), offering)); // no seat left
+
+        ArrayList<EnrollmentResult> results = new RegistrarService().enrollStudents(requests);
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals(2, offering.getCurrentEnrollment());
+        assertEquals(1, offering.getAvailableSeats());
+    }
+
+    @Test
+    public void failedBatchReleasesReservedSeats() {
+        Semester semester = new Semester("RS-T2", "Fall", 2033);
+        UniversityDirectory.getInstance().addSemester(semester);
+        CourseOffering broken = offering("RS-T2-OFF", null, semester, 4); // no course: the credit check throws
+
+        ArrayList<EnrollmentRequest> requests = new ArrayList<>();
+        requests.add(new EnrollmentRequest(student("RS-T2-A"), broken));
+        requests.add(new EnrollmentRequest(student("RS-T2-B"), broken));
+        try {
+            new RegistrarService().enrollStudents(requests);
+            fail("Expected the batch to fail");
+        } catch (NullPointerException expected) {
+            // the rows never reached commit
+        }
+        assertEquals(0, broken.getCurrentEnrollment());
+        assertEquals(4, broken.getAvailableSeats());
+    }
+}
@@ -0,0 +1,75 @@
+package business;
+
+import model.Student;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ResultCacheTest - Least recently used results go first, and a moved
+ * version recomputes a result
+ * Author: [Your Name]
+ */
+public class ResultCacheTest {
+
+    private static ArrayList<String> list(String value) {
+        ArrayList<String> list = new ArrayList<>();
+        list.add(value);
+        return list;
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedResult() {
+        ResultCache cache = new ResultCache("ResultCacheTest.lru", 2);
+        AtomicInteger runs = new AtomicInteger();
+
+        cache.get(0, () -> { runs.incrementAndGet(); return list("a"); }, "q", "a");
+        cache.get(0, () -> { runs.incrementAndGet(); return list("b"); }, "q", "b");
+        cache.get(0, () -> { runs.incrementAndGet(); return list("a"); }, "q", "a"); // a is now the most recent
+        cache.get(0, () -> { runs.incrementAndGet(); return list("c"); }, "q", "c"); // evicts b
+        assertEquals(3, runs.get());
+
+        cache.get(0, () -> { runs.incrementAndGet(); return list("a"); }, "q", "a");
+        assertEquals(3, runs.get());
+        cache.get(0, () -> { runs.incrementAndGet(); return list("b"); }, "q", "b");
+        assertEquals(4, runs.get());
+    }
+
+    @Test
+    public void recomputesOnceTheVersionMoves() {
+        ResultCache cache = new ResultCache("ResultCacheTest.version", 8);
+        AtomicInteger runs = new AtomicInteger();
+
+        ArrayList<String> first = cache.get(1, () -> { runs.incrementAndGet(); return list("old"); }, "q");
+        first.add("caller's own copy");
+        assertEquals(list("old"), cache.get(1, () -> { runs.incrementAndGet(); return list("new"); }, "q"));
+        assertEquals(1, runs.get());
+
+        assertEquals(list("new"), cache.get(2, () -> { runs.incrementAndGet(); return list("new"); }, "q"));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void standingChangesKeepNameSearchesCachedButNotStandingSearches() {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        SearchService searchService = new SearchService();
+        Student student = new Student("RC-T1", "Quillon", "Vantrees", "rc-t1@example.edu", "MSIS");
+        directory.addStudent(student);
+
+        assertEquals(1, searchService.searchStudentsByName("Quillon Vantrees").size());
+        assertTrue(searchService.advancedStudentSearch("Quillon", null, null, "Probation", null).isEmpty());
+
+        long personVersion = directory.getPersonVersion();
+        long statusVersion = directory.getStudentStatusVersion();
+        student.setAcademicStanding("Probation");
+        assertEquals(personVersion, directory.getPersonVersion());
+        assertFalse(statusVersion == directory.getStudentStatusVersion());
+        assertEquals(1, searchService.advancedStudentSearch("Quillon", null, null, "Probation", null).size());
+
+        student.setLastName("Vantreese");
+        assertEquals(1, searchService.searchStudentsByName("Quillon Vantreese").size());
+    }
+}
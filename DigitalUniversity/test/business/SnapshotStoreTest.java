@@ -0,0 +1,102 @@
+package business;
+
+import model.CourseOffering;
+import model.Enrollment;
+import model.Student;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * SnapshotStoreTest - A snapshot plus its journal restore the directory after a restart
+ * Snapshots only load into an empty directory, so the restart is a second JVM
+ * that runs main() and prints what it restored.
+ * Author: [Your Name]
+ */
+public class SnapshotStoreTest {
+
+    /**
+     * Counts and totals that any lost or doubled change would alter
+     */
+    static String describe() {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        int enrollments = 0;
+        double balances = 0;
+        double gpas = 0;
+        for (Student student : directory.getStudents()) {
+            balances += student.getAccountBalance();
+            gpas += student.getOverallGPA();
+        }
+        for (CourseOffering offering : directory.getCourseOfferings()) {
+            for (Enrollment enrollment : offering.getEnrollments()) {
+                enrollments += enrollment.isActive() ? 1 : 0;
+            }
+        }
+        return String.format(Locale.ROOT, "students=%d offerings=%d enrollments=%d balances=%.2f gpas=%.4f",
+            directory.getStudents().size(), directory.getCourseOfferings().size(), enrollments, balances, gpas);
+    }
+
+    /**
+     * Restart side: restore the snapshot and journal given as arguments, then describe them
+     */
+    public static void main(String[] args) throws IOException {
+        new SnapshotStore().load(Paths.get(args[0]));
+        new JournalReplayer().recover(Paths.get(args[1]));
+        System.out.println(describe());
+    }
+
+    @Test
+    public void snapshotAndJournalSurviveRestart() throws Exception {
+        Path dir = Files.createTempDirectory("snapshot-test");
+        Path snapshot = dir.resolve("university.snapshot");
+        Path journalFile = dir.resolve("university.journal");
+        MutationJournal journal = MutationJournal.getInstance();
+        try {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(7L);
+            generator.setStudentCount(200);
+            generator.setCreateUserAccounts(false);
+            generator.generate();
+
+            journal.open(journalFile);
+            journal.checkpoint(() -> new SnapshotStore().save(snapshot));
+
+            // Changes after the checkpoint live only in the journal
+            StudentService studentService = new StudentService();
+            int changes = 0;
+            for (Student student : UniversityDirectory.getInstance().getStudents()) {
+                for (Enrollment enrollment : student.getEnrollments()) {
+                    if (enrollment.isActive() && changes < 20) {
+                        studentService.dropCourse(student, enrollment);
+                        changes++;
+                        break;
+                    }
+                }
+            }
+            assertTrue(changes > 0);
+            journal.close();
+            String expected = describe();
+
+            String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+            Process restart = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                SnapshotStoreTest.class.getName(), snapshot.toString(), journalFile.toString())
+                .redirectErrorStream(true).start();
+            String output = new String(restart.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(output, 0, restart.waitFor());
+            String[] lines = output.trim().split("\\R");
+            assertEquals(expected, lines[lines.length - 1]);
+        } finally {
+            journal.close();
+            for (File file : dir.toFile().listFiles()) {
+                file.delete();
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+}
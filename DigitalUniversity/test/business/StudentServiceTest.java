@@ -0,0 +1,142 @@
+package business;
+
+import model.Course;
+import model.CourseOffering;
+import model.Enrollment;
+import model.Semester;
+import model.Student;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * StudentServiceTest - Registration under contention
+ * The directory is a singleton, so every test uses ids of its own.
+ * Author: [Your Name]
+ */
+public class StudentServiceTest {
+
+    @Test
+    public void concurrentEnrollmentFillsExactlyToCapacity() throws InterruptedException {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        Semester semester = new Semester("SS-T1", "Fall", 2031);
+        directory.addSemester(semester);
+        Course course = new Course("SS-T1-100", "Contention", 4, null);
+        directory.addCourse(course);
+        CourseOffering offering = new CourseOffering("SS-T1-OFF", course, semester, null);
+        offering.setMaxCapacity(10);
+        directory.addCourseOffering(offering);
+
+        ArrayList<Student> students = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Student student = new Student("SS-T1-" + i, "Student", "Number" + i, "ss.t1." + i + "@example.edu", "MSIS");
+            directory.addStudent(student);
+            students.add(student);
+        }
+
+        StudentService service = new StudentService();
+        AtomicInteger enrolled = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ArrayList<Thread> workers = new ArrayList<>();
+        for (Student student : students) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    service.enrollInCourse(student, offering);
+                    enrolled.incrementAndGet();
+                } catch (IllegalArgumentException | InterruptedException e) {
+                    // Course is full
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(10, enrolled.get());
+        assertEquals(10, offering.getCurrentEnrollment());
+        assertEquals(10, offering.getEnrollments().size());
+        assertEquals(0, offering.getAvailableSeats());
+    }
+
+    @Test
+    public void paymentRacingADropNeverLeavesAnUnrefundedPayment() throws InterruptedException {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        Semester semester = new Semester("SS-T2", "Fall", 2031);
+        directory.addSemester(semester);
+        Course course = new Course("SS-T2-100", "Payment race", 4, null);
+        directory.addCourse(course);
+        CourseOffering offering = new CourseOffering("SS-T2-OFF", course, semester, null);
+        offering.setMaxCapacity(1000);
+        directory.addCourseOffering(offering);
+        StudentService service = new StudentService();
+
+        for (int i = 0; i < 200; i++) {
+            Student student = new Student("SS-T2-" + i, "Student", "Number" + i, "ss.t2." + i + "@example.edu", "MSIS");
+            directory.addStudent(student);
+            Enrollment enrollment = service.enrollInCourse(student, offering);
+            double tuition = enrollment.getTuitionAmount();
+
+            CountDownLatch start = new CountDownLatch(1);
+            Thread payer = new Thread(() -> {
+                try {
+                    start.await();
+                    service.payForCourse(student, enrollment);
+                } catch (IllegalArgumentException | InterruptedException e) {
+                    // Dropped first
+                }
+            });
+            Thread dropper = new Thread(() -> {
+                try {
+                    start.await();
+                    service.dropCourse(student, enrollment);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            payer.start();
+            dropper.start();
+            start.countDown();
+            payer.join();
+            dropper.join();
+
+            // Paid then dropped: a payment and its refund; dropped first: nothing paid
+            assertFalse(enrollment.isPaid());
+            int payments = student.getPaymentHistory().size();
+            assertEquals(payments == 0 ? 0.0 : -tuition, student.getAccountBalance(), 1e-9);
+            assertEquals(payments == 0 ? 0 : 2, payments);
+        }
+    }
+
+    @Test
+    public void courseSearchOnlyReturnsTheRequestedSemester() {
+        UniversityDirectory directory = UniversityDirectory.getInstance();
+        Semester fall = new Semester("SS-T3-F", "Fall", 2034);
+        Semester spring = new Semester("SS-T3-S", "Spring", 2035);
+        directory.addSemester(fall);
+        directory.addSemester(spring);
+        Course course = new Course("SS-T3-100", "Zymurgy Seminar", 4, null);
+        directory.addCourse(course);
+        CourseOffering fallOffering = new CourseOffering("SS-T3-OFF-F", course, fall, null);
+        CourseOffering springOffering = new CourseOffering("SS-T3-OFF-S", course, spring, null);
+        directory.addCourseOffering(fallOffering);
+        directory.addCourseOffering(springOffering);
+
+        StudentService service = new StudentService();
+        ArrayList<CourseOffering> found = service.searchByTitle("zymurgy", fall);
+        assertEquals(1, found.size());
+        assertEquals(fallOffering, found.get(0));
+        assertEquals(springOffering, service.searchByCourseId("ss-t3", spring).get(0));
+
+        springOffering.setSemester(fall);
+        assertEquals(2, service.searchByTitle("zymurgy", fall).size());
+        assertTrue(service.searchByTitle("zymurgy", spring).isEmpty());
+    }
+}
@@ -0,0 +1,195 @@
+package business;
+
+import model.Course;
+import model.CourseOffering;
+import model.Semester;
+import model.Student;
+import model.WaitlistEntry;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * WaitlistServiceTest - Promotion order and the events that trigger promotion
+ * The directory is a singleton, so every test uses ids of its own.
+ * Author: [Your Name]
+ */
+public class WaitlistServiceTest {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private UniversityDirectory directory;
+    private WaitlistService waitlistService;
+    private StudentService studentService;
+    private Semester semester;
+    private String prefix;
+
+    @Before
+    public void setUp() {
+        directory = UniversityDirectory.getInstance();
+        waitlistService = new WaitlistService();
+        studentService = new StudentService();
+        prefix = "WL-T" + NEXT_ID.incrementAndGet();
+        semester = new Semester(prefix, "Spring", 2032);
+        directory.addSemester(semester);
+    }
+
+    private CourseOffering offering(String suffix, int capacity) {
+        Course course = new Course(prefix + "-" + suffix, "Course " + suffix, 4, null);
+        directory.addCourse(course);
+        CourseOffering offering = new CourseOffering(prefix + "-OFF-" + suffix, course, semester, null);
+        offering.setMaxCapacity(capacity);
+        directory.addCourseOffering(offering);
+        return offering;
+    }
+
+    private Student student(String suffix) {
+        Student student = new Student(prefix + "-" + suffix, "Student", suffix,
+            prefix.toLowerCase() + "." + suffix + "@example.edu", "MSIS");
+        directory.addStudent(student);
+        return student;
+    }
+
+    @Test
+    public void promotesByPriorityThenArrival() {
+        CourseOffering offering = offering("A", 1);
+        Student holder = student("holder");
+        studentService.enrollInCourse(holder, offering);
+
+        Student first = student("first");
+        Student second = student("second");
+        Student urgent = student("urgent");
+        waitlistService.joinWaitlist(first, offering);
+        waitlistService.joinWaitlist(second, offering);
+        waitlistService.joinWaitlist(urgent, offering, WaitlistEntry.PRIORITY_HIGH);
+
+        studentService.dropCourse(holder, holder.getActiveEnrollment(offering));
+        assertTrue(urgent.isActivelyEnrolled(offering));
+
+        studentService.dropCourse(urgent, urgent.getActiveEnrollment(offering));
+        assertTrue(first.isActivelyEnrolled(offering));
+        assertFalse(second.isActivelyEnrolled(offering));
+        assertEquals(1, offering.getWaitlist().size());
+    }
+
+    @Test
+    public void capacityIncreasePromotes() {
+        CourseOffering offering = offering("B", 1);
+        studentService.enrollInCourse(student("holder"), offering);
+        Student waiting = student("waiting");
+        waitlistService.joinWaitlist(waiting, offering);
+
+        new RegistrarService().updateCourseOffering(offering, null, 2, null, null);
+        assertTrue(waiting.isActivelyEnrolled(offering));
+        assertTrue(offering.getWaitlist().isEmpty());
+    }
+
+    @Test
+    public void seatFreedWhileClosedIsPromotedOnReopen() {
+        CourseOffering offering = offering("C", 1);
+        Student holder = student("holder");
+        studentService.enrollInCourse(holder, offering);
+        Student waiting = student("waiting");
+        waitlistService.joinWaitlist(waiting, offering);
+
+        FacultyService facultyService = new FacultyService();
+        facultyService.closeEnrollment(offering);
+        studentService.dropCourse(holder, holder.getActiveEnrollment(offering));
+        assertFalse(waiting.isActivelyEnrolled(offering));
+
+        facultyService.openEnrollment(offering);
+        assertTrue(waiting.isActivelyEnrolled(offering));
+    }
+
+    @Test
+    public void overCreditStudentKeepsPlace() {
+        CourseOffering offering = offering("D", 1);
+        Student holder = student("holder");
+        studentService.enrollInCourse(holder, offering);
+
+        // Two 4-credit courses reach the 8 credit limit
+        Student busy = student("busy");
+        studentService.enrollInCourse(busy, offering("E", 5));
+        studentService.enrollInCourse(busy, offering("F", 5));
+        Student next = student("next");
+        waitlistService.joinWaitlist(busy, offering);
+        waitlistService.joinWaitlist(next, offering);
+
+        studentService.dropCourse(holder, holder.getActiveEnrollment(offering));
+        assertTrue(next.isActivelyEnrolled(offering));
+        assertFalse(busy.isActivelyEnrolled(offering));
+        assertTrue(offering.getWaitlist().contains(busy));
+
+        ArrayList<WaitlistEntry> entries = offering.getWaitlist().getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(busy, entries.get(0).getStudent());
+    }
+
+    @Test
+    public void ineligibleWaitlistDoesNotBlockFreeSeats() {
+        CourseOffering offering = offering("G", 1);
+        Student holder = student("holder");
+        studentService.enrollInCourse(holder, offering);
+        Student busy = student("busy");
+        studentService.enrollInCourse(busy, offering("H", 5));
+        studentService.enrollInCourse(busy, offering("I", 5));
+        waitlistService.joinWaitlist(busy, offering);
+
+        studentService.dropCourse(holder, holder.getActiveEnrollment(offering));
+        Student newcomer = student("newcomer");
+        studentService.enrollInCourse(newcomer, offering);
+        assertTrue(newcomer.isActivelyEnrolled(offering));
+    }
+
+    @Test
+    public void overCreditStudentIsBlockedUntilTheirCreditsDrop() {
+        CourseOffering offering = offering("J", 2);
+        Student holder = student("holder");
+        studentService.enrollInCourse(holder, offering);
+        Student other = student("other");
+        studentService.enrollInCourse(other, offering);
+
+        Student busy = student("busy");
+        CourseOffering busyCourse = offering("K", 5);
+        studentService.enrollInCourse(busy, busyCourse);
+        studentService.enrollInCourse(busy, offering("L", 5));
+        waitlistService.joinWaitlist(busy, offering);
+
+        // The freed seat finds busy over the limit: parked, still waiting
+        studentService.dropCourse(holder, holder.getActiveEnrollment(offering));
+        assertTrue(offering.getWaitlist().isBlocked(busy));
+        assertTrue(offering.getWaitlist().contains(busy));
+        assertTrue(offering.getWaitlist().isEmpty());
+
+        // Dropping a course frees credits and the parked place is promoted
+        studentService.dropCourse(busy, busy.getActiveEnrollment(busyCourse));
+        assertTrue(busy.isActivelyEnrolled(offering));
+        assertFalse(offering.getWaitlist().contains(busy));
+    }
+
+    @Test
+    public void leavingRemovesABlockedStudent() {
+        CourseOffering offering = offering("M", 1);
+        Student holder = student("holder");
+        studentService.enrollInCourse(holder, offering);
+        Student busy = student("busy");
+        CourseOffering busyCourse = offering("N", 5);
+        studentService.enrollInCourse(busy, busyCourse);
+        studentService.enrollInCourse(busy, offering("O", 5));
+        waitlistService.joinWaitlist(busy, offering);
+        studentService.dropCourse(holder, holder.getActiveEnrollment(offering));
+        assertTrue(offering.getWaitlist().isBlocked(busy));
+
+        assertTrue(waitlistService.leaveWaitlist(busy, offering));
+        assertFalse(offering.getWaitlist().contains(busy));
+        assertFalse(offering.getWaitlist().isBlocked(busy));
+
+        studentService.dropCourse(busy, busy.getActiveEnrollment(busyCourse));
+        assertFalse(busy.isActivelyEnrolled(offering));
+        assertEquals(0, offering.getWaitlist().size());
+    }
+}
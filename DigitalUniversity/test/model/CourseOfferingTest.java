@@ -0,0 +1,103 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CourseOfferingTest - Lock-free seat reservation
+ * Author: [Your Name]
+ */
+public class CourseOfferingTest {
+
+    private static CourseOffering offering(int capacity) {
+        Course course = new Course("INFO 5100", "Application Engineering", 4, null);
+        CourseOffering offering = new CourseOffering("OFF-T", course, new Semester("FALL-T", "Fall", 2030), null);
+        offering.setMaxCapacity(capacity);
+        return offering;
+    }
+
+    @Test
+    public void reserveSeatStopsAtCapacity() {
+        CourseOffering offering = offering(2);
+        assertTrue(offering.reserveSeat());
+        assertTrue(offering.reserveSeat());
+        assertFalse(offering.reserveSeat());
+        assertEquals(0, offering.getAvailableSeats());
+    }
+
+    @Test
+    public void concurrentReservationsNeverOversell() throws InterruptedException {
+        CourseOffering offering = offering(25);
+        int threads = 16;
+        int attemptsPerThread = 50;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ArrayList<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (offering.reserveSeat()) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(25, granted.get());
+        assertEquals(0, offering.getAvailableSeats());
+    }
+
+    @Test
+    public void reserveSeatsGrantsWhatIsLeft() {
+        CourseOffering offering = offering(5);
+        assertEquals(3, offering.reserveSeats(3));
+        assertEquals(2, offering.reserveSeats(4));
+        assertEquals(0, offering.reserveSeats(1));
+    }
+
+    @Test
+    public void releasedSeatsCanBeReservedAgain() {
+        CourseOffering offering = offering(3);
+        assertEquals(3, offering.reserveSeats(3));
+        offering.releaseSeat();
+        assertEquals(1, offering.getAvailableSeats());
+        offering.releaseSeats(2);
+        assertEquals(3, offering.getAvailableSeats());
+        assertEquals(3, offering.reserveSeats(3));
+    }
+
+    @Test
+    public void committedSeatsCountAsEnrollment() {
+        CourseOffering offering = offering(2);
+        Student student = new Student("T-CO-1", "Ada", "Lovelace", "ada.t@example.edu", "MSIS");
+        Enrollment enrollment = new Enrollment("E-CO-1", student, offering);
+        assertTrue(offering.reserveSeat());
+        offering.commitSeat(enrollment);
+        assertEquals(1, offering.getCurrentEnrollment());
+
+        // A second commit of the same enrollment gives its reservation back
+        assertTrue(offering.reserveSeat());
+        offering.commitSeat(enrollment);
+        assertEquals(1, offering.getCurrentEnrollment());
+        assertEquals(1, offering.getAvailableSeats());
+
+        offering.removeEnrollment(enrollment);
+        assertEquals(0, offering.getCurrentEnrollment());
+        assertEquals(2, offering.getAvailableSeats());
+    }
+}
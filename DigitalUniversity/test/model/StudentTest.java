@@ -0,0 +1,56 @@
+package model;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * StudentTest - GPA running totals follow grades, completion and removal
+ * Author: [Your Name]
+ */
+public class StudentTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Enrollment enroll(Student student, String id, Semester semester, int credits) {
+        Course course = new Course("C-" + id, "Course " + id, credits, null);
+        CourseOffering offering = new CourseOffering("OFF-" + id, course, semester, null);
+        Enrollment enrollment = new Enrollment(id, student, offering);
+        student.addEnrollment(enrollment);
+        return enrollment;
+    }
+
+    @Test
+    public void totalsFollowGradesCompletionAndRemoval() {
+        Student student = new Student("ST-T1", "Test", "Student", "st-t1@example.edu", "MSIS");
+        Semester fall = new Semester("FALL-ST", "Fall", 2030);
+        Semester spring = new Semester("SPRING-ST", "Spring", 2031);
+
+        Enrollment first = enroll(student, "E1", fall, 4);
+        first.setGrade(" a ");
+        first.setActive(false);
+        Enrollment second = enroll(student, "E2", spring, 2);
+        second.setGrade("b+");
+
+        assertEquals("A", first.getGrade());
+        assertEquals(4.0, student.getTermGPA(fall), DELTA);
+        assertEquals(3.3, student.getTermGPA(spring), DELTA);
+        assertEquals(4.0, student.getCompletedGPA(), DELTA); // second is still active
+        assertEquals(spring, student.getLatestSemester());
+
+        second.setActive(false);
+        assertEquals((4.0 * 4 + 3.3 * 2) / 6, student.getCompletedGPA(), DELTA);
+
+        first.setGrade("C");
+        assertEquals(2.0, student.getTermGPA(fall), DELTA);
+        assertEquals((2.0 * 4 + 3.3 * 2) / 6, student.getCompletedGPA(), DELTA);
+
+        student.removeEnrollment(first);
+        assertEquals(0.0, student.getTermGPA(fall), DELTA);
+        assertEquals(3.3, student.getCompletedGPA(), DELTA);
+
+        student.removeEnrollment(second);
+        assertEquals(0.0, student.getCompletedGPA(), DELTA);
+        assertNull(student.getLatestSemester());
+    }
+}